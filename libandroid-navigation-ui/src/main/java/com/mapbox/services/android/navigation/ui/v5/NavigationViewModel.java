@@ -71,7 +71,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private SpeechPlayer speechPlayer;
   private VoiceInstructionLoader voiceInstructionLoader;
   private VoiceInstructionCache voiceInstructionCache;
-  private int voiceInstructionsToAnnounce = 0;
   private RouteProgress routeProgress;
   private String feedbackId;
   private String screenshot;
@@ -358,6 +357,7 @@ public class NavigationViewModel extends AndroidViewModel {
     @Override
     public void onProgressChange(Location location, RouteProgress routeProgress) {
       NavigationViewModel.this.routeProgress = routeProgress;
+      voiceInstructionCache.cache(routeProgress, location.getSpeed());
       router.updateLocation(location);
       instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
       summaryModel.setValue(new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
@@ -378,7 +378,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private MilestoneEventListener milestoneEventListener = new MilestoneEventListener() {
     @Override
     public void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
-      voiceInstructionCache.cache();
       playVoiceAnnouncement(milestone);
       updateBannerInstruction(routeProgress, milestone);
     }
@@ -404,7 +403,6 @@ public class NavigationViewModel extends AndroidViewModel {
   private void startNavigation(DirectionsRoute route) {
     if (route != null) {
       navigation.startNavigation(route);
-      voiceInstructionsToAnnounce = 0;
       voiceInstructionCache.preCache(route);
     }
   }
@@ -440,8 +438,6 @@ public class NavigationViewModel extends AndroidViewModel {
 
   private void playVoiceAnnouncement(Milestone milestone) {
     if (milestone instanceof VoiceInstructionMilestone) {
-      voiceInstructionsToAnnounce++;
-      voiceInstructionCache.update(voiceInstructionsToAnnounce);
       SpeechAnnouncement announcement = SpeechAnnouncement.builder()
         .voiceInstructionMilestone((VoiceInstructionMilestone) milestone).build();
       announcement = retrieveAnnouncementFromSpeechEvent(announcement);
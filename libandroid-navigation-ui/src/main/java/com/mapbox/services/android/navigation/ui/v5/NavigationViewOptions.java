@@ -10,6 +10,7 @@ import com.mapbox.services.android.navigation.ui.v5.listeners.BannerInstructions
 import com.mapbox.services.android.navigation.ui.v5.listeners.FeedbackListener;
 import com.mapbox.services.android.navigation.ui.v5.listeners.InstructionListListener;
 import com.mapbox.services.android.navigation.ui.v5.listeners.NavigationListener;
+import com.mapbox.services.android.navigation.ui.v5.listeners.RerouteTimingListener;
 import com.mapbox.services.android.navigation.ui.v5.listeners.RouteListener;
 import com.mapbox.services.android.navigation.ui.v5.listeners.SpeechAnnouncementListener;
 import com.mapbox.services.android.navigation.ui.v5.voice.SpeechPlayer;
@@ -61,6 +62,11 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
   @Nullable
   public abstract LocationEngine locationEngine();
 
+  public abstract boolean shouldRaceOfflineRouting();
+
+  @Nullable
+  public abstract RerouteTimingListener rerouteTimingListener();
+
   @AutoValue.Builder
   public abstract static class Builder {
 
@@ -122,6 +128,26 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
      */
     public abstract Builder offlineRoutingTilesVersion(String offlineVersion);
 
+    /**
+     * Race the offline router against the Directions API when rerouting.
+     * <p>
+     * When offline routing is configured and a connection is available, the {@link NavigationView}
+     * starts both requests at once and navigates along the first route found. An online route found
+     * within a few seconds still replaces an offline one.
+     *
+     * @param shouldRaceOfflineRouting true to race both routers, false to pick one from the connection
+     * @return this builder
+     */
+    public abstract Builder shouldRaceOfflineRouting(boolean shouldRaceOfflineRouting);
+
+    /**
+     * Add a listener measuring how long rerouting takes with each source.
+     *
+     * @param rerouteTimingListener to be notified of each route found
+     * @return this builder
+     */
+    public abstract Builder rerouteTimingListener(RerouteTimingListener rerouteTimingListener);
+
     public abstract NavigationViewOptions build();
   }
 
@@ -129,6 +155,7 @@ public abstract class NavigationViewOptions extends NavigationUiOptions {
     return new AutoValue_NavigationViewOptions.Builder()
       .navigationOptions(MapboxNavigationOptions.builder().build())
       .shouldSimulateRoute(false)
-      .waynameChipEnabled(true);
+      .waynameChipEnabled(true)
+      .shouldRaceOfflineRouting(false);
   }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.ui.v5;
 
 import android.location.Location;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -9,6 +10,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.RouteOptions;
 import com.mapbox.core.utils.TextUtils;
 import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.ui.v5.listeners.RerouteTimingListener;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxOfflineRouter;
 import com.mapbox.services.android.navigation.v5.navigation.NavigationRoute;
 import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
@@ -20,6 +22,7 @@ import java.util.List;
 
 class NavigationViewRouter implements RouteListener {
 
+  private static final long UPGRADE_DEADLINE_IN_MILLIS = 5000;
   private final RouteFetcher onlineRouter;
   private final ConnectivityStatusProvider connectivityStatus;
   private final RouteComparator routeComparator;
@@ -31,6 +34,10 @@ class NavigationViewRouter implements RouteListener {
   private DirectionsRoute currentRoute;
   private Location location;
   private RouteCallStatus callStatus;
+  private RerouteAttempt rerouteAttempt;
+  private boolean shouldRaceOfflineRouting;
+  @Nullable
+  private RerouteTimingListener timingListener;
 
   NavigationViewRouter(RouteFetcher onlineRouter, ConnectivityStatusProvider connectivityStatus,
                        ViewRouteListener listener) {
@@ -56,33 +63,85 @@ class NavigationViewRouter implements RouteListener {
 
   @Override
   public void onResponseReceived(DirectionsResponse response, @Nullable RouteProgress routeProgress) {
-    if (validRouteResponse(response)) {
+    if (!validRouteResponse(response)) {
+      onOnlineRouteError(null);
+      return;
+    }
+    RerouteAttempt attempt = rerouteAttempt;
+    if (attempt == null) {
       routeComparator.compare(response, currentRoute);
+      updateCallStatusReceived();
+      return;
     }
-    updateCallStatusReceived();
+    long now = SystemClock.elapsedRealtime();
+    boolean isUsed = attempt.onOnlineRoute(now);
+    if (isUsed) {
+      // Compared with the offline route when it's an upgrade, so the most similar online route is chosen
+      routeComparator.compare(response, currentRoute);
+      updateCallStatusReceived();
+    }
+    if (timingListener != null) {
+      timingListener.onOnlineRoute(attempt.timeToRerouteInMillis(now), isUsed);
+    }
+    finishRerouteAttempt(attempt);
   }
 
   @Override
   public void onErrorReceived(Throwable throwable) {
-    onRequestError(throwable.getMessage());
-    updateCallStatusReceived();
+    onOnlineRouteError(throwable.getMessage());
+  }
+
+  void onOfflineRouteFound(@NonNull DirectionsRoute offlineRoute) {
+    RerouteAttempt attempt = rerouteAttempt;
+    if (attempt == null) {
+      replaceCurrentRoute(offlineRoute);
+      updateCallStatusReceived();
+      return;
+    }
+    boolean isUsed = attempt.onOfflineRoute();
+    if (isUsed) {
+      replaceCurrentRoute(offlineRoute);
+      updateCallStatusReceived();
+    }
+    if (timingListener != null) {
+      timingListener.onOfflineRoute(attempt.timeToRerouteInMillis(SystemClock.elapsedRealtime()), isUsed);
+    }
+    finishRerouteAttempt(attempt);
+  }
+
+  void onOfflineRouteError(String errorMessage) {
+    RerouteAttempt attempt = rerouteAttempt;
+    if (attempt == null || attempt.onOfflineError()) {
+      onRequestError(errorMessage);
+      updateCallStatusReceived();
+    }
+    finishRerouteAttempt(attempt);
   }
 
   void extractRouteOptions(NavigationViewOptions options) {
     extractRouteFrom(options);
     initializeOfflineFrom(options);
+    shouldRaceOfflineRouting = options.shouldRaceOfflineRouting();
+    timingListener = options.rerouteTimingListener();
   }
 
   void findRouteFrom(@Nullable RouteProgress routeProgress) {
     if (isRouting()) {
       return;
     }
+    if (shouldRaceOfflineRouting && isOfflineConfigured() && connectivityStatus.isConnected()) {
+      raceRoutesFrom(routeProgress);
+      return;
+    }
     NavigationRoute.Builder builder = onlineRouter.buildRequestFrom(location, routeProgress);
     if (connectivityStatus.isConnectedFast()) {
+      startRerouteAttempt(true, false);
       findOnlineRouteWith(builder);
     } else if (isOfflineConfigured()) {
+      startRerouteAttempt(false, true);
       findOfflineRouteWith(builder);
     } else if (connectivityStatus.isConnected()) {
+      startRerouteAttempt(true, false);
       findOnlineRouteWith(builder);
     }
   }
@@ -118,6 +177,11 @@ class NavigationViewRouter implements RouteListener {
   private void extractRouteFrom(NavigationViewOptions options) {
     DirectionsRoute route = options.directionsRoute();
     cacheRouteOptions(route.routeOptions());
+    replaceCurrentRoute(route);
+  }
+
+  private void replaceCurrentRoute(DirectionsRoute route) {
+    routeComparator.invalidate();
     updateCurrentRoute(route);
   }
 
@@ -152,8 +216,45 @@ class NavigationViewRouter implements RouteListener {
     return offlineRouter != null && offlineRouter.isConfigured();
   }
 
+  /**
+   * Starts the offline route first as it's found locally, then the online one. Each needs its own
+   * builder, a builder can only be built once.
+   */
+  private void raceRoutesFrom(@Nullable RouteProgress routeProgress) {
+    NavigationRoute.Builder offlineBuilder = onlineRouter.buildRequestFrom(location, routeProgress);
+    NavigationRoute.Builder onlineBuilder = onlineRouter.buildRequestFrom(location, routeProgress);
+    if (offlineBuilder == null || onlineBuilder == null) {
+      return;
+    }
+    startRerouteAttempt(true, true);
+    findOfflineRouteWith(offlineBuilder);
+    findOnlineRouteWith(onlineBuilder);
+  }
+
+  private void startRerouteAttempt(boolean hasOnline, boolean hasOffline) {
+    rerouteAttempt = new RerouteAttempt(SystemClock.elapsedRealtime(), UPGRADE_DEADLINE_IN_MILLIS, hasOnline,
+      hasOffline);
+  }
+
+  private void finishRerouteAttempt(@Nullable RerouteAttempt attempt) {
+    if (attempt != null && attempt == rerouteAttempt && attempt.isFinished()) {
+      rerouteAttempt = null;
+    }
+  }
+
+  private void onOnlineRouteError(@Nullable String errorMessage) {
+    RerouteAttempt attempt = rerouteAttempt;
+    if (attempt == null || attempt.onOnlineError()) {
+      if (errorMessage != null) {
+        onRequestError(errorMessage);
+      }
+      updateCallStatusReceived();
+    }
+    finishRerouteAttempt(attempt);
+  }
+
   private void findOnlineRouteWith(NavigationRoute.Builder builder) {
-    onlineRouter.cancelRouteCall();
+    // A pending request is superseded or coalesced by the fetcher itself
     onlineRouter.findRouteWith(builder);
     callStatus = new RouteCallStatus(new Date());
   }
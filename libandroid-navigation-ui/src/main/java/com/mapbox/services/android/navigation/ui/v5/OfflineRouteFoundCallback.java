@@ -16,13 +16,11 @@ class OfflineRouteFoundCallback implements OnOfflineRouteFoundCallback {
 
   @Override
   public void onRouteFound(@NonNull DirectionsRoute offlineRoute) {
-    router.updateCurrentRoute(offlineRoute);
-    router.updateCallStatusReceived();
+    router.onOfflineRouteFound(offlineRoute);
   }
 
   @Override
   public void onError(@NonNull OfflineError error) {
-    router.onRequestError(error.getMessage());
-    router.updateCallStatusReceived();
+    router.onOfflineRouteError(error.getMessage());
   }
 }
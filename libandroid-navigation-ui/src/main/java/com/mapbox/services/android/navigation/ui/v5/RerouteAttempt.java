@@ -0,0 +1,75 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+/**
+ * Tracks a route request sent to the online router, the offline router or both.
+ * <p>
+ * When both are racing, the first route is used. A later online route still replaces an offline
+ * one if it arrives within the upgrade deadline.
+ */
+class RerouteAttempt {
+
+  private final long startTimeInMillis;
+  private final long upgradeDeadlineInMillis;
+  private boolean isOnlinePending;
+  private boolean isOfflinePending;
+  private boolean isOnlineUsed;
+  private boolean isOfflineUsed;
+
+  RerouteAttempt(long startTimeInMillis, long upgradeDeadlineInMillis, boolean hasOnline, boolean hasOffline) {
+    this.startTimeInMillis = startTimeInMillis;
+    this.upgradeDeadlineInMillis = upgradeDeadlineInMillis;
+    this.isOnlinePending = hasOnline;
+    this.isOfflinePending = hasOffline;
+  }
+
+  long timeToRerouteInMillis(long nowInMillis) {
+    return nowInMillis - startTimeInMillis;
+  }
+
+  /**
+   * @return true if the online route should be used, first or as an upgrade of the offline route
+   */
+  boolean onOnlineRoute(long nowInMillis) {
+    isOnlinePending = false;
+    boolean isInTime = !isOfflineUsed || timeToRerouteInMillis(nowInMillis) <= upgradeDeadlineInMillis;
+    isOnlineUsed = isInTime;
+    return isInTime;
+  }
+
+  /**
+   * @return true if the offline route should be used, only if it's the first route
+   */
+  boolean onOfflineRoute() {
+    isOfflinePending = false;
+    isOfflineUsed = !isOnlineUsed;
+    return isOfflineUsed;
+  }
+
+  /**
+   * @return true if no route was found and no source is pending anymore
+   */
+  boolean onOnlineError() {
+    isOnlinePending = false;
+    return hasFailed();
+  }
+
+  /**
+   * @return true if no route was found and no source is pending anymore
+   */
+  boolean onOfflineError() {
+    isOfflinePending = false;
+    return hasFailed();
+  }
+
+  boolean hasRoute() {
+    return isOnlineUsed || isOfflineUsed;
+  }
+
+  boolean isFinished() {
+    return !isOnlinePending && !isOfflinePending;
+  }
+
+  private boolean hasFailed() {
+    return isFinished() && !hasRoute();
+  }
+}
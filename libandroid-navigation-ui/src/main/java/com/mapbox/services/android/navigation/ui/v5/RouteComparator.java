@@ -1,66 +1,83 @@
 package com.mapbox.services.android.navigation.ui.v5;
 
+import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
-import com.mapbox.api.directions.v5.models.RouteLeg;
 
 import java.util.List;
 
+/**
+ * Picks the route of a response to navigate along. While navigating, it's the route sharing the most
+ * roads with the route being followed, compared through {@link RouteFingerprint}s computed off the
+ * main thread.
+ */
 class RouteComparator {
 
   private static final int FIRST_ROUTE = 0;
   private static final int ONE_ROUTE = 1;
   private final NavigationViewRouter navigationViewRouter;
+  private int generation;
+  private DirectionsRoute fingerprintedRoute;
+  private RouteFingerprint fingerprint;
 
   RouteComparator(NavigationViewRouter navigationViewRouter) {
     this.navigationViewRouter = navigationViewRouter;
   }
 
   void compare(@NonNull DirectionsResponse response, @Nullable DirectionsRoute chosenRoute) {
-    if (isValidRoute(response)) {
-      List<DirectionsRoute> routes = response.routes();
-      DirectionsRoute bestRoute = routes.get(FIRST_ROUTE);
-      if (isNavigationRunning(chosenRoute)) {
-        bestRoute = findMostSimilarRoute(routes, bestRoute, chosenRoute);
-      }
-      navigationViewRouter.updateCurrentRoute(bestRoute);
+    if (!isValidRoute(response)) {
+      return;
+    }
+    List<DirectionsRoute> routes = response.routes();
+    generation++;
+    if (!isNavigationRunning(chosenRoute) || routes.size() == ONE_ROUTE) {
+      navigationViewRouter.updateCurrentRoute(routes.get(FIRST_ROUTE));
+      return;
     }
+    RouteFingerprint chosenFingerprint = chosenRoute == fingerprintedRoute ? fingerprint : null;
+    new RouteSimilarityTask(generation, chosenRoute, chosenFingerprint, routes, this)
+      .executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
   }
 
-  private DirectionsRoute findMostSimilarRoute(List<DirectionsRoute> routes, DirectionsRoute currentBestRoute,
-                                               DirectionsRoute chosenRoute) {
-    DirectionsRoute mostSimilarRoute = currentBestRoute;
-    if (routes.size() > ONE_ROUTE) {
-      mostSimilarRoute = compareRoutes(chosenRoute, routes);
-    }
-    return mostSimilarRoute;
+  /**
+   * Called when the current route is set without a comparison, a pending comparison would otherwise
+   * replace it with a route compared against an older one.
+   */
+  void invalidate() {
+    generation++;
   }
 
-  private DirectionsRoute compareRoutes(DirectionsRoute chosenRoute, List<DirectionsRoute> routes) {
-    int routeIndex = 0;
-    String chosenRouteLegDescription = obtainRouteLegDescriptionFrom(chosenRoute);
-    int minSimilarity = Integer.MAX_VALUE;
-    for (int index = 0; index < routes.size(); index++) {
-      String routeLegDescription = obtainRouteLegDescriptionFrom(routes.get(index));
-      int currentSimilarity = DamerauLevenshteinAlgorithm.execute(chosenRouteLegDescription, routeLegDescription);
-      if (currentSimilarity < minSimilarity) {
-        minSimilarity = currentSimilarity;
-        routeIndex = index;
-      }
+  void onMostSimilarRouteFound(int generation, DirectionsRoute mostSimilarRoute,
+                               RouteFingerprint mostSimilarFingerprint) {
+    if (generation != this.generation) {
+      return;
     }
-    return routes.get(routeIndex);
+    // The route about to be followed is the one compared on the next reroute
+    fingerprintedRoute = mostSimilarRoute;
+    fingerprint = mostSimilarFingerprint;
+    navigationViewRouter.updateCurrentRoute(mostSimilarRoute);
   }
 
-  private String obtainRouteLegDescriptionFrom(DirectionsRoute route) {
-    List<RouteLeg> routeLegs = route.legs();
-    StringBuilder routeLegDescription = new StringBuilder();
-    for (RouteLeg leg : routeLegs) {
-      routeLegDescription.append(leg.summary());
+  /**
+   * Ties keep the first route, the one recommended by the Directions API.
+   *
+   * @return index of the most similar route
+   */
+  static int findMostSimilarRoute(@NonNull RouteFingerprint chosenFingerprint,
+                                  @NonNull List<RouteFingerprint> routeFingerprints) {
+    int routeIndex = FIRST_ROUTE;
+    double maxSimilarity = -1d;
+    for (int index = 0; index < routeFingerprints.size(); index++) {
+      double similarity = chosenFingerprint.similarityTo(routeFingerprints.get(index));
+      if (similarity > maxSimilarity) {
+        maxSimilarity = similarity;
+        routeIndex = index;
+      }
     }
-    return routeLegDescription.toString();
+    return routeIndex;
   }
 
   private boolean isValidRoute(DirectionsResponse response) {
@@ -70,4 +87,4 @@ class RouteComparator {
   private boolean isNavigationRunning(DirectionsRoute chosenRoute) {
     return chosenRoute != null;
   }
-}
\ No newline at end of file
+}
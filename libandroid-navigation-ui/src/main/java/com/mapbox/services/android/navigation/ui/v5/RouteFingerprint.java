@@ -0,0 +1,135 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact description of the roads a route follows: the grid cells, about 50 meters wide, crossed by
+ * its geometry. Two routes sharing roads share cells, so their similarity is the share of cells they
+ * have in common, computed in a single pass over both sorted cell arrays.
+ */
+class RouteFingerprint {
+
+  private static final double CELL_SIZE_IN_DEGREES = 0.0005;
+  private static final double SAMPLE_STEP_IN_CELLS = 0.5;
+  private static final int LONGITUDE_BITS = 32;
+  private static final long LONGITUDE_MASK = 0xffffffffL;
+  private final long[] cells;
+
+  private RouteFingerprint(long[] cells) {
+    this.cells = cells;
+  }
+
+  /**
+   * Decodes the step geometries of the route, or its overview if the steps have none.
+   */
+  @NonNull
+  static RouteFingerprint from(@NonNull DirectionsRoute route) {
+    List<Long> cellList = new ArrayList<>();
+    List<RouteLeg> legs = route.legs();
+    if (legs != null) {
+      for (RouteLeg leg : legs) {
+        addStepCells(leg, cellList);
+      }
+    }
+    if (cellList.isEmpty() && route.geometry() != null) {
+      addCells(PolylineUtils.decode(route.geometry(), Constants.PRECISION_6), cellList);
+    }
+    return new RouteFingerprint(toSortedUniqueArray(cellList));
+  }
+
+  /**
+   * @return the cells shared by both routes over the cells of either, from 0 for disjoint routes to 1
+   */
+  double similarityTo(@NonNull RouteFingerprint other) {
+    if (cells.length == 0 && other.cells.length == 0) {
+      return 0d;
+    }
+    int shared = 0;
+    int index = 0;
+    int otherIndex = 0;
+    while (index < cells.length && otherIndex < other.cells.length) {
+      if (cells[index] == other.cells[otherIndex]) {
+        shared++;
+        index++;
+        otherIndex++;
+      } else if (cells[index] < other.cells[otherIndex]) {
+        index++;
+      } else {
+        otherIndex++;
+      }
+    }
+    int union = cells.length + other.cells.length - shared;
+    return shared / (double) union;
+  }
+
+  int size() {
+    return cells.length;
+  }
+
+  private static void addStepCells(RouteLeg leg, List<Long> cellList) {
+    List<LegStep> steps = leg.steps();
+    if (steps == null) {
+      return;
+    }
+    for (LegStep step : steps) {
+      if (step.geometry() != null) {
+        addCells(PolylineUtils.decode(step.geometry(), Constants.PRECISION_6), cellList);
+      }
+    }
+  }
+
+  /**
+   * Samples each segment every half cell, so a long straight segment covers every cell it crosses.
+   */
+  private static void addCells(List<Point> points, List<Long> cellList) {
+    for (int i = 0; i < points.size(); i++) {
+      Point point = points.get(i);
+      if (i == 0) {
+        cellList.add(cellOf(point.longitude(), point.latitude()));
+        continue;
+      }
+      Point previous = points.get(i - 1);
+      double longitudeDelta = point.longitude() - previous.longitude();
+      double latitudeDelta = point.latitude() - previous.latitude();
+      double lengthInCells = Math.max(Math.abs(longitudeDelta), Math.abs(latitudeDelta)) / CELL_SIZE_IN_DEGREES;
+      int samples = Math.max(1, (int) Math.ceil(lengthInCells / SAMPLE_STEP_IN_CELLS));
+      for (int sample = 1; sample <= samples; sample++) {
+        double fraction = sample / (double) samples;
+        cellList.add(cellOf(previous.longitude() + longitudeDelta * fraction,
+          previous.latitude() + latitudeDelta * fraction));
+      }
+    }
+  }
+
+  private static long cellOf(double longitude, double latitude) {
+    long longitudeIndex = (long) Math.floor(longitude / CELL_SIZE_IN_DEGREES);
+    long latitudeIndex = (long) Math.floor(latitude / CELL_SIZE_IN_DEGREES);
+    return (latitudeIndex << LONGITUDE_BITS) | (longitudeIndex & LONGITUDE_MASK);
+  }
+
+  private static long[] toSortedUniqueArray(List<Long> cellList) {
+    long[] sorted = new long[cellList.size()];
+    for (int i = 0; i < sorted.length; i++) {
+      sorted[i] = cellList.get(i);
+    }
+    Arrays.sort(sorted);
+    int uniqueCount = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (i == 0 || sorted[i] != sorted[uniqueCount - 1]) {
+        sorted[uniqueCount++] = sorted[i];
+      }
+    }
+    return Arrays.copyOf(sorted, uniqueCount);
+  }
+}
@@ -0,0 +1,49 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import android.os.AsyncTask;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fingerprints the routes of a response, and the chosen route if it has no fingerprint yet, then
+ * finds the route most similar to the chosen one. Its fingerprint is handed back along with it, as it's
+ * the route compared on the next reroute.
+ */
+class RouteSimilarityTask extends AsyncTask<Void, Void, Integer> {
+
+  private final int generation;
+  private final DirectionsRoute chosenRoute;
+  private final List<DirectionsRoute> routes;
+  private final List<RouteFingerprint> routeFingerprints = new ArrayList<>();
+  private final RouteComparator comparator;
+  private RouteFingerprint chosenFingerprint;
+
+  RouteSimilarityTask(int generation, DirectionsRoute chosenRoute, @Nullable RouteFingerprint chosenFingerprint,
+                      List<DirectionsRoute> routes, RouteComparator comparator) {
+    this.generation = generation;
+    this.chosenRoute = chosenRoute;
+    this.chosenFingerprint = chosenFingerprint;
+    this.routes = routes;
+    this.comparator = comparator;
+  }
+
+  @Override
+  protected Integer doInBackground(Void... voids) {
+    if (chosenFingerprint == null) {
+      chosenFingerprint = RouteFingerprint.from(chosenRoute);
+    }
+    for (DirectionsRoute route : routes) {
+      routeFingerprints.add(RouteFingerprint.from(route));
+    }
+    return RouteComparator.findMostSimilarRoute(chosenFingerprint, routeFingerprints);
+  }
+
+  @Override
+  protected void onPostExecute(Integer routeIndex) {
+    comparator.onMostSimilarRouteFound(generation, routes.get(routeIndex), routeFingerprints.get(routeIndex));
+  }
+}
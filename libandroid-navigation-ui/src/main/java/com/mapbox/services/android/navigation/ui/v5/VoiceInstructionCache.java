@@ -6,68 +6,151 @@ import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.VoiceInstructions;
 import com.mapbox.services.android.navigation.ui.v5.voice.VoiceInstructionLoader;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Keeps the voice instructions announced within the next {@link #PREFETCH_DISTANCE_IN_METERS}, or the
+ * next {@link #PREFETCH_DURATION_IN_SECONDS} at the current speed if that's further, downloaded.
+ * <p>
+ * Each instruction's announcement point is calculated once per route, so a progress update only
+ * moves two cursors: one over the instructions to download and one over the instructions already
+ * announced, which are evicted in batches.
+ * <p>
+ * Progress reaches the cache before the milestone that plays the latest crossed instruction, so that
+ * instruction is kept until the next one is crossed.
+ */
 class VoiceInstructionCache {
 
-  private static final int MAX_VOICE_INSTRUCTIONS_TO_CACHE = 10;
-  private static final int VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD = 5;
+  private static final double PREFETCH_DISTANCE_IN_METERS = 3000d;
+  private static final double PREFETCH_DURATION_IN_SECONDS = 180d;
+  private static final int VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD = 4;
   private final MapboxNavigation navigation;
   private final VoiceInstructionLoader voiceInstructionLoader;
-  private int totalVoiceInstructions = 0;
-  private int currentVoiceInstructionsCachedIndex = 0;
-  private boolean isVoiceInstructionsToCacheThresholdReached = false;
+  private double[] announcementDistances = new double[0];
+  private String[] instructions = new String[0];
+  private int nextInstructionToCache = 0;
+  private int nextInstructionToEvict = 0;
 
   VoiceInstructionCache(MapboxNavigation navigation, VoiceInstructionLoader voiceInstructionLoader) {
     this.navigation = navigation;
     this.voiceInstructionLoader = voiceInstructionLoader;
   }
 
+  /**
+   * Starts over with a new route. Instructions of the previous route that are still cached, or still
+   * being downloaded, are evicted unless the new route announces them within its prefetch window.
+   *
+   * @param route to cache the voice instructions of
+   */
   void preCache(DirectionsRoute route) {
-    totalVoiceInstructions = 0;
-    currentVoiceInstructionsCachedIndex = 0;
-    isVoiceInstructionsToCacheThresholdReached = false;
-    for (int i = 0; i < route.legs().size(); i++) {
-      RouteLeg leg = route.legs().get(i);
-      for (int j = 0; j < leg.steps().size(); j++) {
-        LegStep step = leg.steps().get(j);
-        for (VoiceInstructions ignored : step.voiceInstructions()) {
-          totalVoiceInstructions++;
-        }
-      }
+    Set<String> previousInstructions = collectInstructionsNotEvicted();
+    announcementDistances = calculateAnnouncementDistances(route);
+    instructions = new String[announcementDistances.length];
+    nextInstructionToCache = 0;
+    nextInstructionToEvict = 0;
+    cacheUpTo(PREFETCH_DISTANCE_IN_METERS);
+    previousInstructions.removeAll(collectInstructionsNotEvicted());
+    if (!previousInstructions.isEmpty()) {
+      voiceInstructionLoader.evictInstructions(previousInstructions);
     }
+  }
+
+  /**
+   * Downloads the instructions that entered the prefetch window and evicts the ones played.
+   *
+   * @param routeProgress          current progress
+   * @param speedInMetersPerSecond current speed, used to extend the window on fast roads
+   */
+  void cache(RouteProgress routeProgress, float speedInMetersPerSecond) {
+    double distanceTraveled = routeProgress.distanceTraveled();
+    evictPlayedBefore(distanceTraveled);
+    double prefetchDistance = Math.max(PREFETCH_DISTANCE_IN_METERS,
+      speedInMetersPerSecond * PREFETCH_DURATION_IN_SECONDS);
+    cacheUpTo(distanceTraveled + prefetchDistance);
+  }
+
+  private void cacheUpTo(double distance) {
     List<String> voiceInstructionsToCache = new ArrayList<>();
-    for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-      voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-      currentVoiceInstructionsCachedIndex++;
-      if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-        break;
+    while (nextInstructionToCache < announcementDistances.length
+      && announcementDistances[nextInstructionToCache] <= distance) {
+      String instruction = navigation.retrieveSsmlAnnouncementInstruction(nextInstructionToCache);
+      instructions[nextInstructionToCache] = instruction;
+      voiceInstructionsToCache.add(instruction);
+      nextInstructionToCache++;
+    }
+    if (!voiceInstructionsToCache.isEmpty()) {
+      voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+    }
+  }
+
+  private void evictPlayedBefore(double distanceTraveled) {
+    int crossed = nextInstructionToEvict;
+    while (crossed < nextInstructionToCache && announcementDistances[crossed] < distanceTraveled) {
+      crossed++;
+    }
+    int announced = Math.max(nextInstructionToEvict, crossed - 1);
+    if (announced - nextInstructionToEvict < VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD) {
+      return;
+    }
+    Set<String> upcomingInstructions = new HashSet<>();
+    for (int i = announced; i < nextInstructionToCache; i++) {
+      upcomingInstructions.add(instructions[i]);
+    }
+    List<String> voiceInstructionsToEvict = new ArrayList<>();
+    for (int i = nextInstructionToEvict; i < announced; i++) {
+      // The same announcement can come back later on the route and is only downloaded once
+      if (instructions[i] != null && !upcomingInstructions.contains(instructions[i])) {
+        voiceInstructionsToEvict.add(instructions[i]);
       }
+      instructions[i] = null;
     }
-    voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
+    nextInstructionToEvict = announced;
+    voiceInstructionLoader.evictInstructions(voiceInstructionsToEvict);
   }
 
-  void cache() {
-    if (isVoiceInstructionsToCacheThresholdReached) {
-      isVoiceInstructionsToCacheThresholdReached = false;
-      voiceInstructionLoader.evictVoiceInstructions();
-      List<String> voiceInstructionsToCache = new ArrayList<>();
-      for (int i = currentVoiceInstructionsCachedIndex; i < totalVoiceInstructions; i++) {
-        voiceInstructionsToCache.add(navigation.retrieveSsmlAnnouncementInstruction(i));
-        currentVoiceInstructionsCachedIndex++;
-        if ((currentVoiceInstructionsCachedIndex + 1) % MAX_VOICE_INSTRUCTIONS_TO_CACHE == 0) {
-          break;
-        }
+  private Set<String> collectInstructionsNotEvicted() {
+    Set<String> instructionsNotEvicted = new HashSet<>();
+    for (int i = nextInstructionToEvict; i < nextInstructionToCache; i++) {
+      if (instructions[i] != null) {
+        instructionsNotEvicted.add(instructions[i]);
       }
-      voiceInstructionLoader.cacheInstructions(voiceInstructionsToCache);
     }
+    return instructionsNotEvicted;
   }
 
-  void update(int voiceInstructionsToAnnounce) {
-    if (voiceInstructionsToAnnounce % VOICE_INSTRUCTIONS_TO_CACHE_THRESHOLD == 0) {
-      isVoiceInstructionsToCacheThresholdReached = true;
+  /**
+   * Distance along the route at which each voice instruction is announced, in the order the
+   * navigator indexes them.
+   */
+  private static double[] calculateAnnouncementDistances(DirectionsRoute route) {
+    List<Double> distances = new ArrayList<>();
+    double stepStartDistance = 0;
+    for (RouteLeg leg : route.legs()) {
+      for (LegStep step : leg.steps()) {
+        List<VoiceInstructions> voiceInstructions = step.voiceInstructions();
+        if (voiceInstructions != null) {
+          for (VoiceInstructions voiceInstruction : voiceInstructions) {
+            Double distanceAlongGeometry = voiceInstruction.distanceAlongGeometry();
+            double distanceBeforeManeuver = distanceAlongGeometry == null ? step.distance() : distanceAlongGeometry;
+            double announcementDistance = stepStartDistance + Math.max(0, step.distance() - distanceBeforeManeuver);
+            distances.add(announcementDistance);
+          }
+        }
+        stepStartDistance += step.distance();
+      }
+    }
+    double[] announcementDistances = new double[distances.size()];
+    double previousDistance = 0;
+    for (int i = 0; i < announcementDistances.length; i++) {
+      // Keeps the cursors moving forward if an instruction is placed before the previous one
+      previousDistance = Math.max(previousDistance, distances.get(i));
+      announcementDistances[i] = previousDistance;
     }
+    return announcementDistances;
   }
 }
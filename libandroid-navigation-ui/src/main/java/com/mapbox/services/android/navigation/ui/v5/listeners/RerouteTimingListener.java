@@ -0,0 +1,26 @@
+package com.mapbox.services.android.navigation.ui.v5.listeners;
+
+/**
+ * A listener that can be implemented and
+ * added to {@link com.mapbox.services.android.navigation.ui.v5.NavigationViewOptions} to
+ * measure how long {@link com.mapbox.services.android.navigation.ui.v5.NavigationView} waits
+ * for a new route from each source.
+ */
+public interface RerouteTimingListener {
+
+  /**
+   * Will trigger when the Directions API answered a route request.
+   *
+   * @param timeToRerouteInMillis time between the request and the route
+   * @param isUsed                false if the route came too late to replace the offline route
+   */
+  void onOnlineRoute(long timeToRerouteInMillis, boolean isUsed);
+
+  /**
+   * Will trigger when the offline router found a route.
+   *
+   * @param timeToRerouteInMillis time between the request and the route
+   * @param isUsed                false if the online route was already used
+   */
+  void onOfflineRoute(long timeToRerouteInMillis, boolean isUsed);
+}
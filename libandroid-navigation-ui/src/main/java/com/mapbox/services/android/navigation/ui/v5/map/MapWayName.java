@@ -2,7 +2,6 @@ package com.mapbox.services.android.navigation.ui.v5.map;
 
 import android.graphics.PointF;
 import android.location.Location;
-import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 
 import com.mapbox.geojson.Feature;
@@ -22,12 +21,18 @@ class MapWayName {
   private static final String EMPTY_CURRENT_WAY_NAME = "";
   private final MapWaynameProgressChangeListener progressChangeListener = new MapWaynameProgressChangeListener(this);
   private final Set<OnWayNameChangedListener> onWayNameChangedListeners;
+  private final OnFeatureFilteredCallback featureFilteredCallback = new OnFeatureFilteredCallback() {
+    @Override
+    public void onFeatureFiltered(@NonNull Feature feature) {
+      updateWayNameLayerWithNameProperty(feature);
+    }
+  };
   private WaynameFeatureFinder featureInteractor;
   private List<Point> currentStepPoints = new ArrayList<>();
   private Location currentLocation = null;
   private MapboxNavigation navigation;
   private boolean isAutoQueryEnabled;
-  private FeatureFilterTask filterTask;
+  private WaynameFilterThread filterThread;
   private String wayName = EMPTY_CURRENT_WAY_NAME;
 
   MapWayName(WaynameFeatureFinder featureInteractor, MapPaddingAdjustor paddingAdjustor) {
@@ -45,16 +50,12 @@ class MapWayName {
     if (invalidLabelFeatures) {
       return;
     }
-    executeFeatureFilterTask(roadLabelFeatures);
+    filterFeatures(roadLabelFeatures);
   }
 
   void updateProgress(Location currentLocation, List<Point> currentStepPoints) {
-    if (!this.currentStepPoints.equals(currentStepPoints)) {
-      this.currentStepPoints = currentStepPoints;
-    }
-    if (this.currentLocation == null || !this.currentLocation.equals(currentLocation)) {
-      this.currentLocation = currentLocation;
-    }
+    this.currentStepPoints = currentStepPoints;
+    this.currentLocation = currentLocation;
   }
 
   void updateWayNameQueryMap(boolean isEnabled) {
@@ -81,8 +82,9 @@ class MapWayName {
   }
 
   void onStop() {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
+    if (filterThread != null) {
+      filterThread.quit();
+      filterThread = null;
     }
     if (navigation != null) {
       navigation.removeProgressChangeListener(progressChangeListener);
@@ -94,31 +96,19 @@ class MapWayName {
     return featureInteractor.queryRenderedFeatures(point, layerIds);
   }
 
-  private void executeFeatureFilterTask(List<Feature> roadFeatures) {
-    if (isTaskRunning()) {
-      filterTask.cancel(true);
+  private void filterFeatures(List<Feature> roadFeatures) {
+    if (!hasValidProgressData()) {
+      return;
     }
-
-    if (hasValidProgressData()) {
-      filterTask = new FeatureFilterTask(roadFeatures, currentLocation, currentStepPoints,
-        new OnFeatureFilteredCallback() {
-          @Override
-          public void onFeatureFiltered(@NonNull Feature feature) {
-            updateWayNameLayerWithNameProperty(feature);
-          }
-        });
-      filterTask.execute();
+    if (filterThread == null) {
+      filterThread = new WaynameFilterThread();
     }
-  }
-
-  private boolean isTaskRunning() {
-    return filterTask != null
-      && (filterTask.getStatus() == AsyncTask.Status.PENDING
-      || filterTask.getStatus() == AsyncTask.Status.RUNNING);
+    Point currentPoint = Point.fromLngLat(currentLocation.getLongitude(), currentLocation.getLatitude());
+    filterThread.filter(roadFeatures, currentPoint, currentStepPoints, featureFilteredCallback);
   }
 
   private boolean hasValidProgressData() {
-    return currentLocation != null && !currentStepPoints.isEmpty();
+    return currentLocation != null && currentStepPoints != null && !currentStepPoints.isEmpty();
   }
 
   private void updateWayNameLayerWithNameProperty(Feature roadFeature) {
@@ -1,6 +1,5 @@
 package com.mapbox.services.android.navigation.ui.v5.map;
 
-import android.location.Location;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -9,153 +8,208 @@ import com.mapbox.geojson.Geometry;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.MultiLineString;
 import com.mapbox.geojson.Point;
-import com.mapbox.turf.TurfMeasurement;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-
-import static com.mapbox.turf.TurfConstants.UNIT_METRES;
-import static com.mapbox.turf.TurfMeasurement.along;
-import static com.mapbox.turf.TurfMisc.lineSlice;
-import static com.mapbox.turf.TurfMisc.lineSliceAlong;
-
+import java.util.Map;
+
+/**
+ * Picks the road feature the user is traveling on, out of the road labels queried around the puck.
+ * <p>
+ * One instance lives for the whole navigation session. The current step is prepared once when it
+ * changes and the user's position on it is tracked from the previous one, while road geometries are
+ * kept per feature ID and geometry, as the pieces of a road clipped by tile boundaries share its ID.
+ * Candidates are checked with a cheap direction test against the step before their distance to the
+ * point ten meters ahead of the user is compared.
+ * <p>
+ * Not thread safe, meant to be used from a single worker thread.
+ */
 class WaynameFeatureFilter {
 
   private static final int FIRST = 0;
   private static final int ONE_FEATURE = 1;
   private static final int TWO_POINTS = 2;
-  private static final double ZERO_METERS = 0d;
-  private static final double TEN = 10d;
-  private final List<Feature> queriedFeatures;
-  private final Point currentPoint;
-  private final LineString currentStepLineString;
-
-  WaynameFeatureFilter(List<Feature> queriedFeatures, Location currentLocation, List<Point> currentStepPoints) {
-    this.queriedFeatures = new ArrayList<>(new HashSet<>(queriedFeatures));
-    this.currentPoint = Point.fromLngLat(currentLocation.getLongitude(), currentLocation.getLatitude());
-    this.currentStepLineString = LineString.fromLngLats(currentStepPoints);
-  }
-
-  @NonNull
-  Feature filterFeatures() {
-    return filterQueriedFeatures();
+  private static final double TEN_METERS = 10d;
+  private static final double MAX_ALIGNED_AXIS_DIFFERENCE = 45d;
+  private static final double DEGREES_IN_HALF_CIRCLE = 180d;
+  private static final int STEP_SEARCH_BEHIND_SEGMENTS = 2;
+  private static final int STEP_SEARCH_AHEAD_SEGMENTS = 32;
+  private static final double STEP_SEARCH_MAX_DISTANCE = 50d;
+  private static final int MAX_CACHED_FEATURES = 128;
+  private final Map<FeatureKey, List<WaynameLine>> featureLines = new LinkedHashMap<FeatureKey, List<WaynameLine>>(
+    MAX_CACHED_FEATURES, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<FeatureKey, List<WaynameLine>> eldest) {
+      return size() > MAX_CACHED_FEATURES;
+    }
+  };
+  private final WaynameLine.Position stepPosition = new WaynameLine.Position();
+  private final WaynameLine.Position featurePosition = new WaynameLine.Position();
+  private final double[] pointAheadOnStep = new double[2];
+  private final double[] pointAheadOnFeature = new double[2];
+  private final double[] pointBehindOnFeature = new double[2];
+  private List<Point> currentStepPoints;
+  private WaynameLine currentStepLine;
+  private int stepSegmentCursor;
+
+  /**
+   * Prepares the given step, unless it's the step already prepared.
+   *
+   * @param currentStepPoints points of the current step, compared by reference
+   */
+  void updateStep(@NonNull List<Point> currentStepPoints) {
+    if (this.currentStepPoints == currentStepPoints) {
+      return;
+    }
+    this.currentStepPoints = currentStepPoints;
+    this.currentStepLine = WaynameLine.fromPoints(currentStepPoints);
+    this.stepSegmentCursor = 0;
   }
 
   @NonNull
-  private Feature filterQueriedFeatures() {
-    Feature filteredFeature = queriedFeatures.get(FIRST);
-    if (queriedFeatures.size() == ONE_FEATURE) {
+  Feature filterFeatures(@NonNull List<Feature> queriedFeatures, @NonNull Point currentPoint) {
+    List<Feature> features = new ArrayList<>(new LinkedHashSet<>(queriedFeatures));
+    Feature filteredFeature = features.get(FIRST);
+    if (features.size() == ONE_FEATURE || currentStepLine == null
+      || currentStepPoints.size() < TWO_POINTS || currentPoint.equals(lastStepPoint())) {
       return filteredFeature;
     }
-    double smallestUserDistanceToFeature = Double.POSITIVE_INFINITY;
-    for (Feature feature : queriedFeatures) {
-      Geometry featureGeometry = feature.geometry();
-      if (featureGeometry == null) {
-        continue;
-      }
-      List<LineString> featureLineStrings = new ArrayList<>();
-      if (featureGeometry instanceof LineString) {
-        featureLineStrings.add((LineString) featureGeometry);
-      } else if (featureGeometry instanceof MultiLineString) {
-        featureLineStrings = ((MultiLineString) featureGeometry).lineStrings();
-      }
-
-      for (LineString featureLineString : featureLineStrings) {
-        List<Point> currentStepCoordinates = currentStepLineString.coordinates();
-        int stepCoordinatesSize = currentStepCoordinates.size();
-        if (stepCoordinatesSize < TWO_POINTS) {
-          return filteredFeature;
+    projectOnStep(currentPoint);
+    currentStepLine.coordinatesAlong(stepPosition.traveled + TEN_METERS, pointAheadOnStep);
+    double stepAxis = currentStepLine.segmentAxis(stepPosition.segment);
+
+    Feature closestAlignedFeature = null;
+    double closestAlignedDistance = Double.POSITIVE_INFINITY;
+    double closestDistance = Double.POSITIVE_INFINITY;
+    for (Feature feature : features) {
+      for (WaynameLine line : obtainLines(feature)) {
+        line.project(currentPoint.longitude(), currentPoint.latitude(), FIRST, line.segmentCount() - 1,
+          featurePosition);
+        if (featurePosition.segment == WaynameLine.NO_SEGMENT) {
+          continue;
         }
-        int lastStepCoordinate = stepCoordinatesSize - 1;
-        Point lastStepPoint = currentStepCoordinates.get(lastStepCoordinate);
-        if (currentPoint.equals(lastStepPoint)) {
-          return filteredFeature;
+        boolean isAligned = isAligned(stepAxis, line.segmentAxis(featurePosition.segment));
+        if (!isAligned && closestAlignedFeature != null) {
+          continue;
         }
-        List<Point> lineCoordinates = featureLineString.coordinates();
-        int lineCoordinatesSize = lineCoordinates.size();
-        if (lineCoordinatesSize < TWO_POINTS) {
-          return filteredFeature;
+        double distance = calculateDistanceAhead(line, featurePosition.traveled);
+        if (isAligned && distance < closestAlignedDistance) {
+          closestAlignedDistance = distance;
+          closestAlignedFeature = feature;
         }
-        int lastLineCoordinate = lineCoordinatesSize - 1;
-        Point lastLinePoint = lineCoordinates.get(lastLineCoordinate);
-        if (currentPoint.equals(lastLinePoint)) {
-          return filteredFeature;
+        if (distance < closestDistance) {
+          closestDistance = distance;
+          filteredFeature = feature;
         }
+      }
+    }
+    return closestAlignedFeature != null ? closestAlignedFeature : filteredFeature;
+  }
 
-        Point firstLinePoint = lineCoordinates.get(FIRST);
-        if (currentPoint.equals(firstLinePoint)) {
-          return filteredFeature;
-        }
+  /**
+   * Looks for the user around the last matched step segment first, falling back to the whole step
+   * when the user isn't close to that part of it.
+   */
+  private void projectOnStep(Point currentPoint) {
+    double longitude = currentPoint.longitude();
+    double latitude = currentPoint.latitude();
+    currentStepLine.project(longitude, latitude, stepSegmentCursor - STEP_SEARCH_BEHIND_SEGMENTS,
+      stepSegmentCursor + STEP_SEARCH_AHEAD_SEGMENTS, stepPosition);
+    if (stepPosition.segment == WaynameLine.NO_SEGMENT || stepPosition.distance > STEP_SEARCH_MAX_DISTANCE) {
+      currentStepLine.project(longitude, latitude, FIRST, currentStepLine.segmentCount() - 1, stepPosition);
+    }
+    stepSegmentCursor = stepPosition.segment;
+  }
 
-        LineString stepSliceFromCurrentPoint = lineSlice(currentPoint, lastStepPoint, currentStepLineString);
-        Point pointAheadUserOnStep = along(stepSliceFromCurrentPoint, TEN, UNIT_METRES);
-        LineString reversedFeatureLine = reverseFeatureLineStringCoordinates(featureLineString);
-        LineString currentAheadLine = reversedFeatureLine;
-        LineString currentBehindLine = featureLineString;
-
-        Point currentDirectionAhead = firstLinePoint;
-        Point currentDirectionBehind = lastLinePoint;
-
-        double distanceCurrentFirst = calculateDistance(currentPoint, firstLinePoint);
-        double distanceAheadFirst = calculateDistance(pointAheadUserOnStep, firstLinePoint);
-        if (distanceAheadFirst >= distanceCurrentFirst) {
-          currentAheadLine = featureLineString;
-          currentBehindLine = reversedFeatureLine;
-          currentDirectionAhead = lastLinePoint;
-          currentDirectionBehind = firstLinePoint;
-        }
+  /**
+   * Distance from the point ten meters ahead of the user on the step to the closest of the points
+   * ten meters away from the user in either direction of the road.
+   */
+  private double calculateDistanceAhead(WaynameLine line, double traveled) {
+    line.coordinatesAlong(traveled + TEN_METERS, pointAheadOnFeature);
+    line.coordinatesAlong(traveled - TEN_METERS, pointBehindOnFeature);
+    return Math.min(
+      line.distanceBetween(pointAheadOnStep, pointAheadOnFeature),
+      line.distanceBetween(pointAheadOnStep, pointBehindOnFeature)
+    );
+  }
 
-        LineString sliceFromCurrentPoint = lineSlice(currentPoint, currentDirectionAhead, currentAheadLine);
-        Point pointAheadFeature = along(sliceFromCurrentPoint, TEN, UNIT_METRES);
-        LineString reverseSliceFromCurrentPoint = lineSlice(currentPoint, currentDirectionBehind, currentBehindLine);
-        Point pointBehindFeature = along(reverseSliceFromCurrentPoint, TEN, UNIT_METRES);
+  private boolean isAligned(double stepAxis, double featureAxis) {
+    double difference = Math.abs(stepAxis - featureAxis);
+    return Math.min(difference, DEGREES_IN_HALF_CIRCLE - difference) <= MAX_ALIGNED_AXIS_DIFFERENCE;
+  }
 
-        double userDistanceToAheadFeature = calculateDistance(pointAheadUserOnStep, pointAheadFeature);
-        double userDistanceToBehindFeature = calculateDistance(pointAheadUserOnStep, pointBehindFeature);
-        double minDistanceToFeature = Math.min(userDistanceToAheadFeature, userDistanceToBehindFeature);
+  private Point lastStepPoint() {
+    return currentStepPoints.get(currentStepPoints.size() - 1);
+  }
 
-        if (minDistanceToFeature < smallestUserDistanceToFeature) {
-          smallestUserDistanceToFeature = minDistanceToFeature;
-          filteredFeature = feature;
-        }
-      }
+  @NonNull
+  private List<WaynameLine> obtainLines(Feature feature) {
+    String id = feature.id();
+    Geometry geometry = feature.geometry();
+    if (id == null || geometry == null) {
+      return buildLines(geometry);
+    }
+    FeatureKey key = new FeatureKey(id, geometry);
+    List<WaynameLine> lines = featureLines.get(key);
+    if (lines == null) {
+      lines = buildLines(geometry);
+      featureLines.put(key, lines);
     }
-    return filteredFeature;
+    return lines;
   }
 
-  private double calculateDistance(Point lhs, Point rhs) {
-    if (lhs == null || rhs == null) {
-      return Double.POSITIVE_INFINITY;
+  @NonNull
+  private List<WaynameLine> buildLines(@Nullable Geometry geometry) {
+    List<LineString> lineStrings = Collections.emptyList();
+    if (geometry instanceof LineString) {
+      lineStrings = Collections.singletonList((LineString) geometry);
+    } else if (geometry instanceof MultiLineString) {
+      lineStrings = ((MultiLineString) geometry).lineStrings();
+    }
+    List<WaynameLine> lines = new ArrayList<>(lineStrings.size());
+    for (LineString lineString : lineStrings) {
+      List<Point> coordinates = lineString.coordinates();
+      if (coordinates.size() >= TWO_POINTS) {
+        lines.add(WaynameLine.fromPoints(coordinates));
+      }
     }
-    return TurfMeasurement.distance(lhs, rhs);
+    return lines;
   }
 
-  @Nullable
-  Point findPointFromCurrentPoint(Point currentPoint, LineString lineString) {
-    List<Point> lineStringCoordinates = lineString.coordinates();
-    int coordinateSize = lineStringCoordinates.size();
-    if (coordinateSize < TWO_POINTS) {
-      return null;
-    }
-    Point lastLinePoint = lineStringCoordinates.get(coordinateSize - 1);
-    if (currentPoint == null || currentPoint.equals(lastLinePoint)) {
-      return null;
+  /**
+   * Hashing the coordinates is much cheaper than building the lines, which project every point.
+   */
+  private static class FeatureKey {
+
+    private final String id;
+    private final Geometry geometry;
+    private final int hashCode;
+
+    FeatureKey(String id, Geometry geometry) {
+      this.id = id;
+      this.geometry = geometry;
+      this.hashCode = 31 * id.hashCode() + geometry.hashCode();
     }
-    LineString sliceFromCurrentPoint = lineSlice(currentPoint, lastLinePoint, lineString);
-    LineString meterSlice = lineSliceAlong(sliceFromCurrentPoint, ZERO_METERS, (double) 10, UNIT_METRES);
-    List<Point> slicePoints = meterSlice.coordinates();
-    if (slicePoints.isEmpty()) {
-      return null;
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof FeatureKey)) {
+        return false;
+      }
+      FeatureKey key = (FeatureKey) other;
+      return hashCode == key.hashCode && id.equals(key.id) && geometry.equals(key.geometry);
     }
-    return slicePoints.get(FIRST);
-  }
 
-  @NonNull
-  private LineString reverseFeatureLineStringCoordinates(LineString featureLineString) {
-    List<Point> reversedFeatureCoordinates = new ArrayList<>(featureLineString.coordinates());
-    Collections.reverse(reversedFeatureCoordinates);
-    return LineString.fromLngLats(reversedFeatureCoordinates);
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 }
@@ -0,0 +1,105 @@
+package com.mapbox.services.android.navigation.ui.v5.map;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.os.Process;
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Long-lived worker running the {@link WaynameFeatureFilter} off the main thread.
+ * <p>
+ * Requests are conflated: while one is being filtered, newer requests replace the pending one, so
+ * only the latest location is ever filtered next. Results are delivered on the main thread.
+ */
+class WaynameFilterThread extends HandlerThread {
+
+  private static final String WAYNAME_FILTER_THREAD_NAME = "mapbox_wayname_filter_thread";
+  private final WaynameFeatureFilter filter;
+  private final Handler responseHandler;
+  private final AtomicReference<FilterRequest> pendingRequest = new AtomicReference<>();
+  private final Runnable filterRunnable = new Runnable() {
+    @Override
+    public void run() {
+      filterPendingRequest();
+    }
+  };
+  private volatile boolean isQuit;
+  private Handler workerHandler;
+
+  WaynameFilterThread() {
+    this(new WaynameFeatureFilter(), new Handler(Looper.getMainLooper()));
+  }
+
+  // Package private (no modifier) for testing purposes
+  WaynameFilterThread(WaynameFeatureFilter filter, Handler responseHandler) {
+    super(WAYNAME_FILTER_THREAD_NAME, Process.THREAD_PRIORITY_BACKGROUND);
+    this.filter = filter;
+    this.responseHandler = responseHandler;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (getState() == State.NEW) {
+      super.start();
+      workerHandler = new Handler(getLooper());
+    }
+  }
+
+  @Override
+  public boolean quit() {
+    isQuit = true;
+    pendingRequest.set(null);
+    return super.quit();
+  }
+
+  void filter(@NonNull List<Feature> queriedFeatures, @NonNull Point currentPoint,
+              @NonNull List<Point> currentStepPoints, @NonNull OnFeatureFilteredCallback callback) {
+    if (!isAlive()) {
+      start();
+    }
+    FilterRequest request = new FilterRequest(queriedFeatures, currentPoint, currentStepPoints, callback);
+    if (pendingRequest.getAndSet(request) == null) {
+      workerHandler.post(filterRunnable);
+    }
+  }
+
+  private void filterPendingRequest() {
+    final FilterRequest request = pendingRequest.getAndSet(null);
+    if (request == null) {
+      return;
+    }
+    filter.updateStep(request.currentStepPoints);
+    final Feature feature = filter.filterFeatures(request.queriedFeatures, request.currentPoint);
+    responseHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (!isQuit) {
+          request.callback.onFeatureFiltered(feature);
+        }
+      }
+    });
+  }
+
+  private static class FilterRequest {
+
+    private final List<Feature> queriedFeatures;
+    private final Point currentPoint;
+    private final List<Point> currentStepPoints;
+    private final OnFeatureFilteredCallback callback;
+
+    FilterRequest(List<Feature> queriedFeatures, Point currentPoint, List<Point> currentStepPoints,
+                  OnFeatureFilteredCallback callback) {
+      this.queriedFeatures = queriedFeatures;
+      this.currentPoint = currentPoint;
+      this.currentStepPoints = currentStepPoints;
+      this.callback = callback;
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.mapbox.services.android.navigation.ui.v5.map;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.Point;
+
+import java.util.List;
+
+/**
+ * Line geometry prepared once for way name filtering: coordinates in flat arrays and the distance
+ * traveled to each of them, so projecting a point and walking along the line need no
+ * {@link com.mapbox.geojson.LineString} slicing.
+ * <p>
+ * Distances are in meters on a local equirectangular projection, which is plenty to rank roads a few
+ * meters apart.
+ */
+class WaynameLine {
+
+  static final int NO_SEGMENT = -1;
+  private static final double METERS_PER_DEGREE = 111319.49;
+  private static final double DEGREES_IN_HALF_CIRCLE = 180d;
+  private final double[] longitudes;
+  private final double[] latitudes;
+  private final double[] traveledDistances;
+  private final double longitudeScale;
+
+  private WaynameLine(double[] longitudes, double[] latitudes, double[] traveledDistances, double longitudeScale) {
+    this.longitudes = longitudes;
+    this.latitudes = latitudes;
+    this.traveledDistances = traveledDistances;
+    this.longitudeScale = longitudeScale;
+  }
+
+  @NonNull
+  static WaynameLine fromPoints(@NonNull List<Point> points) {
+    int size = points.size();
+    double[] longitudes = new double[size];
+    double[] latitudes = new double[size];
+    double[] traveledDistances = new double[size];
+    double longitudeScale = size == 0 ? 1 : Math.cos(Math.toRadians(points.get(0).latitude()));
+    for (int i = 0; i < size; i++) {
+      Point point = points.get(i);
+      longitudes[i] = point.longitude();
+      latitudes[i] = point.latitude();
+      if (i > 0) {
+        double deltaX = (longitudes[i] - longitudes[i - 1]) * longitudeScale * METERS_PER_DEGREE;
+        double deltaY = (latitudes[i] - latitudes[i - 1]) * METERS_PER_DEGREE;
+        traveledDistances[i] = traveledDistances[i - 1] + Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+      }
+    }
+    return new WaynameLine(longitudes, latitudes, traveledDistances, longitudeScale);
+  }
+
+  int segmentCount() {
+    return Math.max(0, longitudes.length - 1);
+  }
+
+  /**
+   * Projects the point onto the segments between the given indices, both inclusive.
+   *
+   * @param position updated with the closest segment, the distance traveled along the line to the
+   *                 projected point and the distance to it
+   */
+  void project(double longitude, double latitude, int firstSegment, int lastSegment, Position position) {
+    position.segment = NO_SEGMENT;
+    position.distance = Double.POSITIVE_INFINITY;
+    int first = Math.max(0, firstSegment);
+    int last = Math.min(segmentCount() - 1, lastSegment);
+    for (int segment = first; segment <= last; segment++) {
+      double fromX = toX(longitudes[segment]);
+      double fromY = toY(latitudes[segment]);
+      double deltaX = toX(longitudes[segment + 1]) - fromX;
+      double deltaY = toY(latitudes[segment + 1]) - fromY;
+      double x = toX(longitude);
+      double y = toY(latitude);
+      double lengthSquared = deltaX * deltaX + deltaY * deltaY;
+      double fraction = 0;
+      if (lengthSquared > 0) {
+        fraction = Math.max(0, Math.min(1, ((x - fromX) * deltaX + (y - fromY) * deltaY) / lengthSquared));
+      }
+      double distanceX = x - (fromX + fraction * deltaX);
+      double distanceY = y - (fromY + fraction * deltaY);
+      double distance = Math.sqrt(distanceX * distanceX + distanceY * distanceY);
+      if (distance < position.distance) {
+        position.segment = segment;
+        position.distance = distance;
+        position.traveled = traveledDistances[segment]
+          + fraction * (traveledDistances[segment + 1] - traveledDistances[segment]);
+      }
+    }
+  }
+
+  /**
+   * @param traveled distance along the line, clamped to its ends
+   * @return coordinates as {longitude, latitude}, written to the given array
+   */
+  double[] coordinatesAlong(double traveled, double[] coordinates) {
+    int last = longitudes.length - 1;
+    if (traveled <= 0 || last == 0) {
+      return write(coordinates, longitudes[0], latitudes[0]);
+    }
+    if (traveled >= traveledDistances[last]) {
+      return write(coordinates, longitudes[last], latitudes[last]);
+    }
+    int low = 0;
+    int high = last;
+    while (high - low > 1) {
+      int middle = (low + high) >>> 1;
+      if (traveledDistances[middle] <= traveled) {
+        low = middle;
+      } else {
+        high = middle;
+      }
+    }
+    double length = traveledDistances[high] - traveledDistances[low];
+    double fraction = length > 0 ? (traveled - traveledDistances[low]) / length : 0;
+    return write(coordinates,
+      longitudes[low] + fraction * (longitudes[high] - longitudes[low]),
+      latitudes[low] + fraction * (latitudes[high] - latitudes[low]));
+  }
+
+  /**
+   * @return direction of the segment in degrees, between 0 and 180 as roads can be traveled both ways
+   */
+  double segmentAxis(int segment) {
+    double deltaX = toX(longitudes[segment + 1]) - toX(longitudes[segment]);
+    double deltaY = toY(latitudes[segment + 1]) - toY(latitudes[segment]);
+    double axis = Math.toDegrees(Math.atan2(deltaX, deltaY));
+    return ((axis % DEGREES_IN_HALF_CIRCLE) + DEGREES_IN_HALF_CIRCLE) % DEGREES_IN_HALF_CIRCLE;
+  }
+
+  double distanceBetween(double[] first, double[] second) {
+    double deltaX = toX(first[0]) - toX(second[0]);
+    double deltaY = toY(first[1]) - toY(second[1]);
+    return Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+  }
+
+  private double toX(double longitude) {
+    return longitude * longitudeScale * METERS_PER_DEGREE;
+  }
+
+  private double toY(double latitude) {
+    return latitude * METERS_PER_DEGREE;
+  }
+
+  private static double[] write(double[] coordinates, double longitude, double latitude) {
+    coordinates[0] = longitude;
+    coordinates[1] = latitude;
+    return coordinates;
+  }
+
+  /**
+   * Result of {@link #project(double, double, int, int, Position)}, reused between projections.
+   */
+  static class Position {
+    int segment = NO_SEGMENT;
+    double traveled;
+    double distance;
+  }
+}
@@ -12,7 +12,6 @@ import com.mapbox.geojson.Point;
 
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 import static com.mapbox.services.android.navigation.ui.v5.route.RouteConstants.PRIMARY_ROUTE_PROPERTY_KEY;
@@ -22,7 +21,8 @@ class FeatureProcessingTask extends AsyncTask<Void, Void, Void> {
   private final List<DirectionsRoute> routes;
   private final List<FeatureCollection> routeFeatureCollections = new ArrayList<>();
   private final WeakReference<OnRouteFeaturesProcessedCallback> callbackWeakReference;
-  private final HashMap<LineString, DirectionsRoute> routeLineStrings = new HashMap<>();
+  private final List<LineString> routeLineStrings = new ArrayList<>();
+  private RouteSpatialIndex routeSpatialIndex;
 
   FeatureProcessingTask(List<DirectionsRoute> routes, OnRouteFeaturesProcessedCallback callback) {
     this.routes = routes;
@@ -37,16 +37,16 @@ class FeatureProcessingTask extends AsyncTask<Void, Void, Void> {
       FeatureCollection routeFeatureCollection = createRouteFeatureCollection(route, isPrimary);
       routeFeatureCollections.add(routeFeatureCollection);
     }
+    routeSpatialIndex = RouteSpatialIndex.build(routeLineStrings);
     return null;
   }
 
   @Override
   protected void onPostExecute(Void result) {
     super.onPostExecute(result);
-    Runtime.getRuntime().gc();
     OnRouteFeaturesProcessedCallback callback = callbackWeakReference.get();
     if (callback != null) {
-      callback.onRouteFeaturesProcessed(routeFeatureCollections, routeLineStrings);
+      callback.onRouteFeaturesProcessed(routeFeatureCollections, routeSpatialIndex);
     }
   }
 
@@ -57,7 +57,7 @@ class FeatureProcessingTask extends AsyncTask<Void, Void, Void> {
     Feature routeFeature = Feature.fromGeometry(routeGeometry);
     routeFeature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
     features.add(routeFeature);
-    routeLineStrings.put(routeGeometry, route);
+    routeLineStrings.add(routeGeometry);
 
     List<Feature> congestionFeatures = buildCongestionFeaturesFromRoute(route, routeGeometry, isPrimary);
     features.addAll(congestionFeatures);
@@ -67,23 +67,13 @@ class FeatureProcessingTask extends AsyncTask<Void, Void, Void> {
   private List<Feature> buildCongestionFeaturesFromRoute(DirectionsRoute route, LineString lineString,
                                                          boolean isPrimary) {
     final List<Feature> features = new ArrayList<>();
+    List<Point> coordinates = lineString.coordinates();
     for (RouteLeg leg : route.legs()) {
       if (leg.annotation() != null && leg.annotation().congestion() != null) {
-        for (int i = 0; i < leg.annotation().congestion().size(); i++) {
-          // See https://github.com/mapbox/mapbox-navigation-android/issues/353
-          if (leg.annotation().congestion().size() + 1 <= lineString.coordinates().size()) {
-
-            List<Point> points = new ArrayList<>();
-            points.add(lineString.coordinates().get(i));
-            points.add(lineString.coordinates().get(i + 1));
-
-            LineString congestionLineString = LineString.fromLngLats(points);
-            Feature feature = Feature.fromGeometry(congestionLineString);
-            String congestionValue = leg.annotation().congestion().get(i);
-            feature.addStringProperty(RouteConstants.CONGESTION_KEY, congestionValue);
-            feature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
-            features.add(feature);
-          }
+        List<String> congestion = leg.annotation().congestion();
+        // See https://github.com/mapbox/mapbox-navigation-android/issues/353
+        if (congestion.size() + 1 <= coordinates.size()) {
+          addCongestionRunFeatures(features, congestion, coordinates, isPrimary);
         }
       } else {
         Feature feature = Feature.fromGeometry(lineString);
@@ -92,4 +82,28 @@ class FeatureProcessingTask extends AsyncTask<Void, Void, Void> {
     }
     return features;
   }
+
+  /**
+   * Adds one feature per run of consecutive segments sharing the same congestion value, so the
+   * feature count scales with the number of congestion changes rather than the number of segments.
+   */
+  private void addCongestionRunFeatures(List<Feature> features, List<String> congestion, List<Point> coordinates,
+                                        boolean isPrimary) {
+    int runStart = 0;
+    for (int i = 1; i <= congestion.size(); i++) {
+      boolean isRunEnd = i == congestion.size() || !isSameCongestion(congestion.get(runStart), congestion.get(i));
+      if (isRunEnd) {
+        List<Point> points = new ArrayList<>(coordinates.subList(runStart, i + 1));
+        Feature feature = Feature.fromGeometry(LineString.fromLngLats(points));
+        feature.addStringProperty(RouteConstants.CONGESTION_KEY, congestion.get(runStart));
+        feature.addBooleanProperty(PRIMARY_ROUTE_PROPERTY_KEY, isPrimary);
+        features.add(feature);
+        runStart = i;
+      }
+    }
+  }
+
+  private boolean isSameCongestion(String congestion, String otherCongestion) {
+    return congestion == null ? otherCongestion == null : congestion.equals(otherCongestion);
+  }
 }
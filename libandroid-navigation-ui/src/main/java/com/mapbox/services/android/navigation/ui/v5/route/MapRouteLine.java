@@ -4,13 +4,13 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.drawable.Drawable;
 import android.support.annotation.ColorInt;
+import android.support.annotation.Nullable;
 import android.support.v4.content.ContextCompat;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
-import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.maps.MapboxMap;
 import com.mapbox.mapboxsdk.style.expressions.Expression;
@@ -23,7 +23,6 @@ import com.mapbox.services.android.navigation.ui.v5.R;
 import com.mapbox.services.android.navigation.ui.v5.utils.MapUtils;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 
 import static com.mapbox.mapboxsdk.style.expressions.Expression.literal;
@@ -61,7 +60,6 @@ class MapRouteLine {
   private float alternativeRouteScale;
   private boolean roundedLineCap;
 
-  private final HashMap<LineString, DirectionsRoute> routeLineStrings = new HashMap<>();
   private final List<FeatureCollection> routeFeatureCollections = new ArrayList<>();
   private final List<DirectionsRoute> directionsRoutes = new ArrayList<>();
   private final List<Layer> routeLayers;
@@ -73,6 +71,7 @@ class MapRouteLine {
   private GeoJsonSource routeLineSource;
   private String belowLayer;
   private int primaryRouteIndex;
+  private RouteSpatialIndex routeSpatialIndex;
   private boolean isVisible = true;
   private boolean alternativesVisible = true;
 
@@ -192,8 +191,9 @@ class MapRouteLine {
     return isVisible;
   }
 
-  HashMap<LineString, DirectionsRoute> retrieveRouteLineStrings() {
-    return routeLineStrings;
+  @Nullable
+  RouteSpatialIndex retrieveRouteSpatialIndex() {
+    return routeSpatialIndex;
   }
 
   List<DirectionsRoute> retrieveDirectionsRoutes() {
@@ -232,9 +232,7 @@ class MapRouteLine {
     if (!directionsRoutes.isEmpty()) {
       directionsRoutes.clear();
     }
-    if (!routeLineStrings.isEmpty()) {
-      routeLineStrings.clear();
-    }
+    routeSpatialIndex = null;
     if (!routeFeatureCollections.isEmpty()) {
       routeFeatureCollections.clear();
     }
@@ -247,9 +245,9 @@ class MapRouteLine {
   private OnRouteFeaturesProcessedCallback routeFeaturesProcessedCallback = new OnRouteFeaturesProcessedCallback() {
     @Override
     public void onRouteFeaturesProcessed(List<FeatureCollection> routeFeatureCollections,
-                                         HashMap<LineString, DirectionsRoute> routeLineStrings) {
+                                         RouteSpatialIndex routeSpatialIndex) {
       MapRouteLine.this.routeFeatureCollections.addAll(routeFeatureCollections);
-      MapRouteLine.this.routeLineStrings.putAll(routeLineStrings);
+      MapRouteLine.this.routeSpatialIndex = routeSpatialIndex;
       drawRoutes(routeFeatureCollections);
       drawWayPoints();
       updateAlternativeVisibilityTo(alternativesVisible);
@@ -45,6 +45,6 @@ class MapRouteProgressChangeListener implements ProgressChangeListener {
   private boolean isANewRoute(DirectionsRoute currentRoute, List<DirectionsRoute> directionsRoutes,
                               int primaryRouteIndex) {
     boolean noRoutes = directionsRoutes.isEmpty();
-    return noRoutes || !currentRoute.equals(directionsRoutes.get(primaryRouteIndex));
+    return noRoutes || currentRoute != directionsRoutes.get(primaryRouteIndex);
   }
 }
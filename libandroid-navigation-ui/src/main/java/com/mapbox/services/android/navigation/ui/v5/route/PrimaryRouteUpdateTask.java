@@ -57,7 +57,6 @@ class PrimaryRouteUpdateTask extends AsyncTask<Void, Void, List<FeatureCollectio
 
   @Override
   protected void onPostExecute(List<FeatureCollection> updatedRouteCollections) {
-    Runtime.getRuntime().gc();
     OnPrimaryRouteUpdatedCallback callback = callbackWeakReference.get();
     if (callback != null) {
       callback.onPrimaryRouteUpdated(updatedRouteCollections);
@@ -0,0 +1,235 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.List;
+
+/**
+ * Uniform grid over the segments of every drawn route line, used to find the route closest to a
+ * map click without walking every vertex of every route.
+ * <p>
+ * Routes are identified by their index in the list the index was built from, which matches the
+ * index of the {@link com.mapbox.api.directions.v5.models.DirectionsRoute} drawn by {@link MapRouteLine}.
+ * Distances are compared in an equirectangular projection centered on the routes, which is accurate
+ * enough to rank routes at the scale of a map click.
+ */
+class RouteSpatialIndex {
+
+  static final int NO_ROUTE_FOUND = -1;
+  private static final int MAX_CELLS_PER_SIDE = 64;
+  private static final int SEGMENTS_PER_CELL = 4;
+  private static final int FIRST_POINT = 0;
+
+  private final int[] segmentRoutes;
+  private final double[] segmentCoordinates;
+  private final int[][] cells;
+  private final int columns;
+  private final int rows;
+  private final double minX;
+  private final double minY;
+  private final double cellWidth;
+  private final double cellHeight;
+  private final double longitudeScale;
+
+  private RouteSpatialIndex(int[] segmentRoutes, double[] segmentCoordinates, int[][] cells, int columns,
+                            int rows, double minX, double minY, double cellWidth, double cellHeight,
+                            double longitudeScale) {
+    this.segmentRoutes = segmentRoutes;
+    this.segmentCoordinates = segmentCoordinates;
+    this.cells = cells;
+    this.columns = columns;
+    this.rows = rows;
+    this.minX = minX;
+    this.minY = minY;
+    this.cellWidth = cellWidth;
+    this.cellHeight = cellHeight;
+    this.longitudeScale = longitudeScale;
+  }
+
+  /**
+   * Builds the index. Meant to be called off the main thread, as it walks every route coordinate once.
+   *
+   * @param routeLineStrings route geometries, in the same order as the drawn routes
+   * @return index for the given routes
+   */
+  @NonNull
+  static RouteSpatialIndex build(@NonNull List<LineString> routeLineStrings) {
+    int segmentCount = countSegments(routeLineStrings);
+    double longitudeScale = calculateLongitudeScale(routeLineStrings);
+    int[] segmentRoutes = new int[segmentCount];
+    double[] segmentCoordinates = new double[segmentCount * 4];
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    int segment = 0;
+    for (int routeIndex = 0; routeIndex < routeLineStrings.size(); routeIndex++) {
+      List<Point> points = routeLineStrings.get(routeIndex).coordinates();
+      for (int i = 1; i < points.size(); i++) {
+        Point from = points.get(i - 1);
+        Point to = points.get(i);
+        int offset = segment * 4;
+        segmentCoordinates[offset] = from.longitude() * longitudeScale;
+        segmentCoordinates[offset + 1] = from.latitude();
+        segmentCoordinates[offset + 2] = to.longitude() * longitudeScale;
+        segmentCoordinates[offset + 3] = to.latitude();
+        segmentRoutes[segment] = routeIndex;
+        minX = Math.min(minX, Math.min(segmentCoordinates[offset], segmentCoordinates[offset + 2]));
+        minY = Math.min(minY, Math.min(segmentCoordinates[offset + 1], segmentCoordinates[offset + 3]));
+        maxX = Math.max(maxX, Math.max(segmentCoordinates[offset], segmentCoordinates[offset + 2]));
+        maxY = Math.max(maxY, Math.max(segmentCoordinates[offset + 1], segmentCoordinates[offset + 3]));
+        segment++;
+      }
+    }
+    if (segmentCount == 0) {
+      return new RouteSpatialIndex(segmentRoutes, segmentCoordinates, new int[0][], 0, 0,
+        0, 0, 0, 0, longitudeScale);
+    }
+
+    int cellsPerSide = (int) Math.ceil(Math.sqrt((double) segmentCount / SEGMENTS_PER_CELL));
+    cellsPerSide = Math.max(1, Math.min(MAX_CELLS_PER_SIDE, cellsPerSide));
+    double cellWidth = Math.max((maxX - minX) / cellsPerSide, Double.MIN_VALUE);
+    double cellHeight = Math.max((maxY - minY) / cellsPerSide, Double.MIN_VALUE);
+    RouteSpatialIndex index = new RouteSpatialIndex(segmentRoutes, segmentCoordinates,
+      new int[cellsPerSide * cellsPerSide][], cellsPerSide, cellsPerSide, minX, minY, cellWidth, cellHeight,
+      longitudeScale);
+    index.fillCells();
+    return index;
+  }
+
+  /**
+   * Finds the route with the segment closest to the given point.
+   *
+   * @param point to search from
+   * @return index of the closest route, or {@link #NO_ROUTE_FOUND} if no route has a segment
+   */
+  int findClosestRouteIndex(@NonNull Point point) {
+    if (cells.length == 0) {
+      return NO_ROUTE_FOUND;
+    }
+    double x = point.longitude() * longitudeScale;
+    double y = point.latitude();
+    // Clamping onto the grid never moves the point further from any segment inside it,
+    // so the ring distance bound below still holds for clicks outside of the routes' bounds.
+    double clampedX = clamp(x, minX, minX + cellWidth * columns);
+    double clampedY = clamp(y, minY, minY + cellHeight * rows);
+    int column = toCell(clampedX, minX, cellWidth, columns);
+    int row = toCell(clampedY, minY, cellHeight, rows);
+    double minimumCellSide = Math.min(cellWidth, cellHeight);
+    int maxRing = Math.max(columns, rows);
+
+    int closestRoute = NO_ROUTE_FOUND;
+    double closestDistance = Double.MAX_VALUE;
+    for (int ring = 0; ring <= maxRing; ring++) {
+      for (int c = column - ring; c <= column + ring; c++) {
+        for (int r = row - ring; r <= row + ring; r++) {
+          boolean isOnRing = Math.abs(c - column) == ring || Math.abs(r - row) == ring;
+          if (!isOnRing || c < 0 || r < 0 || c >= columns || r >= rows) {
+            continue;
+          }
+          int[] cellSegments = cells[r * columns + c];
+          for (int segment : cellSegments) {
+            double distance = squaredDistanceToSegment(segment, x, y);
+            boolean isCloser = distance < closestDistance
+              || (distance == closestDistance && segmentRoutes[segment] < closestRoute);
+            if (isCloser) {
+              closestDistance = distance;
+              closestRoute = segmentRoutes[segment];
+            }
+          }
+        }
+      }
+      double searchedDistance = ring * minimumCellSide;
+      if (closestRoute != NO_ROUTE_FOUND && closestDistance <= searchedDistance * searchedDistance) {
+        break;
+      }
+    }
+    return closestRoute;
+  }
+
+  private void fillCells() {
+    int[] cellCounts = new int[cells.length];
+    int segmentCount = segmentRoutes.length;
+    for (int segment = 0; segment < segmentCount; segment++) {
+      forEachCell(segment, cellCounts, null);
+    }
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = new int[cellCounts[i]];
+      cellCounts[i] = 0;
+    }
+    for (int segment = 0; segment < segmentCount; segment++) {
+      forEachCell(segment, cellCounts, cells);
+    }
+  }
+
+  /**
+   * Visits every cell overlapped by the segment's bounding box. Counts only when {@code cellSegments}
+   * is null, otherwise adds the segment to each cell.
+   */
+  private void forEachCell(int segment, int[] cellCounts, int[][] cellSegments) {
+    int offset = segment * 4;
+    double fromX = segmentCoordinates[offset];
+    double fromY = segmentCoordinates[offset + 1];
+    double toX = segmentCoordinates[offset + 2];
+    double toY = segmentCoordinates[offset + 3];
+    int firstColumn = toCell(Math.min(fromX, toX), minX, cellWidth, columns);
+    int lastColumn = toCell(Math.max(fromX, toX), minX, cellWidth, columns);
+    int firstRow = toCell(Math.min(fromY, toY), minY, cellHeight, rows);
+    int lastRow = toCell(Math.max(fromY, toY), minY, cellHeight, rows);
+    for (int r = firstRow; r <= lastRow; r++) {
+      for (int c = firstColumn; c <= lastColumn; c++) {
+        int cell = r * columns + c;
+        if (cellSegments != null) {
+          cellSegments[cell][cellCounts[cell]] = segment;
+        }
+        cellCounts[cell]++;
+      }
+    }
+  }
+
+  private double squaredDistanceToSegment(int segment, double x, double y) {
+    int offset = segment * 4;
+    double fromX = segmentCoordinates[offset];
+    double fromY = segmentCoordinates[offset + 1];
+    double deltaX = segmentCoordinates[offset + 2] - fromX;
+    double deltaY = segmentCoordinates[offset + 3] - fromY;
+    double lengthSquared = deltaX * deltaX + deltaY * deltaY;
+    double fraction = 0;
+    if (lengthSquared > 0) {
+      fraction = clamp(((x - fromX) * deltaX + (y - fromY) * deltaY) / lengthSquared, 0, 1);
+    }
+    double distanceX = x - (fromX + fraction * deltaX);
+    double distanceY = y - (fromY + fraction * deltaY);
+    return distanceX * distanceX + distanceY * distanceY;
+  }
+
+  private static int countSegments(List<LineString> routeLineStrings) {
+    int segmentCount = 0;
+    for (LineString lineString : routeLineStrings) {
+      segmentCount += Math.max(0, lineString.coordinates().size() - 1);
+    }
+    return segmentCount;
+  }
+
+  private static double calculateLongitudeScale(List<LineString> routeLineStrings) {
+    for (LineString lineString : routeLineStrings) {
+      List<Point> points = lineString.coordinates();
+      if (!points.isEmpty()) {
+        return Math.cos(Math.toRadians(points.get(FIRST_POINT).latitude()));
+      }
+    }
+    return 1;
+  }
+
+  private static int toCell(double value, double min, double cellSize, int cellCount) {
+    int cell = (int) ((value - min) / cellSize);
+    return Math.max(0, Math.min(cellCount - 1, cell));
+  }
+
+  private static double clamp(double value, double min, double max) {
+    return Math.max(min, Math.min(max, value));
+  }
+}
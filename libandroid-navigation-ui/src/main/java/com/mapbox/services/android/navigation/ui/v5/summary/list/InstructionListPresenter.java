@@ -5,43 +5,44 @@ import android.text.SpannableString;
 import android.view.View;
 
 import com.mapbox.api.directions.v5.models.BannerInstructions;
-import com.mapbox.api.directions.v5.models.LegStep;
-import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+import com.mapbox.services.android.navigation.v5.utils.InstructionTimeline;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-
+/**
+ * Lists the banner instructions ahead on the current leg. The list is a range of banner IDs of the
+ * route's {@link InstructionTimeline}, so moving past an instruction only moves the start of the range.
+ */
 class InstructionListPresenter {
 
   private static final int TWO_LINES = 2;
   private static final int ONE_LINE = 1;
   private static final float TWO_LINE_BIAS = 0.65f;
   private static final float ONE_LINE_BIAS = 0.5f;
-  private static final int FIRST_INSTRUCTION_INDEX = 0;
   private final RouteUtils routeUtils;
   private DistanceFormatter distanceFormatter;
-  private List<BannerInstructions> instructions;
-  private RouteLeg currentLeg;
+  private InstructionTimeline timeline;
+  private int firstBannerId;
+  private int endBannerId;
+  private int currentLegIndex;
+  private int currentRouteGeneration;
 
   InstructionListPresenter(RouteUtils routeUtils, DistanceFormatter distanceFormatter) {
     this.routeUtils = routeUtils;
     this.distanceFormatter = distanceFormatter;
-    instructions = new ArrayList<>();
   }
 
   void onBindInstructionListViewAtPosition(int position, @NonNull InstructionListView listView) {
-    BannerInstructions bannerInstructions = instructions.get(position);
+    BannerInstructions bannerInstructions = timeline.retrieveBannerInstructions(firstBannerId + position);
     double distance = bannerInstructions.distanceAlongGeometry();
     SpannableString distanceText = distanceFormatter.formatDistance(distance);
     updateListView(listView, bannerInstructions, distanceText);
   }
 
   int retrieveBannerInstructionListSize() {
-    return instructions.size();
+    return Math.max(0, endBannerId - firstBannerId);
   }
 
   boolean updateBannerListWith(RouteProgress routeProgress) {
@@ -109,48 +110,43 @@ class InstructionListPresenter {
   }
 
   private void addBannerInstructions(RouteProgress routeProgress) {
-    if (isNewLeg(routeProgress)) {
-      instructions = new ArrayList<>();
-      currentLeg = routeProgress.currentLeg();
-      List<LegStep> steps = currentLeg.steps();
-      for (LegStep step : steps) {
-        List<BannerInstructions> bannerInstructions = step.bannerInstructions();
-        if (bannerInstructions != null && !bannerInstructions.isEmpty()) {
-          instructions.addAll(bannerInstructions);
-        }
-      }
+    boolean isNewRoute = isNewRoute(routeProgress);
+    if (isNewRoute) {
+      timeline = routeUtils.buildInstructionTimeline(routeProgress.directionsRoute());
+    }
+    if (isNewRoute || currentLegIndex != routeProgress.legIndex()) {
+      currentLegIndex = routeProgress.legIndex();
+      currentRouteGeneration = routeProgress.routeGeneration();
+      firstBannerId = timeline.firstBannerIdOf(currentLegIndex);
+      endBannerId = timeline.endBannerIdOf(currentLegIndex);
     }
   }
 
-  private boolean isNewLeg(RouteProgress routeProgress) {
-    return currentLeg == null || !currentLeg.equals(routeProgress.currentLeg());
+  private boolean isNewRoute(RouteProgress routeProgress) {
+    return timeline == null || currentRouteGeneration != routeProgress.routeGeneration();
   }
 
   private boolean updateInstructionList(RouteProgress routeProgress) {
-    if (instructions.isEmpty()) {
+    if (retrieveBannerInstructionListSize() == 0) {
       return false;
     }
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
-    LegStep currentStep = legProgress.currentStep();
     double stepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
-    BannerInstructions currentBannerInstructions = routeUtils.findCurrentBannerInstructions(
-      currentStep, stepDistanceRemaining
+    int currentBannerId = timeline.findCurrentBannerId(
+      currentLegIndex, legProgress.stepIndex(), stepDistanceRemaining
     );
-    if (!instructions.contains(currentBannerInstructions)) {
+    if (currentBannerId < firstBannerId || currentBannerId >= endBannerId) {
       return false;
     }
-    int currentInstructionIndex = instructions.indexOf(currentBannerInstructions);
-    return removeInstructionsFrom(currentInstructionIndex);
+    return removeInstructionsFrom(currentBannerId);
   }
 
-  private boolean removeInstructionsFrom(int currentInstructionIndex) {
-    if (currentInstructionIndex == FIRST_INSTRUCTION_INDEX) {
-      instructions.remove(FIRST_INSTRUCTION_INDEX);
-      return true;
-    } else if (currentInstructionIndex <= instructions.size()) {
-      instructions.subList(FIRST_INSTRUCTION_INDEX, currentInstructionIndex).clear();
-      return true;
+  private boolean removeInstructionsFrom(int currentBannerId) {
+    if (currentBannerId == firstBannerId) {
+      firstBannerId++;
+    } else {
+      firstBannerId = currentBannerId;
     }
-    return false;
+    return true;
   }
 }
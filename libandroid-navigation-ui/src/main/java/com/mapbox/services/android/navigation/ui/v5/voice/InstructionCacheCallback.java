@@ -11,22 +11,27 @@ import timber.log.Timber;
 class InstructionCacheCallback implements Callback<ResponseBody> {
 
   private final VoiceInstructionLoader loader;
+  private final String instruction;
 
-  InstructionCacheCallback(VoiceInstructionLoader loader) {
+  InstructionCacheCallback(VoiceInstructionLoader loader, String instruction) {
     this.loader = loader;
+    this.instruction = instruction;
   }
 
   @Override
   public void onResponse(@NonNull Call<ResponseBody> call, @NonNull Response<ResponseBody> response) {
     if (closeResponseBody(response)) {
       String url = call.request().url().toString();
-      loader.addCachedUrl(url);
+      loader.addCachedUrl(instruction, url);
+    } else {
+      loader.onInstructionCacheFailed(instruction);
     }
   }
 
   @Override
   public void onFailure(@NonNull Call<ResponseBody> call, @NonNull Throwable throwable) {
     Timber.e(throwable, "onFailure cache instruction");
+    loader.onInstructionCacheFailed(instruction);
   }
 
   private boolean closeResponseBody(@NonNull Response<ResponseBody> response) {
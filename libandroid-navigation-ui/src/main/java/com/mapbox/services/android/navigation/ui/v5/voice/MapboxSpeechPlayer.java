@@ -3,7 +3,13 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 import android.content.Context;
 import android.media.MediaPlayer;
 import android.os.AsyncTask;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.annotation.RequiresApi;
 import android.support.v4.util.Pair;
 import android.text.TextUtils;
 
@@ -11,8 +17,10 @@ import com.mapbox.services.android.navigation.v5.utils.DownloadTask;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import okhttp3.ResponseBody;
 import retrofit2.Call;
@@ -24,19 +32,31 @@ import timber.log.Timber;
  * <p>
  * Will retrieve synthesized speech mp3s from Mapbox's API Voice.
  * </p>
+ * <p>
+ * Instructions already played, on this or a previous run, are played straight from the
+ * {@link VoiceInstructionLoader} disk cache without a request. The disk cache is checked off the main
+ * thread.
+ * </p>
+ * <p>
+ * From Android M, other instructions start playing as soon as the first bytes are received and are
+ * written to the disk cache while they play. Older versions download the whole instruction first.
+ * A single {@link MediaPlayer} is created up front and reset between instructions.
+ * </p>
  */
 class MapboxSpeechPlayer implements SpeechPlayer {
 
-  private static final String MAPBOX_INSTRUCTION_CACHE = "mapbox_instruction_cache";
   private static final String ERROR_TEXT = "Unable to set data source for the media mediaPlayer! %s";
+  private static final String PLAYBACK_ERROR_TEXT = "Unable to play the voice instruction: %d, %d";
   private static final SpeechAnnouncementMap SPEECH_ANNOUNCEMENT_MAP = new SpeechAnnouncementMap();
-  private static final String MP3_POSTFIX = "mp3";
+  private static final String DOWNLOAD_PREFIX = "download_";
+  private static final String DOWNLOAD_POSTFIX = "tmp";
 
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  private final List<SpeechTimingListener> speechTimingListeners = new CopyOnWriteArrayList<>();
   private SpeechAnnouncement announcement;
   private SpeechListener speechListener;
   private MediaPlayer mediaPlayer;
-  private Queue<File> instructionQueue;
-  private File mapboxCache;
+  private Queue<QueuedInstruction> instructionQueue;
   private boolean isPlaying;
   private boolean isMuted;
   private VoiceInstructionLoader voiceInstructionLoader;
@@ -44,15 +64,15 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   /**
    * Construct an instance of {@link MapboxSpeechPlayer}
    *
-   * @param context                to setup the caches
+   * @param context                the player was built with
    * @param voiceInstructionLoader voice instruction loader
    */
   MapboxSpeechPlayer(Context context, @NonNull SpeechListener speechListener,
                      VoiceInstructionLoader voiceInstructionLoader) {
     this.speechListener = speechListener;
     this.voiceInstructionLoader = voiceInstructionLoader;
-    setupCaches(context);
-    instructionQueue = new ConcurrentLinkedQueue();
+    instructionQueue = new ConcurrentLinkedQueue<>();
+    setupMediaPlayer();
   }
 
   /**
@@ -90,12 +110,17 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   @Override
   public void onDestroy() {
     stopMediaPlayerPlaying();
+    clearInstructionUrls();
+    releaseMediaPlayer();
     voiceInstructionLoader.flushCache();
   }
 
-  private void setupCaches(Context context) {
-    mapboxCache = new File(context.getCacheDir(), MAPBOX_INSTRUCTION_CACHE);
-    mapboxCache.mkdir();
+  void addSpeechTimingListener(SpeechTimingListener speechTimingListener) {
+    speechTimingListeners.add(speechTimingListener);
+  }
+
+  void removeSpeechTimingListener(SpeechTimingListener speechTimingListener) {
+    speechTimingListeners.remove(speechTimingListener);
   }
 
   private void playAnnouncementTextAndTypeFrom(SpeechAnnouncement announcement) {
@@ -120,56 +145,151 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     if (isPlaying) {
       isPlaying = false;
       mediaPlayer.stop();
-      mediaPlayer.release();
       speechListener.onDone();
     }
   }
 
-  private void downloadVoiceFile(final String instruction, String textType) {
+  private void downloadVoiceFile(final String instruction, final String textType) {
     boolean isInvalidInstruction = TextUtils.isEmpty(instruction);
     if (isMuted || isInvalidInstruction) {
       return;
     }
+    final SpeechAnnouncement announcement = this.announcement;
+    final long playRequestedTime = SystemClock.elapsedRealtime();
+    voiceInstructionLoader.retrieveCachedInstruction(instruction, textType,
+      new VoiceInstructionLoader.CachedInstructionListener() {
+        @Override
+        public void onCachedInstructionRetrieved(@Nullable final File cachedInstruction) {
+          mainHandler.post(new Runnable() {
+            @Override
+            public void run() {
+              if (cachedInstruction != null) {
+                queueInstruction(QueuedInstruction.fromFile(cachedInstruction, announcement, playRequestedTime));
+              } else {
+                requestVoiceFile(instruction, textType, announcement, playRequestedTime);
+              }
+            }
+          });
+        }
+      });
+  }
+
+  private void requestVoiceFile(final String instruction, final String textType,
+                                final SpeechAnnouncement announcement, final long playRequestedTime) {
+    if (isMuted) {
+      return;
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      streamVoiceFile(instruction, textType, announcement, playRequestedTime);
+      return;
+    }
 
     voiceInstructionLoader.requestInstruction(instruction, textType, new Callback<ResponseBody>() {
       @Override
       public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
         if (response.isSuccessful()) {
-          executeInstructionTask(response.body());
+          executeInstructionTask(instruction, textType, announcement, playRequestedTime, response.body());
         } else {
           try {
-            onError(response.errorBody().string());
+            onError(response.errorBody().string(), announcement);
           } catch (IOException exception) {
-            onError(exception.getLocalizedMessage());
+            onError(exception.getLocalizedMessage(), announcement);
           }
         }
       }
 
       @Override
       public void onFailure(Call<ResponseBody> call, Throwable throwable) {
-        onError(throwable.getLocalizedMessage());
+        onError(throwable.getLocalizedMessage(), announcement);
       }
     });
   }
 
-  private void onError(String errorText) {
-    speechListener.onError(errorText, announcement);
+  @RequiresApi(api = Build.VERSION_CODES.M)
+  private void streamVoiceFile(final String instruction, final String textType,
+                               final SpeechAnnouncement announcement, final long playRequestedTime) {
+    voiceInstructionLoader.streamInstruction(instruction, textType, new okhttp3.Callback() {
+      @Override
+      public void onResponse(okhttp3.Call call, okhttp3.Response response) {
+        ResponseBody responseBody = response.body();
+        if (!response.isSuccessful() || responseBody == null) {
+          String message = response.message();
+          response.close();
+          postError(message, announcement);
+          return;
+        }
+        File downloadFile;
+        try {
+          downloadFile = File.createTempFile(DOWNLOAD_PREFIX, "." + DOWNLOAD_POSTFIX,
+            voiceInstructionLoader.retrieveCacheDirectory());
+        } catch (IOException exception) {
+          response.close();
+          postError(exception.getLocalizedMessage(), announcement);
+          return;
+        }
+        final StreamingVoiceSource source = new StreamingVoiceSource(responseBody, downloadFile,
+          new StreamingVoiceSource.StreamListener() {
+            @Override
+            public void onStreamFinished(@NonNull File downloadFile) {
+              voiceInstructionLoader.cacheInstructionFile(instruction, textType, downloadFile);
+            }
+          });
+        mainHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            queueInstruction(QueuedInstruction.fromStream(source, announcement, playRequestedTime));
+          }
+        });
+        source.stream();
+      }
+
+      @Override
+      public void onFailure(okhttp3.Call call, IOException exception) {
+        postError(exception.getLocalizedMessage(), announcement);
+      }
+    });
+  }
+
+  private void postError(final String errorText, final SpeechAnnouncement announcement) {
+    mainHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        onError(errorText, announcement);
+      }
+    });
   }
 
-  private void playInstruction(@NonNull File instruction) {
-    setupMediaPlayer(instruction.getPath());
+  private void onError(String errorText, SpeechAnnouncement announcement) {
+    speechListener.onError(errorText, announcement);
   }
 
-  private void setupMediaPlayer(String instructionPath) {
-    if (TextUtils.isEmpty(instructionPath)) {
+  private void playInstruction(@NonNull QueuedInstruction instruction) {
+    if (mediaPlayer == null) {
+      setupMediaPlayer();
+    }
+    mediaPlayer.reset();
+    try {
+      instruction.setDataSource(mediaPlayer);
+    } catch (IOException ioException) {
+      Timber.e(ERROR_TEXT, ioException.getMessage());
+      onInstructionFinishedPlaying();
       return;
     }
-    mediaPlayer = new MediaPlayer();
-    setDataSource(instructionPath);
     mediaPlayer.prepareAsync();
+  }
+
+  private void setupMediaPlayer() {
+    mediaPlayer = new MediaPlayer();
     addListeners();
   }
 
+  private void releaseMediaPlayer() {
+    if (mediaPlayer != null) {
+      mediaPlayer.release();
+      mediaPlayer = null;
+    }
+  }
+
   private void pauseInstruction() {
     if (isPlaying) {
       isPlaying = false;
@@ -177,32 +297,50 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     }
   }
 
-  private void setDataSource(String instruction) {
-    try {
-      mediaPlayer.setDataSource(instruction);
-    } catch (IOException ioException) {
-      Timber.e(ERROR_TEXT, ioException.getMessage());
-    }
-  }
-
   private void addListeners() {
     mediaPlayer.setOnPreparedListener(new MediaPlayer.OnPreparedListener() {
       @Override
       public void onPrepared(MediaPlayer mp) {
+        QueuedInstruction instruction = instructionQueue.peek();
+        if (instruction == null) {
+          return;
+        }
         speechListener.onStart();
         isPlaying = true;
         mp.start();
+        notifyFirstSound(instruction);
       }
     });
     mediaPlayer.setOnCompletionListener(new MediaPlayer.OnCompletionListener() {
       @Override
       public void onCompletion(MediaPlayer mp) {
-        mp.release();
         isPlaying = false;
         speechListener.onDone();
         onInstructionFinishedPlaying();
       }
     });
+    mediaPlayer.setOnErrorListener(new MediaPlayer.OnErrorListener() {
+      @Override
+      public boolean onError(MediaPlayer mp, int what, int extra) {
+        QueuedInstruction instruction = instructionQueue.peek();
+        if (isPlaying) {
+          isPlaying = false;
+          speechListener.onDone();
+        } else if (instruction != null) {
+          MapboxSpeechPlayer.this.onError(String.format(PLAYBACK_ERROR_TEXT, what, extra),
+            instruction.announcement());
+        }
+        onInstructionFinishedPlaying();
+        return true;
+      }
+    });
+  }
+
+  private void notifyFirstSound(QueuedInstruction instruction) {
+    long latencyInMillis = SystemClock.elapsedRealtime() - instruction.playRequestedTime();
+    for (SpeechTimingListener speechTimingListener : speechTimingListeners) {
+      speechTimingListener.onFirstSound(instruction.announcement(), latencyInMillis);
+    }
   }
 
   private void onInstructionFinishedPlaying() {
@@ -211,8 +349,9 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void deleteLastInstructionPlayed() {
-    if (!instructionQueue.isEmpty()) {
-      instructionQueue.poll().delete();
+    QueuedInstruction instruction = instructionQueue.poll();
+    if (instruction != null) {
+      instruction.release();
     }
   }
 
@@ -223,29 +362,46 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void clearInstructionUrls() {
-    while (!instructionQueue.isEmpty()) {
-      instructionQueue.remove().delete();
+    QueuedInstruction instruction;
+    while ((instruction = instructionQueue.poll()) != null) {
+      instruction.release();
+    }
+    if (mediaPlayer != null) {
+      // Cancels an instruction still being prepared
+      mediaPlayer.reset();
     }
   }
 
-  private void executeInstructionTask(ResponseBody responseBody) {
-    new DownloadTask(mapboxCache.getPath(), MP3_POSTFIX, new DownloadTask.DownloadListener() {
+  private void executeInstructionTask(final String instruction, final String textType,
+                                      final SpeechAnnouncement announcement, final long playRequestedTime,
+                                      ResponseBody responseBody) {
+    String downloadDirectory = voiceInstructionLoader.retrieveCacheDirectory().getPath();
+    new DownloadTask(downloadDirectory, DOWNLOAD_POSTFIX, new DownloadTask.DownloadListener() {
       @Override
-      public void onFinishedDownloading(@NonNull File instructionFile) {
-        playInstructionIfUpNext(instructionFile);
-        instructionQueue.add(instructionFile);
+      public void onFinishedDownloading(@NonNull File downloadedFile) {
+        File instructionFile = voiceInstructionLoader.cacheInstructionFile(instruction, textType, downloadedFile);
+        queueInstruction(QueuedInstruction.fromFile(instructionFile, announcement, playRequestedTime));
       }
 
       @Override
       public void onErrorDownloading() {
-        onError("There was an error downloading the voice files.");
+        onError("There was an error downloading the voice files.", announcement);
       }
     }).executeOnExecutor(AsyncTask.SERIAL_EXECUTOR, responseBody);
   }
 
-  private void playInstructionIfUpNext(File instructionFile) {
-    if (instructionQueue.isEmpty()) {
-      playInstruction(instructionFile);
+  private void queueInstruction(QueuedInstruction instruction) {
+    if (isMuted) {
+      instruction.release();
+      return;
+    }
+    instructionQueue.add(instruction);
+    playInstructionIfUpNext(instruction);
+  }
+
+  private void playInstructionIfUpNext(QueuedInstruction instruction) {
+    if (instructionQueue.peek() == instruction) {
+      playInstruction(instruction);
     }
   }
 }
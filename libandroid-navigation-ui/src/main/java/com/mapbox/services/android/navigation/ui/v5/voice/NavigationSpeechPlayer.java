@@ -73,6 +73,27 @@ public class NavigationSpeechPlayer implements SpeechPlayer {
     speechPlayerProvider.onOffRoute();
   }
 
+  /**
+   * Adds a listener notified with the time each announcement takes to become audible once it's
+   * given to {@link #play(SpeechAnnouncement)}.
+   * <p>
+   * Only announcements played with the Mapbox Voice API are timed.
+   *
+   * @param speechTimingListener to be added
+   */
+  public void addSpeechTimingListener(SpeechTimingListener speechTimingListener) {
+    speechPlayerProvider.addSpeechTimingListener(speechTimingListener);
+  }
+
+  /**
+   * Removes a listener added with {@link #addSpeechTimingListener(SpeechTimingListener)}.
+   *
+   * @param speechTimingListener to be removed
+   */
+  public void removeSpeechTimingListener(SpeechTimingListener speechTimingListener) {
+    speechPlayerProvider.removeSpeechTimingListener(speechTimingListener);
+  }
+
   /**
    * Required method to implement in {@link FragmentActivity#onDestroy()} or
    * {@link Fragment#onDestroy()}.
@@ -0,0 +1,68 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.media.MediaPlayer;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.RequiresApi;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Voice instruction waiting in the {@link MapboxSpeechPlayer} queue, played either from a file or from a
+ * {@link StreamingVoiceSource} still receiving it.
+ */
+class QueuedInstruction {
+
+  private final File file;
+  private final StreamingVoiceSource source;
+  private final SpeechAnnouncement announcement;
+  private final long playRequestedTime;
+
+  private QueuedInstruction(File file, StreamingVoiceSource source, SpeechAnnouncement announcement,
+                            long playRequestedTime) {
+    this.file = file;
+    this.source = source;
+    this.announcement = announcement;
+    this.playRequestedTime = playRequestedTime;
+  }
+
+  static QueuedInstruction fromFile(@NonNull File file, SpeechAnnouncement announcement,
+                                    long playRequestedTime) {
+    return new QueuedInstruction(file, null, announcement, playRequestedTime);
+  }
+
+  @RequiresApi(api = Build.VERSION_CODES.M)
+  static QueuedInstruction fromStream(@NonNull StreamingVoiceSource source, SpeechAnnouncement announcement,
+                                      long playRequestedTime) {
+    return new QueuedInstruction(null, source, announcement, playRequestedTime);
+  }
+
+  SpeechAnnouncement announcement() {
+    return announcement;
+  }
+
+  /**
+   * @return elapsed realtime at which the announcement was given to the player
+   */
+  long playRequestedTime() {
+    return playRequestedTime;
+  }
+
+  void setDataSource(MediaPlayer mediaPlayer) throws IOException {
+    if (file != null) {
+      mediaPlayer.setDataSource(file.getPath());
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      mediaPlayer.setDataSource(source);
+    }
+  }
+
+  /**
+   * Frees the stream buffer once the instruction was played or dropped.
+   */
+  void release() {
+    if (source != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      source.close();
+    }
+  }
+}
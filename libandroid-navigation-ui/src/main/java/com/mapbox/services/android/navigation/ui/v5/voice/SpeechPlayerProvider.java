@@ -27,6 +27,7 @@ public class SpeechPlayerProvider {
   private static final int FIRST_PLAYER = 0;
 
   private AndroidSpeechPlayer androidSpeechPlayer;
+  private MapboxSpeechPlayer mapboxSpeechPlayer;
   private List<SpeechPlayer> speechPlayers = new ArrayList<>(2);
 
   /**
@@ -62,6 +63,18 @@ public class SpeechPlayerProvider {
     }
   }
 
+  void addSpeechTimingListener(SpeechTimingListener speechTimingListener) {
+    if (mapboxSpeechPlayer != null) {
+      mapboxSpeechPlayer.addSpeechTimingListener(speechTimingListener);
+    }
+  }
+
+  void removeSpeechTimingListener(SpeechTimingListener speechTimingListener) {
+    if (mapboxSpeechPlayer != null) {
+      mapboxSpeechPlayer.removeSpeechTimingListener(speechTimingListener);
+    }
+  }
+
   void onDestroy() {
     for (SpeechPlayer player : speechPlayers) {
       player.onDestroy();
@@ -88,7 +101,7 @@ public class SpeechPlayerProvider {
       return;
     }
     voiceInstructionLoader.setupMapboxSpeechBuilder(language);
-    MapboxSpeechPlayer mapboxSpeechPlayer = new MapboxSpeechPlayer(context, listener, voiceInstructionLoader);
+    mapboxSpeechPlayer = new MapboxSpeechPlayer(context, listener, voiceInstructionLoader);
     speechPlayers.add(mapboxSpeechPlayer);
   }
 
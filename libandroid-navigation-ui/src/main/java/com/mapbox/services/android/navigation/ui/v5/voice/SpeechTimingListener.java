@@ -0,0 +1,20 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+/**
+ * Listener for the time it takes a voice announcement to become audible, added with
+ * {@link NavigationSpeechPlayer#addSpeechTimingListener(SpeechTimingListener)}.
+ * <p>
+ * Reported for announcements synthesized by the Mapbox Voice API, whether they were played from the
+ * cache, streamed or downloaded.
+ */
+public interface SpeechTimingListener {
+
+  /**
+   * Called on the main thread when the announcement starts playing.
+   *
+   * @param speechAnnouncement  that started playing
+   * @param latencyInMillis     from {@link SpeechPlayer#play(SpeechAnnouncement)} to the first sound,
+   *                            including the time spent waiting for announcements queued before it
+   */
+  void onFirstSound(SpeechAnnouncement speechAnnouncement, long latencyInMillis);
+}
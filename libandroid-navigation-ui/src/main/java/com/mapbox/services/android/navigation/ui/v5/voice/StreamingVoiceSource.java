@@ -0,0 +1,147 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.media.MediaDataSource;
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.support.annotation.RequiresApi;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import okhttp3.ResponseBody;
+import timber.log.Timber;
+
+/**
+ * Audio of a voice instruction played while it's still being received.
+ * <p>
+ * {@link #stream()} reads the response body once, on the calling thread. Each chunk is appended to an
+ * in-memory buffer that the {@link android.media.MediaPlayer} reads from, blocking until the bytes it
+ * asks for have arrived, and is written to a file that is handed to the {@link StreamListener} for
+ * caching once the whole instruction was received.
+ * <p>
+ * Closing the source only frees the buffer, the file is still written so the instruction gets cached.
+ */
+@RequiresApi(api = Build.VERSION_CODES.M)
+class StreamingVoiceSource extends MediaDataSource {
+
+  private static final int END_OF_STREAM = -1;
+  private static final int UNKNOWN_SIZE = -1;
+  private static final int CHUNK_SIZE_IN_BYTES = 4 * 1024;
+  private static final int INITIAL_CAPACITY_IN_BYTES = 32 * 1024;
+  private final ResponseBody responseBody;
+  private final File downloadFile;
+  private final StreamListener streamListener;
+  private byte[] buffer = new byte[INITIAL_CAPACITY_IN_BYTES];
+  private int length;
+  private boolean isFinished;
+  private boolean isClosed;
+
+  StreamingVoiceSource(@NonNull ResponseBody responseBody, @NonNull File downloadFile,
+                       @NonNull StreamListener streamListener) {
+    this.responseBody = responseBody;
+    this.downloadFile = downloadFile;
+    this.streamListener = streamListener;
+  }
+
+  /**
+   * Reads the whole response body, blocking the calling thread until it's received.
+   */
+  void stream() {
+    boolean isComplete = false;
+    InputStream inputStream = responseBody.byteStream();
+    OutputStream outputStream = null;
+    try {
+      outputStream = new FileOutputStream(downloadFile);
+      byte[] chunk = new byte[CHUNK_SIZE_IN_BYTES];
+      int count;
+      while ((count = inputStream.read(chunk)) != END_OF_STREAM) {
+        append(chunk, count);
+        outputStream.write(chunk, 0, count);
+      }
+      isComplete = true;
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to stream the voice instruction");
+    } finally {
+      closeQuietly(outputStream);
+      responseBody.close();
+      finish();
+    }
+    if (isComplete) {
+      streamListener.onStreamFinished(downloadFile);
+    } else {
+      downloadFile.delete();
+    }
+  }
+
+  @Override
+  public synchronized int readAt(long position, byte[] destination, int offset, int size) throws IOException {
+    while (!isClosed && !isFinished && position >= length) {
+      try {
+        wait();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException();
+      }
+    }
+    if (isClosed || position >= length) {
+      return END_OF_STREAM;
+    }
+    int count = (int) Math.min(size, length - position);
+    System.arraycopy(buffer, (int) position, destination, offset, count);
+    return count;
+  }
+
+  @Override
+  public synchronized long getSize() {
+    return isFinished ? length : UNKNOWN_SIZE;
+  }
+
+  @Override
+  public synchronized void close() {
+    isClosed = true;
+    buffer = new byte[0];
+    length = 0;
+    notifyAll();
+  }
+
+  private synchronized void append(byte[] chunk, int count) {
+    if (isClosed) {
+      return;
+    }
+    if (length + count > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + count));
+    }
+    System.arraycopy(chunk, 0, buffer, length, count);
+    length += count;
+    notifyAll();
+  }
+
+  private synchronized void finish() {
+    isFinished = true;
+    notifyAll();
+  }
+
+  private static void closeQuietly(OutputStream outputStream) {
+    if (outputStream == null) {
+      return;
+    }
+    try {
+      outputStream.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+
+  interface StreamListener {
+
+    /**
+     * Called on the streaming thread once the whole instruction was written to the file.
+     */
+    void onStreamFinished(@NonNull File downloadFile);
+  }
+}
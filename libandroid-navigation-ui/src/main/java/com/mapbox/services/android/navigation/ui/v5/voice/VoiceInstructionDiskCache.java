@@ -0,0 +1,191 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import timber.log.Timber;
+
+/**
+ * Synthesized voice instructions kept on disk across navigation sessions and app restarts.
+ * <p>
+ * Files are named after a hash of the instruction text, its text type and the voice language, so the
+ * same announcement is only ever downloaded once per language. The total size is bounded and the least
+ * recently played files are evicted first; the access order is kept in the files' modification time so
+ * it survives restarts.
+ * <p>
+ * The index is read from disk by {@link #loadIndex()}, or on first use. Lookups and insertions only touch
+ * the in-memory index and rename or delete single files. Lookups and the index load are meant to run
+ * off the main thread.
+ */
+class VoiceInstructionDiskCache {
+
+  private static final String MP3_EXTENSION = ".mp3";
+  private static final String KEY_SEPARATOR = "\n";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final String UTF_8 = "UTF-8";
+  private static final String HEX_FORMAT = "%02x";
+  private final LinkedHashMap<String, File> files = new LinkedHashMap<>(16, 0.75f, true);
+  private final File directory;
+  private final long maxSizeInBytes;
+  private long sizeInBytes;
+  private boolean isIndexLoaded;
+  private int hitCount;
+  private int missCount;
+
+  VoiceInstructionDiskCache(@NonNull File directory, long maxSizeInBytes) {
+    this.directory = directory;
+    this.maxSizeInBytes = maxSizeInBytes;
+  }
+
+  @NonNull
+  static String buildKey(@NonNull String instruction, @NonNull String textType, @Nullable String language) {
+    String content = instruction + KEY_SEPARATOR + textType + KEY_SEPARATOR + (language == null ? "" : language);
+    try {
+      byte[] hash = MessageDigest.getInstance(HASH_ALGORITHM).digest(content.getBytes(UTF_8));
+      StringBuilder key = new StringBuilder(hash.length * 2);
+      for (byte value : hash) {
+        key.append(String.format(HEX_FORMAT, value));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException | UnsupportedEncodingException exception) {
+      return Integer.toHexString(content.hashCode()) + Integer.toHexString(content.length());
+    }
+  }
+
+  /**
+   * Directory to download new files into before they're added with {@link #put(String, File)}.
+   */
+  @NonNull
+  File retrieveDirectory() {
+    if (!directory.exists() && !directory.mkdirs()) {
+      Timber.e("Unable to create the voice instruction cache directory");
+    }
+    return directory;
+  }
+
+  synchronized boolean contains(@NonNull String key) {
+    loadIndex();
+    return files.containsKey(key);
+  }
+
+  /**
+   * Counts as a hit or a miss and marks the file as the most recently used.
+   *
+   * @param key from {@link #buildKey(String, String, String)}
+   * @return the cached file, or null if it isn't cached
+   */
+  @Nullable
+  synchronized File retrieve(@NonNull String key) {
+    loadIndex();
+    File file = files.get(key);
+    if (file == null || !file.exists()) {
+      if (file != null) {
+        remove(key);
+      }
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    file.setLastModified(System.currentTimeMillis());
+    return file;
+  }
+
+  /**
+   * Moves a downloaded file into the cache under the given key, evicting the least recently used
+   * files if the cache grows over its size.
+   *
+   * @param key              from {@link #buildKey(String, String, String)}
+   * @param downloadedFile   file in {@link #retrieveDirectory()}
+   * @return the cached file, or the downloaded file if it couldn't be moved
+   */
+  @NonNull
+  synchronized File put(@NonNull String key, @NonNull File downloadedFile) {
+    loadIndex();
+    File file = new File(directory, key + MP3_EXTENSION);
+    remove(key);
+    if (!downloadedFile.renameTo(file)) {
+      Timber.e("Unable to add %s to the voice instruction cache", downloadedFile.getName());
+      return downloadedFile;
+    }
+    files.put(key, file);
+    sizeInBytes += file.length();
+    trimToSize();
+    return file;
+  }
+
+  synchronized float hitRate() {
+    int lookups = hitCount + missCount;
+    return lookups == 0 ? 0f : (float) hitCount / lookups;
+  }
+
+  synchronized int hitCount() {
+    return hitCount;
+  }
+
+  synchronized int missCount() {
+    return missCount;
+  }
+
+  private void remove(String key) {
+    File file = files.remove(key);
+    if (file != null) {
+      sizeInBytes -= file.length();
+      file.delete();
+    }
+  }
+
+  private void trimToSize() {
+    Iterator<Map.Entry<String, File>> eldestFiles = files.entrySet().iterator();
+    // The newest file is kept even if it's bigger than the cache on its own
+    while (sizeInBytes > maxSizeInBytes && files.size() > 1 && eldestFiles.hasNext()) {
+      File file = eldestFiles.next().getValue();
+      eldestFiles.remove();
+      sizeInBytes -= file.length();
+      file.delete();
+    }
+  }
+
+  synchronized void loadIndex() {
+    if (isIndexLoaded) {
+      return;
+    }
+    isIndexLoaded = true;
+    if (!directory.exists() && !directory.mkdirs()) {
+      Timber.e("Unable to create the voice instruction cache directory");
+      return;
+    }
+    File[] directoryFiles = directory.listFiles();
+    if (directoryFiles == null) {
+      return;
+    }
+    Arrays.sort(directoryFiles, new Comparator<File>() {
+      @Override
+      public int compare(File first, File second) {
+        long firstModified = first.lastModified();
+        long secondModified = second.lastModified();
+        return firstModified < secondModified ? -1 : (firstModified == secondModified ? 0 : 1);
+      }
+    });
+    for (File file : directoryFiles) {
+      String name = file.getName();
+      if (!name.endsWith(MP3_EXTENSION)) {
+        // Leftover from a download interrupted before it was added
+        file.delete();
+        continue;
+      }
+      files.put(name.substring(0, name.length() - MP3_EXTENSION.length()), file);
+      sizeInBytes += file.length();
+    }
+    trimToSize();
+  }
+}
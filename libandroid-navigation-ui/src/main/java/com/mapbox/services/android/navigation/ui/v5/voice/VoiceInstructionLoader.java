@@ -3,80 +3,161 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 import android.content.Context;
 import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 
 import com.mapbox.api.speech.v1.MapboxSpeech;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import okhttp3.Cache;
 import okhttp3.CacheControl;
 import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 import retrofit2.Callback;
 import timber.log.Timber;
 
+/**
+ * Downloads voice instructions into the speech {@link Cache} ahead of their announcement.
+ * <p>
+ * At most {@link #MAX_CONCURRENT_REQUESTS} instructions are downloaded at once, the rest wait in
+ * order. An instruction that is queued, downloading or cached is never requested again. Cached URLs
+ * are indexed by instruction so that evicting a set of instructions takes a single pass over the cache.
+ * <p>
+ * Played instructions are also kept in a {@link VoiceInstructionDiskCache} that survives app restarts.
+ * It's checked before any request, by the speech player and when prefetching. Its index is loaded,
+ * and instructions are hashed and looked up, on a single background thread of its own.
+ */
 public class VoiceInstructionLoader {
-  private static final int VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD = 4;
+  private static final int MAX_CONCURRENT_REQUESTS = 3;
   private static final String SSML_TEXT_TYPE = "ssml";
+  private static final String VOICE_INSTRUCTION_CACHE = "mapbox_voice_instruction_cache";
+  private static final String LEGACY_INSTRUCTION_CACHE = "mapbox_instruction_cache";
+  private static final long VOICE_INSTRUCTION_CACHE_SIZE_IN_BYTES = 20 * 1024 * 1024;
+  // Shared by every loader so lookups never queue behind unrelated AsyncTasks
+  private static final Executor DISK_EXECUTOR = Executors.newSingleThreadExecutor();
   private final ConnectivityManager connectivityManager;
   private final String accessToken;
-  private List<String> urlsCached;
+  private final Map<String, String> urlsCached = new LinkedHashMap<>();
+  private final Set<String> requestedInstructions = new HashSet<>();
+  private final Queue<String> pendingInstructions = new ArrayDeque<>();
   private final Cache cache;
+  private final VoiceInstructionDiskCache diskCache;
+  private final Executor diskExecutor;
+  private int requestsInFlight;
+  private String language;
   private MapboxSpeech.Builder mapboxSpeechBuilder = null;
+  private OkHttpClient streamingClient;
 
   public VoiceInstructionLoader(Context context, String accessToken, Cache cache) {
+    this(context, accessToken, cache, new VoiceInstructionDiskCache(
+      new File(context.getCacheDir(), VOICE_INSTRUCTION_CACHE), VOICE_INSTRUCTION_CACHE_SIZE_IN_BYTES),
+      DISK_EXECUTOR);
+    prepareDiskCache(new File(context.getCacheDir(), LEGACY_INSTRUCTION_CACHE));
+  }
+
+  // Package private (no modifier) for testing purposes
+  VoiceInstructionLoader(Context context, String accessToken, Cache cache, MapboxSpeech.Builder mapboxSpeechBuilder,
+                         VoiceInstructionDiskCache diskCache, Executor diskExecutor) {
+    this(context, accessToken, cache, diskCache, diskExecutor);
+    this.mapboxSpeechBuilder = mapboxSpeechBuilder;
+  }
+
+  private VoiceInstructionLoader(Context context, String accessToken, Cache cache,
+                                 VoiceInstructionDiskCache diskCache, Executor diskExecutor) {
     this.connectivityManager = (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
     this.accessToken = accessToken;
-    this.urlsCached = new ArrayList<>();
     this.cache = cache;
+    this.diskCache = diskCache;
+    this.diskExecutor = diskExecutor;
   }
 
-  // Package private (no modifier) for testing purposes
-  VoiceInstructionLoader(Context context, String accessToken, Cache cache, MapboxSpeech.Builder mapboxSpeechBuilder) {
-    this(context, accessToken, cache);
-    this.mapboxSpeechBuilder = mapboxSpeechBuilder;
+  /**
+   * Share of the voice instructions played from the on-disk cache since this loader was created.
+   *
+   * @return hit rate between 0 and 1, 0 if nothing was played yet
+   */
+  public float retrieveCacheHitRate() {
+    return diskCache.hitRate();
   }
 
-  public List<String> evictVoiceInstructions() {
-    List<String> urlsToRemove = new ArrayList<>();
-    for (int i = 0; i < urlsCached.size() && i < VOICE_INSTRUCTIONS_TO_EVICT_THRESHOLD; i++) {
-      String urlToRemove = urlsCached.get(i);
-      try {
-        Iterator<String> urlsCurrentlyCached = cache.urls();
-        for (Iterator<String> urlCached = urlsCurrentlyCached; urlCached.hasNext(); ) {
-          String url = urlCached.next();
-          if (url.equals(urlToRemove)) {
-            urlCached.remove();
-            urlsToRemove.add(urlToRemove);
-            break;
-          }
+  /**
+   * Evicts the given voice instructions from the cache, in one pass over the cached URLs.
+   *
+   * @param instructions to evict, instructions that aren't cached are ignored
+   * @return the evicted URLs
+   */
+  public synchronized List<String> evictInstructions(Collection<String> instructions) {
+    Map<String, String> urlsToRemove = new HashMap<>();
+    for (String instruction : instructions) {
+      String url = urlsCached.remove(instruction);
+      if (url != null) {
+        urlsToRemove.put(url, instruction);
+      }
+      requestedInstructions.remove(instruction);
+    }
+    List<String> urlsRemoved = new ArrayList<>();
+    if (urlsToRemove.isEmpty()) {
+      return urlsRemoved;
+    }
+    try {
+      Iterator<String> urlsCurrentlyCached = cache.urls();
+      while (urlsCurrentlyCached.hasNext() && urlsRemoved.size() < urlsToRemove.size()) {
+        String url = urlsCurrentlyCached.next();
+        if (urlsToRemove.containsKey(url)) {
+          urlsCurrentlyCached.remove();
+          urlsRemoved.add(url);
         }
-      } catch (IOException exception) {
-        exception.printStackTrace();
       }
+    } catch (IOException exception) {
+      Timber.e(exception);
     }
-    urlsCached.removeAll(urlsToRemove);
-    return urlsToRemove;
+    return urlsRemoved;
   }
 
+  /**
+   * Queues the given voice instructions for download. Instructions already queued, downloading or
+   * cached are skipped.
+   *
+   * @param instructions to download, in the order they'll be announced
+   */
   public void cacheInstructions(List<String> instructions) {
-    for (String instruction : instructions) {
-      cacheInstruction(instruction);
-    }
-  }
-
-  // Package private (no modifier) for testing purposes
-  void addStubUrlsToCache(List<String> urlsToCache) {
-    this.urlsCached = urlsToCache;
+    final List<String> instructionsToCheck = new ArrayList<>(instructions);
+    final String language = this.language;
+    diskExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        List<String> instructionsToRequest = new ArrayList<>();
+        for (String instruction : instructionsToCheck) {
+          if (instruction != null && !isOnDisk(instruction, language)) {
+            instructionsToRequest.add(instruction);
+          }
+        }
+        queueInstructions(instructionsToRequest);
+      }
+    });
   }
 
   void setupMapboxSpeechBuilder(String language) {
+    this.language = language;
     if (mapboxSpeechBuilder == null) {
       mapboxSpeechBuilder = MapboxSpeech.builder()
         .accessToken(accessToken)
@@ -96,7 +177,27 @@ public class VoiceInstructionLoader {
     }
   }
 
+  /**
+   * Requests the instruction with a callback invoked on the network thread as soon as the response
+   * headers are received, so the body can be played while it's still downloading.
+   */
+  void streamInstruction(String instruction, String textType, okhttp3.Callback callback) {
+    if (!cache.isClosed() && mapboxSpeechBuilder != null) {
+      MapboxSpeech mapboxSpeech = mapboxSpeechBuilder
+        .instruction(instruction)
+        .textType(textType)
+        .build();
+      Request request = mapboxSpeech.cloneCall().request();
+      obtainStreamingClient().newCall(request).enqueue(callback);
+    }
+  }
+
   void flushCache() {
+    synchronized (this) {
+      urlsCached.clear();
+      requestedInstructions.clear();
+      pendingInstructions.clear();
+    }
     try {
       cache.evictAll();
     } catch (IOException exception) {
@@ -104,12 +205,111 @@ public class VoiceInstructionLoader {
     }
   }
 
-  void addCachedUrl(String url) {
-    urlsCached.add(url);
+  /**
+   * Looks the instruction up in the on-disk cache on the background executor, counting a hit or a miss.
+   *
+   * @param listener invoked on the background executor with the synthesized instruction, or null if it
+   *                 needs to be requested
+   */
+  void retrieveCachedInstruction(@NonNull final String instruction, @NonNull final String textType,
+                                 @NonNull final CachedInstructionListener listener) {
+    final String language = this.language;
+    diskExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        listener.onCachedInstructionRetrieved(
+          diskCache.retrieve(VoiceInstructionDiskCache.buildKey(instruction, textType, language)));
+      }
+    });
+  }
+
+  /**
+   * @return directory to download synthesized instructions into before caching them
+   */
+  @NonNull
+  File retrieveCacheDirectory() {
+    return diskCache.retrieveDirectory();
+  }
+
+  /**
+   * Adds a downloaded synthesized instruction to the on-disk cache.
+   *
+   * @return the file to play
+   */
+  @NonNull
+  File cacheInstructionFile(@NonNull String instruction, @NonNull String textType, @NonNull File downloadedFile) {
+    return diskCache.put(VoiceInstructionDiskCache.buildKey(instruction, textType, language), downloadedFile);
+  }
+
+  synchronized void addCachedUrl(String instruction, String url) {
+    requestsInFlight = Math.max(0, requestsInFlight - 1);
+    if (requestedInstructions.contains(instruction)) {
+      urlsCached.put(instruction, url);
+    }
+    requestPendingInstructions();
   }
 
-  private void cacheInstruction(String instruction) {
-    requestInstruction(instruction, SSML_TEXT_TYPE, new InstructionCacheCallback(this));
+  synchronized void onInstructionCacheFailed(String instruction) {
+    requestsInFlight = Math.max(0, requestsInFlight - 1);
+    requestedInstructions.remove(instruction);
+    requestPendingInstructions();
+  }
+
+  private synchronized void queueInstructions(List<String> instructions) {
+    for (String instruction : instructions) {
+      if (requestedInstructions.add(instruction)) {
+        pendingInstructions.add(instruction);
+      }
+    }
+    requestPendingInstructions();
+  }
+
+  private boolean isOnDisk(String instruction, String language) {
+    return diskCache.contains(VoiceInstructionDiskCache.buildKey(instruction, SSML_TEXT_TYPE, language));
+  }
+
+  /**
+   * Loads the disk cache index ahead of the first lookup and deletes the directory instructions were
+   * downloaded into before the disk cache existed.
+   */
+  private void prepareDiskCache(final File legacyDirectory) {
+    diskExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        diskCache.loadIndex();
+        File[] legacyFiles = legacyDirectory.listFiles();
+        if (legacyFiles == null) {
+          return;
+        }
+        for (File file : legacyFiles) {
+          file.delete();
+        }
+        legacyDirectory.delete();
+      }
+    });
+  }
+
+  private void requestPendingInstructions() {
+    if (cache.isClosed() || mapboxSpeechBuilder == null) {
+      requestedInstructions.removeAll(pendingInstructions);
+      pendingInstructions.clear();
+      return;
+    }
+    while (requestsInFlight < MAX_CONCURRENT_REQUESTS && !pendingInstructions.isEmpty()) {
+      String instruction = pendingInstructions.poll();
+      requestsInFlight++;
+      requestInstruction(instruction, SSML_TEXT_TYPE, new InstructionCacheCallback(this, instruction));
+    }
+  }
+
+  private synchronized OkHttpClient obtainStreamingClient() {
+    if (streamingClient == null) {
+      streamingClient = new OkHttpClient.Builder()
+        .cache(cache)
+        .addInterceptor(provideOfflineCacheInterceptor())
+        .build();
+    }
+    return streamingClient;
   }
 
   private Interceptor provideOfflineCacheInterceptor() {
@@ -138,4 +338,8 @@ public class VoiceInstructionLoader {
     NetworkInfo activeNetwork = connectivityManager.getActiveNetworkInfo();
     return activeNetwork != null && activeNetwork.isConnected();
   }
+
+  interface CachedInstructionListener {
+    void onCachedInstructionRetrieved(@Nullable File cachedInstruction);
+  }
 }
@@ -26,6 +26,7 @@ import static junit.framework.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -185,6 +186,101 @@ public class NavigationViewRouterTest extends BaseTest {
     verify(offlineRouter, times(1)).findRouteWith(builder);
   }
 
+  @Test
+  public void findRouteFrom_raceStartsOfflineAndOnline() throws Exception {
+    RouteFetcher onlineRouter = mock(RouteFetcher.class);
+    NavigationRoute.Builder offlineBuilder = mock(NavigationRoute.Builder.class);
+    NavigationRoute.Builder onlineBuilder = mock(NavigationRoute.Builder.class);
+    when(onlineRouter.buildRequestFrom(any(Location.class), any(RouteProgress.class)))
+      .thenReturn(offlineBuilder, onlineBuilder);
+    NavigationViewOfflineRouter offlineRouter = mock(NavigationViewOfflineRouter.class);
+    when(offlineRouter.isConfigured()).thenReturn(true);
+    NavigationViewRouter router = buildRacingRouter(onlineRouter, offlineRouter, mock(RouteComparator.class),
+      mock(ViewRouteListener.class));
+
+    router.findRouteFrom(mock(RouteProgress.class));
+
+    verify(offlineRouter).findRouteWith(offlineBuilder);
+    verify(onlineRouter).findRouteWith(onlineBuilder);
+  }
+
+  @Test
+  public void onOfflineRouteFound_raceUsesFirstRoute() throws Exception {
+    NavigationViewOfflineRouter offlineRouter = mock(NavigationViewOfflineRouter.class);
+    when(offlineRouter.isConfigured()).thenReturn(true);
+    ViewRouteListener listener = mock(ViewRouteListener.class);
+    NavigationViewRouter router = buildRacingRouter(buildBuildingOnlineRouter(), offlineRouter,
+      mock(RouteComparator.class), listener);
+    DirectionsRoute offlineRoute = mock(DirectionsRoute.class);
+    router.findRouteFrom(mock(RouteProgress.class));
+
+    router.onOfflineRouteFound(offlineRoute);
+
+    verify(listener).onRouteUpdate(offlineRoute);
+  }
+
+  @Test
+  public void onOfflineRouteFound_pendingComparisonIsInvalidated() throws Exception {
+    NavigationViewOfflineRouter offlineRouter = mock(NavigationViewOfflineRouter.class);
+    when(offlineRouter.isConfigured()).thenReturn(true);
+    RouteComparator routeComparator = mock(RouteComparator.class);
+    NavigationViewRouter router = buildRacingRouter(buildBuildingOnlineRouter(), offlineRouter, routeComparator,
+      mock(ViewRouteListener.class));
+    router.findRouteFrom(mock(RouteProgress.class));
+
+    router.onOfflineRouteFound(mock(DirectionsRoute.class));
+
+    verify(routeComparator).invalidate();
+  }
+
+  @Test
+  public void onResponseReceived_raceUpgradesOfflineRouteWithinDeadline() throws Exception {
+    NavigationViewOfflineRouter offlineRouter = mock(NavigationViewOfflineRouter.class);
+    when(offlineRouter.isConfigured()).thenReturn(true);
+    RouteComparator routeComparator = mock(RouteComparator.class);
+    NavigationViewRouter router = buildRacingRouter(buildBuildingOnlineRouter(), offlineRouter, routeComparator,
+      mock(ViewRouteListener.class));
+    DirectionsRoute offlineRoute = mock(DirectionsRoute.class);
+    DirectionsResponse response = buildDirectionsResponse();
+    router.findRouteFrom(mock(RouteProgress.class));
+    router.onOfflineRouteFound(offlineRoute);
+
+    router.onResponseReceived(response, mock(RouteProgress.class));
+
+    verify(routeComparator).compare(response, offlineRoute);
+  }
+
+  @Test
+  public void onOfflineRouteError_raceWaitsForOnlineRoute() throws Exception {
+    NavigationViewOfflineRouter offlineRouter = mock(NavigationViewOfflineRouter.class);
+    when(offlineRouter.isConfigured()).thenReturn(true);
+    ViewRouteListener listener = mock(ViewRouteListener.class);
+    NavigationViewRouter router = buildRacingRouter(buildBuildingOnlineRouter(), offlineRouter,
+      mock(RouteComparator.class), listener);
+    router.findRouteFrom(mock(RouteProgress.class));
+
+    router.onOfflineRouteError("offline error");
+
+    verify(listener, never()).onRouteRequestError(any(String.class));
+  }
+
+  @Test
+  public void onErrorReceived_raceReportsErrorOnceBothFailed() throws Exception {
+    NavigationViewOfflineRouter offlineRouter = mock(NavigationViewOfflineRouter.class);
+    when(offlineRouter.isConfigured()).thenReturn(true);
+    ViewRouteListener listener = mock(ViewRouteListener.class);
+    NavigationViewRouter router = buildRacingRouter(buildBuildingOnlineRouter(), offlineRouter,
+      mock(RouteComparator.class), listener);
+    Throwable throwable = mock(Throwable.class);
+    when(throwable.getMessage()).thenReturn("online error");
+    router.findRouteFrom(mock(RouteProgress.class));
+    router.onOfflineRouteError("offline error");
+
+    router.onErrorReceived(throwable);
+
+    verify(listener).onRouteRequestError(eq("online error"));
+  }
+
   @Test
   public void onDestroy_clearsListeners() {
     RouteFetcher onlineRouter = mock(RouteFetcher.class);
@@ -336,6 +432,36 @@ public class NavigationViewRouterTest extends BaseTest {
     verify(offlineRouter, times(0)).configure(eq(emptyOfflineRoutingTilesVersion));
   }
 
+  @NonNull
+  private NavigationViewRouter buildRacingRouter(RouteFetcher onlineRouter, NavigationViewOfflineRouter offlineRouter,
+                                                 RouteComparator routeComparator, ViewRouteListener listener)
+    throws IOException {
+    ConnectivityStatusProvider status = mock(ConnectivityStatusProvider.class);
+    when(status.isConnected()).thenReturn(true);
+    NavigationViewRouter router = new NavigationViewRouter(
+      onlineRouter,
+      offlineRouter,
+      status,
+      routeComparator,
+      listener,
+      mock(RouteCallStatus.class)
+    );
+    router.extractRouteOptions(NavigationViewOptions.builder()
+      .directionsRoute(buildDirectionsRoute())
+      .shouldRaceOfflineRouting(true)
+      .build());
+    router.updateLocation(mock(Location.class));
+    return router;
+  }
+
+  @NonNull
+  private RouteFetcher buildBuildingOnlineRouter() {
+    RouteFetcher onlineRouter = mock(RouteFetcher.class);
+    when(onlineRouter.buildRequestFrom(any(Location.class), any(RouteProgress.class)))
+      .thenReturn(mock(NavigationRoute.Builder.class));
+    return onlineRouter;
+  }
+
   @NonNull
   private NavigationViewRouter buildRouteEngine(ViewRouteListener routeEngineListener) {
     return new NavigationViewRouter(mock(RouteFetcher.class), mock(ConnectivityStatusProvider.class),
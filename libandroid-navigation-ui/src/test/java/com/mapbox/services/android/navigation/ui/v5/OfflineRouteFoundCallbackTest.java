@@ -20,18 +20,7 @@ public class OfflineRouteFoundCallbackTest {
 
     callback.onRouteFound(offlineRoute);
 
-    verify(router).updateCurrentRoute(offlineRoute);
-  }
-
-  @Test
-  public void onRouteFound_callStatusIsUpdated() {
-    NavigationViewRouter router = mock(NavigationViewRouter.class);
-    DirectionsRoute offlineRoute = mock(DirectionsRoute.class);
-    OfflineRouteFoundCallback callback = new OfflineRouteFoundCallback(router);
-
-    callback.onRouteFound(offlineRoute);
-
-    verify(router).updateCallStatusReceived();
+    verify(router).onOfflineRouteFound(offlineRoute);
   }
 
   @Test
@@ -44,19 +33,6 @@ public class OfflineRouteFoundCallbackTest {
 
     callback.onError(error);
 
-    verify(router).onRequestError(eq(errorMessage));
-  }
-
-  @Test
-  public void onError_callStatusIsUpdated() {
-    NavigationViewRouter router = mock(NavigationViewRouter.class);
-    OfflineError error = mock(OfflineError.class);
-    String errorMessage = "error message";
-    when(error.getMessage()).thenReturn(errorMessage);
-    OfflineRouteFoundCallback callback = new OfflineRouteFoundCallback(router);
-
-    callback.onError(error);
-
-    verify(router).updateCallStatusReceived();
+    verify(router).onOfflineRouteError(eq(errorMessage));
   }
-}
\ No newline at end of file
+}
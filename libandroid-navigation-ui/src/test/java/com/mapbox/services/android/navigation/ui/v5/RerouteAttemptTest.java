@@ -0,0 +1,72 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RerouteAttemptTest {
+
+  @Test
+  public void onOfflineRoute_firstRouteIsUsed() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+
+    assertTrue(attempt.onOfflineRoute());
+  }
+
+  @Test
+  public void onOfflineRoute_ignoredAfterOnlineRoute() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+    attempt.onOnlineRoute(100);
+
+    assertFalse(attempt.onOfflineRoute());
+  }
+
+  @Test
+  public void onOnlineRoute_upgradesOfflineRouteWithinDeadline() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+    attempt.onOfflineRoute();
+
+    assertTrue(attempt.onOnlineRoute(5000));
+  }
+
+  @Test
+  public void onOnlineRoute_ignoredAfterDeadline() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+    attempt.onOfflineRoute();
+
+    assertFalse(attempt.onOnlineRoute(5001));
+  }
+
+  @Test
+  public void onOnlineRoute_usedAfterDeadlineWithoutOfflineRoute() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+
+    assertTrue(attempt.onOnlineRoute(8000));
+  }
+
+  @Test
+  public void onOnlineError_failsOnlyOnceBothSourcesFailed() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+
+    assertFalse(attempt.onOnlineError());
+    assertTrue(attempt.onOfflineError());
+  }
+
+  @Test
+  public void onOnlineError_doesNotFailWithOfflineRouteUsed() {
+    RerouteAttempt attempt = new RerouteAttempt(0, 5000, true, true);
+    attempt.onOfflineRoute();
+
+    assertFalse(attempt.onOnlineError());
+    assertTrue(attempt.isFinished());
+  }
+
+  @Test
+  public void timeToRerouteInMillis_measuredFromStart() {
+    RerouteAttempt attempt = new RerouteAttempt(1000, 5000, true, false);
+
+    assertEquals(250, attempt.timeToRerouteInMillis(1250));
+  }
+}
@@ -0,0 +1,69 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RouteComparatorTest {
+
+  @Test
+  public void onMostSimilarRouteFound_currentComparisonUpdatesRoute() {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    DirectionsRoute mostSimilarRoute = mock(DirectionsRoute.class);
+
+    comparator.onMostSimilarRouteFound(0, mostSimilarRoute, mock(RouteFingerprint.class));
+
+    verify(router).updateCurrentRoute(mostSimilarRoute);
+  }
+
+  @Test
+  public void onMostSimilarRouteFound_supersededComparisonIsIgnored() {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    DirectionsResponse response = mock(DirectionsResponse.class);
+    when(response.routes()).thenReturn(Collections.singletonList(mock(DirectionsRoute.class)));
+    comparator.compare(response, mock(DirectionsRoute.class));
+    DirectionsRoute supersededRoute = mock(DirectionsRoute.class);
+
+    comparator.onMostSimilarRouteFound(0, supersededRoute, mock(RouteFingerprint.class));
+
+    verify(router, never()).updateCurrentRoute(supersededRoute);
+  }
+
+  @Test
+  public void onMostSimilarRouteFound_invalidatedComparisonIsIgnored() {
+    NavigationViewRouter router = mock(NavigationViewRouter.class);
+    RouteComparator comparator = new RouteComparator(router);
+    DirectionsRoute invalidatedRoute = mock(DirectionsRoute.class);
+    comparator.invalidate();
+
+    comparator.onMostSimilarRouteFound(0, invalidatedRoute, mock(RouteFingerprint.class));
+
+    verify(router, never()).updateCurrentRoute(invalidatedRoute);
+  }
+
+  @Test
+  public void findMostSimilarRoute_tieKeepsFirstRoute() {
+    RouteFingerprint chosenFingerprint = mock(RouteFingerprint.class);
+    RouteFingerprint firstFingerprint = mock(RouteFingerprint.class);
+    RouteFingerprint secondFingerprint = mock(RouteFingerprint.class);
+    when(chosenFingerprint.similarityTo(firstFingerprint)).thenReturn(0.5d);
+    when(chosenFingerprint.similarityTo(secondFingerprint)).thenReturn(0.5d);
+
+    int routeIndex = RouteComparator.findMostSimilarRoute(chosenFingerprint,
+      Arrays.asList(firstFingerprint, secondFingerprint));
+
+    assertEquals(0, routeIndex);
+  }
+}
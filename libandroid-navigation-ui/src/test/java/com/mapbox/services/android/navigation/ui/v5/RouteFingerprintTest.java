@@ -0,0 +1,68 @@
+package com.mapbox.services.android.navigation.ui.v5;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteFingerprintTest {
+
+  private static final double DELTA = 0.0001;
+
+  @Test
+  public void similarityTo_identicalRoutesAreEqual() {
+    RouteFingerprint fingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0365, 38.8977), Point.fromLngLat(-77.0200, 38.8977)));
+    RouteFingerprint sameFingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0365, 38.8977), Point.fromLngLat(-77.0200, 38.8977)));
+
+    assertEquals(1d, fingerprint.similarityTo(sameFingerprint), DELTA);
+  }
+
+  @Test
+  public void similarityTo_disjointRoutesShareNothing() {
+    RouteFingerprint fingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0365, 38.8977), Point.fromLngLat(-77.0200, 38.8977)));
+    RouteFingerprint otherFingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0365, 38.9200), Point.fromLngLat(-77.0200, 38.9200)));
+
+    assertEquals(0d, fingerprint.similarityTo(otherFingerprint), DELTA);
+  }
+
+  @Test
+  public void similarityTo_routeSharingHalfItsRoadsIsPartlySimilar() {
+    RouteFingerprint fingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0365, 38.8977), Point.fromLngLat(-77.0200, 38.8977)));
+    RouteFingerprint partialFingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0365, 38.8977), Point.fromLngLat(-77.0280, 38.8977),
+      Point.fromLngLat(-77.0280, 38.9060)));
+
+    double similarity = fingerprint.similarityTo(partialFingerprint);
+
+    assertTrue(similarity > 0.2);
+    assertTrue(similarity < 0.8);
+  }
+
+  @Test
+  public void from_longSegmentCoversEveryCrossedCell() {
+    RouteFingerprint fingerprint = RouteFingerprint.from(buildRoute(
+      Point.fromLngLat(-77.0400, 38.8977), Point.fromLngLat(-77.0300, 38.8977)));
+
+    assertTrue(fingerprint.size() >= 20);
+  }
+
+  private DirectionsRoute buildRoute(Point... points) {
+    List<Point> coordinates = Arrays.asList(points);
+    return DirectionsRoute.builder()
+      .geometry(PolylineUtils.encode(coordinates, Constants.PRECISION_6))
+      .build();
+  }
+}
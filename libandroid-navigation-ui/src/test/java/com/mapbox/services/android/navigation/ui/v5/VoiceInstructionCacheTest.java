@@ -4,85 +4,146 @@ import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.ui.v5.voice.VoiceInstructionLoader;
 import com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 
 public class VoiceInstructionCacheTest extends BaseTest {
 
   private static final String DIRECTIONS_PRECISION_6 = "directions_v5_precision_6.json";
 
   @Test
-  public void checksPreCachingCachesNineInstructions() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void preCache_cachesInstructionsWithinPrefetchDistance() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(buildNavigation(),
       aVoiceInstructionLoader);
-    DirectionsRoute aRoute = buildDirectionsRoute();
     ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
 
-    theVoiceInstructionCache.preCache(aRoute);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
 
     verify(aVoiceInstructionLoader, times(1)).cacheInstructions(voiceInstructionsToCache.capture());
-    assertEquals(9, voiceInstructionsToCache.getValue().size());
+    assertEquals(8, voiceInstructionsToCache.getValue().size());
   }
 
   @Test
-  public void checksCacheIsNotCalledIfIsVoiceInstructionsToCacheThresholdNotReached() {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void preCache_previousRouteInstructionsAreEvicted() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
+    MapboxNavigation navigation = buildNavigation();
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(navigation, aVoiceInstructionLoader);
+    ArgumentCaptor<Collection> voiceInstructionsToEvict = ArgumentCaptor.forClass(Collection.class);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+    when(navigation.retrieveSsmlAnnouncementInstruction(anyInt())).thenReturn("rerouted instruction");
+
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+
+    verify(aVoiceInstructionLoader).evictInstructions(voiceInstructionsToEvict.capture());
+    assertEquals(8, voiceInstructionsToEvict.getValue().size());
+    assertFalse(voiceInstructionsToEvict.getValue().contains("rerouted instruction"));
+  }
+
+  @Test
+  public void preCache_instructionsOfBothRoutesAreNotEvicted() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(buildNavigation(),
+      aVoiceInstructionLoader);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+
+    verify(aVoiceInstructionLoader, never()).evictInstructions(anyCollection());
+  }
+
+  @Test
+  public void cache_nothingNewInWindowIsNotRequested() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(buildNavigation(),
       aVoiceInstructionLoader);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
 
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.cache(buildRouteProgress(100d), 0f);
 
-    verifyZeroInteractions(aVoiceInstructionLoader);
+    verify(aVoiceInstructionLoader, times(1)).cacheInstructions(ArgumentCaptor.forClass(List.class).capture());
+    verify(aVoiceInstructionLoader, never()).evictInstructions(anyCollection());
   }
 
   @Test
-  public void checksCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void cache_windowGrowsWithSpeed() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(buildNavigation(),
       aVoiceInstructionLoader);
-    DirectionsRoute twentyOneInstructionsRoute = buildDirectionsRoute();
     ArgumentCaptor<List> voiceInstructionsToCache = ArgumentCaptor.forClass(List.class);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
 
-    theVoiceInstructionCache.preCache(twentyOneInstructionsRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
-    theVoiceInstructionCache.update(10);
-    theVoiceInstructionCache.cache();
-
-    verify(aVoiceInstructionLoader, times(3)).cacheInstructions(voiceInstructionsToCache.capture());
-    List<List> capturedVoiceInstructionsToCache = voiceInstructionsToCache.getAllValues();
-    assertEquals(9, capturedVoiceInstructionsToCache.get(0).size());
-    assertEquals(10, capturedVoiceInstructionsToCache.get(1).size());
-    assertEquals(2, capturedVoiceInstructionsToCache.get(2).size());
+    theVoiceInstructionCache.cache(buildRouteProgress(68000d), 30f);
+
+    verify(aVoiceInstructionLoader, times(2)).cacheInstructions(voiceInstructionsToCache.capture());
+    List<String> instructions = voiceInstructionsToCache.getAllValues().get(1);
+    assertEquals(4, instructions.size());
+    assertEquals("instruction 8", instructions.get(0));
   }
 
   @Test
-  public void checksEvictVoiceInstructionsIsCalledWhenCaching() throws Exception {
-    MapboxNavigation aMapboxNavigation = mock(MapboxNavigation.class);
+  public void cache_announcedInstructionsAreEvicted() throws Exception {
     VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
-    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(aMapboxNavigation,
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(buildNavigation(),
       aVoiceInstructionLoader);
-    DirectionsRoute aRoute = buildDirectionsRoute();
+    ArgumentCaptor<List> voiceInstructionsToEvict = ArgumentCaptor.forClass(List.class);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
 
-    theVoiceInstructionCache.preCache(aRoute);
-    theVoiceInstructionCache.update(5);
-    theVoiceInstructionCache.cache();
+    theVoiceInstructionCache.cache(buildRouteProgress(2400d), 0f);
 
-    verify(aVoiceInstructionLoader, times(1)).evictVoiceInstructions();
+    verify(aVoiceInstructionLoader).evictInstructions(voiceInstructionsToEvict.capture());
+    assertEquals(7, voiceInstructionsToEvict.getValue().size());
+  }
+
+  @Test
+  public void cache_latestCrossedInstructionIsKeptForItsMilestone() throws Exception {
+    VoiceInstructionLoader aVoiceInstructionLoader = mock(VoiceInstructionLoader.class);
+    VoiceInstructionCache theVoiceInstructionCache = new VoiceInstructionCache(buildNavigation(),
+      aVoiceInstructionLoader);
+    ArgumentCaptor<List> voiceInstructionsToEvict = ArgumentCaptor.forClass(List.class);
+    theVoiceInstructionCache.preCache(buildDirectionsRoute());
+
+    theVoiceInstructionCache.cache(buildRouteProgress(1600d), 0f);
+
+    verify(aVoiceInstructionLoader).evictInstructions(voiceInstructionsToEvict.capture());
+    List<String> instructions = voiceInstructionsToEvict.getValue();
+    assertEquals(4, instructions.size());
+    assertFalse(instructions.contains("instruction 4"));
+  }
+
+  private MapboxNavigation buildNavigation() {
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    when(navigation.retrieveSsmlAnnouncementInstruction(anyInt())).thenAnswer(new Answer<String>() {
+      @Override
+      public String answer(InvocationOnMock invocation) {
+        return "instruction " + invocation.getArgument(0);
+      }
+    });
+    return navigation;
+  }
+
+  private RouteProgress buildRouteProgress(double distanceTraveled) {
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.distanceTraveled()).thenReturn(distanceTraveled);
+    return routeProgress;
   }
 
   private DirectionsRoute buildDirectionsRoute() throws IOException {
@@ -90,5 +151,4 @@ public class VoiceInstructionCacheTest extends BaseTest {
     DirectionsResponse response = DirectionsResponse.fromJson(body);
     return response.routes().get(0);
   }
-
-}
\ No newline at end of file
+}
@@ -1,8 +1,5 @@
 package com.mapbox.services.android.navigation.ui.v5.map;
 
-import android.location.Location;
-import android.support.annotation.NonNull;
-
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
@@ -11,23 +8,77 @@ import org.junit.Test;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Scanner;
 
-import edu.emory.mathcs.backport.java.util.Collections;
-
+import static junit.framework.Assert.assertEquals;
 import static okhttp3.internal.Util.UTF_8;
-import static org.mockito.Mockito.mock;
 
 public class WaynameFeatureFilterTest {
 
   @Test
-  public void findPointFromCurrentPoint() {
+  public void filterFeatures_singleFeatureIsReturned() {
     Feature featureOne = Feature.fromJson(loadJsonFixture("feature_one.json"));
-    Point currentPoint = Point.fromLngLat(1.234, 4.567);
-    WaynameFeatureFilter waynameFeatureFilter = buildFilter();
+    WaynameFeatureFilter filter = new WaynameFeatureFilter();
+    filter.updateStep(((LineString) featureOne.geometry()).coordinates());
+
+    Feature filteredFeature = filter.filterFeatures(Collections.singletonList(featureOne),
+      Point.fromLngLat(-77.03195, 38.9008));
+
+    assertEquals(featureOne, filteredFeature);
+  }
+
+  @Test
+  public void filterFeatures_roadAlongStepIsPickedAtIntersection() {
+    List<Feature> queriedFeatures = buildQueriedFeatures();
+    Feature fourteenthStreet = queriedFeatures.get(0);
+    WaynameFeatureFilter filter = new WaynameFeatureFilter();
+    filter.updateStep(((LineString) fourteenthStreet.geometry()).coordinates());
+
+    Feature filteredFeature = filter.filterFeatures(queriedFeatures, Point.fromLngLat(-77.03195, 38.9008));
+
+    assertEquals(fourteenthStreet, filteredFeature);
+  }
+
+  @Test
+  public void filterFeatures_crossingRoadIsPickedWhenStepFollowsIt() {
+    List<Feature> queriedFeatures = buildQueriedFeatures();
+    Feature iStreet = queriedFeatures.get(1);
+    WaynameFeatureFilter filter = new WaynameFeatureFilter();
+    filter.updateStep(((LineString) iStreet.geometry()).coordinates());
+
+    Feature filteredFeature = filter.filterFeatures(queriedFeatures, Point.fromLngLat(-77.0312, 38.9013355));
 
-    Point featureAheadOfUser = waynameFeatureFilter.findPointFromCurrentPoint(currentPoint, (LineString) featureOne.geometry());
+    assertEquals(iStreet, filteredFeature);
+  }
+
+  @Test
+  public void filterFeatures_newStepIsPrepared() {
+    List<Feature> queriedFeatures = buildQueriedFeatures();
+    WaynameFeatureFilter filter = new WaynameFeatureFilter();
+    filter.updateStep(((LineString) queriedFeatures.get(0).geometry()).coordinates());
+    filter.filterFeatures(queriedFeatures, Point.fromLngLat(-77.03195, 38.9008));
+
+    filter.updateStep(((LineString) queriedFeatures.get(1).geometry()).coordinates());
+    Feature filteredFeature = filter.filterFeatures(queriedFeatures, Point.fromLngLat(-77.0312, 38.9013355));
+
+    assertEquals(queriedFeatures.get(1), filteredFeature);
+  }
+
+  @Test
+  public void filterFeatures_piecesSharingAnIdAreComparedByGeometry() {
+    List<Feature> queriedFeatures = new ArrayList<>();
+    for (Feature feature : buildQueriedFeatures()) {
+      queriedFeatures.add(Feature.fromGeometry(feature.geometry(), feature.properties(), "clipped-road"));
+    }
+    Feature iStreetPiece = queriedFeatures.get(1);
+    WaynameFeatureFilter filter = new WaynameFeatureFilter();
+    filter.updateStep(((LineString) iStreetPiece.geometry()).coordinates());
+
+    Feature filteredFeature = filter.filterFeatures(queriedFeatures, Point.fromLngLat(-77.0312, 38.9013355));
+
+    assertEquals(iStreetPiece, filteredFeature);
   }
 
   private List<Feature> buildQueriedFeatures() {
@@ -45,9 +96,4 @@ public class WaynameFeatureFilterTest {
     Scanner scanner = new Scanner(inputStream, UTF_8.name()).useDelimiter("\\A");
     return scanner.hasNext() ? scanner.next() : "";
   }
-
-  @NonNull
-  private WaynameFeatureFilter buildFilter() {
-    return new WaynameFeatureFilter(Collections.emptyList(), mock(Location.class), Collections.emptyList());
-  }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FeatureProcessingTaskTest {
+
+  @Test
+  public void doInBackground_congestionRunsAreMergedIntoOneFeature() {
+    List<String> congestion = Arrays.asList("low", "low", "low", "heavy", "heavy", "low");
+    DirectionsRoute route = buildRouteWith(congestion);
+    OnRouteFeaturesProcessedCallback callback = mock(OnRouteFeaturesProcessedCallback.class);
+    FeatureProcessingTask task = new FeatureProcessingTask(Collections.singletonList(route), callback);
+
+    task.doInBackground();
+    task.onPostExecute(null);
+
+    List<Feature> features = captureFeatures(callback);
+    // Route line feature plus three congestion runs
+    assertEquals(4, features.size());
+  }
+
+  @Test
+  public void doInBackground_congestionRunCoversAllSegmentPoints() {
+    List<String> congestion = Arrays.asList("low", "low", "low", "heavy", "heavy", "low");
+    DirectionsRoute route = buildRouteWith(congestion);
+    OnRouteFeaturesProcessedCallback callback = mock(OnRouteFeaturesProcessedCallback.class);
+    FeatureProcessingTask task = new FeatureProcessingTask(Collections.singletonList(route), callback);
+
+    task.doInBackground();
+    task.onPostExecute(null);
+
+    Feature firstRun = captureFeatures(callback).get(1);
+    assertEquals("low", firstRun.getStringProperty(RouteConstants.CONGESTION_KEY));
+    assertEquals(4, ((LineString) firstRun.geometry()).coordinates().size());
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<Feature> captureFeatures(OnRouteFeaturesProcessedCallback callback) {
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(callback).onRouteFeaturesProcessed(captor.capture(), any(RouteSpatialIndex.class));
+    List<FeatureCollection> collections = captor.getValue();
+    return collections.get(0).features();
+  }
+
+  private DirectionsRoute buildRouteWith(List<String> congestion) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i <= congestion.size(); i++) {
+      points.add(Point.fromLngLat(-77.03 + (i * 0.001), 38.89));
+    }
+    LegAnnotation annotation = mock(LegAnnotation.class);
+    when(annotation.congestion()).thenReturn(congestion);
+    RouteLeg leg = mock(RouteLeg.class);
+    when(leg.annotation()).thenReturn(annotation);
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(route.geometry()).thenReturn(PolylineUtils.encode(points, Constants.PRECISION_6));
+    when(route.legs()).thenReturn(Collections.singletonList(leg));
+    return route;
+  }
+}
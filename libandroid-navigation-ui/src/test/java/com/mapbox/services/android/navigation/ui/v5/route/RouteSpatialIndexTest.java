@@ -0,0 +1,70 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RouteSpatialIndexTest {
+
+  @Test
+  public void findClosestRouteIndex_emptyRoutesReturnsNoRouteFound() {
+    RouteSpatialIndex index = RouteSpatialIndex.build(Collections.<LineString>emptyList());
+
+    int routeIndex = index.findClosestRouteIndex(Point.fromLngLat(-77.03, 38.89));
+
+    assertEquals(RouteSpatialIndex.NO_ROUTE_FOUND, routeIndex);
+  }
+
+  @Test
+  public void findClosestRouteIndex_returnsIndexOfClosestRoute() {
+    List<LineString> routeLineStrings = Arrays.asList(
+      buildHorizontalLine(38.890, 100),
+      buildHorizontalLine(38.895, 100),
+      buildHorizontalLine(38.900, 100)
+    );
+    RouteSpatialIndex index = RouteSpatialIndex.build(routeLineStrings);
+
+    int routeIndex = index.findClosestRouteIndex(Point.fromLngLat(-77.02, 38.8951));
+
+    assertEquals(1, routeIndex);
+  }
+
+  @Test
+  public void findClosestRouteIndex_clickOutsideRoutesReturnsClosestRoute() {
+    List<LineString> routeLineStrings = Arrays.asList(
+      buildHorizontalLine(38.890, 100),
+      buildHorizontalLine(38.900, 100)
+    );
+    RouteSpatialIndex index = RouteSpatialIndex.build(routeLineStrings);
+
+    int routeIndex = index.findClosestRouteIndex(Point.fromLngLat(-76.5, 39.5));
+
+    assertEquals(1, routeIndex);
+  }
+
+  @Test
+  public void findClosestRouteIndex_equalRoutesAreIdentifiedByIndex() {
+    LineString lineString = buildHorizontalLine(38.890, 10);
+    RouteSpatialIndex index = RouteSpatialIndex.build(Arrays.asList(lineString, lineString));
+
+    int routeIndex = index.findClosestRouteIndex(Point.fromLngLat(-77.025, 38.891));
+
+    assertEquals(0, routeIndex);
+  }
+
+  private LineString buildHorizontalLine(double latitude, int pointCount) {
+    List<Point> points = new ArrayList<>();
+    for (int i = 0; i < pointCount; i++) {
+      points.add(Point.fromLngLat(-77.03 + (i * 0.001), latitude));
+    }
+    return LineString.fromLngLats(points);
+  }
+}
@@ -10,6 +10,7 @@ import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.ui.v5.BaseTest;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
+import com.mapbox.services.android.navigation.v5.utils.InstructionTimeline;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
 import org.junit.Test;
@@ -29,8 +30,6 @@ import static org.mockito.Mockito.when;
 
 public class InstructionListPresenterTest extends BaseTest {
 
-  private static final int FIRST = 0;
-
   @Test
   public void onBindInstructionListView_distanceTextIsUpdated() throws Exception {
     SpannableString spannableString = mock(SpannableString.class);
@@ -174,8 +173,8 @@ public class InstructionListPresenterTest extends BaseTest {
   @NonNull
   private RouteUtils buildRouteUtils(RouteProgress routeProgress) {
     RouteUtils routeUtils = mock(RouteUtils.class);
-    BannerInstructions instructions = routeProgress.currentLegProgress().currentStep().bannerInstructions().get(FIRST);
-    when(routeUtils.findCurrentBannerInstructions(any(LegStep.class), anyDouble())).thenReturn(instructions);
+    InstructionTimeline timeline = InstructionTimeline.from(routeProgress.directionsRoute());
+    when(routeUtils.buildInstructionTimeline(any(DirectionsRoute.class))).thenReturn(timeline);
     return routeUtils;
   }
 
@@ -199,6 +198,20 @@ public class InstructionListPresenterTest extends BaseTest {
     return instructions.size() - 1;
   }
 
+  @Test
+  public void updateBannerListWith_sameInstructionIsOnlyRemovedOnce() throws Exception {
+    RouteProgress routeProgress = buildRouteProgress();
+    RouteUtils routeUtils = buildRouteUtils(routeProgress);
+    InstructionListPresenter presenter = new InstructionListPresenter(routeUtils, mock(DistanceFormatter.class));
+    presenter.updateBannerListWith(routeProgress);
+    int listSize = presenter.retrieveBannerInstructionListSize();
+
+    boolean didUpdate = presenter.updateBannerListWith(routeProgress);
+
+    assertFalse(didUpdate);
+    assertEquals(listSize, presenter.retrieveBannerInstructionListSize());
+  }
+
   private void clearInstructions(RouteProgress routeProgress) {
     for (LegStep step : routeProgress.currentLeg().steps()) {
       List<BannerInstructions> instructions = step.bannerInstructions();
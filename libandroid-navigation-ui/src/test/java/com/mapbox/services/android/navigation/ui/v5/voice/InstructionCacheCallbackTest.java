@@ -8,14 +8,17 @@ import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Response;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 
 public class InstructionCacheCallbackTest {
 
+  private static final String INSTRUCTION = "<speak>Turn left</speak>";
+
   @Test
   public void onResponse_cachedUrlIsAdded() {
     VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
@@ -24,11 +27,11 @@ public class InstructionCacheCallbackTest {
     when(response.body()).thenReturn(body);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, INSTRUCTION);
 
     callback.onResponse(call, response);
 
-    verify(loader).addCachedUrl(eq(url));
+    verify(loader).addCachedUrl(eq(INSTRUCTION), eq(url));
   }
 
   @Test
@@ -39,7 +42,7 @@ public class InstructionCacheCallbackTest {
     when(response.body()).thenReturn(body);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, INSTRUCTION);
 
     callback.onResponse(call, response);
 
@@ -47,16 +50,27 @@ public class InstructionCacheCallbackTest {
   }
 
   @Test
-  public void onResponse_nullBodyIsIgnored() {
+  public void onResponse_nullBodyIsReportedAsFailure() {
     VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
     Response<ResponseBody> response = mock(Response.class);
     String url = "http://some.url";
     Call call = buildMockCall(url);
-    InstructionCacheCallback callback = new InstructionCacheCallback(loader);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, INSTRUCTION);
 
     callback.onResponse(call, response);
 
-    verifyZeroInteractions(loader);
+    verify(loader, never()).addCachedUrl(anyString(), anyString());
+    verify(loader).onInstructionCacheFailed(eq(INSTRUCTION));
+  }
+
+  @Test
+  public void onFailure_failureIsReported() {
+    VoiceInstructionLoader loader = mock(VoiceInstructionLoader.class);
+    InstructionCacheCallback callback = new InstructionCacheCallback(loader, INSTRUCTION);
+
+    callback.onFailure(buildMockCall("http://some.url"), new Throwable());
+
+    verify(loader).onInstructionCacheFailed(eq(INSTRUCTION));
   }
 
   private Call buildMockCall(String stringUrl) {
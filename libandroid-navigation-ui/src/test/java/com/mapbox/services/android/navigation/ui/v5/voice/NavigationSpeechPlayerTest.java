@@ -71,6 +71,17 @@ public class NavigationSpeechPlayerTest {
     verify(provider).onOffRoute();
   }
 
+  @Test
+  public void addSpeechTimingListener_providerIsGivenListener() {
+    SpeechPlayerProvider provider = mock(SpeechPlayerProvider.class);
+    NavigationSpeechPlayer navigationSpeechPlayer = new NavigationSpeechPlayer(provider);
+    SpeechTimingListener listener = mock(SpeechTimingListener.class);
+
+    navigationSpeechPlayer.addSpeechTimingListener(listener);
+
+    verify(provider).addSpeechTimingListener(listener);
+  }
+
   private NavigationSpeechPlayer buildNavigationSpeechPlayer(SpeechPlayer speechPlayer) {
     SpeechPlayerProvider provider = mock(SpeechPlayerProvider.class);
     when(provider.retrieveSpeechPlayer()).thenReturn(speechPlayer);
@@ -0,0 +1,92 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class StreamingVoiceSourceTest {
+
+  private static final MediaType AUDIO_MPEG = MediaType.parse("audio/mpeg");
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void stream_bytesAreReadableAndWrittenToFile() throws Exception {
+    byte[] audio = buildAudio(10000);
+    File downloadFile = temporaryFolder.newFile();
+    StreamingVoiceSource.StreamListener listener = mock(StreamingVoiceSource.StreamListener.class);
+    StreamingVoiceSource source = new StreamingVoiceSource(ResponseBody.create(AUDIO_MPEG, audio), downloadFile,
+      listener);
+
+    source.stream();
+
+    byte[] read = new byte[100];
+    assertEquals(100, source.readAt(9900, read, 0, 100));
+    assertEquals(audio[9999], read[99]);
+    assertEquals(audio.length, source.getSize());
+    assertEquals(audio.length, downloadFile.length());
+    verify(listener).onStreamFinished(downloadFile);
+  }
+
+  @Test
+  public void readAt_endOfStreamIsReturnedPastTheLastByte() throws Exception {
+    byte[] audio = buildAudio(10);
+    StreamingVoiceSource source = new StreamingVoiceSource(ResponseBody.create(AUDIO_MPEG, audio),
+      temporaryFolder.newFile(), mock(StreamingVoiceSource.StreamListener.class));
+    source.stream();
+
+    int count = source.readAt(10, new byte[10], 0, 10);
+
+    assertEquals(-1, count);
+  }
+
+  @Test
+  public void readAt_waitsForBytesStillStreaming() throws Exception {
+    byte[] audio = buildAudio(10);
+    final StreamingVoiceSource source = new StreamingVoiceSource(ResponseBody.create(AUDIO_MPEG, audio),
+      temporaryFolder.newFile(), mock(StreamingVoiceSource.StreamListener.class));
+    Thread streamingThread = new Thread(new Runnable() {
+      @Override
+      public void run() {
+        source.stream();
+      }
+    });
+    byte[] read = new byte[10];
+
+    streamingThread.start();
+    int count = source.readAt(0, read, 0, 10);
+    streamingThread.join();
+
+    assertFalse(count <= 0);
+    assertEquals(audio[0], read[0]);
+  }
+
+  @Test
+  public void close_readsReturnEndOfStream() throws Exception {
+    StreamingVoiceSource source = new StreamingVoiceSource(ResponseBody.create(AUDIO_MPEG, buildAudio(10)),
+      temporaryFolder.newFile(), mock(StreamingVoiceSource.StreamListener.class));
+
+    source.close();
+
+    assertEquals(-1, source.readAt(0, new byte[10], 0, 10));
+  }
+
+  private byte[] buildAudio(int size) {
+    byte[] audio = new byte[size];
+    for (int i = 0; i < size; i++) {
+      audio[i] = (byte) i;
+    }
+    return audio;
+  }
+}
@@ -0,0 +1,110 @@
+package com.mapbox.services.android.navigation.ui.v5.voice;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class VoiceInstructionDiskCacheTest {
+
+  private static final long MAX_SIZE_IN_BYTES = 100;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void buildKey_differentLanguagesHaveDifferentKeys() {
+    String englishKey = VoiceInstructionDiskCache.buildKey("Turn left", "text", "en");
+    String germanKey = VoiceInstructionDiskCache.buildKey("Turn left", "text", "de");
+
+    assertFalse(englishKey.equals(germanKey));
+    assertEquals(englishKey, VoiceInstructionDiskCache.buildKey("Turn left", "text", "en"));
+  }
+
+  @Test
+  public void put_fileIsRetrievedWithItsKey() throws Exception {
+    VoiceInstructionDiskCache cache = buildCache();
+    String key = VoiceInstructionDiskCache.buildKey("Turn left", "text", "en");
+
+    File cachedFile = cache.put(key, download(cache, 10));
+
+    assertEquals(cachedFile, cache.retrieve(key));
+    assertTrue(cachedFile.exists());
+  }
+
+  @Test
+  public void retrieve_hitsAndMissesAreCounted() throws Exception {
+    VoiceInstructionDiskCache cache = buildCache();
+    cache.put("cached", download(cache, 10));
+
+    cache.retrieve("cached");
+    assertNull(cache.retrieve("not_cached"));
+
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(0.5f, cache.hitRate());
+  }
+
+  @Test
+  public void put_leastRecentlyUsedFileIsEvictedOverMaxSize() throws Exception {
+    VoiceInstructionDiskCache cache = buildCache();
+    File first = cache.put("first", download(cache, 40));
+    cache.put("second", download(cache, 40));
+    cache.retrieve("first");
+
+    cache.put("third", download(cache, 40));
+
+    assertTrue(cache.contains("first"));
+    assertFalse(cache.contains("second"));
+    assertTrue(cache.contains("third"));
+    assertTrue(first.exists());
+  }
+
+  @Test
+  public void put_newestFileIsKeptEvenIfOverMaxSize() throws Exception {
+    VoiceInstructionDiskCache cache = buildCache();
+    cache.put("small", download(cache, 10));
+
+    cache.put("big", download(cache, MAX_SIZE_IN_BYTES * 2));
+
+    assertFalse(cache.contains("small"));
+    assertTrue(cache.contains("big"));
+  }
+
+  @Test
+  public void newInstance_filesFromPreviousRunAreCached() throws Exception {
+    VoiceInstructionDiskCache previousCache = buildCache();
+    previousCache.put("cached", download(previousCache, 10));
+    File interruptedDownload = download(previousCache, 10);
+
+    VoiceInstructionDiskCache cache = new VoiceInstructionDiskCache(previousCache.retrieveDirectory(),
+      MAX_SIZE_IN_BYTES);
+
+    assertNotNull(cache.retrieve("cached"));
+    assertFalse(interruptedDownload.exists());
+  }
+
+  private VoiceInstructionDiskCache buildCache() {
+    return new VoiceInstructionDiskCache(new File(temporaryFolder.getRoot(), "voice"), MAX_SIZE_IN_BYTES);
+  }
+
+  private File download(VoiceInstructionDiskCache cache, long sizeInBytes) throws IOException {
+    File file = File.createTempFile("download_", ".tmp", cache.retrieveDirectory());
+    FileOutputStream outputStream = new FileOutputStream(file);
+    try {
+      outputStream.write(new byte[(int) sizeInBytes]);
+    } finally {
+      outputStream.close();
+    }
+    return file;
+  }
+}
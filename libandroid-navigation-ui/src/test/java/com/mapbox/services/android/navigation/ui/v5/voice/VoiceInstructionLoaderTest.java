@@ -7,9 +7,12 @@ import com.mapbox.services.android.navigation.ui.v5.BaseTest;
 
 import org.junit.Test;
 
+import java.io.File;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import okhttp3.Cache;
 import retrofit2.Callback;
@@ -18,30 +21,13 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class VoiceInstructionLoaderTest extends BaseTest {
 
-  @Test
-  public void checksEvictFourInstructions() throws Exception {
-    Context anyContext = mock(Context.class);
-    Cache aCache = mock(Cache.class);
-    List<String> urlsToBeCached = buildUrlsToCache();
-    urlsToBeCached.remove(4);
-    Iterator<String> urlsCached = urlsToBeCached.iterator();
-    when(aCache.urls()).thenReturn(urlsCached);
-    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
-      aCache);
-    List<String> urlsToCache = buildUrlsToCache();
-    theVoiceInstructionLoader.addStubUrlsToCache(urlsToCache);
-
-    List<String> urlsEvicted = theVoiceInstructionLoader.evictVoiceInstructions();
-
-    assertEquals(4, urlsEvicted.size());
-  }
-
   @Test
   public void checksRequestEnqueuedIfCacheIsNotClosedAndMapboxSpeechBuilderIsNotNull() {
     Context anyContext = mock(Context.class);
@@ -53,7 +39,8 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     MapboxSpeech aSpeech = mock(MapboxSpeech.class);
     when(aSpeechBuilder.build()).thenReturn(aSpeech);
     VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
-      anyCache, aSpeechBuilder);
+      anyCache, aSpeechBuilder, mock(VoiceInstructionDiskCache.class),
+      buildDirectExecutor());
     Callback aCallback = mock(Callback.class);
 
     theVoiceInstructionLoader.requestInstruction("anyInstruction", "anyType", aCallback);
@@ -69,7 +56,8 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     MapboxSpeech.Builder anySpeechBuilder = mock(MapboxSpeech.Builder.class);
     MapboxSpeech aSpeech = mock(MapboxSpeech.class);
     VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
-      anyCache, anySpeechBuilder);
+      anyCache, anySpeechBuilder, mock(VoiceInstructionDiskCache.class),
+      buildDirectExecutor());
     Callback aCallback = mock(Callback.class);
 
     theVoiceInstructionLoader.requestInstruction("anyInstruction", "anyType", aCallback);
@@ -85,7 +73,8 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     MapboxSpeech.Builder nullSpeechBuilder = null;
     MapboxSpeech aSpeech = mock(MapboxSpeech.class);
     VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(anyContext, "any_access_token",
-      anyCache, nullSpeechBuilder);
+      anyCache, nullSpeechBuilder, mock(VoiceInstructionDiskCache.class),
+      buildDirectExecutor());
     Callback aCallback = mock(Callback.class);
 
     theVoiceInstructionLoader.requestInstruction("anyInstruction", "anyType", aCallback);
@@ -93,6 +82,118 @@ public class VoiceInstructionLoaderTest extends BaseTest {
     verify(aSpeech, times(0)).enqueueCall(eq(aCallback));
   }
 
+  @Test
+  public void cacheInstructions_requestsAreBoundedAndDeduplicated() {
+    Cache aCache = mock(Cache.class);
+    MapboxSpeech.Builder aSpeechBuilder = buildSpeechBuilder();
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(mock(Context.class),
+      "any_access_token", aCache, aSpeechBuilder, mock(VoiceInstructionDiskCache.class),
+      buildDirectExecutor());
+    List<String> instructions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      instructions.add("instruction " + i);
+    }
+
+    theVoiceInstructionLoader.cacheInstructions(instructions);
+    theVoiceInstructionLoader.cacheInstructions(instructions);
+
+    verify(aSpeechBuilder, times(3)).instruction(anyString());
+  }
+
+  @Test
+  public void addCachedUrl_nextPendingInstructionIsRequested() {
+    Cache aCache = mock(Cache.class);
+    MapboxSpeech.Builder aSpeechBuilder = buildSpeechBuilder();
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(mock(Context.class),
+      "any_access_token", aCache, aSpeechBuilder, mock(VoiceInstructionDiskCache.class),
+      buildDirectExecutor());
+    List<String> instructions = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      instructions.add("instruction " + i);
+    }
+    theVoiceInstructionLoader.cacheInstructions(instructions);
+
+    theVoiceInstructionLoader.addCachedUrl("instruction 0", "http://some.url");
+
+    verify(aSpeechBuilder).instruction(eq("instruction 3"));
+  }
+
+  @Test
+  public void evictInstructions_onlyGivenInstructionsAreEvicted() throws Exception {
+    Cache aCache = mock(Cache.class);
+    List<String> urls = buildUrlsToCache();
+    when(aCache.urls()).thenReturn(new ArrayList<>(urls).iterator());
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(mock(Context.class),
+      "any_access_token", aCache, buildSpeechBuilder(), mock(VoiceInstructionDiskCache.class),
+      buildDirectExecutor());
+    theVoiceInstructionLoader.cacheInstructions(Arrays.asList("first", "second"));
+    theVoiceInstructionLoader.addCachedUrl("first", urls.get(0));
+    theVoiceInstructionLoader.addCachedUrl("second", urls.get(1));
+
+    List<String> urlsEvicted = theVoiceInstructionLoader.evictInstructions(Collections.singletonList("second"));
+
+    assertEquals(Collections.singletonList(urls.get(1)), urlsEvicted);
+  }
+
+  @Test
+  public void cacheInstructions_instructionsOnDiskAreNotRequested() {
+    MapboxSpeech.Builder aSpeechBuilder = buildSpeechBuilder();
+    VoiceInstructionDiskCache aDiskCache = mock(VoiceInstructionDiskCache.class);
+    String cachedKey = VoiceInstructionDiskCache.buildKey("cached", "ssml", null);
+    when(aDiskCache.contains(eq(cachedKey))).thenReturn(true);
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(mock(Context.class),
+      "any_access_token", mock(Cache.class), aSpeechBuilder, aDiskCache, buildDirectExecutor());
+
+    theVoiceInstructionLoader.cacheInstructions(Arrays.asList("cached", "not cached"));
+
+    verify(aSpeechBuilder, never()).instruction(eq("cached"));
+    verify(aSpeechBuilder).instruction(eq("not cached"));
+  }
+
+  @Test
+  public void retrieveCachedInstruction_lookupRunsOnDiskExecutor() {
+    VoiceInstructionDiskCache aDiskCache = mock(VoiceInstructionDiskCache.class);
+    File cachedFile = new File("cached.mp3");
+    when(aDiskCache.retrieve(eq(VoiceInstructionDiskCache.buildKey("cached", "ssml", null)))).thenReturn(cachedFile);
+    List<Runnable> diskTasks = new ArrayList<>();
+    VoiceInstructionLoader theVoiceInstructionLoader = new VoiceInstructionLoader(mock(Context.class),
+      "any_access_token", mock(Cache.class), buildSpeechBuilder(), aDiskCache, buildQueueExecutor(diskTasks));
+    VoiceInstructionLoader.CachedInstructionListener aListener =
+      mock(VoiceInstructionLoader.CachedInstructionListener.class);
+
+    theVoiceInstructionLoader.retrieveCachedInstruction("cached", "ssml", aListener);
+
+    verify(aDiskCache, never()).retrieve(anyString());
+    diskTasks.get(0).run();
+    verify(aListener).onCachedInstructionRetrieved(eq(cachedFile));
+  }
+
+  private Executor buildDirectExecutor() {
+    return new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    };
+  }
+
+  private Executor buildQueueExecutor(final List<Runnable> tasks) {
+    return new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        tasks.add(command);
+      }
+    };
+  }
+
+  private MapboxSpeech.Builder buildSpeechBuilder() {
+    MapboxSpeech.Builder aSpeechBuilder = mock(MapboxSpeech.Builder.class);
+    when(aSpeechBuilder.instruction(anyString())).thenReturn(aSpeechBuilder);
+    when(aSpeechBuilder.textType(anyString())).thenReturn(aSpeechBuilder);
+    when(aSpeechBuilder.build()).thenReturn(mock(MapboxSpeech.class));
+    return aSpeechBuilder;
+  }
+
   private List<String> buildUrlsToCache() {
     List<String> urlsCached = new ArrayList<>();
     urlsCached.add("https://api.mapbox.com/voice/v1/speak/%3Cspeak%3E%3Camazon:effect%20name=%22drc%22%3E%3Cprosody" +
@@ -4,8 +4,8 @@ import android.location.Location;
 import android.os.Handler;
 import android.support.annotation.NonNull;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 class ReplayLocationDispatcher implements Runnable {
@@ -13,14 +13,18 @@ class ReplayLocationDispatcher implements Runnable {
   private static final String NON_NULL_AND_NON_EMPTY_LOCATION_LIST_REQUIRED = "Non-null and non-empty location list "
     + "required.";
   private static final int HEAD = 0;
+  private static final int DO_NOT_DELAY = 0;
+  private static final int MIN_DISPATCHED_LOCATIONS_TO_COMPACT = 64;
   private List<Location> locationsToReplay;
+  private int nextLocationIndex;
   private Location current;
+  private boolean isTimeWarpEnabled;
   private Handler handler;
   private CopyOnWriteArraySet<ReplayLocationListener> replayLocationListeners;
 
   ReplayLocationDispatcher(@NonNull List<Location> locationsToReplay) {
     checkValidInput(locationsToReplay);
-    this.locationsToReplay = new CopyOnWriteArrayList<>(locationsToReplay);
+    this.locationsToReplay = new ArrayList<>(locationsToReplay);
     initialize();
     this.replayLocationListeners = new CopyOnWriteArraySet<>();
     this.handler = new Handler();
@@ -52,12 +56,12 @@ class ReplayLocationDispatcher implements Runnable {
 
   void update(@NonNull List<Location> locationsToReplay) {
     checkValidInput(locationsToReplay);
-    this.locationsToReplay = new CopyOnWriteArrayList<>(locationsToReplay);
+    this.locationsToReplay = new ArrayList<>(locationsToReplay);
     initialize();
   }
 
   void add(@NonNull List<Location> toReplay) {
-    boolean shouldRedispatch = locationsToReplay.isEmpty();
+    boolean shouldRedispatch = !hasNextLocation();
     addLocations(toReplay);
     if (shouldRedispatch) {
       stopDispatching();
@@ -65,6 +69,16 @@ class ReplayLocationDispatcher implements Runnable {
     }
   }
 
+  /**
+   * When enabled, the next location is dispatched as soon as the previous one has been handled,
+   * ignoring the time between the two locations. Location times are left untouched.
+   *
+   * @param isTimeWarpEnabled true to dispatch without waiting between locations
+   */
+  void updateTimeWarp(boolean isTimeWarpEnabled) {
+    this.isTimeWarpEnabled = isTimeWarpEnabled;
+  }
+
   void addReplayLocationListener(ReplayLocationListener listener) {
     replayLocationListeners.add(listener);
   }
@@ -81,7 +95,32 @@ class ReplayLocationDispatcher implements Runnable {
   }
 
   private void initialize() {
-    current = locationsToReplay.remove(HEAD);
+    nextLocationIndex = HEAD;
+    current = nextLocation();
+  }
+
+  private boolean hasNextLocation() {
+    return nextLocationIndex < locationsToReplay.size();
+  }
+
+  private Location nextLocation() {
+    Location location = locationsToReplay.get(nextLocationIndex);
+    nextLocationIndex++;
+    compactDispatchedLocations();
+    return location;
+  }
+
+  /**
+   * Dispatched locations are skipped with a cursor rather than removed one by one. They are dropped
+   * in bulk once they make up half of the list, so removal stays amortized constant time.
+   */
+  private void compactDispatchedLocations() {
+    boolean shouldCompact = nextLocationIndex >= MIN_DISPATCHED_LOCATIONS_TO_COMPACT
+      && nextLocationIndex * 2 >= locationsToReplay.size();
+    if (shouldCompact) {
+      locationsToReplay.subList(HEAD, nextLocationIndex).clear();
+      nextLocationIndex = HEAD;
+    }
   }
 
   private void addLocations(List<Location> toReplay) {
@@ -95,19 +134,20 @@ class ReplayLocationDispatcher implements Runnable {
   }
 
   private void scheduleNextDispatch() {
-    if (locationsToReplay.isEmpty()) {
+    if (!hasNextLocation()) {
       stopDispatching();
       return;
     }
     long currentTime = current.getTime();
-    current = locationsToReplay.remove(HEAD);
+    current = nextLocation();
     long nextTime = current.getTime();
-    long diff = nextTime - currentTime;
+    long diff = isTimeWarpEnabled ? DO_NOT_DELAY : nextTime - currentTime;
     handler.postDelayed(this, diff);
   }
 
   private void clearLocations() {
     locationsToReplay.clear();
+    nextLocationIndex = HEAD;
   }
 
   private void stopDispatching() {
@@ -18,6 +18,7 @@ class ReplayRouteLocationConverter {
   private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
   private static final double ONE_KM_IN_METERS = 1000d;
   private static final int ONE_HOUR_IN_SECONDS = 3600;
+  private static final int FIRST_COORDINATE = 0;
   private static final String REPLAY_ROUTE = "com.mapbox.services.android.navigation.v5.location.replay"
     + ".ReplayRouteLocationEngine";
   private DirectionsRoute route;
@@ -61,42 +62,75 @@ class ReplayRouteLocationConverter {
 
   /**
    * Interpolates the route into even points along the route and adds these to the points list.
+   * <p>
+   * The geometry is walked once with a cursor, so this is linear in the number of coordinates
+   * plus the number of sliced points, rather than measuring from the start of the line for each point.
    *
    * @param lineString our route geometry.
    * @return list of sliced {@link Point}s.
    */
   List<Point> sliceRoute(LineString lineString) {
-    double distanceMeters = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS);
+    List<Point> coordinates = lineString.coordinates();
+    double[] traveledDistances = calculateTraveledDistances(coordinates);
+    double distanceMeters = traveledDistances.length == 0 ? 0 : traveledDistances[traveledDistances.length - 1];
     if (distanceMeters <= 0) {
       return Collections.emptyList();
     }
 
     List<Point> points = new ArrayList<>();
+    int cursor = FIRST_COORDINATE;
     for (double i = 0; i < distanceMeters; i += distance) {
-      Point point = TurfMeasurement.along(lineString, i, TurfConstants.UNIT_METERS);
-      points.add(point);
+      while (cursor < coordinates.size() - 1 && traveledDistances[cursor] < i) {
+        cursor++;
+      }
+      points.add(interpolate(coordinates, traveledDistances, cursor, i));
     }
     return points;
   }
 
   List<Location> calculateMockLocations(List<Point> points) {
-    List<Point> pointsToCopy = new ArrayList<>(points);
-    List<Location> mockedLocations = new ArrayList<>();
-    for (Point point : points) {
-      Location mockedLocation = createMockLocationFrom(point);
+    List<Location> mockedLocations = new ArrayList<>(points.size());
+    for (int i = 0; i < points.size(); i++) {
+      Location mockedLocation = createMockLocationFrom(points.get(i));
 
-      if (pointsToCopy.size() >= 2) {
-        double bearing = TurfMeasurement.bearing(point, pointsToCopy.get(1));
+      if (i + 1 < points.size()) {
+        double bearing = TurfMeasurement.bearing(points.get(i), points.get(i + 1));
         mockedLocation.setBearing((float) bearing);
       }
       time += delay * ONE_SECOND_IN_MILLISECONDS;
       mockedLocations.add(mockedLocation);
-      pointsToCopy.remove(point);
     }
 
     return mockedLocations;
   }
 
+  private double[] calculateTraveledDistances(List<Point> coordinates) {
+    double[] traveledDistances = new double[coordinates.size()];
+    for (int i = 1; i < coordinates.size(); i++) {
+      traveledDistances[i] = traveledDistances[i - 1]
+        + TurfMeasurement.distance(coordinates.get(i - 1), coordinates.get(i), TurfConstants.UNIT_METERS);
+    }
+    return traveledDistances;
+  }
+
+  /**
+   * Same placement as {@link TurfMeasurement#along(LineString, double, String)}: the first coordinate
+   * at or beyond the target distance is moved back along its incoming segment by the overshoot.
+   */
+  private Point interpolate(List<Point> coordinates, double[] traveledDistances, int cursor, double target) {
+    double traveled = traveledDistances[cursor];
+    if (traveled < target) {
+      return coordinates.get(cursor);
+    }
+    double overshot = target - traveled;
+    if (overshot == 0) {
+      return coordinates.get(cursor);
+    }
+    Point coordinate = coordinates.get(cursor);
+    double direction = TurfMeasurement.bearing(coordinate, coordinates.get(cursor - 1)) - 180;
+    return TurfMeasurement.destination(coordinate, overshot, direction, TurfConstants.UNIT_METERS);
+  }
+
   private void update(DirectionsRoute route) {
     this.route = route;
   }
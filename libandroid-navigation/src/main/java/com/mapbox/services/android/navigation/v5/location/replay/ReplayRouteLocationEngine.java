@@ -23,7 +23,6 @@ import timber.log.Timber;
 
 public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
 
-  private static final int HEAD = 0;
   private static final int MOCKED_POINTS_LEFT_THRESHOLD = 5;
   private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
   private static final int FORTY_FIVE_KM_PER_HOUR = 45;
@@ -40,7 +39,8 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
   private int speed = DEFAULT_SPEED;
   private int delay = DEFAULT_DELAY;
   private Handler handler;
-  private List<Location> mockedLocations;
+  private int mockedLocationsLeft;
+  private boolean isTimeWarpEnabled;
   private ReplayLocationDispatcher dispatcher;
   private ReplayRouteLocationListener replayLocationListener;
   private Location lastLocation = null;
@@ -81,6 +81,19 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     this.delay = customDelayInSeconds;
   }
 
+  /**
+   * Replays the route as fast as the location consumer handles each update instead of in real time,
+   * which lets a long drive be replayed in seconds (for example in tests). Replayed locations keep
+   * their simulated timestamps.
+   * <p>
+   * Takes effect the next time location updates are requested.
+   *
+   * @param isTimeWarpEnabled true to dispatch locations without waiting between them
+   */
+  public void updateTimeWarp(boolean isTimeWarpEnabled) {
+    this.isTimeWarpEnabled = isTimeWarpEnabled;
+  }
+
   @Override
   public void run() {
     List<Location> nextMockedLocations = converter.toLocations();
@@ -93,7 +106,7 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
       }
     }
     dispatcher.add(nextMockedLocations);
-    mockedLocations.addAll(nextMockedLocations);
+    mockedLocationsLeft += nextMockedLocations.size();
     scheduleNextDispatch();
   }
 
@@ -134,8 +147,12 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
   }
 
   void removeLastMockedLocation() {
-    if (!mockedLocations.isEmpty()) {
-      mockedLocations.remove(HEAD);
+    if (mockedLocationsLeft > ZERO) {
+      mockedLocationsLeft--;
+    }
+    if (isTimeWarpEnabled && mockedLocationsLeft == MOCKED_POINTS_LEFT_THRESHOLD) {
+      handler.removeCallbacks(this);
+      handler.postDelayed(this, DO_NOT_DELAY);
     }
   }
 
@@ -150,18 +167,21 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     handler.removeCallbacks(this);
     converter = new ReplayRouteLocationConverter(route, speed, delay);
     converter.initializeTime();
-    mockedLocations = converter.toLocations();
-    dispatcher = obtainDispatcher(callback);
+    List<Location> mockedLocations = converter.toLocations();
+    mockedLocationsLeft = mockedLocations.size();
+    dispatcher = obtainDispatcher(mockedLocations, callback);
     dispatcher.run();
     scheduleNextDispatch();
   }
 
-  private ReplayLocationDispatcher obtainDispatcher(LocationEngineCallback<LocationEngineResult> callback) {
+  private ReplayLocationDispatcher obtainDispatcher(List<Location> mockedLocations,
+                                                    LocationEngineCallback<LocationEngineResult> callback) {
     if (dispatcher != null && replayLocationListener != null) {
       dispatcher.stop();
       dispatcher.removeReplayLocationListener(replayLocationListener);
     }
     dispatcher = new ReplayLocationDispatcher(mockedLocations);
+    dispatcher.updateTimeWarp(isTimeWarpEnabled);
     replayLocationListener = new ReplayRouteLocationListener(this, callback);
     dispatcher.addReplayLocationListener(replayLocationListener);
 
@@ -174,8 +194,9 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     converter.updateDelay(delay);
     converter.initializeTime();
     LineString route = obtainRoute(point, lastLocation);
-    mockedLocations = converter.calculateMockLocations(converter.sliceRoute(route));
-    dispatcher = obtainDispatcher(callback);
+    List<Location> mockedLocations = converter.calculateMockLocations(converter.sliceRoute(route));
+    mockedLocationsLeft = mockedLocations.size();
+    dispatcher = obtainDispatcher(mockedLocations, callback);
     dispatcher.run();
   }
 
@@ -188,8 +209,10 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
   }
 
   private void scheduleNextDispatch() {
-    int currentMockedPoints = mockedLocations.size();
-    if (currentMockedPoints == ZERO) {
+    int currentMockedPoints = mockedLocationsLeft;
+    if (isTimeWarpEnabled) {
+      scheduleTimeWarpDispatch(currentMockedPoints);
+    } else if (currentMockedPoints == ZERO) {
       handler.postDelayed(this, DO_NOT_DELAY);
     } else if (currentMockedPoints <= MOCKED_POINTS_LEFT_THRESHOLD) {
       handler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
@@ -198,6 +221,16 @@ public class ReplayRouteLocationEngine implements LocationEngine, Runnable {
     }
   }
 
+  /**
+   * With time warp the next step is converted once the dispatcher gets down to the threshold,
+   * see {@link #removeLastMockedLocation()}, rather than after a wall-clock delay.
+   */
+  private void scheduleTimeWarpDispatch(int currentMockedPoints) {
+    if (currentMockedPoints <= MOCKED_POINTS_LEFT_THRESHOLD) {
+      handler.postDelayed(this, DO_NOT_DELAY);
+    }
+  }
+
   private void beginReplayWith(@NonNull LocationEngineCallback<LocationEngineResult> callback) {
     if (route != null) {
       start(route, callback);
@@ -0,0 +1,51 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.google.gson.GsonBuilder;
+
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.List;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * Reads recorded location traces, for example to run through a
+ * {@link com.mapbox.services.android.navigation.v5.navigation.NavigationSimulator}.
+ */
+public final class ReplayTraceReader {
+
+  private ReplayTraceReader() {
+    // Utility class
+  }
+
+  /**
+   * Reads the track points of a GPX trace.
+   *
+   * @param inputStream of the GPX document
+   * @return locations of the trace, or null if the document has no track points
+   */
+  @Nullable
+  public static List<Location> fromGpx(@NonNull InputStream inputStream) throws ParserConfigurationException,
+    SAXException, IOException, ParseException {
+    return new GpxParser().parseGpx(inputStream);
+  }
+
+  /**
+   * Reads the locations of a JSON trace, an object with a {@code locations} array of recorded fixes.
+   *
+   * @param json of the trace
+   * @return locations of the trace
+   */
+  @NonNull
+  public static List<Location> fromJson(@NonNull String json) {
+    ReplayJsonRouteDto route = new GsonBuilder().create().fromJson(json, ReplayJsonRouteDto.class);
+    return new ReplayJsonRouteLocationMapper(route.getLocations()).toLocations();
+  }
+}
@@ -55,6 +55,22 @@ public abstract class Milestone {
   public abstract boolean isOccurring(RouteProgress previousRouteProgress,
                                       RouteProgress routeProgress);
 
+  /**
+   * Same as {@link #isOccurring(RouteProgress, RouteProgress)}, with the {@link TriggerProperty}
+   * values already resolved in a {@link TriggerContext} shared by all milestones for this update.
+   * <p>
+   * Milestones that don't evaluate triggers can ignore the context, which is the default behavior.
+   *
+   * @param previousRouteProgress last locations generated {@link RouteProgress} object
+   * @param routeProgress         current {@link RouteProgress}
+   * @param triggerContext        updated with the two given progress objects
+   * @return true if the milestone trigger's valid, else false
+   */
+  public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress,
+                             TriggerContext triggerContext) {
+    return isOccurring(previousRouteProgress, routeProgress);
+  }
+
   /**
    * Build a new {@link Milestone}
    *
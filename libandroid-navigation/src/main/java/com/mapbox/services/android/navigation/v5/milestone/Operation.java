@@ -77,4 +77,74 @@ class Operation {
     return valueOne[0].doubleValue() <= valueTwo.doubleValue();
   }
 
+  /*
+   * Primitive variants reading from a TriggerContext, the compared value and whether it is
+   * TriggerProperty.TRUE are resolved once when the statement is created.
+   */
+
+  static boolean greaterThan(TriggerContext context, int key, double value, boolean isTrue) {
+    if (context.isPair(key)) {
+      if (isTrue) {
+        return context.first(key) > context.second(key);
+      } else {
+        return context.first(key) <= context.second(key);
+      }
+    }
+    return context.first(key) > value;
+  }
+
+  static boolean lessThan(TriggerContext context, int key, double value, boolean isTrue) {
+    if (context.isPair(key)) {
+      if (isTrue) {
+        return context.first(key) < context.second(key);
+      } else {
+        return context.first(key) >= context.second(key);
+      }
+    }
+    return context.first(key) < value;
+  }
+
+  static boolean notEqual(TriggerContext context, int key, double value, boolean isTrue) {
+    if (context.isPair(key)) {
+      if (isTrue) {
+        return context.first(key) != context.second(key);
+      } else {
+        return context.first(key) == context.second(key);
+      }
+    }
+    return context.first(key) != value;
+  }
+
+  static boolean equal(TriggerContext context, int key, double value, boolean isTrue) {
+    if (context.isPair(key)) {
+      if (isTrue) {
+        return context.first(key) == context.second(key);
+      } else {
+        return context.first(key) != context.second(key);
+      }
+    }
+    return context.first(key) == value;
+  }
+
+  static boolean greaterThanEqual(TriggerContext context, int key, double value, boolean isTrue) {
+    if (context.isPair(key)) {
+      if (isTrue) {
+        return context.first(key) >= context.second(key);
+      } else {
+        return context.first(key) < context.second(key);
+      }
+    }
+    return context.first(key) >= value;
+  }
+
+  static boolean lessThanEqual(TriggerContext context, int key, double value, boolean isTrue) {
+    if (context.isPair(key)) {
+      if (isTrue) {
+        return context.first(key) <= context.second(key);
+      } else {
+        return context.first(key) > context.second(key);
+      }
+    }
+    return context.first(key) <= value;
+  }
 }
@@ -11,6 +11,7 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
  */
 public class RouteMilestone extends Milestone {
 
+  private final TriggerContext triggerContext = new TriggerContext();
   private Builder builder;
   private boolean called;
 
@@ -21,9 +22,14 @@ public class RouteMilestone extends Milestone {
 
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    triggerContext.update(previousRouteProgress, routeProgress);
+    return isOccurring(previousRouteProgress, routeProgress, triggerContext);
+  }
 
-    if (builder.getTrigger().isOccurring(
-      TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)) && !called) {
+  @Override
+  public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress,
+                             TriggerContext triggerContext) {
+    if (builder.getTrigger().isOccurring(triggerContext) && !called) {
       called = true;
       return true;
     }
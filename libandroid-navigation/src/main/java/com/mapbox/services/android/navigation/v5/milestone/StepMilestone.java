@@ -12,6 +12,7 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
  */
 public class StepMilestone extends Milestone {
 
+  private final TriggerContext triggerContext = new TriggerContext();
   private Builder builder;
   private boolean called;
 
@@ -22,7 +23,13 @@ public class StepMilestone extends Milestone {
 
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    triggerContext.update(previousRouteProgress, routeProgress);
+    return isOccurring(previousRouteProgress, routeProgress, triggerContext);
+  }
 
+  @Override
+  public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress,
+                             TriggerContext triggerContext) {
     // Determine if the step index has changed and set called accordingly. This prevents multiple calls to
     // onMilestoneEvent per Step.
     if (previousRouteProgress.currentLegProgress().stepIndex()
@@ -33,8 +40,7 @@ public class StepMilestone extends Milestone {
     if (called) {
       return false;
     }
-    if (builder.getTrigger().isOccurring(
-      TriggerProperty.getSparseArray(previousRouteProgress, routeProgress))) {
+    if (builder.getTrigger().isOccurring(triggerContext)) {
       called = true;
       return true;
     }
@@ -34,6 +34,20 @@ public class Trigger {
      * @since 0.4.0
      */
     public abstract boolean isOccurring(SparseArray<Number[]> statementObjects);
+
+    /**
+     * Validates whether the statement meets the specified trigger criteria, reading the values
+     * from a shared {@link TriggerContext} without boxing.
+     * <p>
+     * The statements created by {@link Trigger} read the context directly. Statements created
+     * outside the SDK fall back to {@link #isOccurring(SparseArray)}.
+     *
+     * @param context holding the current {@link TriggerProperty} values
+     * @return true if the statement is valid, otherwise false
+     */
+    public boolean isOccurring(TriggerContext context) {
+      return isOccurring(context.toSparseArray());
+    }
   }
 
   /*
@@ -62,6 +76,17 @@ public class Trigger {
       }
       return all;
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      boolean all = true;
+      for (Statement statement : statements) {
+        if (!statement.isOccurring(context)) {
+          all = false;
+        }
+      }
+      return all;
+    }
   }
 
   /**
@@ -85,6 +110,16 @@ public class Trigger {
       }
       return true;
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      for (Statement statement : statements) {
+        if (statement.isOccurring(context)) {
+          return false;
+        }
+      }
+      return true;
+    }
   }
 
   /**
@@ -108,6 +143,16 @@ public class Trigger {
       }
       return false;
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      for (Statement statement : statements) {
+        if (statement.isOccurring(context)) {
+          return true;
+        }
+      }
+      return false;
+    }
   }
 
   /*
@@ -123,16 +168,25 @@ public class Trigger {
   private static class GreaterThanStatement extends Statement {
     private final int key;
     private final Object value;
+    private final double compiledValue;
+    private final boolean isTrue;
 
     GreaterThanStatement(int key, Object value) {
       this.key = key;
       this.value = value;
+      this.compiledValue = ((Number) value).doubleValue();
+      this.isTrue = value.equals(TriggerProperty.TRUE);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.greaterThan(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      return Operation.greaterThan(context, key, compiledValue, isTrue);
+    }
   }
 
   /**
@@ -144,16 +198,25 @@ public class Trigger {
   private static class GreaterThanEqualStatement extends Statement {
     private final int key;
     private final Object value;
+    private final double compiledValue;
+    private final boolean isTrue;
 
     GreaterThanEqualStatement(int key, Object value) {
       this.key = key;
       this.value = value;
+      this.compiledValue = ((Number) value).doubleValue();
+      this.isTrue = value.equals(TriggerProperty.TRUE);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.greaterThanEqual(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      return Operation.greaterThanEqual(context, key, compiledValue, isTrue);
+    }
   }
 
   /**
@@ -164,16 +227,25 @@ public class Trigger {
   private static class LessThanStatement extends Statement {
     private final int key;
     private final Object value;
+    private final double compiledValue;
+    private final boolean isTrue;
 
     LessThanStatement(int key, Object value) {
       this.key = key;
       this.value = value;
+      this.compiledValue = ((Number) value).doubleValue();
+      this.isTrue = value.equals(TriggerProperty.TRUE);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.lessThan(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      return Operation.lessThan(context, key, compiledValue, isTrue);
+    }
   }
 
   /**
@@ -185,16 +257,25 @@ public class Trigger {
   private static class LessThanEqualStatement extends Statement {
     private final int key;
     private final Object value;
+    private final double compiledValue;
+    private final boolean isTrue;
 
     LessThanEqualStatement(int key, Object value) {
       this.key = key;
       this.value = value;
+      this.compiledValue = ((Number) value).doubleValue();
+      this.isTrue = value.equals(TriggerProperty.TRUE);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.lessThanEqual(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      return Operation.lessThanEqual(context, key, compiledValue, isTrue);
+    }
   }
 
   /**
@@ -205,16 +286,25 @@ public class Trigger {
   private static class NotEqualStatement extends Statement {
     private final int key;
     private final Object[] values;
+    private final double compiledValue;
+    private final boolean isTrue;
 
     NotEqualStatement(int key, Object... values) {
       this.key = key;
       this.values = values;
+      this.compiledValue = ((Number) values[0]).doubleValue();
+      this.isTrue = values[0].equals(TriggerProperty.TRUE);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.notEqual(statementObjects.get(key), (Number) values[0]);
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      return Operation.notEqual(context, key, compiledValue, isTrue);
+    }
   }
 
   /**
@@ -225,16 +315,25 @@ public class Trigger {
   private static class EqualStatement extends Statement {
     private final int key;
     private final Object value;
+    private final double compiledValue;
+    private final boolean isTrue;
 
     EqualStatement(int key, Object value) {
       this.key = key;
       this.value = value;
+      this.compiledValue = ((Number) value).doubleValue();
+      this.isTrue = value.equals(TriggerProperty.TRUE);
     }
 
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.equal(statementObjects.get(key), (Number) value);
     }
+
+    @Override
+    public boolean isOccurring(TriggerContext context) {
+      return Operation.equal(context, key, compiledValue, isTrue);
+    }
   }
 
   /**
@@ -0,0 +1,109 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.support.annotation.NonNull;
+import android.util.SparseArray;
+
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
+
+/**
+ * Reusable set of {@link TriggerProperty} values used to evaluate {@link Trigger.Statement}s.
+ * <p>
+ * Values are stored in a flat {@code double[]} indexed by the {@link TriggerProperty} constants, so one
+ * instance can be updated once per {@link RouteProgress} and shared by every milestone without
+ * allocating.
+ */
+public final class TriggerContext {
+
+  private static final int PROPERTY_CAPACITY = TriggerProperty.NEXT_STEP_DURATION_SECONDS + 1;
+  private static final int VALUES_PER_PROPERTY = 2;
+  private static final int FIRST_VALUE = 0;
+  private static final int SECOND_VALUE = 1;
+  private final double[] values = new double[PROPERTY_CAPACITY * VALUES_PER_PROPERTY];
+  private final boolean[] pairs = new boolean[PROPERTY_CAPACITY];
+  private RouteProgress previousRouteProgress;
+  private RouteProgress routeProgress;
+  private SparseArray<Number[]> sparseArray;
+  private boolean isFilled;
+
+  /**
+   * Points this context at the given progress. Call once per progress update before evaluating
+   * milestones; the values are filled the first time a statement reads them.
+   *
+   * @param previousRouteProgress last generated {@link RouteProgress}
+   * @param routeProgress         current {@link RouteProgress}
+   */
+  public void update(@NonNull RouteProgress previousRouteProgress, @NonNull RouteProgress routeProgress) {
+    this.previousRouteProgress = previousRouteProgress;
+    this.routeProgress = routeProgress;
+    this.sparseArray = null;
+    this.isFilled = false;
+  }
+
+  boolean isPair(int key) {
+    fillValues();
+    return pairs[key];
+  }
+
+  double first(int key) {
+    fillValues();
+    return values[key * VALUES_PER_PROPERTY + FIRST_VALUE];
+  }
+
+  double second(int key) {
+    fillValues();
+    return values[key * VALUES_PER_PROPERTY + SECOND_VALUE];
+  }
+
+  /**
+   * Boxed representation for {@link Trigger.Statement}s that only implement
+   * {@link Trigger.Statement#isOccurring(SparseArray)}. Built at most once per update.
+   */
+  SparseArray<Number[]> toSparseArray() {
+    if (sparseArray == null) {
+      sparseArray = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+    }
+    return sparseArray;
+  }
+
+  private void fillValues() {
+    if (isFilled) {
+      return;
+    }
+    isFilled = true;
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    RouteStepProgress stepProgress = legProgress.currentStepProgress();
+    LegStep currentStep = legProgress.currentStep();
+    LegStep upcomingStep = legProgress.upComingStep();
+    int stepIndex = legProgress.stepIndex();
+    int legIndex = routeProgress.legIndex();
+
+    // Same order as TriggerProperty#getSparseArray, properties sharing a key are overwritten.
+    put(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, currentStep.distance());
+    put(TriggerProperty.STEP_DURATION_TOTAL_SECONDS, currentStep.duration());
+    put(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, stepProgress.distanceRemaining());
+    put(TriggerProperty.STEP_DURATION_REMAINING_SECONDS, stepProgress.durationRemaining());
+    put(TriggerProperty.STEP_DISTANCE_TRAVELED_METERS, stepProgress.distanceTraveled());
+    put(TriggerProperty.STEP_INDEX, stepIndex);
+    put(TriggerProperty.NEW_STEP, previousRouteProgress.currentLegProgress().stepIndex(), stepIndex);
+    put(TriggerProperty.LAST_STEP, stepIndex, routeProgress.currentLeg().steps().size() - 2);
+    put(TriggerProperty.FIRST_STEP, stepIndex, 0);
+    put(TriggerProperty.NEXT_STEP_DURATION_SECONDS, upcomingStep != null ? upcomingStep.duration() : 0);
+    put(TriggerProperty.NEXT_STEP_DISTANCE_METERS, upcomingStep != null ? upcomingStep.distance() : 0);
+    put(TriggerProperty.FIRST_LEG, legIndex, 0);
+    put(TriggerProperty.LAST_LEG, legIndex, routeProgress.directionsRoute().legs().size() - 1);
+  }
+
+  private void put(int key, double value) {
+    values[key * VALUES_PER_PROPERTY + FIRST_VALUE] = value;
+    pairs[key] = false;
+  }
+
+  private void put(int key, double firstValue, double secondValue) {
+    values[key * VALUES_PER_PROPERTY + FIRST_VALUE] = firstValue;
+    values[key * VALUES_PER_PROPERTY + SECOND_VALUE] = secondValue;
+    pairs[key] = true;
+  }
+}
@@ -0,0 +1,46 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * A {@link NavigationTickScheduler} that ticks faster close to the upcoming maneuver and backs
+ * off while stationary or on long steps.
+ * <p>
+ * Used with {@link MapboxNavigationOptions.Builder#tickScheduler(NavigationTickScheduler)}.
+ */
+public class AdaptiveTickScheduler implements NavigationTickScheduler {
+
+  private static final long DEFAULT_TICK_DELAY = 1000;
+  private static final long FAST_TICK_DELAY = 500;
+  private static final long SLOW_TICK_DELAY = 3000;
+  private static final double NEAR_MANEUVER_METERS = 250d;
+  private static final double NEAR_MANEUVER_SECONDS = 15d;
+  private static final double FAR_FROM_MANEUVER_SECONDS = 120d;
+  private static final float STATIONARY_SPEED = 0.5f;
+
+  @Override
+  public long nextTickDelayInMilliseconds(@NonNull RouteProgress routeProgress, @Nullable Location rawLocation) {
+    double stepDistanceRemaining = routeProgress.currentLegProgress().currentStepProgress().distanceRemaining();
+    if (stepDistanceRemaining < NEAR_MANEUVER_METERS) {
+      return FAST_TICK_DELAY;
+    }
+    if (rawLocation == null || !rawLocation.hasSpeed()) {
+      return DEFAULT_TICK_DELAY;
+    }
+    float speed = rawLocation.getSpeed();
+    if (speed < STATIONARY_SPEED) {
+      return SLOW_TICK_DELAY;
+    }
+    double secondsToManeuver = stepDistanceRemaining / speed;
+    if (secondsToManeuver < NEAR_MANEUVER_SECONDS) {
+      return FAST_TICK_DELAY;
+    } else if (secondsToManeuver > FAR_FROM_MANEUVER_SECONDS) {
+      return SLOW_TICK_DELAY;
+    }
+    return DEFAULT_TICK_DELAY;
+  }
+}
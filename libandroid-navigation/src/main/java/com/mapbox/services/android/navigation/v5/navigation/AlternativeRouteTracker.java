@@ -0,0 +1,222 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.LegAnnotationIndex;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Keeps lightweight progress along the alternatives of the route being navigated.
+ * <p>
+ * An alternative shares its start with the route being navigated up to the point where it diverges,
+ * so while the vehicle is before that point, its position along the alternative is its position
+ * along the route. The divergence point is found once per alternative by comparing step geometries,
+ * read through the {@link RouteGeometryCache} of the route being navigated and decoded only up to
+ * the divergence for the alternative. No navigator or directions request is involved.
+ * <p>
+ * Progress is rebuilt at most every {@link #UPDATE_INTERVAL_IN_MILLISECONDS} and an alternative
+ * stops being tracked as soon as its divergence point is passed. Only single leg routes are
+ * tracked, the Directions API doesn't return alternatives with waypoints.
+ */
+class AlternativeRouteTracker {
+
+  static final int MAX_TRACKED_ALTERNATIVES = 3;
+  static final long UPDATE_INTERVAL_IN_MILLISECONDS = 5000;
+  private static final int FIRST_LEG = 0;
+  private static final int SINGLE_LEG = 1;
+  private static final int FIRST_POINT = 0;
+  private static final long NO_UPDATE = -1;
+  private final List<TrackedAlternative> trackedAlternatives = new ArrayList<>();
+  private List<DirectionsRoute> alternatives = Collections.emptyList();
+  private DirectionsRoute route;
+  private int routeGeneration;
+  private long lastUpdateTime = NO_UPDATE;
+
+  /**
+   * Must be called on the worker thread, with each new {@link RouteProgress}.
+   *
+   * @param alternatives  of the route being navigated
+   * @param routeProgress along the route being navigated
+   * @param routeGeometry of the route being navigated
+   * @param currentTime   in milliseconds
+   * @return progress along the alternatives still tracked, or null if listeners need no update
+   */
+  @Nullable
+  List<AlternativeRouteProgress> update(@NonNull List<DirectionsRoute> alternatives,
+                                        RouteProgress routeProgress, RouteGeometryCache routeGeometry,
+                                        long currentTime) {
+    if (alternatives.isEmpty() && trackedAlternatives.isEmpty()) {
+      this.alternatives = alternatives;
+      return null;
+    }
+    boolean isChanged = updateAlternatives(alternatives, routeProgress, routeGeometry);
+    double distanceTraveled = findLegDistanceTraveled(routeProgress);
+    isChanged |= removePassedAlternatives(distanceTraveled);
+    boolean isDue = !trackedAlternatives.isEmpty() && currentTime - lastUpdateTime >= UPDATE_INTERVAL_IN_MILLISECONDS;
+    if (!isChanged && !isDue) {
+      return null;
+    }
+    lastUpdateTime = currentTime;
+    return buildAlternativeProgress(routeProgress, distanceTraveled);
+  }
+
+  private boolean updateAlternatives(List<DirectionsRoute> alternatives, RouteProgress routeProgress,
+                                     RouteGeometryCache routeGeometry) {
+    DirectionsRoute route = routeProgress.directionsRoute();
+    int routeGeneration = routeProgress.routeGeneration();
+    boolean isNewRoute = this.route != route || this.routeGeneration != routeGeneration;
+    if (this.alternatives == alternatives && !isNewRoute) {
+      return false;
+    }
+    boolean wasTracking = !trackedAlternatives.isEmpty();
+    this.alternatives = alternatives;
+    this.route = route;
+    this.routeGeneration = routeGeneration;
+    trackedAlternatives.clear();
+    lastUpdateTime = NO_UPDATE;
+    if (isSingleLeg(route) && routeGeometry != null && routeGeometry.isFor(route)) {
+      trackAlternatives(alternatives, routeGeometry);
+    }
+    return wasTracking || !trackedAlternatives.isEmpty();
+  }
+
+  private void trackAlternatives(List<DirectionsRoute> alternatives, RouteGeometryCache routeGeometry) {
+    RouteLeg leg = route.legs().get(FIRST_LEG);
+    for (DirectionsRoute alternative : alternatives) {
+      if (trackedAlternatives.size() == MAX_TRACKED_ALTERNATIVES) {
+        return;
+      }
+      if (alternative == route || !isSingleLeg(alternative)) {
+        continue;
+      }
+      RouteGeometryCache alternativeGeometry = new RouteGeometryCache(alternative);
+      double divergenceDistance = findDivergenceDistance(leg, routeGeometry, alternativeGeometry);
+      if (divergenceDistance > 0) {
+        RouteLeg alternativeLeg = alternative.legs().get(FIRST_LEG);
+        LegAnnotationIndex annotationIndex = LegAnnotationIndex.create(alternativeLeg);
+        trackedAlternatives.add(new TrackedAlternative(alternative, divergenceDistance, annotationIndex));
+      }
+    }
+  }
+
+  /**
+   * Walks the steps of both routes side by side until a point differs. The distance of the last
+   * shared point is counted with the step distances of the route, as the distance traveled is.
+   */
+  private double findDivergenceDistance(RouteLeg leg, RouteGeometryCache routeGeometry,
+                                        RouteGeometryCache alternativeGeometry) {
+    List<LegStep> steps = leg.steps();
+    double stepStartDistance = 0;
+    for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+      RouteGeometryCache.StepGeometry stepGeometry = routeGeometry.retrieveStepGeometry(FIRST_LEG, stepIndex);
+      RouteGeometryCache.StepGeometry alternativeStepGeometry =
+        alternativeGeometry.retrieveStepGeometry(FIRST_LEG, stepIndex);
+      if (stepGeometry == null || alternativeStepGeometry == null) {
+        return stepStartDistance;
+      }
+      List<Point> points = stepGeometry.points();
+      List<Point> alternativePoints = alternativeStepGeometry.points();
+      int sharedPoints = countSharedPoints(points, alternativePoints);
+      if (sharedPoints == FIRST_POINT) {
+        return stepStartDistance;
+      }
+      if (sharedPoints < points.size() || sharedPoints < alternativePoints.size()) {
+        return stepStartDistance + stepGeometry.cumulativeDistances()[sharedPoints - 1];
+      }
+      stepStartDistance += steps.get(stepIndex).distance();
+    }
+    return stepStartDistance;
+  }
+
+  private int countSharedPoints(List<Point> points, List<Point> alternativePoints) {
+    int count = Math.min(points.size(), alternativePoints.size());
+    for (int i = FIRST_POINT; i < count; i++) {
+      if (!points.get(i).equals(alternativePoints.get(i))) {
+        return i;
+      }
+    }
+    return count;
+  }
+
+  private boolean removePassedAlternatives(double distanceTraveled) {
+    boolean isRemoved = false;
+    Iterator<TrackedAlternative> iterator = trackedAlternatives.iterator();
+    while (iterator.hasNext()) {
+      if (distanceTraveled > iterator.next().divergenceDistance) {
+        iterator.remove();
+        isRemoved = true;
+      }
+    }
+    return isRemoved;
+  }
+
+  private List<AlternativeRouteProgress> buildAlternativeProgress(RouteProgress routeProgress,
+                                                                  double distanceTraveled) {
+    double durationRemaining = routeProgress.currentLegProgress().durationRemaining();
+    List<AlternativeRouteProgress> alternativeProgress = new ArrayList<>(trackedAlternatives.size());
+    for (TrackedAlternative alternative : trackedAlternatives) {
+      double alternativeDurationRemaining = alternative.findDurationRemaining(distanceTraveled);
+      alternativeProgress.add(AlternativeRouteProgress.builder()
+        .directionsRoute(alternative.route)
+        .distanceRemaining(Math.max(0, alternative.route.distance() - distanceTraveled))
+        .durationRemaining(alternativeDurationRemaining)
+        .durationDelta(alternativeDurationRemaining - durationRemaining)
+        .distanceToDivergence(alternative.divergenceDistance - distanceTraveled)
+        .build());
+    }
+    return alternativeProgress;
+  }
+
+  private double findLegDistanceTraveled(RouteProgress routeProgress) {
+    if (routeProgress.legIndex() != FIRST_LEG) {
+      return Double.MAX_VALUE;
+    }
+    return routeProgress.currentLeg().distance() - routeProgress.currentLegProgress().distanceRemaining();
+  }
+
+  private boolean isSingleLeg(DirectionsRoute route) {
+    return route != null && route.legs() != null && route.legs().size() == SINGLE_LEG;
+  }
+
+  private static class TrackedAlternative {
+
+    private final DirectionsRoute route;
+    private final double divergenceDistance;
+    private final LegAnnotationIndex annotationIndex;
+
+    TrackedAlternative(DirectionsRoute route, double divergenceDistance,
+                       @Nullable LegAnnotationIndex annotationIndex) {
+      this.route = route;
+      this.divergenceDistance = divergenceDistance;
+      this.annotationIndex = annotationIndex;
+    }
+
+    /**
+     * Falls back to the share of the route duration left when there are no duration annotations.
+     */
+    double findDurationRemaining(double distanceTraveled) {
+      if (annotationIndex != null) {
+        double durationRemaining = annotationIndex.findDurationRemaining(distanceTraveled);
+        if (durationRemaining != LegAnnotationIndex.NO_DURATION) {
+          return durationRemaining;
+        }
+      }
+      double distance = route.distance();
+      if (distance <= 0) {
+        return 0;
+      }
+      return route.duration() * Math.max(0, distance - distanceTraveled) / distance;
+    }
+  }
+}
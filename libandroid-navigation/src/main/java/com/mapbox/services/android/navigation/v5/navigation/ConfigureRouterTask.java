@@ -4,6 +4,8 @@ import android.os.AsyncTask;
 
 import com.mapbox.navigator.Navigator;
 
+import java.io.File;
+
 class ConfigureRouterTask extends AsyncTask<Void, Void, Long> {
   private final Navigator navigator;
   private final String tilePath;
@@ -18,7 +20,13 @@ class ConfigureRouterTask extends AsyncTask<Void, Void, Long> {
   @Override
   protected Long doInBackground(Void... paramsUnused) {
     synchronized (this) {
-      return navigator.configureRouter(tilePath);
+      long numberOfTiles = navigator.configureRouter(tilePath);
+      if (numberOfTiles > 0) {
+        // The router no longer reads the version replaced by an update
+        File versionDirectory = new File(tilePath);
+        TileVersionSwap.deleteRetiredVersions(versionDirectory.getParentFile(), versionDirectory.getName());
+      }
+      return numberOfTiles;
     }
   }
 
@@ -0,0 +1,70 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.v4.util.Pair;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import timber.log.Timber;
+
+/**
+ * Delivers progress updates to a {@link ProgressChangeListener} on its own {@link Executor}.
+ * <p>
+ * At most one delivery is queued on the executor at a time. Updates arriving before it runs replace
+ * the pending one, so a slow listener always receives the latest progress instead of a backlog.
+ */
+class ConflatedProgressDelivery implements Runnable {
+
+  private final ProgressChangeListener listener;
+  private final Executor executor;
+  private final AtomicInteger conflatedCount;
+  private final AtomicReference<Pair<Location, RouteProgress>> pendingProgress = new AtomicReference<>();
+  private volatile boolean isCanceled;
+
+  ConflatedProgressDelivery(@NonNull ProgressChangeListener listener, @NonNull Executor executor,
+                            @NonNull AtomicInteger conflatedCount) {
+    this.listener = listener;
+    this.executor = executor;
+    this.conflatedCount = conflatedCount;
+  }
+
+  void deliver(Location location, RouteProgress routeProgress) {
+    Pair<Location, RouteProgress> replacedProgress = pendingProgress.getAndSet(
+      new Pair<>(location, routeProgress)
+    );
+    if (replacedProgress != null) {
+      conflatedCount.incrementAndGet();
+      return;
+    }
+    try {
+      executor.execute(this);
+    } catch (RejectedExecutionException exception) {
+      pendingProgress.set(null);
+      Timber.w(exception, "Progress update rejected by the executor of a ProgressChangeListener");
+    }
+  }
+
+  boolean isFor(ProgressChangeListener listener) {
+    return this.listener == listener;
+  }
+
+  void cancel() {
+    isCanceled = true;
+    pendingProgress.set(null);
+  }
+
+  @Override
+  public void run() {
+    Pair<Location, RouteProgress> progress = pendingProgress.getAndSet(null);
+    if (progress != null && !isCanceled) {
+      listener.onProgressChange(progress.first, progress.second);
+    }
+  }
+}
@@ -17,18 +17,35 @@ class DownloadUpdateListener implements DownloadTask.DownloadListener {
   private final TileUnpacker tileUnpacker;
   private final RouteTileDownloadListener listener;
   private final String destinationPath;
+  private final TileVersionUpdate update;
 
   DownloadUpdateListener(RouteTileDownloader downloader, TileUnpacker tileUnpacker,
                          String tilePath, String tileVersion, RouteTileDownloadListener listener) {
     this.downloader = downloader;
     this.listener = listener;
     this.tileUnpacker = tileUnpacker;
+    this.update = null;
     destinationPath = buildDestinationPath(tilePath, tileVersion);
   }
 
+  /**
+   * Unpacks into the staging directory of the update, which swaps the versions once done.
+   */
+  DownloadUpdateListener(RouteTileDownloader downloader, TileUnpacker tileUnpacker, TileVersionUpdate update) {
+    this.downloader = downloader;
+    this.listener = null;
+    this.tileUnpacker = tileUnpacker;
+    this.update = update;
+    destinationPath = update.stagingPath();
+  }
+
   @Override
   public void onFinishedDownloading(@NonNull File file) {
-    tileUnpacker.unpack(file, destinationPath, new UnpackProgressUpdateListener(listener));
+    if (update != null) {
+      tileUnpacker.unpack(file, destinationPath, update, update);
+    } else {
+      tileUnpacker.unpack(file, destinationPath, new UnpackProgressUpdateListener(listener));
+    }
   }
 
   @Override
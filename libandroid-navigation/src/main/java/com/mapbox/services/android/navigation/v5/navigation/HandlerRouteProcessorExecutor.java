@@ -0,0 +1,27 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.os.Handler;
+
+class HandlerRouteProcessorExecutor implements RouteProcessorExecutor {
+
+  private final Handler handler;
+
+  HandlerRouteProcessorExecutor(Handler handler) {
+    this.handler = handler;
+  }
+
+  @Override
+  public void post(Runnable runnable) {
+    handler.post(runnable);
+  }
+
+  @Override
+  public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+    handler.postDelayed(runnable, delayInMilliseconds);
+  }
+
+  @Override
+  public void removeCallbacks(Runnable runnable) {
+    handler.removeCallbacks(runnable);
+  }
+}
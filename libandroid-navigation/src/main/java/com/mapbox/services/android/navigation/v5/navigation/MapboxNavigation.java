@@ -26,14 +26,17 @@ import com.mapbox.services.android.navigation.v5.offroute.OffRoute;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgressListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.snap.Snap;
 import com.mapbox.services.android.navigation.v5.utils.ValidationUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import retrofit2.Callback;
 import timber.log.Timber;
@@ -61,6 +64,7 @@ public class MapboxNavigation implements ServiceConnection {
   private NavigationService navigationService;
   private MapboxNavigator mapboxNavigator;
   private DirectionsRoute directionsRoute;
+  private volatile List<DirectionsRoute> alternativeRoutes = Collections.emptyList();
   private MapboxNavigationOptions options;
   private LocationEngine locationEngine;
   private LocationEngineRequest locationEngineRequest;
@@ -69,6 +73,10 @@ public class MapboxNavigation implements ServiceConnection {
   private Context applicationContext;
   private boolean isBound;
   private RouteRefresher routeRefresher;
+  private int routeGeneration;
+  private volatile long routeUpdateTime;
+  private NavigationTickReport tickReport;
+  private NavigationLatencyTracker latencyTracker;
 
   static {
     NavigationLibraryLoader.load();
@@ -179,6 +187,9 @@ public class MapboxNavigation implements ServiceConnection {
     removeNavigationEventListener(null);
     removeFasterRouteListener(null);
     removeRawLocationListener(null);
+    removeNavigationLatencyListener(null);
+    removeAlternativeRouteProgressListener(null);
+    RawDirectionsResponseCache.getInstance().clear();
   }
 
   // Public APIs
@@ -375,6 +386,7 @@ public class MapboxNavigation implements ServiceConnection {
   public void stopNavigation() {
     Timber.d("MapboxNavigation stopNavigation called");
     if (isServiceAvailable()) {
+      navigationTelemetry.sendLatencyEvent(latencyTracker);
       navigationTelemetry.stopSession();
       applicationContext.unbindService(this);
       isBound = false;
@@ -442,6 +454,27 @@ public class MapboxNavigation implements ServiceConnection {
     navigationEventDispatcher.addProgressChangeListener(progressChangeListener);
   }
 
+  /**
+   * This adds a new progress change listener invoked on the given {@link Executor} instead of the
+   * main thread, for work that doesn't touch the UI.
+   * <p>
+   * Only one update is queued on the executor at a time: updates arriving while it's busy replace the
+   * queued one, so a slow listener receives the latest progress rather than a backlog. Replaced updates
+   * are counted in {@link #retrieveProgressDispatchMetrics()}.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   *
+   * @param progressChangeListener an implementation of {@code ProgressChangeListener} which hasn't
+   *                               already been added
+   * @param executor               running the listener
+   * @see ProgressChangeListener
+   */
+  public void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                        @NonNull Executor executor) {
+    navigationEventDispatcher.addProgressChangeListener(progressChangeListener, executor);
+  }
+
   /**
    * This removes a specific progress change listener by passing in the instance of it or you can
    * pass in null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
@@ -572,6 +605,52 @@ public class MapboxNavigation implements ServiceConnection {
     navigationEventDispatcher.removeFasterRouteListener(fasterRouteListener);
   }
 
+  /**
+   * Tracks alternatives of the route being navigated, such as the other routes of the
+   * {@link com.mapbox.api.directions.v5.models.DirectionsResponse} it came from. While the vehicle
+   * hasn't passed the point where an alternative leaves the route, its distance and duration remaining
+   * are sent to the {@link AlternativeRouteProgressListener}s every few seconds, without any new
+   * directions request.
+   * <p>
+   * Up to three alternatives are tracked. Starting navigation along a new route clears them, so this
+   * should be called after {@link #startNavigation(DirectionsRoute)}.
+   * </p>
+   *
+   * @param alternativeRoutes to track, or an empty list to stop tracking
+   */
+  public void updateAlternativeRoutes(@NonNull List<DirectionsRoute> alternativeRoutes) {
+    this.alternativeRoutes = Collections.unmodifiableList(new ArrayList<>(alternativeRoutes));
+  }
+
+  /**
+   * This adds a new alternative route progress listener, invoked with the progress along the routes
+   * given to {@link #updateAlternativeRoutes(List)}.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   * </p>
+   *
+   * @param alternativeRouteProgressListener an implementation of {@code AlternativeRouteProgressListener}
+   * @see AlternativeRouteProgressListener
+   */
+  public void addAlternativeRouteProgressListener(
+    @NonNull AlternativeRouteProgressListener alternativeRouteProgressListener) {
+    navigationEventDispatcher.addAlternativeRouteProgressListener(alternativeRouteProgressListener);
+  }
+
+  /**
+   * This removes a specific alternative route progress listener by passing in the instance of it
+   * or you can pass in null to remove all the listeners.
+   *
+   * @param alternativeRouteProgressListener an implementation of {@code AlternativeRouteProgressListener}
+   *                                         which currently exist in the listeners list
+   * @see AlternativeRouteProgressListener
+   */
+  public void removeAlternativeRouteProgressListener(
+    @Nullable AlternativeRouteProgressListener alternativeRouteProgressListener) {
+    navigationEventDispatcher.removeAlternativeRouteProgressListener(alternativeRouteProgressListener);
+  }
+
   /**
    * This adds a new raw location listener which is invoked when a new {@link android.location.Location}
    * has been pushed by the {@link LocationEngine}.
@@ -786,6 +865,65 @@ public class MapboxNavigation implements ServiceConnection {
     return true;
   }
 
+  /**
+   * Counts of the progress updates not delivered because a newer update was already on its way, either
+   * queued on the main thread or pending for a listener added with
+   * {@link #addProgressChangeListener(ProgressChangeListener, Executor)}.
+   *
+   * @return dispatch counts since this instance was created
+   */
+  @NonNull
+  public ProgressDispatchMetrics retrieveProgressDispatchMetrics() {
+    return navigationEventDispatcher.retrieveProgressDispatchMetrics();
+  }
+
+  /**
+   * Tick counts of the navigation processing loop for the current session, useful to compare
+   * a {@link NavigationTickScheduler} set in {@link MapboxNavigationOptions} against the default
+   * one second loop.
+   *
+   * @return report for the current session, or null if navigation hasn't started
+   */
+  @Nullable
+  public NavigationTickReport retrieveTickReport() {
+    return tickReport;
+  }
+
+  /**
+   * This adds a new latency listener which is invoked with the per-stage timings of every
+   * navigation processing loop update, on the main thread after the progress listeners have run.
+   * <p>
+   * It is not possible to add the same listener implementation more then once and a warning will be
+   * printed in the log if attempted.
+   *
+   * @param latencyListener an implementation of {@code NavigationLatencyListener}
+   */
+  public void addNavigationLatencyListener(@NonNull NavigationLatencyListener latencyListener) {
+    latencyTracker.addListener(latencyListener);
+  }
+
+  /**
+   * This removes a specific latency listener by passing in the instance of it or you can pass in
+   * null to remove all the listeners. When {@link #onDestroy()} is called, all listeners
+   * get removed automatically.
+   *
+   * @param latencyListener an implementation of {@code NavigationLatencyListener}
+   */
+  public void removeNavigationLatencyListener(@Nullable NavigationLatencyListener latencyListener) {
+    latencyTracker.removeListener(latencyListener);
+  }
+
+  /**
+   * Latency percentile of a processing loop stage over the most recent updates of the current session.
+   *
+   * @param stage      to look up
+   * @param percentile between 0 and 100
+   * @return latency in nanoseconds, or {@link NavigationLatency#NOT_MEASURED} if the stage has no samples
+   */
+  public long retrieveLatencyPercentile(@NonNull NavigationLatencyStage stage, double percentile) {
+    return latencyTracker.percentile(stage, percentile);
+  }
+
   public String retrieveHistory() {
     return mapboxNavigator.retrieveHistory();
   }
@@ -799,7 +937,7 @@ public class MapboxNavigation implements ServiceConnection {
   }
 
   public String retrieveSsmlAnnouncementInstruction(int index) {
-    return mapboxNavigator.retrieveVoiceInstruction(index).getSsmlAnnouncement();
+    return mapboxNavigator.retrieveSsmlAnnouncement(index);
   }
 
   @Override
@@ -826,6 +964,22 @@ public class MapboxNavigation implements ServiceConnection {
     return directionsRoute;
   }
 
+  int retrieveRouteGeneration() {
+    return routeGeneration;
+  }
+
+  /**
+   * @return {@link System#nanoTime()} of the last new route, refreshed routes aren't included
+   */
+  long retrieveRouteUpdateTime() {
+    return routeUpdateTime;
+  }
+
+  @NonNull
+  List<DirectionsRoute> retrieveAlternativeRoutes() {
+    return alternativeRoutes;
+  }
+
   List<Milestone> getMilestones() {
     return new ArrayList<>(milestones);
   }
@@ -856,10 +1010,29 @@ public class MapboxNavigation implements ServiceConnection {
     return routeRefresher;
   }
 
+  NavigationLatencyTracker retrieveLatencyTracker() {
+    return latencyTracker;
+  }
+
+  /**
+   * Assigns the route for a {@link NavigationSimulator} run. Unlike {@link #startNavigation(DirectionsRoute)},
+   * this doesn't start the navigation service, a telemetry session or route refreshes.
+   */
+  void startSimulationWith(@NonNull DirectionsRoute directionsRoute) {
+    ValidationUtils.validDirectionsRoute(directionsRoute, options.defaultMilestonesEnabled());
+    routeUpdateTime = System.nanoTime();
+    this.directionsRoute = directionsRoute;
+    routeGeneration++;
+    alternativeRoutes = Collections.emptyList();
+    routeRefresher = null;
+    mapboxNavigator.updateRoute(directionsRoute, DirectionsRouteType.NEW_ROUTE);
+  }
+
   private void initializeForTest() {
     // Initialize event dispatcher and add internal listeners
     navigationEventDispatcher = new NavigationEventDispatcher();
     navigationEngineFactory = new NavigationEngineFactory();
+    latencyTracker = new NavigationLatencyTracker();
     locationEngine = obtainLocationEngine();
     locationEngineRequest = obtainLocationEngineRequest();
     initializeTelemetry();
@@ -882,6 +1055,7 @@ public class MapboxNavigation implements ServiceConnection {
     mapboxNavigator = new MapboxNavigator(new Navigator());
     navigationEventDispatcher = new NavigationEventDispatcher();
     navigationEngineFactory = new NavigationEngineFactory();
+    latencyTracker = new NavigationLatencyTracker();
     locationEngine = obtainLocationEngine();
     locationEngineRequest = obtainLocationEngineRequest();
     initializeTelemetry();
@@ -937,9 +1111,16 @@ public class MapboxNavigation implements ServiceConnection {
   private void startNavigationWith(@NonNull DirectionsRoute directionsRoute, DirectionsRouteType routeType) {
     ValidationUtils.validDirectionsRoute(directionsRoute, options.defaultMilestonesEnabled());
     this.directionsRoute = directionsRoute;
+    routeGeneration++;
+    if (routeType == DirectionsRouteType.NEW_ROUTE) {
+      routeUpdateTime = System.nanoTime();
+      alternativeRoutes = Collections.emptyList();
+    }
     routeRefresher = new RouteRefresher(this, new RouteRefresh(accessToken));
     mapboxNavigator.updateRoute(directionsRoute, routeType);
     if (!isBound) {
+      tickReport = new NavigationTickReport();
+      latencyTracker.reset();
       navigationTelemetry.startSession(directionsRoute, locationEngine);
       startNavigationService();
       navigationEventDispatcher.onNavigationEvent(true);
@@ -10,6 +10,7 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.SystemClock;
 import android.support.annotation.Nullable;
 import android.support.v4.app.NotificationCompat;
 import android.support.v4.content.ContextCompat;
@@ -34,11 +35,18 @@ import static com.mapbox.services.android.navigation.v5.utils.time.TimeFormatter
 
 /**
  * This is in charge of creating the persistent navigation session notification and updating it.
+ * <p>
+ * Progress updates only reformat the values whose rounded inputs changed, and the notification is
+ * posted again through the {@link NotificationPostThrottle} once something visible changed. Posts made
+ * and avoided are counted in the {@link NavigationTickReport} of the session.
  */
 class MapboxNavigationNotification implements NavigationNotification {
 
   private static final String END_NAVIGATION_ACTION = "com.mapbox.intent.action.END_NAVIGATION";
   private static final String SET_BACKGROUND_COLOR = "setBackgroundColor";
+  private static final long UNKNOWN = -1;
+  private static final long MILLIS_PER_SECOND = 1000;
+  private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
   private NotificationManager notificationManager;
   private Notification notification;
   private RemoteViews collapsedNotificationRemoteViews;
@@ -48,6 +56,10 @@ class MapboxNavigationNotification implements NavigationNotification {
   private DistanceFormatter distanceFormatter;
   private String instructionText;
   private int currentManeuverId;
+  private long currentDistanceInMeters = UNKNOWN;
+  private String currentArrivalText;
+  private long currentArrivalMinute = UNKNOWN;
+  private final NotificationPostThrottle postThrottle = new NotificationPostThrottle();
   private boolean isTwentyFourHourFormat;
   private String etaFormat;
   private final Context applicationContext;
@@ -86,8 +98,21 @@ class MapboxNavigationNotification implements NavigationNotification {
 
   @Override
   public void updateNotification(RouteProgress routeProgress) {
-    updateNotificationViews(routeProgress);
-    rebuildNotification();
+    LegStep step = routeProgress.currentLegProgress().upComingStep() != null
+      ? routeProgress.currentLegProgress().upComingStep()
+      : routeProgress.currentLegProgress().currentStep();
+    boolean hasStepChanged = updateInstructionText(routeProgress.currentLegProgress().currentStep());
+    hasStepChanged |= updateManeuverImage(step);
+    boolean hasProgressChanged = updateDistanceText(routeProgress);
+    hasProgressChanged |= updateArrivalTime(routeProgress, Calendar.getInstance());
+    boolean shouldPost = postThrottle.shouldPost(hasStepChanged, hasProgressChanged, SystemClock.elapsedRealtime());
+    if (shouldPost) {
+      rebuildNotification();
+    }
+    NavigationTickReport tickReport = mapboxNavigation.retrieveTickReport();
+    if (tickReport != null) {
+      tickReport.recordNotificationUpdate(shouldPost);
+    }
   }
 
   @Override
@@ -199,20 +224,24 @@ class MapboxNavigationNotification implements NavigationNotification {
     }
   }
 
-  private void updateNotificationViews(RouteProgress routeProgress) {
-    buildRemoteViews();
-    updateInstructionText(routeProgress.currentLegProgress().currentStep());
-    updateDistanceText(routeProgress);
-    Calendar time = Calendar.getInstance();
-    String formattedArrivalTime = generateArrivalTime(routeProgress, time);
-    updateViewsWith(formattedArrivalTime);
-    LegStep step = routeProgress.currentLegProgress().upComingStep() != null
-      ? routeProgress.currentLegProgress().upComingStep()
-      : routeProgress.currentLegProgress().currentStep();
-    updateManeuverImage(step);
-  }
-
+  /**
+   * Fresh views are filled with the current values, as actions set on {@link RemoteViews} accumulate.
+   */
   private void rebuildNotification() {
+    buildRemoteViews();
+    if (instructionText != null) {
+      setTextViewText(R.id.notificationInstructionText, instructionText);
+    }
+    if (currentDistanceText != null) {
+      setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+    }
+    if (currentArrivalText != null) {
+      setTextViewText(R.id.notificationArrivalText, currentArrivalText);
+    }
+    if (currentManeuverId != 0) {
+      collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, currentManeuverId);
+      expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, currentManeuverId);
+    }
     notification = buildNotification(applicationContext);
     notificationManager.notify(NAVIGATION_NOTIFICATION_ID, notification);
   }
@@ -226,12 +255,12 @@ class MapboxNavigationNotification implements NavigationNotification {
     }
   }
 
-  private void updateInstructionText(LegStep step) {
+  private boolean updateInstructionText(LegStep step) {
     if (hasInstructions(step) && (instructionText == null || newInstructionText(step))) {
       instructionText = step.bannerInstructions().get(0).primary().text();
-      collapsedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
-      expandedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
+      return true;
     }
+    return false;
   }
 
   private boolean hasInstructions(LegStep step) {
@@ -242,33 +271,54 @@ class MapboxNavigationNotification implements NavigationNotification {
     return !instructionText.equals(step.bannerInstructions().get(0).primary().text());
   }
 
-  private void updateDistanceText(RouteProgress routeProgress) {
-    if (currentDistanceText == null || newDistanceText(routeProgress)) {
-      currentDistanceText = distanceFormatter.formatDistance(
-        routeProgress.currentLegProgress().currentStepProgress().distanceRemaining());
-      collapsedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
-      expandedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+  /**
+   * The distance is only formatted again once it changed by a meter or more.
+   */
+  private boolean updateDistanceText(RouteProgress routeProgress) {
+    double distanceRemaining = routeProgress.currentLegProgress().currentStepProgress().distanceRemaining();
+    long distanceInMeters = Math.round(distanceRemaining);
+    if (distanceInMeters == currentDistanceInMeters) {
+      return false;
+    }
+    currentDistanceInMeters = distanceInMeters;
+    SpannableString distanceText = distanceFormatter.formatDistance(distanceRemaining);
+    if (currentDistanceText != null && currentDistanceText.toString().equals(distanceText.toString())) {
+      return false;
     }
+    currentDistanceText = distanceText;
+    return true;
   }
 
-  private boolean newDistanceText(RouteProgress routeProgress) {
-    return currentDistanceText != null
-      && !currentDistanceText.toString().equals(distanceFormatter.formatDistance(
-      routeProgress.currentLegProgress().currentStepProgress().distanceRemaining()).toString());
+  /**
+   * The arrival time is only formatted again once it moved to another minute.
+   */
+  private boolean updateArrivalTime(RouteProgress routeProgress, Calendar time) {
+    double legDurationRemaining = routeProgress.currentLegProgress().durationRemaining();
+    long arrivalInMillis = time.getTimeInMillis() + (long) (legDurationRemaining * MILLIS_PER_SECOND);
+    long arrivalMinute = arrivalInMillis / MILLIS_PER_MINUTE;
+    if (arrivalMinute == currentArrivalMinute) {
+      return false;
+    }
+    currentArrivalMinute = arrivalMinute;
+    String arrivalText = generateArrivalTime(routeProgress, time);
+    if (arrivalText.equals(currentArrivalText)) {
+      return false;
+    }
+    currentArrivalText = arrivalText;
+    return true;
   }
 
-  private void updateViewsWith(String formattedArrivalTime) {
-    collapsedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
-    expandedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
+  private void setTextViewText(int viewId, CharSequence text) {
+    collapsedNotificationRemoteViews.setTextViewText(viewId, text);
+    expandedNotificationRemoteViews.setTextViewText(viewId, text);
   }
 
-  private void updateManeuverImage(LegStep step) {
+  private boolean updateManeuverImage(LegStep step) {
     if (newManeuverId(step)) {
-      int maneuverResource = ManeuverUtils.getManeuverResource(step);
-      currentManeuverId = maneuverResource;
-      collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
-      expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
+      currentManeuverId = ManeuverUtils.getManeuverResource(step);
+      return true;
     }
+    return false;
   }
 
   private boolean newManeuverId(LegStep step) {
@@ -61,6 +61,15 @@ public abstract class MapboxNavigationOptions {
   @ColorRes
   public abstract int defaultNotificationColorId();
 
+  /**
+   * The scheduler used for the navigation processing loop. If null, the loop ticks once
+   * every second.
+   *
+   * @return tick scheduler, or null for a fixed one second loop
+   */
+  @Nullable
+  public abstract NavigationTickScheduler tickScheduler();
+
   public abstract Builder toBuilder();
 
   @AutoValue.Builder
@@ -108,6 +117,16 @@ public abstract class MapboxNavigationOptions {
      */
     public abstract Builder defaultNotificationColorId(@ColorRes int defaultNotificationColorId);
 
+    /**
+     * Optionally, set a scheduler for the navigation processing loop. With a scheduler, a new
+     * location is processed as soon as it arrives and the scheduler decides when to tick in between.
+     * {@link AdaptiveTickScheduler} is provided by the SDK.
+     *
+     * @param tickScheduler to be used, or null for a fixed one second loop
+     * @return this builder for chaining operations together
+     */
+    public abstract Builder tickScheduler(@Nullable NavigationTickScheduler tickScheduler);
+
     public abstract MapboxNavigationOptions build();
   }
 
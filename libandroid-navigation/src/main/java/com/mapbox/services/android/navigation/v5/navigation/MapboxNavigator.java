@@ -12,46 +12,99 @@ import com.mapbox.navigator.Navigator;
 import com.mapbox.navigator.VoiceInstruction;
 
 import java.util.Date;
-
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Guards the native {@link Navigator}, which isn't thread safe.
+ * <p>
+ * Location fixes are queued without locking and handed to the navigator by the next call that reads
+ * or changes its state, so {@link #updateLocation(Location)} never waits on a status or history call.
+ * Instructions of the current route are served from a {@link RouteInstructionSnapshot} where possible.
+ */
 class MapboxNavigator {
 
   private static final int INDEX_FIRST_ROUTE = 0;
   private final Navigator navigator;
   private final RouteHandler routeHandler;
+  private final Queue<FixLocation> pendingFixes = new ConcurrentLinkedQueue<>();
+  private volatile RouteInstructionSnapshot instructionSnapshot = RouteInstructionSnapshot.EMPTY;
+  private NavigationClock clock;
+  private volatile long statusLockWaitInNanoseconds;
 
   MapboxNavigator(Navigator navigator) {
+    this(navigator, new SystemNavigationClock());
+  }
+
+  MapboxNavigator(Navigator navigator, NavigationClock clock) {
     this.navigator = navigator;
     this.routeHandler = new RouteHandler(this);
+    this.clock = clock;
+  }
+
+  /**
+   * Replaces the clock used to timestamp location fixes, used by {@link NavigationSimulator}.
+   *
+   * @param clock to timestamp fixes with
+   */
+  void updateClock(NavigationClock clock) {
+    this.clock = clock;
   }
 
   void updateRoute(DirectionsRoute route, DirectionsRouteType routeType) {
-    routeHandler.updateRoute(route, routeType);
+    if (routeType != DirectionsRouteType.NEW_ROUTE) {
+      routeHandler.updateRoute(route, routeType);
+      return;
+    }
+    RouteInstructionSnapshot snapshot = RouteInstructionSnapshot.from(route);
+    synchronized (this) {
+      routeHandler.updateRoute(route, routeType);
+      instructionSnapshot = snapshot;
+    }
   }
 
   synchronized NavigationStatus setRoute(@NonNull String routeJson, int routeIndex, int legIndex) {
+    drainPendingFixes();
     return navigator.setRoute(routeJson, routeIndex, legIndex);
   }
 
   synchronized boolean updateAnnotations(@NonNull String legAnnotationJson, int routeIndex, int legIndex) {
+    drainPendingFixes();
     return navigator.updateAnnotations(legAnnotationJson, routeIndex, legIndex);
   }
 
-  synchronized NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
-    // We ask for a point slightly in the future to account for lag in location services
-    if (lagInMilliseconds > 0) {
-      date.setTime(date.getTime() + lagInMilliseconds);
+  NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
+    long lockRequestTime = System.nanoTime();
+    synchronized (this) {
+      statusLockWaitInNanoseconds = System.nanoTime() - lockRequestTime;
+      drainPendingFixes();
+      // We ask for a point slightly in the future to account for lag in location services
+      if (lagInMilliseconds > 0) {
+        date.setTime(date.getTime() + lagInMilliseconds);
+      }
+      return navigator.getStatus(date);
     }
-    return navigator.getStatus(date);
   }
 
+  /**
+   * @return nanoseconds the last {@link #retrieveStatus(Date, long)} waited for the navigator lock
+   */
+  long retrieveStatusLockWait() {
+    return statusLockWaitInNanoseconds;
+  }
+
+  /**
+   * Queues the location for the navigator. The fix is timestamped now and applied, in order, before
+   * the next status is retrieved.
+   *
+   * @param raw location from the location engine
+   */
   void updateLocation(Location raw) {
-    FixLocation fixedLocation = buildFixLocationFromLocation(raw);
-    synchronized (this) {
-      navigator.updateLocation(fixedLocation);
-    }
+    pendingFixes.add(buildFixLocationFromLocation(raw));
   }
 
   synchronized NavigationStatus updateLegIndex(int index) {
+    drainPendingFixes();
     return navigator.changeRouteLeg(INDEX_FIRST_ROUTE, index);
   }
 
@@ -63,6 +116,7 @@ class MapboxNavigator {
    * history was toggled on
    */
   synchronized String retrieveHistory() {
+    drainPendingFixes();
     return navigator.getHistory();
   }
 
@@ -74,10 +128,12 @@ class MapboxNavigator {
    *                  to retain a copy
    */
   synchronized void toggleHistory(boolean isEnabled) {
+    drainPendingFixes();
     navigator.toggleHistory(isEnabled);
   }
 
   synchronized void addHistoryEvent(String eventType, String eventJsonProperties) {
+    drainPendingFixes();
     navigator.pushHistory(eventType, eventJsonProperties);
   }
 
@@ -85,12 +141,40 @@ class MapboxNavigator {
     return navigator.getVoiceInstruction(index);
   }
 
-  synchronized BannerInstruction retrieveBannerInstruction(int index) {
-    return navigator.getBannerInstruction(index);
+  /**
+   * @param index of the voice instruction along the current route
+   * @return the SSML announcement, from the route snapshot when available
+   */
+  String retrieveSsmlAnnouncement(int index) {
+    String ssmlAnnouncement = instructionSnapshot.retrieveSsmlAnnouncement(index);
+    if (ssmlAnnouncement != null) {
+      return ssmlAnnouncement;
+    }
+    VoiceInstruction voiceInstruction = retrieveVoiceInstruction(index);
+    return voiceInstruction != null ? voiceInstruction.getSsmlAnnouncement() : null;
+  }
+
+  BannerInstruction retrieveBannerInstruction(int index) {
+    BannerInstruction bannerInstruction = instructionSnapshot.retrieveBannerInstruction(index);
+    if (bannerInstruction != null) {
+      return bannerInstruction;
+    }
+    synchronized (this) {
+      bannerInstruction = navigator.getBannerInstruction(index);
+      instructionSnapshot.storeBannerInstruction(index, bannerInstruction);
+      return bannerInstruction;
+    }
+  }
+
+  private void drainPendingFixes() {
+    FixLocation fixLocation;
+    while ((fixLocation = pendingFixes.poll()) != null) {
+      navigator.updateLocation(fixLocation);
+    }
   }
 
   private FixLocation buildFixLocationFromLocation(Location location) {
-    Date time = new Date();
+    Date time = new Date(clock.currentTimeMillis());
     Point rawPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
     Float speed = checkFor(location.getSpeed());
     Float bearing = checkFor(location.getBearing());
@@ -78,6 +78,25 @@ public class MapboxOfflineRouter {
     new RouteTileDownloader(offlineNavigator, tilePath, listener).startDownload(offlineTiles);
   }
 
+  /**
+   * Updates the installed tiles to the version specified by the provided {@link OfflineTiles} object.
+   * <p>
+   * The new version is unpacked next to the installed one and made available in a single step once
+   * complete. Until then, the installed version can still be used to find routes. Call
+   * {@link MapboxOfflineRouter#configure(String, OnOfflineTilesConfiguredCallback)} with the new version
+   * once {@link RouteTileDownloadListener#onCompletion()} is called, the installed version is removed
+   * once the router is configured, so both aren't kept on disk. Updating to the installed version
+   * reports an error, as the router may still be reading its tiles.
+   * </p>
+   *
+   * @param installedVersion version of offline tiles currently on disk
+   * @param offlineTiles     object specifying parameters for the tile request of the new version
+   * @param listener         which is updated on error, on progress update and on completion
+   */
+  public void updateTiles(String installedVersion, OfflineTiles offlineTiles, RouteTileDownloadListener listener) {
+    new RouteTileDownloader(offlineNavigator, tilePath, listener).startUpdate(offlineTiles, installedVersion);
+  }
+
   /**
    * Call this method to fetch the latest available offline tile versions that
    * can be used with {@link MapboxOfflineRouter#downloadTiles(OfflineTiles, RouteTileDownloadListener)}.
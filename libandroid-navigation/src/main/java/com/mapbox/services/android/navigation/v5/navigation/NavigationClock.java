@@ -0,0 +1,9 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Source of the current time for the navigation processing loop and the fixes passed to the navigator.
+ */
+interface NavigationClock {
+
+  long currentTimeMillis();
+}
@@ -11,11 +11,16 @@ import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListene
 import com.mapbox.services.android.navigation.v5.navigation.metrics.NavigationMetricListener;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgressListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import timber.log.Timber;
 
@@ -24,11 +29,15 @@ class NavigationEventDispatcher {
   private CopyOnWriteArrayList<NavigationEventListener> navigationEventListeners;
   private CopyOnWriteArrayList<MilestoneEventListener> milestoneEventListeners;
   private CopyOnWriteArrayList<ProgressChangeListener> progressChangeListeners;
+  private CopyOnWriteArrayList<ConflatedProgressDelivery> progressChangeDeliveries;
   private CopyOnWriteArrayList<OffRouteListener> offRouteListeners;
   private CopyOnWriteArrayList<FasterRouteListener> fasterRouteListeners;
   private CopyOnWriteArrayList<RawLocationListener> rawLocationListeners;
+  private CopyOnWriteArrayList<AlternativeRouteProgressListener> alternativeRouteProgressListeners;
   private NavigationMetricListener metricEventListener;
   private RouteUtils routeUtils;
+  private final AtomicInteger droppedProgressCount = new AtomicInteger();
+  private final AtomicInteger conflatedProgressCount = new AtomicInteger();
 
   NavigationEventDispatcher() {
     this(new RouteUtils());
@@ -38,9 +47,11 @@ class NavigationEventDispatcher {
     navigationEventListeners = new CopyOnWriteArrayList<>();
     milestoneEventListeners = new CopyOnWriteArrayList<>();
     progressChangeListeners = new CopyOnWriteArrayList<>();
+    progressChangeDeliveries = new CopyOnWriteArrayList<>();
     offRouteListeners = new CopyOnWriteArrayList<>();
     fasterRouteListeners = new CopyOnWriteArrayList<>();
     rawLocationListeners = new CopyOnWriteArrayList<>();
+    alternativeRouteProgressListeners = new CopyOnWriteArrayList<>();
     this.routeUtils = routeUtils;
   }
 
@@ -63,20 +74,34 @@ class NavigationEventDispatcher {
   }
 
   void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener) {
-    if (progressChangeListeners.contains(progressChangeListener)) {
+    if (hasProgressChangeListener(progressChangeListener)) {
       Timber.w("The specified ProgressChangeListener has already been added to the stack.");
       return;
     }
     progressChangeListeners.add(progressChangeListener);
   }
 
+  void addProgressChangeListener(@NonNull ProgressChangeListener progressChangeListener,
+                                 @NonNull Executor executor) {
+    if (hasProgressChangeListener(progressChangeListener)) {
+      Timber.w("The specified ProgressChangeListener has already been added to the stack.");
+      return;
+    }
+    progressChangeDeliveries.add(
+      new ConflatedProgressDelivery(progressChangeListener, executor, conflatedProgressCount)
+    );
+  }
+
   void removeProgressChangeListener(@Nullable ProgressChangeListener progressChangeListener) {
     if (progressChangeListener == null) {
       progressChangeListeners.clear();
-    } else if (!progressChangeListeners.contains(progressChangeListener)) {
+      cancelProgressChangeDeliveries();
+    } else if (!hasProgressChangeListener(progressChangeListener)) {
       Timber.w("The specified ProgressChangeListener isn't found in stack, therefore, cannot be removed.");
-    } else {
-      progressChangeListeners.remove(progressChangeListener);
+    } else if (!progressChangeListeners.remove(progressChangeListener)) {
+      ConflatedProgressDelivery delivery = findProgressChangeDelivery(progressChangeListener);
+      delivery.cancel();
+      progressChangeDeliveries.remove(delivery);
     }
   }
 
@@ -152,6 +177,24 @@ class NavigationEventDispatcher {
     }
   }
 
+  void addAlternativeRouteProgressListener(@NonNull AlternativeRouteProgressListener listener) {
+    if (alternativeRouteProgressListeners.contains(listener)) {
+      Timber.w("The specified AlternativeRouteProgressListener has already been added to the stack.");
+      return;
+    }
+    alternativeRouteProgressListeners.add(listener);
+  }
+
+  void removeAlternativeRouteProgressListener(@Nullable AlternativeRouteProgressListener listener) {
+    if (listener == null) {
+      alternativeRouteProgressListeners.clear();
+    } else if (!alternativeRouteProgressListeners.contains(listener)) {
+      Timber.w("The specified AlternativeRouteProgressListener isn't found in stack, therefore, cannot be removed.");
+    } else {
+      alternativeRouteProgressListeners.remove(listener);
+    }
+  }
+
   void onMilestoneEvent(RouteProgress routeProgress, String instruction, Milestone milestone) {
     checkForArrivalEvent(routeProgress);
     for (MilestoneEventListener milestoneEventListener : milestoneEventListeners) {
@@ -159,6 +202,10 @@ class NavigationEventDispatcher {
     }
   }
 
+  /**
+   * Only notifies the listeners added without an {@link Executor}, the others are fed from the
+   * navigation thread through {@link #onBackgroundProgressChange(Location, RouteProgress)}.
+   */
   void onProgressChange(Location location, RouteProgress routeProgress) {
     sendMetricProgressUpdate(routeProgress);
     for (ProgressChangeListener progressChangeListener : progressChangeListeners) {
@@ -166,6 +213,28 @@ class NavigationEventDispatcher {
     }
   }
 
+  /**
+   * Called from the navigation thread with every new progress, before it is posted to the main thread,
+   * so listeners added with their own {@link Executor} never wait for the main looper.
+   */
+  void onBackgroundProgressChange(Location location, RouteProgress routeProgress) {
+    for (ConflatedProgressDelivery delivery : progressChangeDeliveries) {
+      delivery.deliver(location, routeProgress);
+    }
+  }
+
+  /**
+   * Called instead of {@link #onProgressChange(Location, RouteProgress)} for an update that reached
+   * the main thread after a newer one had already been queued.
+   */
+  void onProgressDropped() {
+    droppedProgressCount.incrementAndGet();
+  }
+
+  ProgressDispatchMetrics retrieveProgressDispatchMetrics() {
+    return new ProgressDispatchMetrics(droppedProgressCount.get(), conflatedProgressCount.get());
+  }
+
   void onUserOffRoute(Location location) {
     for (OffRouteListener offRouteListener : offRouteListeners) {
       offRouteListener.userOffRoute(location);
@@ -187,6 +256,12 @@ class NavigationEventDispatcher {
     }
   }
 
+  void onAlternativeRouteProgress(List<AlternativeRouteProgress> alternativeRouteProgress) {
+    for (AlternativeRouteProgressListener listener : alternativeRouteProgressListeners) {
+      listener.onAlternativeRouteProgress(alternativeRouteProgress);
+    }
+  }
+
   void onLocationUpdate(Location location) {
     for (RawLocationListener listener : rawLocationListeners) {
       listener.onLocationUpdate(location);
@@ -199,6 +274,28 @@ class NavigationEventDispatcher {
     }
   }
 
+  private boolean hasProgressChangeListener(ProgressChangeListener progressChangeListener) {
+    return progressChangeListeners.contains(progressChangeListener)
+      || findProgressChangeDelivery(progressChangeListener) != null;
+  }
+
+  @Nullable
+  private ConflatedProgressDelivery findProgressChangeDelivery(ProgressChangeListener progressChangeListener) {
+    for (ConflatedProgressDelivery delivery : progressChangeDeliveries) {
+      if (delivery.isFor(progressChangeListener)) {
+        return delivery;
+      }
+    }
+    return null;
+  }
+
+  private void cancelProgressChangeDeliveries() {
+    for (ConflatedProgressDelivery delivery : progressChangeDeliveries) {
+      delivery.cancel();
+    }
+    progressChangeDeliveries.clear();
+  }
+
   private void checkForArrivalEvent(RouteProgress routeProgress) {
     if (metricEventListener != null && routeUtils.isArrivalEvent(routeProgress)) {
       metricEventListener.onArrival(routeProgress);
@@ -239,6 +239,9 @@ public class NavigationHelper {
   /**
    * Given a list of distance annotations, find the current annotation index.  This index retrieves the
    * current annotation from any provided annotation list in {@link LegAnnotation}.
+   * <p>
+   * While navigating, annotations are looked up through a
+   * {@link com.mapbox.services.android.navigation.v5.routeprogress.LegAnnotationIndex} built once per leg.
    *
    * @param currentLegAnnotation current annotation being traveled along
    * @param leg                  holding each list of annotations
@@ -286,7 +289,6 @@ public class NavigationHelper {
   private static int findAnnotationIndex(CurrentLegAnnotation currentLegAnnotation,
                                          CurrentLegAnnotation.Builder annotationBuilder, RouteLeg leg,
                                          double legDistanceRemaining, List<Double> distanceAnnotationList) {
-    List<Double> legDistances = new ArrayList<>(distanceAnnotationList);
     Double totalLegDistance = leg.distance();
     double distanceTraveled = totalLegDistance - legDistanceRemaining;
 
@@ -296,8 +298,8 @@ public class NavigationHelper {
       distanceIndex = currentLegAnnotation.index();
       annotationDistancesTraveled = currentLegAnnotation.distanceToAnnotation();
     }
-    for (int i = distanceIndex; i < legDistances.size(); i++) {
-      Double distance = legDistances.get(i);
+    for (int i = distanceIndex; i < distanceAnnotationList.size(); i++) {
+      Double distance = distanceAnnotationList.get(i);
       annotationDistancesTraveled += distance;
       if (annotationDistancesTraveled > distanceTraveled) {
         double distanceToAnnotation = annotationDistancesTraveled - distance;
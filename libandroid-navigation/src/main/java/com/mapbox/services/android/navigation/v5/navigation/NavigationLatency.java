@@ -0,0 +1,45 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Time spent in each {@link NavigationLatencyStage} by one update of the navigation processing loop.
+ */
+public class NavigationLatency {
+
+  /**
+   * Returned for stages that weren't measured during an update.
+   */
+  public static final long NOT_MEASURED = -1;
+  private static final int STAGE_COUNT = NavigationLatencyStage.values().length;
+  private final long[] durations = new long[STAGE_COUNT];
+
+  NavigationLatency() {
+    Arrays.fill(durations, NOT_MEASURED);
+  }
+
+  /**
+   * @param stage to retrieve
+   * @return duration of the stage in nanoseconds, or {@link #NOT_MEASURED}
+   */
+  public long durationInNanoseconds(@NonNull NavigationLatencyStage stage) {
+    return durations[stage.ordinal()];
+  }
+
+  void record(NavigationLatencyStage stage, long durationInNanoseconds) {
+    durations[stage.ordinal()] = durationInNanoseconds;
+  }
+
+  /**
+   * Records the time since the given start of the stage.
+   *
+   * @return the end of the stage, to be used as the start of the next one
+   */
+  long recordSince(NavigationLatencyStage stage, long startInNanoseconds) {
+    long now = System.nanoTime();
+    record(stage, now - startInNanoseconds);
+    return now;
+  }
+}
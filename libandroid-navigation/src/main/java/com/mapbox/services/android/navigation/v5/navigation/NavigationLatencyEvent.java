@@ -0,0 +1,34 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.annotation.SuppressLint;
+import android.os.Parcelable;
+
+import java.util.Locale;
+
+@SuppressLint("ParcelCreator")
+@SuppressWarnings("ParcelableCreator")
+class NavigationLatencyEvent extends NavigationPerformanceEvent implements Parcelable {
+  private static final String NAVIGATION_LATENCY_EVENT_NAME = "navigation_latency_event";
+  private static final String SAMPLE_COUNT_KEY = "%s_sample_count";
+  private static final String PERCENTILE_KEY = "%s_p%d_ms";
+  private static final int[] PERCENTILES = {50, 90, 99};
+  private static final double NANOSECONDS_PER_MILLISECOND = 1e6;
+
+  NavigationLatencyEvent(String sessionId, NavigationLatencyTracker tracker,
+                         NavigationPerformanceMetadata metadata) {
+    super(sessionId, NAVIGATION_LATENCY_EVENT_NAME, metadata);
+
+    for (NavigationLatencyStage stage : NavigationLatencyStage.values()) {
+      int sampleCount = tracker.sampleCount(stage);
+      if (sampleCount == 0) {
+        continue;
+      }
+      String stageName = stage.name().toLowerCase(Locale.US);
+      addCounter(new IntCounter(String.format(Locale.US, SAMPLE_COUNT_KEY, stageName), sampleCount));
+      for (int percentile : PERCENTILES) {
+        double milliseconds = tracker.percentile(stage, percentile) / NANOSECONDS_PER_MILLISECOND;
+        addCounter(new DoubleCounter(String.format(Locale.US, PERCENTILE_KEY, stageName, percentile), milliseconds));
+      }
+    }
+  }
+}
@@ -0,0 +1,10 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Invoked on the main thread after each update of the navigation processing loop has been dispatched
+ * to the navigation listeners.
+ */
+public interface NavigationLatencyListener {
+
+  void onNavigationLatency(NavigationLatency latency);
+}
@@ -0,0 +1,66 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Stages of the navigation processing loop measured in a {@link NavigationLatency}.
+ */
+public enum NavigationLatencyStage {
+
+  /**
+   * Retrieving the navigation status from the navigator, including {@link #STATUS_LOCK_WAIT}.
+   */
+  STATUS_RETRIEVAL,
+
+  /**
+   * Waiting for the navigator lock before retrieving the navigation status.
+   */
+  STATUS_LOCK_WAIT,
+
+  /**
+   * Leg index updates, the route refresh check and building the new
+   * {@link com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress}.
+   */
+  ROUTE_PROGRESS,
+
+  /**
+   * Running the {@link com.mapbox.services.android.navigation.v5.offroute.OffRoute} engine.
+   */
+  OFF_ROUTE,
+
+  /**
+   * Running the {@link com.mapbox.services.android.navigation.v5.snap.Snap} engine.
+   */
+  SNAP,
+
+  /**
+   * Running the {@link com.mapbox.services.android.navigation.v5.route.FasterRoute} engine.
+   */
+  FASTER_ROUTE,
+
+  /**
+   * Evaluating the {@link com.mapbox.services.android.navigation.v5.milestone.Milestone}s.
+   */
+  MILESTONES,
+
+  /**
+   * Waiting for the main thread after processing finished.
+   */
+  RESPONSE_DISPATCH,
+
+  /**
+   * Invoking the progress, milestone, off-route and faster route listeners on the main thread.
+   */
+  LISTENERS,
+
+  /**
+   * From a raw location being received to the listeners having been invoked with it. Only measured on the
+   * first update processing a new location.
+   */
+  LOCATION_TO_LISTENER,
+
+  /**
+   * From a route being given to {@link MapboxNavigation}, such as a reroute, to the listeners having been
+   * invoked with its first progress. Includes handing the route to the navigator. Only measured on the
+   * first update of each new route, refreshed routes only update annotations and aren't measured.
+   */
+  ROUTE_TO_FIRST_PROGRESS
+}
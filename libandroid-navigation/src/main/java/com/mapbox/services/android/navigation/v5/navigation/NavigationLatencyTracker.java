@@ -0,0 +1,71 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import timber.log.Timber;
+
+/**
+ * Collects the {@link NavigationLatency} of each processing loop update into a rolling histogram per
+ * {@link NavigationLatencyStage} and forwards it to the {@link NavigationLatencyListener}s.
+ */
+class NavigationLatencyTracker {
+
+  private static final int SAMPLE_WINDOW_SIZE = 512;
+  private final RollingLatencyHistogram[] histograms;
+  private final CopyOnWriteArrayList<NavigationLatencyListener> listeners = new CopyOnWriteArrayList<>();
+
+  NavigationLatencyTracker() {
+    NavigationLatencyStage[] stages = NavigationLatencyStage.values();
+    histograms = new RollingLatencyHistogram[stages.length];
+    for (int i = 0; i < stages.length; i++) {
+      histograms[i] = new RollingLatencyHistogram(SAMPLE_WINDOW_SIZE);
+    }
+  }
+
+  void addListener(@NonNull NavigationLatencyListener listener) {
+    if (listeners.contains(listener)) {
+      Timber.w("The specified NavigationLatencyListener has already been added to the stack.");
+      return;
+    }
+    listeners.add(listener);
+  }
+
+  void removeListener(@Nullable NavigationLatencyListener listener) {
+    if (listener == null) {
+      listeners.clear();
+    } else if (!listeners.contains(listener)) {
+      Timber.w("The specified NavigationLatencyListener isn't found in stack, therefore, cannot be removed.");
+    } else {
+      listeners.remove(listener);
+    }
+  }
+
+  void record(NavigationLatency latency) {
+    for (NavigationLatencyStage stage : NavigationLatencyStage.values()) {
+      long duration = latency.durationInNanoseconds(stage);
+      if (duration != NavigationLatency.NOT_MEASURED) {
+        histograms[stage.ordinal()].record(duration);
+      }
+    }
+    for (NavigationLatencyListener listener : listeners) {
+      listener.onNavigationLatency(latency);
+    }
+  }
+
+  long percentile(NavigationLatencyStage stage, double percentile) {
+    return histograms[stage.ordinal()].percentile(percentile);
+  }
+
+  int sampleCount(NavigationLatencyStage stage) {
+    return histograms[stage.ordinal()].count();
+  }
+
+  void reset() {
+    for (RollingLatencyHistogram histogram : histograms) {
+      histogram.reset();
+    }
+  }
+}
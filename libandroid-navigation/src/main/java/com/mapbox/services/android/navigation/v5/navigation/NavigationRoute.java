@@ -129,6 +129,7 @@ public final class NavigationRoute {
     private NavigationRouteWaypoint origin;
     private NavigationRouteWaypoint destination;
     private List<NavigationRouteWaypoint> waypoints = new ArrayList<>();
+    private Interceptor interceptor;
 
     /**
      * Private constructor for initializing the raw MapboxDirections.Builder
@@ -547,6 +548,7 @@ public final class NavigationRoute {
      * @return this builder for chaining options together
      */
     public Builder interceptor(Interceptor interceptor) {
+      this.interceptor = interceptor;
       directionsBuilder.interceptor(interceptor);
       return this;
     }
@@ -681,6 +683,7 @@ public final class NavigationRoute {
         .bannerInstructions(true)
         .roundaboutExits(true)
         .eventListener(eventListener)
+        .interceptor(new RawDirectionsResponseInterceptor(interceptor))
         .enableRefresh(true);
       return new NavigationRoute(directionsBuilder.build());
     }
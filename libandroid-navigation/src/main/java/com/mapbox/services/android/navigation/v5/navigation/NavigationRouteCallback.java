@@ -11,22 +11,28 @@ import retrofit2.Response;
 class NavigationRouteCallback implements Callback<DirectionsResponse> {
 
   private final NavigationTelemetry telemetry;
+  private final RawDirectionsResponseCache responseCache;
   private final NavigationRouteEventListener listener;
   private final Callback<DirectionsResponse> callback;
 
   NavigationRouteCallback(NavigationRouteEventListener listener, Callback<DirectionsResponse> callback) {
-    this(NavigationTelemetry.getInstance(), listener, callback);
+    this(NavigationTelemetry.getInstance(), RawDirectionsResponseCache.getInstance(), listener, callback);
   }
 
-  NavigationRouteCallback(NavigationTelemetry telemetry, NavigationRouteEventListener listener,
-                          Callback<DirectionsResponse> callback) {
+  NavigationRouteCallback(NavigationTelemetry telemetry, RawDirectionsResponseCache responseCache,
+                          NavigationRouteEventListener listener, Callback<DirectionsResponse> callback) {
     this.telemetry = telemetry;
+    this.responseCache = responseCache;
     this.listener = listener;
     this.callback = callback;
   }
 
   @Override
   public void onResponse(@NonNull Call<DirectionsResponse> call, @NonNull Response<DirectionsResponse> response) {
+    if (response.body() != null) {
+      // Bound before the app sees the routes, it may start navigating from the callback
+      responseCache.bind(response.body());
+    }
     callback.onResponse(call, response);
     if (isValid(response)) {
       String uuid = response.body().uuid();
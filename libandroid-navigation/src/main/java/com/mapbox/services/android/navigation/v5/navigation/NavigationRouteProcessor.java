@@ -13,16 +13,13 @@ import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.navigator.RouteState;
 import com.mapbox.navigator.VoiceInstruction;
 import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation;
+import com.mapbox.services.android.navigation.v5.routeprogress.LegAnnotationIndex;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgressState;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgressStateMap;
 
 import java.util.List;
 
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createCurrentAnnotation;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createDistancesToIntersections;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createIntersectionsList;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.decodeStepPoints;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findCurrentIntersection;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findUpcomingIntersection;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.routeDistanceRemaining;
@@ -32,10 +29,15 @@ class NavigationRouteProcessor {
   private static final int ONE_INDEX = 1;
   private static final double ONE_SECOND_IN_MILLISECONDS = 1000.0;
   private static final int FIRST_BANNER_INSTRUCTION = 0;
+  private static final int INVALID_INDEX = -1;
   private final RouteProgressStateMap progressStateMap = new RouteProgressStateMap();
   private RouteProgress previousRouteProgress;
   private NavigationStatus previousStatus;
   private DirectionsRoute route;
+  private int routeGeneration;
+  private RouteGeometryCache geometryCache;
+  private int currentLegIndex = INVALID_INDEX;
+  private int currentStepIndex = INVALID_INDEX;
   private RouteLeg currentLeg;
   private LegStep currentStep;
   private List<Point> currentStepPoints;
@@ -43,11 +45,12 @@ class NavigationRouteProcessor {
   private List<Point> upcomingStepPoints;
   private List<StepIntersection> currentIntersections;
   private List<Pair<StepIntersection, Double>> currentIntersectionDistances;
-  private CurrentLegAnnotation currentLegAnnotation;
+  private LegAnnotationIndex currentAnnotationIndex;
 
-  RouteProgress buildNewRouteProgress(MapboxNavigator navigator, NavigationStatus status, DirectionsRoute route) {
+  RouteProgress buildNewRouteProgress(MapboxNavigator navigator, NavigationStatus status, DirectionsRoute route,
+                                      int routeGeneration) {
     previousStatus = status;
-    updateRoute(route);
+    updateRoute(route, routeGeneration);
     return buildRouteProgressFrom(status, navigator);
   }
 
@@ -65,9 +68,22 @@ class NavigationRouteProcessor {
     return previousStatus;
   }
 
-  private void updateRoute(DirectionsRoute route) {
-    if (this.route == null || !this.route.equals(route)) {
+  /**
+   * @return decoded geometry of the route of the last {@link RouteProgress} built
+   */
+  @Nullable
+  RouteGeometryCache retrieveGeometryCache() {
+    return geometryCache;
+  }
+
+  private void updateRoute(DirectionsRoute route, int routeGeneration) {
+    boolean isNewRoute = this.route == null || this.routeGeneration != routeGeneration || this.route != route;
+    if (isNewRoute) {
       this.route = route;
+      this.routeGeneration = routeGeneration;
+      geometryCache = new RouteGeometryCache(route);
+      currentLegIndex = INVALID_INDEX;
+      currentStepIndex = INVALID_INDEX;
     }
   }
 
@@ -75,9 +91,15 @@ class NavigationRouteProcessor {
     int legIndex = status.getLegIndex();
     int stepIndex = status.getStepIndex();
     int upcomingStepIndex = stepIndex + ONE_INDEX;
-    updateSteps(route, legIndex, stepIndex, upcomingStepIndex);
-    updateStepPoints(route, legIndex, stepIndex, upcomingStepIndex);
-    updateIntersections();
+    if (legIndex != currentLegIndex || stepIndex != currentStepIndex) {
+      updateSteps(route, legIndex, stepIndex, upcomingStepIndex);
+      if (legIndex != currentLegIndex) {
+        currentAnnotationIndex = LegAnnotationIndex.create(currentLeg);
+      }
+      updateStepGeometry(legIndex, stepIndex, upcomingStepIndex);
+      currentLegIndex = legIndex;
+      currentStepIndex = stepIndex;
+    }
 
     double legDistanceRemaining = status.getRemainingLegDistance();
     double routeDistanceRemaining = routeDistanceRemaining(legDistanceRemaining, legIndex, route);
@@ -85,7 +107,10 @@ class NavigationRouteProcessor {
     double stepDistanceTraveled = currentStep.distance() - stepDistanceRemaining;
     double legDurationRemaining = status.getRemainingLegDuration() / ONE_SECOND_IN_MILLISECONDS;
 
-    currentLegAnnotation = createCurrentAnnotation(currentLegAnnotation, currentLeg, legDistanceRemaining);
+    CurrentLegAnnotation currentLegAnnotation = null;
+    if (currentAnnotationIndex != null) {
+      currentLegAnnotation = currentAnnotationIndex.findAnnotation(currentLeg.distance() - legDistanceRemaining);
+    }
     StepIntersection currentIntersection = findCurrentIntersection(
       currentIntersections, currentIntersectionDistances, stepDistanceTraveled
     );
@@ -111,8 +136,10 @@ class NavigationRouteProcessor {
       .upcomingIntersection(upcomingIntersection)
       .intersectionDistancesAlongStep(currentIntersectionDistances)
       .currentLegAnnotation(currentLegAnnotation)
+      .legAnnotationIndex(currentAnnotationIndex)
       .inTunnel(status.getInTunnel())
-      .currentState(currentRouteState);
+      .currentState(currentRouteState)
+      .routeGeneration(routeGeneration);
 
     addVoiceInstructions(status, progressBuilder);
     addBannerInstructions(status, navigator, progressBuilder);
@@ -132,14 +159,15 @@ class NavigationRouteProcessor {
     upcomingStep = upcomingStepIndex < steps.size() - ONE_INDEX ? steps.get(upcomingStepIndex) : null;
   }
 
-  private void updateStepPoints(DirectionsRoute route, int legIndex, int stepIndex, int upcomingStepIndex) {
-    currentStepPoints = decodeStepPoints(route, currentStepPoints, legIndex, stepIndex);
-    upcomingStepPoints = decodeStepPoints(route, null, legIndex, upcomingStepIndex);
-  }
-
-  private void updateIntersections() {
-    currentIntersections = createIntersectionsList(currentStep, upcomingStep);
-    currentIntersectionDistances = createDistancesToIntersections(currentStepPoints, currentIntersections);
+  private void updateStepGeometry(int legIndex, int stepIndex, int upcomingStepIndex) {
+    RouteGeometryCache.StepGeometry currentGeometry = geometryCache.retrieveStepGeometry(legIndex, stepIndex);
+    if (currentGeometry != null) {
+      currentStepPoints = currentGeometry.points();
+      currentIntersections = currentGeometry.intersections();
+      currentIntersectionDistances = currentGeometry.intersectionDistances();
+    }
+    RouteGeometryCache.StepGeometry upcomingGeometry = geometryCache.retrieveStepGeometry(legIndex, upcomingStepIndex);
+    upcomingStepPoints = upcomingGeometry == null ? null : upcomingGeometry.points();
   }
 
   private void addUpcomingStepPoints(RouteProgress.Builder progressBuilder) {
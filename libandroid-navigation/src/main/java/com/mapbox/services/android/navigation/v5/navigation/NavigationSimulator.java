@@ -0,0 +1,169 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.buildInstructionString;
+
+/**
+ * Runs a recorded location trace through the navigation processing loop of a {@link MapboxNavigation},
+ * synchronously on the calling thread and against a virtual clock driven by the location timestamps.
+ * <p>
+ * The same route processing, milestones, off-route and snapping engines as a navigation session are used,
+ * but nothing waits on real time: a two hour drive is processed as fast as the loop can run. Every
+ * {@link RouteProgress}, milestone and off-route event is delivered, in order, to the
+ * {@link com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener},
+ * {@link com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListener} and
+ * {@link com.mapbox.services.android.navigation.v5.offroute.OffRouteListener} added to the navigation.
+ * <p>
+ * Traces can be read with {@link com.mapbox.services.android.navigation.v5.location.replay.ReplayTraceReader}.
+ * Locations without a timestamp are spaced one second apart.
+ * <p>
+ * The navigation service, notification, telemetry, faster route checks and route refreshes are not used,
+ * so the {@link MapboxNavigation} passed here should be dedicated to simulation.
+ */
+public class NavigationSimulator {
+
+  private static final long ONE_SECOND_IN_MILLISECONDS = 1000;
+  private static final String NON_EMPTY_TRACE_REQUIRED = "Non-null and non-empty location trace required.";
+  private final MapboxNavigation navigation;
+  private final NavigationRouteProcessor routeProcessor;
+
+  public NavigationSimulator(@NonNull MapboxNavigation navigation) {
+    this(navigation, null);
+  }
+
+  // Package private (no modifier) for testing purposes
+  NavigationSimulator(MapboxNavigation navigation, NavigationRouteProcessor routeProcessor) {
+    this.navigation = navigation;
+    this.routeProcessor = routeProcessor;
+  }
+
+  /**
+   * Navigates the given route with the given trace. Returns once the last location has been processed
+   * and its events delivered.
+   *
+   * @param route to navigate
+   * @param trace locations to process, in order
+   */
+  public void simulate(@NonNull DirectionsRoute route, @NonNull List<Location> trace) {
+    if (trace == null || trace.isEmpty()) {
+      throw new IllegalArgumentException(NON_EMPTY_TRACE_REQUIRED);
+    }
+    SimulatedRouteProcessorExecutor executor = new SimulatedRouteProcessorExecutor(
+      Math.max(0, trace.get(0).getTime())
+    );
+    MapboxNavigator mapboxNavigator = navigation.retrieveMapboxNavigator();
+    navigation.startSimulationWith(route);
+    mapboxNavigator.updateClock(executor);
+    RouteProcessorRunnable runnable = new RouteProcessorRunnable(obtainRouteProcessor(), navigation,
+      executor, executor, new SimulationListener(navigation.getEventDispatcher()), executor);
+    try {
+      processTrace(trace, mapboxNavigator, runnable, executor);
+    } finally {
+      executor.clear();
+      mapboxNavigator.updateClock(new SystemNavigationClock());
+    }
+  }
+
+  private void processTrace(List<Location> trace, MapboxNavigator mapboxNavigator,
+                            final RouteProcessorRunnable runnable, SimulatedRouteProcessorExecutor executor) {
+    Runnable newLocationRunnable = new Runnable() {
+      @Override
+      public void run() {
+        runnable.processNewLocation();
+      }
+    };
+    boolean hasTickScheduler = navigation.options().tickScheduler() != null;
+    long time = executor.currentTimeMillis();
+    for (int i = 0; i < trace.size(); i++) {
+      Location location = trace.get(i);
+      time = calculateLocationTime(location, time, i == 0);
+      // Ticks scheduled before this location arrives run first, as they would in a navigation session
+      executor.advanceTo(time);
+      mapboxNavigator.updateLocation(location);
+      runnable.updateRawLocation(location);
+      if (i == 0) {
+        executor.post(runnable);
+      } else if (hasTickScheduler) {
+        executor.post(newLocationRunnable);
+      }
+      executor.advanceTo(time);
+    }
+  }
+
+  private NavigationRouteProcessor obtainRouteProcessor() {
+    if (routeProcessor == null) {
+      return new NavigationRouteProcessor();
+    }
+    return routeProcessor;
+  }
+
+  private long calculateLocationTime(Location location, long previousTime, boolean isFirstLocation) {
+    long locationTime = location.getTime();
+    if (locationTime > 0) {
+      return Math.max(locationTime, previousTime);
+    }
+    return isFirstLocation ? previousTime : previousTime + ONE_SECOND_IN_MILLISECONDS;
+  }
+
+  /**
+   * Forwards processing results to the navigation listeners, without the notification updates and
+   * faster route requests of {@link RouteProcessorThreadListener}.
+   */
+  private static class SimulationListener implements RouteProcessorBackgroundThread.Listener {
+
+    private final NavigationEventDispatcher eventDispatcher;
+
+    SimulationListener(NavigationEventDispatcher eventDispatcher) {
+      this.eventDispatcher = eventDispatcher;
+    }
+
+    @Override
+    public void onRouteProgressProcessed(Location location, RouteProgress routeProgress) {
+      eventDispatcher.onBackgroundProgressChange(location, routeProgress);
+    }
+
+    @Override
+    public void onNewRouteProgress(Location location, RouteProgress routeProgress) {
+      eventDispatcher.onProgressChange(location, routeProgress);
+    }
+
+    @Override
+    public void onStaleRouteProgress(RouteProgress routeProgress) {
+      eventDispatcher.onProgressDropped();
+    }
+
+    @Override
+    public void onMilestoneTrigger(List<Milestone> triggeredMilestones, RouteProgress routeProgress) {
+      for (Milestone milestone : triggeredMilestones) {
+        String instruction = buildInstructionString(routeProgress, milestone);
+        eventDispatcher.onMilestoneEvent(routeProgress, instruction, milestone);
+      }
+    }
+
+    @Override
+    public void onUserOffRoute(Location location, boolean userOffRoute) {
+      if (userOffRoute) {
+        eventDispatcher.onUserOffRoute(location);
+      }
+    }
+
+    @Override
+    public void onCheckFasterRoute(Location location, RouteProgress routeProgress, boolean checkFasterRoute) {
+      // Faster routes require a network request and are not checked while simulating
+    }
+
+    @Override
+    public void onAlternativeRouteProgress(List<AlternativeRouteProgress> alternativeRouteProgress) {
+      eventDispatcher.onAlternativeRouteProgress(alternativeRouteProgress);
+    }
+  }
+}
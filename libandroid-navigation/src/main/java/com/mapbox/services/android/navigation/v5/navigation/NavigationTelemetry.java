@@ -171,6 +171,15 @@ class NavigationTelemetry implements NavigationMetricListener {
     gpsEventFactory.navigationStarted(navigationSessionState.sessionIdentifier());
   }
 
+  void sendLatencyEvent(NavigationLatencyTracker latencyTracker) {
+    boolean isSessionStarted = navigationSessionState != null
+      && !navigationSessionState.sessionIdentifier().isEmpty();
+    if (isSessionStarted && latencyTracker != null) {
+      NavigationMetricsWrapper.push(new NavigationLatencyEvent(navigationSessionState.sessionIdentifier(),
+        latencyTracker, performanceMetadata));
+    }
+  }
+
   void stopSession() {
     sendCancelEvent();
     gpsEventFactory.reset();
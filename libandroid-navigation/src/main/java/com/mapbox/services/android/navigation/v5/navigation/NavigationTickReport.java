@@ -0,0 +1,88 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.os.SystemClock;
+
+/**
+ * Counts the ticks of the navigation processing loop for a single navigation session.
+ * <p>
+ * {@link #ticksSaved()} compares the processed ticks against the fixed one second loop used
+ * when no {@link NavigationTickScheduler} is set. The default navigation notification also counts
+ * the progress updates it posted and the ones it avoided posting.
+ */
+public class NavigationTickReport {
+
+  private static final long ONE_SECOND_IN_MILLISECONDS = 1000;
+  private final long sessionStartTime;
+  private int scheduledTicks;
+  private int locationTicks;
+  private int notificationPosts;
+  private int notificationPostsAvoided;
+
+  NavigationTickReport() {
+    this(SystemClock.elapsedRealtime());
+  }
+
+  NavigationTickReport(long sessionStartTime) {
+    this.sessionStartTime = sessionStartTime;
+  }
+
+  /**
+   * @return total number of ticks processed this session
+   */
+  public synchronized int ticksProcessed() {
+    return scheduledTicks + locationTicks;
+  }
+
+  /**
+   * @return number of ticks processed right after a new location arrived
+   */
+  public synchronized int locationTicks() {
+    return locationTicks;
+  }
+
+  /**
+   * Ticks a fixed one second loop would have processed over the session so far, minus the ticks
+   * actually processed. Negative if more ticks were processed.
+   *
+   * @return ticks saved this session
+   */
+  public int ticksSaved() {
+    return ticksSaved(SystemClock.elapsedRealtime());
+  }
+
+  synchronized int ticksSaved(long currentTime) {
+    long fixedLoopTicks = (currentTime - sessionStartTime) / ONE_SECOND_IN_MILLISECONDS;
+    return (int) fixedLoopTicks - ticksProcessed();
+  }
+
+  /**
+   * @return number of progress updates that posted the navigation notification this session
+   */
+  public synchronized int notificationPosts() {
+    return notificationPosts;
+  }
+
+  /**
+   * @return number of progress updates that didn't post the navigation notification, as nothing
+   * visible changed or the change was held back
+   */
+  public synchronized int notificationPostsAvoided() {
+    return notificationPostsAvoided;
+  }
+
+  synchronized void recordNotificationUpdate(boolean isPosted) {
+    if (isPosted) {
+      notificationPosts++;
+    } else {
+      notificationPostsAvoided++;
+    }
+  }
+
+  synchronized void recordTick(boolean isLocationTick) {
+    if (isLocationTick) {
+      locationTicks++;
+    } else {
+      scheduledTicks++;
+    }
+  }
+}
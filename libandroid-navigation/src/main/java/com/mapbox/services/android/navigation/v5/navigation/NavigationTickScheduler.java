@@ -0,0 +1,29 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * Defines a contract for scheduling the navigation processing loop when
+ * given to {@link MapboxNavigationOptions}.
+ * <p>
+ * When a scheduler is set, a new {@link RouteProgress} is generated as soon as a new location
+ * arrives. Between locations, the loop ticks again after the delay returned by
+ * {@link #nextTickDelayInMilliseconds(RouteProgress, Location)}.
+ * <p>
+ * Without a scheduler, the loop ticks once every second.
+ */
+public interface NavigationTickScheduler {
+
+  /**
+   * Called on the navigation thread after each {@link RouteProgress} is generated.
+   *
+   * @param routeProgress the latest progress
+   * @param rawLocation   the latest raw location, null if none has been received yet
+   * @return delay until the next tick in milliseconds
+   */
+  long nextTickDelayInMilliseconds(@NonNull RouteProgress routeProgress, @Nullable Location rawLocation);
+}
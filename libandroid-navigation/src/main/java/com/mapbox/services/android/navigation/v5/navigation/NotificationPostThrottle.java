@@ -0,0 +1,34 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Decides when the navigation notification is posted again through the {@link android.app.NotificationManager}.
+ * <p>
+ * A new instruction or maneuver is posted right away. Distance and arrival time changes are held back
+ * until {@link #MIN_POST_INTERVAL_IN_MILLIS} has passed since the last post, and progress updates
+ * changing nothing visible are never posted.
+ */
+class NotificationPostThrottle {
+
+  static final long MIN_POST_INTERVAL_IN_MILLIS = 5000;
+  private static final long NEVER_POSTED = -1;
+  private long lastPostInMillis = NEVER_POSTED;
+  private boolean hasPendingChanges;
+
+  /**
+   * @param hasStepChanged     true if the instruction or maneuver shown changed
+   * @param hasProgressChanged true if the distance or arrival time shown changed
+   * @param nowInMillis        elapsed time of the update
+   * @return true if the notification should be posted now
+   */
+  boolean shouldPost(boolean hasStepChanged, boolean hasProgressChanged, long nowInMillis) {
+    hasPendingChanges |= hasStepChanged || hasProgressChanged;
+    boolean isPostDue = lastPostInMillis == NEVER_POSTED
+      || nowInMillis - lastPostInMillis >= MIN_POST_INTERVAL_IN_MILLIS;
+    if (!hasPendingChanges || (!hasStepChanged && !isPostDue)) {
+      return false;
+    }
+    hasPendingChanges = false;
+    lastPostInMillis = nowInMillis;
+    return true;
+  }
+}
@@ -161,8 +161,9 @@ public class OfflineRoute {
   }
 
   private DirectionsRoute obtainRouteFor(String response) {
-    DirectionsRoute route = DirectionsResponse.fromJson(response).routes().get(0);
-    return route;
+    List<DirectionsRoute> routes = DirectionsResponse.fromJson(response).routes();
+    RawDirectionsResponseCache.getInstance().add(response, routes);
+    return routes.get(0);
   }
 
   public static final class Builder {
@@ -4,13 +4,12 @@ import com.mapbox.api.routetiles.v1.MapboxRouteTiles;
 import com.mapbox.core.exceptions.ServicesException;
 import com.mapbox.geojson.BoundingBox;
 
-import retrofit2.Callback;
+import okhttp3.Request;
 
 /**
  * This is a wrapper class for the {@link MapboxRouteTiles} class. This class takes care of
- * interfacing with {@link MapboxRouteTiles} and receives a TAR file wrapped in a ResponseBody
- * which can be handled using a
- * {@link com.mapbox.services.android.navigation.v5.utils.DownloadTask}.
+ * interfacing with {@link MapboxRouteTiles} and provides the request for a TAR file which is
+ * downloaded by a {@link ResumableTarDownload}.
  */
 public class OfflineTiles {
 
@@ -33,12 +32,12 @@ public class OfflineTiles {
 
   /**
    * Call when you have constructed your OfflineTiles object with your desired parameters.
-   * {@link Callback} must be passed into the method to handle both the response and failure.
+   * The request is sent with range headers by {@link ResumableTarDownload}.
    *
-   * @param callback for retrofit
+   * @return the request for the TAR file of routing tiles
    */
-  void fetchRouteTiles(Callback callback) {
-    mapboxRouteTiles.enqueueCall(callback);
+  Request buildTileRequest() {
+    return mapboxRouteTiles.cloneCall().request();
   }
 
   /**
@@ -0,0 +1,31 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Counts of the progress updates that weren't delivered to every
+ * {@link com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener} because a
+ * newer update was already on its way.
+ */
+public class ProgressDispatchMetrics {
+
+  private final int droppedCount;
+  private final int conflatedCount;
+
+  ProgressDispatchMetrics(int droppedCount, int conflatedCount) {
+    this.droppedCount = droppedCount;
+    this.conflatedCount = conflatedCount;
+  }
+
+  /**
+   * @return updates skipped on the main thread because a newer update was queued behind them
+   */
+  public int droppedCount() {
+    return droppedCount;
+  }
+
+  /**
+   * @return updates replaced by a newer one before the executor of a listener ran them
+   */
+  public int conflatedCount() {
+    return conflatedCount;
+  }
+}
@@ -0,0 +1,264 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The body of a Directions API response as it was received, along with the {@link DirectionsRoute}s
+ * parsed from it.
+ * <p>
+ * The JSON of a route, or of one of its leg annotations, is sliced out of the body by walking its
+ * structure, without building any model. Routes are matched by instance, so a route rebuilt from a
+ * parsed one, such as a refreshed route, isn't matched and has to be serialized.
+ */
+class RawDirectionsResponse {
+
+  static final int NOT_FOUND = -1;
+  private static final String UUID = "uuid";
+  private static final String ROUTES = "routes";
+  private static final String LEGS = "legs";
+  private static final String ANNOTATION = "annotation";
+  private static final char QUOTE = '"';
+  private static final char ESCAPE = '\\';
+  private static final char COLON = ':';
+  private static final char COMMA = ',';
+  private static final char OBJECT_START = '{';
+  private static final char OBJECT_END = '}';
+  private static final char ARRAY_START = '[';
+  private static final char ARRAY_END = ']';
+  private final String json;
+  private final List<WeakReference<DirectionsRoute>> routes = new ArrayList<>();
+
+  RawDirectionsResponse(@NonNull String json) {
+    this.json = json;
+  }
+
+  @Nullable
+  String findUuid() {
+    int uuidStart = findMember(skipWhitespace(0), UUID);
+    if (!isAt(uuidStart, QUOTE)) {
+      return null;
+    }
+    int uuidEnd = skipValue(uuidStart);
+    if (uuidEnd == NOT_FOUND) {
+      return null;
+    }
+    return json.substring(uuidStart + 1, uuidEnd - 1);
+  }
+
+  /**
+   * Binds the routes parsed from this response, in response order.
+   *
+   * @param parsedRoutes of the response
+   * @return false if they don't match the routes of the body
+   */
+  boolean bind(@NonNull List<DirectionsRoute> parsedRoutes) {
+    if (findRouteStart(parsedRoutes.size() - 1) == NOT_FOUND || findRouteStart(parsedRoutes.size()) != NOT_FOUND) {
+      return false;
+    }
+    routes.clear();
+    for (DirectionsRoute route : parsedRoutes) {
+      routes.add(new WeakReference<>(route));
+    }
+    return true;
+  }
+
+  /**
+   * @return true once the routes bound to this response have all been garbage collected
+   */
+  boolean isReleased() {
+    if (routes.isEmpty()) {
+      return false;
+    }
+    for (WeakReference<DirectionsRoute> route : routes) {
+      if (route.get() != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param route to look up by instance
+   * @return index of the route in the response, or {@link #NOT_FOUND}
+   */
+  int indexOf(DirectionsRoute route) {
+    for (int i = 0; i < routes.size(); i++) {
+      if (routes.get(i).get() == route) {
+        return i;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  @Nullable
+  String sliceRoute(int routeIndex) {
+    return slice(findRouteStart(routeIndex));
+  }
+
+  @Nullable
+  String sliceAnnotation(int routeIndex, int legIndex) {
+    int routeStart = findRouteStart(routeIndex);
+    if (routeStart == NOT_FOUND) {
+      return null;
+    }
+    int legStart = findElement(findMember(routeStart, LEGS), legIndex);
+    if (legStart == NOT_FOUND) {
+      return null;
+    }
+    return slice(findMember(legStart, ANNOTATION));
+  }
+
+  private int findRouteStart(int routeIndex) {
+    int routesStart = findMember(skipWhitespace(0), ROUTES);
+    return findElement(routesStart, routeIndex);
+  }
+
+  @Nullable
+  private String slice(int valueStart) {
+    if (valueStart == NOT_FOUND) {
+      return null;
+    }
+    int valueEnd = skipValue(valueStart);
+    if (valueEnd == NOT_FOUND) {
+      return null;
+    }
+    return json.substring(valueStart, valueEnd);
+  }
+
+  /**
+   * @param objectStart index of the opening brace
+   * @param key         of the member
+   * @return index of the first character of the member value, or {@link #NOT_FOUND}
+   */
+  private int findMember(int objectStart, String key) {
+    if (!isAt(objectStart, OBJECT_START)) {
+      return NOT_FOUND;
+    }
+    int index = skipWhitespace(objectStart + 1);
+    while (isAt(index, QUOTE)) {
+      int keyEnd = skipValue(index);
+      if (keyEnd == NOT_FOUND) {
+        return NOT_FOUND;
+      }
+      int colon = skipWhitespace(keyEnd);
+      if (!isAt(colon, COLON)) {
+        return NOT_FOUND;
+      }
+      int valueStart = skipWhitespace(colon + 1);
+      boolean isKey = keyEnd - index - 2 == key.length() && json.startsWith(key, index + 1);
+      if (isKey) {
+        return valueStart;
+      }
+      index = skipSeparator(skipValue(valueStart));
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * @param arrayStart   index of the opening bracket
+   * @param elementIndex position of the element in the array
+   * @return index of the first character of the element, or {@link #NOT_FOUND}
+   */
+  private int findElement(int arrayStart, int elementIndex) {
+    if (!isAt(arrayStart, ARRAY_START) || elementIndex < 0) {
+      return NOT_FOUND;
+    }
+    int index = skipWhitespace(arrayStart + 1);
+    for (int i = 0; index != NOT_FOUND && index < json.length() && !isAt(index, ARRAY_END); i++) {
+      if (i == elementIndex) {
+        return index;
+      }
+      index = skipSeparator(skipValue(index));
+    }
+    return NOT_FOUND;
+  }
+
+  private int skipSeparator(int index) {
+    if (index == NOT_FOUND) {
+      return NOT_FOUND;
+    }
+    index = skipWhitespace(index);
+    return isAt(index, COMMA) ? skipWhitespace(index + 1) : index;
+  }
+
+  /**
+   * @param valueStart index of the first character of a value
+   * @return index right after the value, or {@link #NOT_FOUND} if the value isn't complete
+   */
+  private int skipValue(int valueStart) {
+    if (valueStart == NOT_FOUND || valueStart >= json.length()) {
+      return NOT_FOUND;
+    }
+    char first = json.charAt(valueStart);
+    if (first == QUOTE) {
+      return skipString(valueStart);
+    }
+    if (first != OBJECT_START && first != ARRAY_START) {
+      int index = valueStart;
+      while (index < json.length() && !isValueEnd(json.charAt(index))) {
+        index++;
+      }
+      return index;
+    }
+    int depth = 0;
+    int index = valueStart;
+    while (index < json.length()) {
+      char character = json.charAt(index);
+      if (character == QUOTE) {
+        index = skipString(index);
+        if (index == NOT_FOUND) {
+          return NOT_FOUND;
+        }
+        continue;
+      }
+      if (character == OBJECT_START || character == ARRAY_START) {
+        depth++;
+      } else if (character == OBJECT_END || character == ARRAY_END) {
+        depth--;
+        if (depth == 0) {
+          return index + 1;
+        }
+      }
+      index++;
+    }
+    return NOT_FOUND;
+  }
+
+  private int skipString(int stringStart) {
+    int index = stringStart + 1;
+    while (index < json.length()) {
+      char character = json.charAt(index);
+      if (character == ESCAPE) {
+        index += 2;
+      } else if (character == QUOTE) {
+        return index + 1;
+      } else {
+        index++;
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  private int skipWhitespace(int index) {
+    while (index < json.length() && Character.isWhitespace(json.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private boolean isAt(int index, char character) {
+    return index != NOT_FOUND && index < json.length() && json.charAt(index) == character;
+  }
+
+  private boolean isValueEnd(char character) {
+    return character == COMMA || character == OBJECT_END || character == ARRAY_END
+      || Character.isWhitespace(character);
+  }
+}
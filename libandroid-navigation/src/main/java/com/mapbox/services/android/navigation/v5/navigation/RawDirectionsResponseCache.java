@@ -0,0 +1,129 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the bodies of the last few Directions API responses so {@link RouteHandler} can hand the
+ * navigator the JSON that was received instead of serializing the parsed {@link DirectionsRoute}.
+ * <p>
+ * A body is captured by {@link RawDirectionsResponseInterceptor} on the network thread and bound to
+ * the routes parsed from it by {@link NavigationRouteCallback}, before they reach the app. Routes that
+ * didn't come from a captured response aren't found and are serialized as before.
+ * <p>
+ * A body is dropped once the routes bound to it are no longer referenced, and every body is dropped
+ * when {@link MapboxNavigation} is destroyed.
+ */
+class RawDirectionsResponseCache {
+
+  private static final int MAX_RESPONSES = 3;
+  private static RawDirectionsResponseCache instance;
+  private final List<RawDirectionsResponse> responses = new ArrayList<>();
+  private final List<String> uuids = new ArrayList<>();
+
+  static synchronized RawDirectionsResponseCache getInstance() {
+    if (instance == null) {
+      instance = new RawDirectionsResponseCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Keeps a response body until the routes parsed from it are bound.
+   *
+   * @param json of the response
+   */
+  synchronized void capture(@NonNull String json) {
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+    String uuid = response.findUuid();
+    if (uuid == null) {
+      return;
+    }
+    keep(response, uuid);
+  }
+
+  /**
+   * Binds the routes of a parsed response to its captured body, if any.
+   *
+   * @param directionsResponse parsed from a captured body
+   */
+  synchronized void bind(@NonNull DirectionsResponse directionsResponse) {
+    String uuid = directionsResponse.uuid();
+    int index = uuid == null ? RawDirectionsResponse.NOT_FOUND : uuids.indexOf(uuid);
+    if (index == RawDirectionsResponse.NOT_FOUND) {
+      return;
+    }
+    if (!responses.get(index).bind(directionsResponse.routes())) {
+      responses.remove(index);
+      uuids.remove(index);
+    }
+  }
+
+  /**
+   * Keeps a response body received without a network request, such as an offline route, with the
+   * routes parsed from it.
+   *
+   * @param json   of the response
+   * @param routes parsed from it
+   */
+  synchronized void add(@NonNull String json, @NonNull List<DirectionsRoute> routes) {
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+    if (response.bind(routes)) {
+      keep(response, null);
+    }
+  }
+
+  synchronized void clear() {
+    responses.clear();
+    uuids.clear();
+  }
+
+  @Nullable
+  synchronized String findRouteJson(@NonNull DirectionsRoute route) {
+    removeReleased();
+    for (RawDirectionsResponse response : responses) {
+      int routeIndex = response.indexOf(route);
+      if (routeIndex != RawDirectionsResponse.NOT_FOUND) {
+        return response.sliceRoute(routeIndex);
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  synchronized String findAnnotationJson(@NonNull DirectionsRoute route, int legIndex) {
+    removeReleased();
+    for (RawDirectionsResponse response : responses) {
+      int routeIndex = response.indexOf(route);
+      if (routeIndex != RawDirectionsResponse.NOT_FOUND) {
+        return response.sliceAnnotation(routeIndex, legIndex);
+      }
+    }
+    return null;
+  }
+
+  private void keep(RawDirectionsResponse response, @Nullable String uuid) {
+    removeReleased();
+    responses.add(0, response);
+    uuids.add(0, uuid);
+    while (responses.size() > MAX_RESPONSES) {
+      responses.remove(MAX_RESPONSES);
+      uuids.remove(MAX_RESPONSES);
+    }
+  }
+
+  private void removeReleased() {
+    for (int i = responses.size() - 1; i >= 0; i--) {
+      if (responses.get(i).isReleased()) {
+        responses.remove(i);
+        uuids.remove(i);
+      }
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import timber.log.Timber;
+
+/**
+ * Copies the body of each successful route response into the {@link RawDirectionsResponseCache},
+ * leaving the response itself to be parsed as before.
+ * <p>
+ * {@link com.mapbox.api.directions.v5.MapboxDirections} takes a single interceptor, so the one set
+ * with {@link NavigationRoute.Builder#interceptor(Interceptor)} is wrapped and runs first.
+ */
+class RawDirectionsResponseInterceptor implements Interceptor {
+
+  private static final long MAX_BODY_SIZE_IN_BYTES = 8 * 1024 * 1024;
+  private final Interceptor interceptor;
+  private final RawDirectionsResponseCache responseCache;
+
+  RawDirectionsResponseInterceptor(@Nullable Interceptor interceptor) {
+    this(interceptor, RawDirectionsResponseCache.getInstance());
+  }
+
+  // Package private (no modifier) for testing purposes
+  RawDirectionsResponseInterceptor(@Nullable Interceptor interceptor, RawDirectionsResponseCache responseCache) {
+    this.interceptor = interceptor;
+    this.responseCache = responseCache;
+  }
+
+  @Override
+  public Response intercept(@NonNull Chain chain) throws IOException {
+    Response response = interceptor == null ? chain.proceed(chain.request()) : interceptor.intercept(chain);
+    if (response.isSuccessful() && response.body() != null) {
+      capture(response);
+    }
+    return response;
+  }
+
+  private void capture(Response response) throws IOException {
+    ResponseBody body = response.peekBody(MAX_BODY_SIZE_IN_BYTES);
+    if (body.contentLength() >= MAX_BODY_SIZE_IN_BYTES) {
+      Timber.d("Route response too large to be kept, it will be serialized for the navigator.");
+      return;
+    }
+    responseCache.capture(body.string());
+  }
+}
@@ -0,0 +1,389 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import timber.log.Timber;
+
+/**
+ * Downloads a tile pack into a file with range requests, several chunks at a time.
+ * <p>
+ * A first request for the first byte tells the size of the pack and whether the server accepts ranges.
+ * If it does, the pack is split in chunks fetched in parallel and written in place into a partial file
+ * through a {@link FileChannel}. A chunk whose connection drops is resumed from its last written byte,
+ * and completed chunks are recorded in a {@link TarDownloadJournal}, so downloading the same pack again
+ * after a failure or an app restart only fetches the missing chunks. Servers without range support get
+ * the pack streamed in one piece.
+ * <p>
+ * Progress is reported as bytes are written, at most once per percent. Callbacks are invoked on the
+ * given executor.
+ */
+class ResumableTarDownload implements Runnable {
+
+  static final long DEFAULT_CHUNK_SIZE_IN_BYTES = 8 * 1024 * 1024;
+  static final int DEFAULT_PARALLEL_CHUNKS = 4;
+  private static final int BUFFER_SIZE_IN_BYTES = 256 * 1024;
+  private static final int MAX_CHUNK_ATTEMPTS = 3;
+  private static final int END_OF_STREAM = -1;
+  private static final int HTTP_PARTIAL_CONTENT = 206;
+  private static final int PERCENT = 100;
+  private static final String RANGE = "Range";
+  private static final String IF_RANGE = "If-Range";
+  private static final String CONTENT_RANGE = "Content-Range";
+  private static final String ETAG = "ETag";
+  private static final String LAST_MODIFIED = "Last-Modified";
+  private static final String WEAK_ETAG_PREFIX = "W/";
+  private static final String FIRST_BYTE_RANGE = "bytes=0-0";
+  private static final String RANGE_FORMAT = "bytes=%d-%d";
+  private static final String CONTENT_RANGE_SIZE_SEPARATOR = "/";
+  private static final String IDENTITY_SEPARATOR = " ";
+  private static final String ACCESS_TOKEN = "access_token";
+  private static final String PART_EXTENSION = ".part";
+  private static final String JOURNAL_EXTENSION = ".journal";
+  private static final String STREAM_ENDED_ERROR = "Unable to download tiles: the stream ended early";
+  private static final String CHUNK_ERROR_FORMAT = "Unable to download tiles: range request answered with %d";
+  private final OkHttpClient client;
+  private final Request request;
+  private final File tarFile;
+  private final long chunkSizeInBytes;
+  private final int parallelChunks;
+  private final Executor callbackExecutor;
+  private final Callback callback;
+  private final AtomicLong bytesDownloaded = new AtomicLong();
+  private final AtomicInteger reportedPercent = new AtomicInteger(-1);
+  private volatile long totalBytes;
+
+  ResumableTarDownload(@NonNull OkHttpClient client, @NonNull Request request, @NonNull File tarFile,
+                       long chunkSizeInBytes, int parallelChunks, @NonNull Executor callbackExecutor,
+                       @NonNull Callback callback) {
+    this.client = client;
+    this.request = request;
+    this.tarFile = tarFile;
+    this.chunkSizeInBytes = chunkSizeInBytes;
+    this.parallelChunks = parallelChunks;
+    this.callbackExecutor = callbackExecutor;
+    this.callback = callback;
+  }
+
+  @Override
+  public void run() {
+    File partFile = new File(tarFile.getPath() + PART_EXTENSION);
+    TarDownloadJournal journal = new TarDownloadJournal(new File(tarFile.getPath() + JOURNAL_EXTENSION));
+    Response firstByteResponse = null;
+    try {
+      firstByteResponse = client.newCall(request.newBuilder().header(RANGE, FIRST_BYTE_RANGE).build()).execute();
+      if (!firstByteResponse.isSuccessful()) {
+        notifyResponseError(firstByteResponse.code(), firstByteResponse.message());
+        return;
+      }
+      long packSize = parsePackSize(firstByteResponse);
+      if (firstByteResponse.code() == HTTP_PARTIAL_CONTENT && packSize > 0) {
+        String validator = retrieveValidator(firstByteResponse);
+        firstByteResponse.close();
+        downloadChunks(partFile, journal, packSize, validator);
+      } else {
+        journal.delete();
+        downloadWhole(partFile, firstByteResponse.body());
+      }
+      if (tarFile.exists()) {
+        tarFile.delete();
+      }
+      if (!partFile.renameTo(tarFile)) {
+        throw new IOException("Unable to move the downloaded tiles to " + tarFile.getName());
+      }
+      journal.delete();
+      notifyFinished();
+    } catch (IOException exception) {
+      Timber.e(exception);
+      notifyFailure(exception.getMessage());
+    } finally {
+      closeQuietly(firstByteResponse);
+      journal.close();
+    }
+  }
+
+  private void downloadChunks(File partFile, TarDownloadJournal journal, long packSize,
+                              @Nullable String validator) throws IOException {
+    totalBytes = packSize;
+    boolean canResume = partFile.length() == packSize;
+    journal.open(buildIdentity(packSize, validator), canResume);
+    int chunkCount = (int) ((packSize + chunkSizeInBytes - 1) / chunkSizeInBytes);
+    List<Integer> remainingChunks = new ArrayList<>();
+    long alreadyDownloaded = 0;
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      if (journal.isCompleted(chunk)) {
+        alreadyDownloaded += Math.min(chunkSizeInBytes, packSize - chunk * chunkSizeInBytes);
+      } else {
+        remainingChunks.add(chunk);
+      }
+    }
+    onBytesDownloaded(alreadyDownloaded);
+
+    RandomAccessFile randomAccessFile = new RandomAccessFile(partFile, "rw");
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelChunks,
+      remainingChunks.size())));
+    try {
+      randomAccessFile.setLength(packSize);
+      FileChannel channel = randomAccessFile.getChannel();
+      CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+      for (int chunk : remainingChunks) {
+        long start = chunk * chunkSizeInBytes;
+        long end = Math.min(start + chunkSizeInBytes, packSize) - 1;
+        completionService.submit(new ChunkDownload(channel, chunk, start, end, validator));
+      }
+      for (int i = 0; i < remainingChunks.size(); i++) {
+        // Fails as soon as any chunk fails, the chunks completed so far are kept in the journal
+        int chunk = completionService.take().get();
+        journal.markCompleted(chunk);
+      }
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Tile download interrupted");
+    } catch (ExecutionException exception) {
+      Throwable cause = exception.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    } finally {
+      executor.shutdownNow();
+      randomAccessFile.close();
+    }
+  }
+
+  private void downloadWhole(File partFile, @Nullable ResponseBody body) throws IOException {
+    if (body == null) {
+      throw new IOException("Unable to download tiles: empty response");
+    }
+    totalBytes = body.contentLength();
+    FileOutputStream outputStream = new FileOutputStream(partFile);
+    try {
+      FileChannel channel = outputStream.getChannel();
+      ReadableByteChannel source = Channels.newChannel(body.byteStream());
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE_IN_BYTES);
+      int count;
+      while ((count = source.read(buffer)) != END_OF_STREAM) {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        buffer.clear();
+        onBytesDownloaded(count);
+      }
+      channel.force(false);
+    } finally {
+      outputStream.close();
+      body.close();
+    }
+  }
+
+  /**
+   * @return the URL of the request without the access token, which may be renewed between attempts
+   */
+  @NonNull
+  static String buildResumableUrl(@NonNull Request request) {
+    return request.url().newBuilder().removeAllQueryParameters(ACCESS_TOKEN).build().toString();
+  }
+
+  /**
+   * Same request, same pack and same chunking.
+   */
+  private String buildIdentity(long packSize, @Nullable String validator) {
+    return buildResumableUrl(request) + IDENTITY_SEPARATOR + packSize + IDENTITY_SEPARATOR + chunkSizeInBytes
+      + IDENTITY_SEPARATOR + (validator == null ? "" : validator.replace('\n', ' '));
+  }
+
+  private void onBytesDownloaded(long count) {
+    long downloaded = bytesDownloaded.addAndGet(count);
+    final long total = totalBytes;
+    if (total <= 0) {
+      return;
+    }
+    int percent = (int) (downloaded * PERCENT / total);
+    // Chunks report concurrently, a lost race is retried so the final percent is never dropped
+    int lastPercent = reportedPercent.get();
+    while (percent > lastPercent) {
+      if (reportedPercent.compareAndSet(lastPercent, percent)) {
+        notifyProgress(downloaded, total);
+        return;
+      }
+      lastPercent = reportedPercent.get();
+    }
+  }
+
+  private static long parsePackSize(Response response) {
+    String contentRange = response.header(CONTENT_RANGE);
+    if (contentRange == null) {
+      return END_OF_STREAM;
+    }
+    int separator = contentRange.lastIndexOf(CONTENT_RANGE_SIZE_SEPARATOR);
+    try {
+      return Long.parseLong(contentRange.substring(separator + 1).trim());
+    } catch (NumberFormatException exception) {
+      // The size is "*" when unknown
+      return END_OF_STREAM;
+    }
+  }
+
+  /**
+   * Weak entity tags can't be used to resume a download, the modification date is used instead.
+   */
+  @Nullable
+  private static String retrieveValidator(Response response) {
+    String etag = response.header(ETAG);
+    boolean isStrongEtag = etag != null && !etag.startsWith(WEAK_ETAG_PREFIX);
+    return isStrongEtag ? etag : response.header(LAST_MODIFIED);
+  }
+
+  private static void closeQuietly(Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+
+  private void notifyProgress(final long downloaded, final long total) {
+    callbackExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        callback.onProgress(downloaded, total);
+      }
+    });
+  }
+
+  private void notifyFinished() {
+    callbackExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        callback.onFinished(tarFile);
+      }
+    });
+  }
+
+  private void notifyResponseError(final int code, final String message) {
+    callbackExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        callback.onResponseError(code, message);
+      }
+    });
+  }
+
+  private void notifyFailure(final String message) {
+    callbackExecutor.execute(new Runnable() {
+      @Override
+      public void run() {
+        callback.onFailure(message);
+      }
+    });
+  }
+
+  /**
+   * Downloads one chunk, resuming from the last written byte if the connection drops.
+   */
+  private class ChunkDownload implements Callable<Integer> {
+
+    private final FileChannel channel;
+    private final int chunk;
+    private final long end;
+    private final String validator;
+    private long position;
+
+    ChunkDownload(FileChannel channel, int chunk, long start, long end, @Nullable String validator) {
+      this.channel = channel;
+      this.chunk = chunk;
+      this.position = start;
+      this.end = end;
+      this.validator = validator;
+    }
+
+    @Override
+    public Integer call() throws IOException {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE_IN_BYTES);
+      IOException lastException = null;
+      for (int attempt = 0; attempt < MAX_CHUNK_ATTEMPTS && position <= end; attempt++) {
+        try {
+          transferRemainingRange(buffer);
+        } catch (IOException exception) {
+          Timber.w(exception, "Tile chunk %d interrupted, resuming", chunk);
+          lastException = exception;
+        }
+      }
+      if (position <= end) {
+        throw lastException != null ? lastException : new IOException(STREAM_ENDED_ERROR);
+      }
+      channel.force(false);
+      return chunk;
+    }
+
+    private void transferRemainingRange(ByteBuffer buffer) throws IOException {
+      Request.Builder rangeRequest = request.newBuilder()
+        .header(RANGE, String.format(Locale.US, RANGE_FORMAT, position, end));
+      if (validator != null) {
+        rangeRequest.header(IF_RANGE, validator);
+      }
+      Response response = client.newCall(rangeRequest.build()).execute();
+      try {
+        ResponseBody body = response.body();
+        if (response.code() != HTTP_PARTIAL_CONTENT || body == null) {
+          // A whole pack answer means it changed since the download started
+          throw new IOException(String.format(Locale.US, CHUNK_ERROR_FORMAT, response.code()));
+        }
+        ReadableByteChannel source = Channels.newChannel(body.byteStream());
+        while (position <= end) {
+          buffer.clear();
+          buffer.limit((int) Math.min(buffer.capacity(), end - position + 1));
+          int count = source.read(buffer);
+          if (count == END_OF_STREAM) {
+            return;
+          }
+          buffer.flip();
+          while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+          }
+          onBytesDownloaded(count);
+        }
+      } finally {
+        response.close();
+      }
+    }
+  }
+
+  interface Callback {
+
+    void onProgress(long bytesDownloaded, long totalBytes);
+
+    void onFinished(@NonNull File tarFile);
+
+    void onResponseError(int code, String message);
+
+    void onFailure(String message);
+  }
+}
@@ -0,0 +1,51 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent latency samples of a stage in a fixed size ring, so percentiles reflect
+ * the current behavior rather than the whole session. Recording is constant time, percentiles are
+ * computed on demand.
+ */
+class RollingLatencyHistogram {
+
+  private static final double ONE_HUNDRED_PERCENT = 100d;
+  private final long[] samples;
+  private int nextIndex;
+  private int count;
+
+  RollingLatencyHistogram(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  synchronized void record(long durationInNanoseconds) {
+    samples[nextIndex] = durationInNanoseconds;
+    nextIndex = (nextIndex + 1) % samples.length;
+    count = Math.min(count + 1, samples.length);
+  }
+
+  synchronized int count() {
+    return count;
+  }
+
+  /**
+   * Nearest-rank percentile of the samples in the window.
+   *
+   * @param percentile between 0 and 100
+   * @return the percentile in nanoseconds, or {@link NavigationLatency#NOT_MEASURED} if empty
+   */
+  synchronized long percentile(double percentile) {
+    if (count == 0) {
+      return NavigationLatency.NOT_MEASURED;
+    }
+    long[] sorted = Arrays.copyOf(samples, count);
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile / ONE_HUNDRED_PERCENT * count);
+    return sorted[Math.max(0, Math.min(count - 1, rank - 1))];
+  }
+
+  synchronized void reset() {
+    nextIndex = 0;
+    count = 0;
+  }
+}
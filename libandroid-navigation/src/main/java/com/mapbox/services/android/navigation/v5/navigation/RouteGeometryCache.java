@@ -0,0 +1,211 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createDistancesToIntersections;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createIntersectionsList;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.decodeStepPoints;
+
+/**
+ * Holds the decoded geometry of a single {@link DirectionsRoute}, keyed by (leg, step).
+ * <p>
+ * Each step is decoded at most once for the lifetime of the route, so processing a location update
+ * on an unchanged step index does not decode or slice any geometry.
+ */
+class RouteGeometryCache {
+
+  private static final int ONE_INDEX = 1;
+  private static final int FIRST_POINT = 0;
+  private static final int TWO_POINTS = 2;
+  private final DirectionsRoute route;
+  private final StepGeometry[][] stepGeometries;
+
+  RouteGeometryCache(@NonNull DirectionsRoute route) {
+    this.route = route;
+    this.stepGeometries = buildEmptyGeometries(route);
+  }
+
+  /**
+   * Route identity is checked by reference: a new {@link DirectionsRoute} instance is a new route
+   * and requires a new cache.
+   *
+   * @param route to compare against the cached route
+   * @return true if this cache was built for the given route instance
+   */
+  boolean isFor(@Nullable DirectionsRoute route) {
+    return this.route == route;
+  }
+
+  /**
+   * Returns the cached geometry for the given step, decoding it on first access.
+   *
+   * @param legIndex  of the step
+   * @param stepIndex of the step
+   * @return step geometry, or null if the indices are invalid
+   */
+  @Nullable
+  StepGeometry retrieveStepGeometry(int legIndex, int stepIndex) {
+    if (isInvalid(legIndex, stepIndex)) {
+      return null;
+    }
+    StepGeometry stepGeometry = stepGeometries[legIndex][stepIndex];
+    if (stepGeometry == null) {
+      stepGeometry = buildStepGeometry(legIndex, stepIndex);
+      stepGeometries[legIndex][stepIndex] = stepGeometry;
+    }
+    return stepGeometry;
+  }
+
+  private StepGeometry[][] buildEmptyGeometries(DirectionsRoute route) {
+    List<RouteLeg> legs = route.legs();
+    if (legs == null) {
+      return new StepGeometry[0][];
+    }
+    StepGeometry[][] geometries = new StepGeometry[legs.size()][];
+    for (int i = 0; i < legs.size(); i++) {
+      List<LegStep> steps = legs.get(i).steps();
+      geometries[i] = new StepGeometry[steps == null ? 0 : steps.size()];
+    }
+    return geometries;
+  }
+
+  private boolean isInvalid(int legIndex, int stepIndex) {
+    return legIndex < 0 || legIndex >= stepGeometries.length
+      || stepIndex < 0 || stepIndex >= stepGeometries[legIndex].length;
+  }
+
+  private StepGeometry buildStepGeometry(int legIndex, int stepIndex) {
+    List<LegStep> steps = route.legs().get(legIndex).steps();
+    LegStep step = steps.get(stepIndex);
+    List<Point> points = decodeStepPoints(route, null, legIndex, stepIndex);
+    if (points == null) {
+      points = Collections.emptyList();
+    }
+    double[] cumulativeDistances = buildCumulativeDistances(points);
+
+    int upcomingStepIndex = stepIndex + ONE_INDEX;
+    LegStep upcomingStep = upcomingStepIndex < steps.size() - ONE_INDEX ? steps.get(upcomingStepIndex) : null;
+    List<StepIntersection> intersections = createIntersectionsList(step, upcomingStep);
+    double[] intersectionOffsets = buildIntersectionOffsets(points, cumulativeDistances, intersections);
+    List<Pair<StepIntersection, Double>> intersectionDistances = new ArrayList<>(intersectionOffsets.length);
+    for (int i = 0; i < intersectionOffsets.length; i++) {
+      intersectionDistances.add(new Pair<>(intersections.get(i), intersectionOffsets[i]));
+    }
+    return new StepGeometry(points, cumulativeDistances, intersections,
+      Collections.unmodifiableList(intersectionDistances), intersectionOffsets);
+  }
+
+  private double[] buildCumulativeDistances(List<Point> points) {
+    double[] cumulativeDistances = new double[points.size()];
+    for (int i = 1; i < points.size(); i++) {
+      double segmentDistance = TurfMeasurement.distance(points.get(i - 1), points.get(i), TurfConstants.UNIT_METERS);
+      cumulativeDistances[i] = cumulativeDistances[i - 1] + segmentDistance;
+    }
+    return cumulativeDistances;
+  }
+
+  /**
+   * Intersections from the Directions API are placed on vertices of the step geometry, so their
+   * offsets are read from the cumulative distances with a single forward scan. Anything that
+   * can't be matched to a vertex falls back to the line slicing done by
+   * {@link NavigationHelper#createDistancesToIntersections(List, List)}.
+   */
+  private double[] buildIntersectionOffsets(List<Point> points, double[] cumulativeDistances,
+                                            List<StepIntersection> intersections) {
+    if (points.size() < TWO_POINTS || intersections.isEmpty()) {
+      return new double[0];
+    }
+    double[] offsets = new double[intersections.size()];
+    int vertexIndex = FIRST_POINT;
+    for (int i = 0; i < intersections.size(); i++) {
+      Point intersectionPoint = intersections.get(i).location();
+      int matchedIndex = findVertexFrom(vertexIndex, points, intersectionPoint);
+      if (matchedIndex < 0) {
+        return sliceIntersectionOffsets(points, intersections);
+      }
+      offsets[i] = cumulativeDistances[matchedIndex];
+      vertexIndex = matchedIndex;
+    }
+    return offsets;
+  }
+
+  private int findVertexFrom(int startIndex, List<Point> points, Point target) {
+    for (int i = startIndex; i < points.size(); i++) {
+      if (points.get(i).equals(target)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private double[] sliceIntersectionOffsets(List<Point> points, List<StepIntersection> intersections) {
+    List<Pair<StepIntersection, Double>> distances = createDistancesToIntersections(points, intersections);
+    double[] offsets = new double[distances.size()];
+    for (int i = 0; i < distances.size(); i++) {
+      offsets[i] = distances.get(i).second;
+    }
+    return offsets;
+  }
+
+  /**
+   * Decoded geometry of one step, along with the intersections used while traveling it
+   * (the step's own intersections plus the first intersection of the upcoming step).
+   */
+  static class StepGeometry {
+
+    private final List<Point> points;
+    private final double[] cumulativeDistances;
+    private final List<StepIntersection> intersections;
+    private final List<Pair<StepIntersection, Double>> intersectionDistances;
+    private final double[] intersectionOffsets;
+
+    StepGeometry(List<Point> points, double[] cumulativeDistances, List<StepIntersection> intersections,
+                 List<Pair<StepIntersection, Double>> intersectionDistances, double[] intersectionOffsets) {
+      this.points = points;
+      this.cumulativeDistances = cumulativeDistances;
+      this.intersections = intersections;
+      this.intersectionDistances = intersectionDistances;
+      this.intersectionOffsets = intersectionOffsets;
+    }
+
+    List<Point> points() {
+      return points;
+    }
+
+    /**
+     * @return distance in meters from the first point of the step to each point
+     */
+    double[] cumulativeDistances() {
+      return cumulativeDistances;
+    }
+
+    List<StepIntersection> intersections() {
+      return intersections;
+    }
+
+    List<Pair<StepIntersection, Double>> intersectionDistances() {
+      return intersectionDistances;
+    }
+
+    /**
+     * @return distance in meters from the first point of the step to each intersection
+     */
+    double[] intersectionOffsets() {
+      return intersectionOffsets;
+    }
+  }
+}
@@ -1,31 +1,66 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 
 import java.util.List;
 
+/**
+ * Hands routes to the navigator as JSON. The JSON received from the Directions API is used when
+ * the {@link RawDirectionsResponseCache} still has it, the route is only serialized otherwise.
+ */
 class RouteHandler {
 
   private static final int INDEX_FIRST_ROUTE = 0;
   private static final int INDEX_FIRST_LEG = 0;
   private final MapboxNavigator mapboxNavigator;
+  private final RawDirectionsResponseCache responseCache;
+  private DirectionsRoute currentRoute;
 
   RouteHandler(MapboxNavigator mapboxNavigator) {
+    this(mapboxNavigator, RawDirectionsResponseCache.getInstance());
+  }
+
+  // Package private (no modifier) for testing purposes
+  RouteHandler(MapboxNavigator mapboxNavigator, RawDirectionsResponseCache responseCache) {
     this.mapboxNavigator = mapboxNavigator;
+    this.responseCache = responseCache;
   }
 
   void updateRoute(DirectionsRoute route, DirectionsRouteType routeType) {
     if (routeType == DirectionsRouteType.NEW_ROUTE) {
-      String routeJson = route.toJson();
+      String routeJson = responseCache.findRouteJson(route);
+      if (routeJson == null) {
+        routeJson = route.toJson();
+      }
       // TODO route_index (Which route to follow) and leg_index (Which leg to follow) are hardcoded for now
       mapboxNavigator.setRoute(routeJson, INDEX_FIRST_ROUTE, INDEX_FIRST_LEG);
     } else {
       List<RouteLeg> legs = route.legs();
       for (int i = 0; i < legs.size(); i++) {
-        String annotationJson = legs.get(i).annotation().toJson();
+        LegAnnotation annotation = legs.get(i).annotation();
+        if (annotation == null || isCurrentAnnotation(i, annotation)) {
+          continue;
+        }
+        String annotationJson = responseCache.findAnnotationJson(route, i);
+        if (annotationJson == null) {
+          annotationJson = annotation.toJson();
+        }
         mapboxNavigator.updateAnnotations(annotationJson, INDEX_FIRST_ROUTE, i);
       }
     }
+    currentRoute = route;
+  }
+
+  /**
+   * A refreshed route keeps the annotation instances of the legs that weren't refreshed, the
+   * navigator already has those.
+   */
+  private boolean isCurrentAnnotation(int legIndex, LegAnnotation annotation) {
+    if (currentRoute == null || legIndex >= currentRoute.legs().size()) {
+      return false;
+    }
+    return currentRoute.legs().get(legIndex).annotation() == annotation;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.navigator.BannerInstruction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Instructions of the route set on the {@link MapboxNavigator}, readable without taking the navigator lock.
+ * <p>
+ * SSML announcements are copied from the {@link DirectionsRoute} once, in the order the navigator indexes
+ * its voice instructions. Banner instructions only exist on the native side, so the snapshot isn't
+ * immutable: it has a slot per banner instruction of the route, filled the first time that instruction
+ * is retrieved and never changed afterwards.
+ */
+class RouteInstructionSnapshot {
+
+  static final RouteInstructionSnapshot EMPTY = new RouteInstructionSnapshot(new String[0], 0);
+  private final String[] ssmlAnnouncements;
+  private final AtomicReferenceArray<BannerInstruction> bannerInstructions;
+
+  private RouteInstructionSnapshot(String[] ssmlAnnouncements, int bannerCapacity) {
+    this.ssmlAnnouncements = ssmlAnnouncements;
+    this.bannerInstructions = new AtomicReferenceArray<>(bannerCapacity);
+  }
+
+  @NonNull
+  static RouteInstructionSnapshot from(@NonNull DirectionsRoute route) {
+    List<String> announcements = new ArrayList<>();
+    int bannerCount = 0;
+    List<RouteLeg> legs = route.legs();
+    if (legs != null) {
+      for (RouteLeg leg : legs) {
+        addAnnouncements(leg, announcements);
+        bannerCount += countBannerInstructions(leg);
+      }
+    }
+    return new RouteInstructionSnapshot(announcements.toArray(new String[announcements.size()]), bannerCount);
+  }
+
+  /**
+   * @param index of the voice instruction along the route
+   * @return the SSML announcement, or null if the route doesn't provide one for the index
+   */
+  @Nullable
+  String retrieveSsmlAnnouncement(int index) {
+    if (index < 0 || index >= ssmlAnnouncements.length) {
+      return null;
+    }
+    return ssmlAnnouncements[index];
+  }
+
+  @Nullable
+  BannerInstruction retrieveBannerInstruction(int index) {
+    if (index < 0 || index >= bannerInstructions.length()) {
+      return null;
+    }
+    return bannerInstructions.get(index);
+  }
+
+  void storeBannerInstruction(int index, @Nullable BannerInstruction bannerInstruction) {
+    if (index >= 0 && index < bannerInstructions.length()) {
+      bannerInstructions.compareAndSet(index, null, bannerInstruction);
+    }
+  }
+
+  private static int countBannerInstructions(RouteLeg leg) {
+    List<LegStep> steps = leg.steps();
+    if (steps == null) {
+      return 0;
+    }
+    int bannerCount = 0;
+    for (LegStep step : steps) {
+      List<BannerInstructions> bannerInstructions = step.bannerInstructions();
+      if (bannerInstructions != null) {
+        bannerCount += bannerInstructions.size();
+      }
+    }
+    return bannerCount;
+  }
+
+  private static void addAnnouncements(RouteLeg leg, List<String> announcements) {
+    List<LegStep> steps = leg.steps();
+    if (steps == null) {
+      return;
+    }
+    for (LegStep step : steps) {
+      List<VoiceInstructions> voiceInstructions = step.voiceInstructions();
+      if (voiceInstructions == null) {
+        continue;
+      }
+      for (VoiceInstructions voiceInstruction : voiceInstructions) {
+        announcements.add(voiceInstruction.ssmlAnnouncement());
+      }
+    }
+  }
+}
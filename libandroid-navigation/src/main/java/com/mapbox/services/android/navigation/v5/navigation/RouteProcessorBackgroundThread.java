@@ -6,6 +6,7 @@ import android.os.HandlerThread;
 import android.os.Process;
 
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
@@ -21,6 +22,12 @@ class RouteProcessorBackgroundThread extends HandlerThread {
   private final Handler responseHandler;
   private final Listener listener;
   private final NavigationRouteProcessor routeProcessor;
+  private final Runnable newLocationRunnable = new Runnable() {
+    @Override
+    public void run() {
+      runnable.processNewLocation();
+    }
+  };
   private Handler workerHandler;
   private RouteProcessorRunnable runnable;
 
@@ -48,6 +55,7 @@ class RouteProcessorBackgroundThread extends HandlerThread {
   public boolean quit() {
     if (isAlive()) {
       workerHandler.removeCallbacks(runnable);
+      workerHandler.removeCallbacks(newLocationRunnable);
     }
     return super.quit();
   }
@@ -58,6 +66,9 @@ class RouteProcessorBackgroundThread extends HandlerThread {
       start();
     }
     runnable.updateRawLocation(rawLocation);
+    if (navigation.options().tickScheduler() != null) {
+      workerHandler.post(newLocationRunnable);
+    }
   }
 
   /**
@@ -69,12 +80,29 @@ class RouteProcessorBackgroundThread extends HandlerThread {
    */
   interface Listener {
 
+    /**
+     * Called on the navigation thread with every new progress, before the other callbacks are posted
+     * to the response handler.
+     */
+    void onRouteProgressProcessed(Location location, RouteProgress routeProgress);
+
     void onNewRouteProgress(Location location, RouteProgress routeProgress);
 
+    /**
+     * Called instead of {@link #onNewRouteProgress(Location, RouteProgress)} when a newer progress
+     * update has been posted before this one could be delivered.
+     */
+    void onStaleRouteProgress(RouteProgress routeProgress);
+
     void onMilestoneTrigger(List<Milestone> triggeredMilestones, RouteProgress routeProgress);
 
     void onUserOffRoute(Location location, boolean userOffRoute);
 
     void onCheckFasterRoute(Location location, RouteProgress routeProgress, boolean checkFasterRoute);
+
+    /**
+     * Only called when the progress along the alternative routes has been rebuilt, a few seconds apart.
+     */
+    void onAlternativeRouteProgress(List<AlternativeRouteProgress> alternativeRouteProgress);
   }
 }
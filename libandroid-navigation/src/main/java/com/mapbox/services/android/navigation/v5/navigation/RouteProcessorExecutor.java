@@ -0,0 +1,14 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Runs the work of the navigation processing loop. Backed by a {@link android.os.Handler} during a
+ * navigation session and by {@link SimulatedRouteProcessorExecutor} in a {@link NavigationSimulator}.
+ */
+interface RouteProcessorExecutor {
+
+  void post(Runnable runnable);
+
+  void postDelayed(Runnable runnable, long delayInMilliseconds);
+
+  void removeCallbacks(Runnable runnable);
+}
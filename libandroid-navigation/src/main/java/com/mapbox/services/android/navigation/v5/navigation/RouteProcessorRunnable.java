@@ -7,9 +7,11 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.navigator.RouteState;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
+import com.mapbox.services.android.navigation.v5.milestone.TriggerContext;
 import com.mapbox.services.android.navigation.v5.offroute.OffRoute;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteDetector;
 import com.mapbox.services.android.navigation.v5.route.FasterRoute;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.snap.Snap;
 import com.mapbox.services.android.navigation.v5.snap.SnapToRoute;
@@ -17,28 +19,49 @@ import com.mapbox.services.android.navigation.v5.snap.SnapToRoute;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 class RouteProcessorRunnable implements Runnable {
 
   private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
   private static final int ARRIVAL_ZONE_RADIUS = 40;
+  private static final long NO_PENDING_LOCATION = -1;
+  private static final long NO_ROUTE_UPDATE = -1;
   private final NavigationRouteProcessor routeProcessor;
   private final MapboxNavigation navigation;
-  private final Handler workerHandler;
-  private final Handler responseHandler;
+  private final RouteProcessorExecutor workerExecutor;
+  private final RouteProcessorExecutor responseExecutor;
   private final RouteProcessorBackgroundThread.Listener listener;
+  private final NavigationClock clock;
+  private final TriggerContext triggerContext = new TriggerContext();
+  private final AlternativeRouteTracker alternativeRouteTracker = new AlternativeRouteTracker();
+  private final AtomicLong latestResponse = new AtomicLong();
   private Location rawLocation;
+  private volatile long rawLocationReceivedTime = NO_PENDING_LOCATION;
+  private boolean isLocationTick;
+  private long measuredRouteUpdateTime;
 
   RouteProcessorRunnable(NavigationRouteProcessor routeProcessor,
                          MapboxNavigation navigation,
                          Handler workerHandler,
                          Handler responseHandler,
                          RouteProcessorBackgroundThread.Listener listener) {
+    this(routeProcessor, navigation, new HandlerRouteProcessorExecutor(workerHandler),
+      new HandlerRouteProcessorExecutor(responseHandler), listener, new SystemNavigationClock());
+  }
+
+  RouteProcessorRunnable(NavigationRouteProcessor routeProcessor,
+                         MapboxNavigation navigation,
+                         RouteProcessorExecutor workerExecutor,
+                         RouteProcessorExecutor responseExecutor,
+                         RouteProcessorBackgroundThread.Listener listener,
+                         NavigationClock clock) {
     this.routeProcessor = routeProcessor;
     this.navigation = navigation;
-    this.workerHandler = workerHandler;
-    this.responseHandler = responseHandler;
+    this.workerExecutor = workerExecutor;
+    this.responseExecutor = responseExecutor;
     this.listener = listener;
+    this.clock = clock;
   }
 
   @Override
@@ -48,35 +71,85 @@ class RouteProcessorRunnable implements Runnable {
 
   void updateRawLocation(Location rawLocation) {
     this.rawLocation = rawLocation;
+    this.rawLocationReceivedTime = System.nanoTime();
+  }
+
+  /**
+   * Processes right away, replacing the pending tick. Must be called on the worker thread.
+   */
+  void processNewLocation() {
+    workerExecutor.removeCallbacks(this);
+    isLocationTick = true;
+    process();
   }
 
   private void process() {
+    NavigationLatency latency = new NavigationLatency();
+    long locationReceivedTime = rawLocationReceivedTime;
+    rawLocationReceivedTime = NO_PENDING_LOCATION;
     MapboxNavigator mapboxNavigator = navigation.retrieveMapboxNavigator();
     MapboxNavigationOptions options = navigation.options();
     DirectionsRoute route = navigation.getRoute();
+    int routeGeneration = navigation.retrieveRouteGeneration();
+    long routeUpdateTime = navigation.retrieveRouteUpdateTime();
+    if (routeUpdateTime == measuredRouteUpdateTime) {
+      routeUpdateTime = NO_ROUTE_UPDATE;
+    } else {
+      measuredRouteUpdateTime = routeUpdateTime;
+    }
 
-    Date date = new Date();
+    Date date = new Date(clock.currentTimeMillis());
+    long stageStart = System.nanoTime();
     NavigationStatus status = mapboxNavigator.retrieveStatus(date,
       options.navigationLocationEngineIntervalLagInMilliseconds());
+    stageStart = latency.recordSince(NavigationLatencyStage.STATUS_RETRIEVAL, stageStart);
+    latency.record(NavigationLatencyStage.STATUS_LOCK_WAIT, mapboxNavigator.retrieveStatusLockWait());
     NavigationStatus previousStatus = routeProcessor.retrievePreviousStatus();
     status = checkForNewLegIndex(mapboxNavigator, route, status, previousStatus, options.enableAutoIncrementLegIndex());
-    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(mapboxNavigator, status, route);
+    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(mapboxNavigator, status, route,
+      routeGeneration);
 
     RouteRefresher routeRefresher = navigation.retrieveRouteRefresher();
     if (routeRefresher != null && routeRefresher.check(date)) {
       routeRefresher.refresh(routeProgress);
     }
+    stageStart = latency.recordSince(NavigationLatencyStage.ROUTE_PROGRESS, stageStart);
 
     NavigationEngineFactory engineFactory = navigation.retrieveEngineFactory();
     final boolean userOffRoute = isUserOffRoute(options, status, rawLocation, routeProgress, engineFactory);
+    stageStart = latency.recordSince(NavigationLatencyStage.OFF_ROUTE, stageStart);
     final Location snappedLocation = findSnappedLocation(status, rawLocation, routeProgress, engineFactory);
+    stageStart = latency.recordSince(NavigationLatencyStage.SNAP, stageStart);
     final boolean checkFasterRoute = checkFasterRoute(options, snappedLocation, routeProgress, engineFactory,
       userOffRoute);
+    stageStart = latency.recordSince(NavigationLatencyStage.FASTER_ROUTE, stageStart);
     final List<Milestone> milestones = findTriggeredMilestones(navigation, routeProgress);
+    latency.recordSince(NavigationLatencyStage.MILESTONES, stageStart);
+    final List<AlternativeRouteProgress> alternativeProgress = alternativeRouteTracker.update(
+      navigation.retrieveAlternativeRoutes(), routeProgress, routeProcessor.retrieveGeometryCache(),
+      clock.currentTimeMillis());
 
-    sendUpdateToResponseHandler(userOffRoute, milestones, snappedLocation, checkFasterRoute, routeProgress);
+    sendUpdateToResponseHandler(userOffRoute, milestones, snappedLocation, checkFasterRoute, routeProgress,
+      alternativeProgress, latency, locationReceivedTime, routeUpdateTime);
     routeProcessor.updatePreviousRouteProgress(routeProgress);
-    workerHandler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
+    recordTick(navigation.retrieveTickReport());
+    scheduleNextTick(options.tickScheduler(), routeProgress);
+  }
+
+  private void recordTick(NavigationTickReport tickReport) {
+    if (tickReport != null) {
+      tickReport.recordTick(isLocationTick);
+    }
+    isLocationTick = false;
+  }
+
+  private void scheduleNextTick(NavigationTickScheduler tickScheduler, RouteProgress routeProgress) {
+    long delay = ONE_SECOND_IN_MILLISECONDS;
+    if (tickScheduler != null) {
+      delay = tickScheduler.nextTickDelayInMilliseconds(routeProgress, rawLocation);
+      workerExecutor.removeCallbacks(this);
+    }
+    workerExecutor.postDelayed(this, delay);
   }
 
   private NavigationStatus checkForNewLegIndex(MapboxNavigator mapboxNavigator, DirectionsRoute route,
@@ -129,9 +202,10 @@ class RouteProcessorRunnable implements Runnable {
     if (previousRouteProgress == null) {
       previousRouteProgress = routeProgress;
     }
+    triggerContext.update(previousRouteProgress, routeProgress);
     List<Milestone> milestones = new ArrayList<>();
     for (Milestone milestone : mapboxNavigation.getMilestones()) {
-      if (milestone.isOccurring(previousRouteProgress, routeProgress)) {
+      if (milestone.isOccurring(previousRouteProgress, routeProgress, triggerContext)) {
         milestones.add(milestone);
       }
     }
@@ -140,14 +214,40 @@ class RouteProcessorRunnable implements Runnable {
 
   private void sendUpdateToResponseHandler(final boolean userOffRoute, final List<Milestone> milestones,
                                            final Location location, final boolean checkFasterRoute,
-                                           final RouteProgress finalRouteProgress) {
-    responseHandler.post(new Runnable() {
+                                           final RouteProgress finalRouteProgress,
+                                           final List<AlternativeRouteProgress> alternativeProgress,
+                                           final NavigationLatency latency, final long locationReceivedTime,
+                                           final long routeUpdateTime) {
+    final NavigationLatencyTracker latencyTracker = navigation.retrieveLatencyTracker();
+    final long postTime = System.nanoTime();
+    final long response = latestResponse.incrementAndGet();
+    listener.onRouteProgressProcessed(location, finalRouteProgress);
+    responseExecutor.post(new Runnable() {
       @Override
       public void run() {
-        listener.onNewRouteProgress(location, finalRouteProgress);
+        long dispatchStart = latency.recordSince(NavigationLatencyStage.RESPONSE_DISPATCH, postTime);
+        // Progress is conflated while the response thread lags, every other event is still delivered
+        if (response == latestResponse.get()) {
+          listener.onNewRouteProgress(location, finalRouteProgress);
+        } else {
+          listener.onStaleRouteProgress(finalRouteProgress);
+        }
         listener.onMilestoneTrigger(milestones, finalRouteProgress);
         listener.onUserOffRoute(location, userOffRoute);
         listener.onCheckFasterRoute(location, finalRouteProgress, checkFasterRoute);
+        if (alternativeProgress != null) {
+          listener.onAlternativeRouteProgress(alternativeProgress);
+        }
+        latency.recordSince(NavigationLatencyStage.LISTENERS, dispatchStart);
+        if (locationReceivedTime != NO_PENDING_LOCATION) {
+          latency.recordSince(NavigationLatencyStage.LOCATION_TO_LISTENER, locationReceivedTime);
+        }
+        if (routeUpdateTime != NO_ROUTE_UPDATE) {
+          latency.recordSince(NavigationLatencyStage.ROUTE_TO_FIRST_PROGRESS, routeUpdateTime);
+        }
+        if (latencyTracker != null) {
+          latencyTracker.record(latency);
+        }
       }
     });
   }
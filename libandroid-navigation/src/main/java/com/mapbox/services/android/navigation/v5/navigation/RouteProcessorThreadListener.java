@@ -5,6 +5,7 @@ import android.location.Location;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.route.RouteFetcher;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.List;
@@ -24,6 +25,14 @@ class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Lis
     this.notificationProvider = notificationProvider;
   }
 
+  /**
+   * Runs on the navigation thread, feeding the ProgressChangeListener objects added with their own executor.
+   */
+  @Override
+  public void onRouteProgressProcessed(Location location, RouteProgress routeProgress) {
+    eventDispatcher.onBackgroundProgressChange(location, routeProgress);
+  }
+
   /**
    * Corresponds to ProgressChangeListener object, updating the notification and passing information
    * to the navigation event dispatcher.
@@ -34,6 +43,14 @@ class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Lis
     eventDispatcher.onProgressChange(location, routeProgress);
   }
 
+  /**
+   * A stale update is only counted, the listeners receive the newer update right after.
+   */
+  @Override
+  public void onStaleRouteProgress(RouteProgress routeProgress) {
+    eventDispatcher.onProgressDropped();
+  }
+
   /**
    * With each valid and successful rawLocation update, this will get called once the work on the
    * navigation engine thread has finished. Depending on whether or not a milestone gets triggered
@@ -72,4 +89,9 @@ class RouteProcessorThreadListener implements RouteProcessorBackgroundThread.Lis
       routeFetcher.findRouteFromRouteProgress(location, routeProgress);
     }
   }
+
+  @Override
+  public void onAlternativeRouteProgress(List<AlternativeRouteProgress> alternativeRouteProgress) {
+    eventDispatcher.onAlternativeRouteProgress(alternativeRouteProgress);
+  }
 }
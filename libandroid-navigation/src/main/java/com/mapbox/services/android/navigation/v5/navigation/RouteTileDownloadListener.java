@@ -15,7 +15,8 @@ public interface RouteTileDownloadListener {
   void onError(@NonNull OfflineError error);
 
   /**
-   * Called with percentage progress updates of the download.
+   * Called with percentage progress updates of the download. The transfer of the tiles makes up the
+   * first half and their unpacking the second half.
    *
    * @param percent completed
    */
@@ -1,31 +1,89 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
+import android.os.AsyncTask;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.annotation.NonNull;
 
-import com.mapbox.services.android.navigation.v5.utils.DownloadTask;
+import java.io.File;
+import java.util.concurrent.Executor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
 
 /**
  * This class serves to contain the complicated chain of events that must happen to download
  * offline routing tiles. It creates and maintains a directory structure with the root in the
  * Offline directory, or wherever someone specifies.
+ * <p>
+ * Progress goes from 0 to {@link #DOWNLOAD_PROGRESS_SHARE} percent while the tar file is downloaded
+ * and up to 100 percent while it's unpacked.
  */
 class RouteTileDownloader {
 
-  private static final String FILE_EXTENSION_TAR = "tar";
+  static final int DOWNLOAD_PROGRESS_SHARE = 50;
+  private static final int PERCENT = 100;
+  private static final String FILE_EXTENSION_TAR = ".tar";
+  private static final String TAR_NAME_SEPARATOR = "-";
+  private static final OkHttpClient TILE_CLIENT = new OkHttpClient();
   private final OfflineNavigator offlineNavigator;
   private final String tilePath;
   private final RouteTileDownloadListener listener;
+  private final OkHttpClient client;
+  private final Executor downloadExecutor;
+  private final Executor callbackExecutor;
 
   RouteTileDownloader(OfflineNavigator offlineNavigator, String tilePath, RouteTileDownloadListener listener) {
+    this(offlineNavigator, tilePath, listener, TILE_CLIENT, AsyncTask.THREAD_POOL_EXECUTOR,
+      buildMainThreadExecutor());
+  }
+
+  // Package private (no modifier) for testing purposes
+  RouteTileDownloader(OfflineNavigator offlineNavigator, String tilePath, RouteTileDownloadListener listener,
+                      OkHttpClient client, Executor downloadExecutor, Executor callbackExecutor) {
     this.offlineNavigator = offlineNavigator;
     this.tilePath = tilePath;
     this.listener = listener;
+    this.client = client;
+    this.downloadExecutor = downloadExecutor;
+    this.callbackExecutor = callbackExecutor;
   }
 
   void startDownload(final OfflineTiles offlineTiles) {
     String version = offlineTiles.version();
-    TarFetchedCallback tarFetchedCallback = buildTarFetchedCallback(version);
-    offlineTiles.fetchRouteTiles(tarFetchedCallback);
+    Request request = offlineTiles.buildTileRequest();
+    TileUnpacker tileUnpacker = new TileUnpacker(offlineNavigator);
+    DownloadUpdateListener downloadListener = new DownloadUpdateListener(
+      this,
+      tileUnpacker,
+      tilePath,
+      version,
+      listener
+    );
+    downloadExecutor.execute(buildDownload(request, version, downloadListener));
+  }
+
+  /**
+   * Downloads the tiles of a new version and swaps them with the installed version once unpacked.
+   * The installed version can't be downloaded again, as the router may be reading it.
+   *
+   * @param offlineTiles     of the new version
+   * @param installedVersion the version currently on disk, removed once the router uses the new one
+   */
+  void startUpdate(final OfflineTiles offlineTiles, String installedVersion) {
+    String version = offlineTiles.version();
+    if (version.equals(installedVersion)) {
+      onError(new OfflineError("Unable to update tiles: version " + version + " is already installed"));
+      return;
+    }
+    Request request = offlineTiles.buildTileRequest();
+    File tileDirectory = new File(tilePath);
+    File stagingDirectory = TileVersionSwap.buildStagingDirectory(tileDirectory, version);
+    TileVersionSwap swap = new TileVersionSwap(tileDirectory, installedVersion, version, stagingDirectory);
+    TileVersionUpdate update = new TileVersionUpdate(swap, stagingDirectory, listener);
+    TileUnpacker tileUnpacker = new TileUnpacker(offlineNavigator);
+    DownloadUpdateListener downloadListener = new DownloadUpdateListener(this, tileUnpacker, update);
+    downloadExecutor.execute(buildDownload(request, version, downloadListener));
   }
 
   void onError(OfflineError error) {
@@ -34,27 +92,45 @@ class RouteTileDownloader {
     }
   }
 
-  @NonNull
-  private TarFetchedCallback buildTarFetchedCallback(String version) {
-    DownloadTask downloadTask = buildDownloadTask(tilePath, version);
-    return new TarFetchedCallback(this, downloadTask);
+  static int calculateDownloadPercent(long bytesDownloaded, long totalBytes) {
+    return (int) (bytesDownloaded * DOWNLOAD_PROGRESS_SHARE / totalBytes);
+  }
+
+  static int calculateUnpackPercent(long unpackProgress) {
+    return (int) (DOWNLOAD_PROGRESS_SHARE + unpackProgress * (PERCENT - DOWNLOAD_PROGRESS_SHARE) / PERCENT);
   }
 
   @NonNull
-  private DownloadTask buildDownloadTask(String tilePath, String tileVersion) {
-    TileUnpacker tileUnpacker = new TileUnpacker(offlineNavigator);
-    DownloadUpdateListener downloadListener = new DownloadUpdateListener(
-      this,
-      tileUnpacker,
-      tilePath,
-      tileVersion,
-      listener
-    );
-    return new DownloadTask(
-      tilePath,
-      tileVersion,
-      FILE_EXTENSION_TAR,
-      downloadListener
+  private ResumableTarDownload buildDownload(Request request, String tileVersion,
+                                            DownloadUpdateListener downloadListener) {
+    TarDownloadCallback callback = new TarDownloadCallback(this, downloadListener, listener);
+    return new ResumableTarDownload(
+      client,
+      request,
+      buildTarFile(request, tileVersion),
+      ResumableTarDownload.DEFAULT_CHUNK_SIZE_IN_BYTES,
+      ResumableTarDownload.DEFAULT_PARALLEL_CHUNKS,
+      callbackExecutor,
+      callback
     );
   }
+
+  /**
+   * The same version and region always map to the same file, so an interrupted download is resumed.
+   */
+  @NonNull
+  private File buildTarFile(Request request, String tileVersion) {
+    String region = Integer.toHexString(ResumableTarDownload.buildResumableUrl(request).hashCode());
+    return new File(tilePath, tileVersion + TAR_NAME_SEPARATOR + region + FILE_EXTENSION_TAR);
+  }
+
+  private static Executor buildMainThreadExecutor() {
+    final Handler handler = new Handler(Looper.getMainLooper());
+    return new Executor() {
+      @Override
+      public void execute(@NonNull Runnable runnable) {
+        handler.post(runnable);
+      }
+    };
+  }
 }
@@ -0,0 +1,92 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.PriorityQueue;
+
+/**
+ * Runs posted work synchronously on the calling thread against a virtual clock.
+ * <p>
+ * Nothing runs until {@link #advanceTo(long)} is called, which moves the clock forward and runs every
+ * task due by then in time order. Tasks posted for the same time run in the order they were posted.
+ */
+class SimulatedRouteProcessorExecutor implements RouteProcessorExecutor, NavigationClock {
+
+  private static final int INITIAL_CAPACITY = 4;
+  private final PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>(INITIAL_CAPACITY,
+    new Comparator<ScheduledTask>() {
+      @Override
+      public int compare(ScheduledTask first, ScheduledTask second) {
+        if (first.time != second.time) {
+          return first.time < second.time ? -1 : 1;
+        }
+        return first.sequence < second.sequence ? -1 : (first.sequence == second.sequence ? 0 : 1);
+      }
+    });
+  private long currentTime;
+  private long sequence;
+
+  SimulatedRouteProcessorExecutor(long startTime) {
+    this.currentTime = startTime;
+  }
+
+  @Override
+  public long currentTimeMillis() {
+    return currentTime;
+  }
+
+  @Override
+  public void post(Runnable runnable) {
+    postDelayed(runnable, 0);
+  }
+
+  @Override
+  public void postDelayed(Runnable runnable, long delayInMilliseconds) {
+    long time = currentTime + Math.max(0, delayInMilliseconds);
+    tasks.add(new ScheduledTask(time, sequence++, runnable));
+  }
+
+  @Override
+  public void removeCallbacks(Runnable runnable) {
+    Iterator<ScheduledTask> iterator = tasks.iterator();
+    while (iterator.hasNext()) {
+      if (iterator.next().runnable == runnable) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Runs all tasks due at or before the given time, including tasks they post that are also due,
+   * then leaves the clock at the given time. The clock never moves backwards.
+   *
+   * @param time to advance the virtual clock to
+   */
+  void advanceTo(long time) {
+    ScheduledTask next = tasks.peek();
+    while (next != null && next.time <= time) {
+      tasks.poll();
+      currentTime = Math.max(currentTime, next.time);
+      next.runnable.run();
+      next = tasks.peek();
+    }
+    currentTime = Math.max(currentTime, time);
+  }
+
+  void clear() {
+    tasks.clear();
+  }
+
+  private static class ScheduledTask {
+
+    private final long time;
+    private final long sequence;
+    private final Runnable runnable;
+
+    ScheduledTask(long time, long sequence, Runnable runnable) {
+      this.time = time;
+      this.sequence = sequence;
+      this.runnable = runnable;
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+class SystemNavigationClock implements NavigationClock {
+
+  @Override
+  public long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+}
@@ -0,0 +1,51 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.services.android.navigation.v5.utils.DownloadTask;
+
+import java.io.File;
+import java.util.HashMap;
+
+/**
+ * Forwards the download progress of the tar file and triggers its unpacking once it's on disk.
+ */
+class TarDownloadCallback implements ResumableTarDownload.Callback {
+
+  private final RouteTileDownloader downloader;
+  private final DownloadTask.DownloadListener downloadListener;
+  private final RouteTileDownloadListener listener;
+
+  TarDownloadCallback(RouteTileDownloader downloader, DownloadTask.DownloadListener downloadListener,
+                      RouteTileDownloadListener listener) {
+    this.downloader = downloader;
+    this.downloadListener = downloadListener;
+    this.listener = listener;
+  }
+
+  @Override
+  public void onProgress(long bytesDownloaded, long totalBytes) {
+    if (listener != null) {
+      listener.onProgressUpdate(RouteTileDownloader.calculateDownloadPercent(bytesDownloaded, totalBytes));
+    }
+  }
+
+  @Override
+  public void onFinished(@NonNull File tarFile) {
+    downloadListener.onFinishedDownloading(tarFile);
+  }
+
+  @Override
+  public void onResponseError(int code, String message) {
+    HashMap<Integer, String> errorCodes = new HashMap<>();
+    TarResponseErrorMap errorMap = new TarResponseErrorMap(errorCodes);
+    OfflineError error = new OfflineError(errorMap.buildErrorMessageWith(code, message));
+    downloader.onError(error);
+  }
+
+  @Override
+  public void onFailure(String message) {
+    OfflineError error = new OfflineError(message);
+    downloader.onError(error);
+  }
+}
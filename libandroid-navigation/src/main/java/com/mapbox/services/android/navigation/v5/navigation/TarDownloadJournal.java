@@ -0,0 +1,147 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.BitSet;
+
+import timber.log.Timber;
+
+/**
+ * Chunks of a tile pack already written to its partial file, kept next to it so an interrupted
+ * download resumes where it stopped, even after the app was restarted.
+ * <p>
+ * The first line identifies the download: the request, the size of the pack, the chunk size and the
+ * server validator. It's followed by the index of each chunk once it's written to disk.
+ */
+class TarDownloadJournal {
+
+  private static final String NEW_LINE = "\n";
+  private static final String CHUNK_INDEX_PATTERN = "\\d+";
+  private static final int BUFFER_SIZE = 1024;
+  private static final int END_OF_FILE = -1;
+  private final File file;
+  private final BitSet completedChunks = new BitSet();
+  private Writer writer;
+
+  TarDownloadJournal(@NonNull File file) {
+    this.file = file;
+  }
+
+  /**
+   * Opens the journal, keeping the chunks completed by a previous attempt of the same download.
+   *
+   * @param identity  of the download, a single line
+   * @param canResume false if the partial file is gone and every chunk has to be downloaded again
+   * @return true if chunks completed before are kept
+   */
+  synchronized boolean open(@NonNull String identity, boolean canResume) throws IOException {
+    close();
+    completedChunks.clear();
+    boolean isResumed = canResume && readCompletedChunks(identity);
+    // Written again from scratch so that chunks are always appended after a complete line
+    writer = new FileWriter(file, false);
+    StringBuilder content = new StringBuilder(identity).append(NEW_LINE);
+    for (int chunk = completedChunks.nextSetBit(0); chunk >= 0; chunk = completedChunks.nextSetBit(chunk + 1)) {
+      content.append(chunk).append(NEW_LINE);
+    }
+    writer.write(content.toString());
+    writer.flush();
+    return isResumed;
+  }
+
+  synchronized boolean isCompleted(int chunk) {
+    return completedChunks.get(chunk);
+  }
+
+  synchronized void markCompleted(int chunk) throws IOException {
+    completedChunks.set(chunk);
+    if (writer != null) {
+      writer.write(chunk + NEW_LINE);
+      writer.flush();
+    }
+  }
+
+  synchronized void close() {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+    writer = null;
+  }
+
+  synchronized void delete() {
+    close();
+    completedChunks.clear();
+    file.delete();
+  }
+
+  private boolean readCompletedChunks(String identity) {
+    if (!file.exists()) {
+      return false;
+    }
+    String[] lines;
+    try {
+      lines = readLines();
+    } catch (IOException exception) {
+      Timber.e(exception);
+      return false;
+    }
+    if (lines.length == 0 || !identity.equals(lines[0])) {
+      return false;
+    }
+    for (int i = 1; i < lines.length; i++) {
+      completedChunks.set(Integer.parseInt(lines[i]));
+    }
+    return true;
+  }
+
+  /**
+   * @return the complete lines, without a last line cut short when the app was killed
+   */
+  private String[] readLines() throws IOException {
+    StringBuilder content = new StringBuilder();
+    BufferedReader reader = null;
+    try {
+      reader = new BufferedReader(new FileReader(file));
+      char[] buffer = new char[BUFFER_SIZE];
+      int count;
+      while ((count = reader.read(buffer)) != END_OF_FILE) {
+        content.append(buffer, 0, count);
+      }
+    } finally {
+      closeQuietly(reader);
+    }
+    int lastNewLine = content.lastIndexOf(NEW_LINE);
+    if (lastNewLine < 0) {
+      return new String[0];
+    }
+    String[] lines = content.substring(0, lastNewLine).split(NEW_LINE);
+    for (int i = 1; i < lines.length; i++) {
+      if (!lines[i].matches(CHUNK_INDEX_PATTERN)) {
+        return new String[0];
+      }
+    }
+    return lines;
+  }
+
+  private static void closeQuietly(BufferedReader reader) {
+    if (reader == null) {
+      return;
+    }
+    try {
+      reader.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+}
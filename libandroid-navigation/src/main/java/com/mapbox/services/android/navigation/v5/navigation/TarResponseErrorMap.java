@@ -26,9 +26,14 @@ class TarResponseErrorMap {
 
   @NonNull
   String buildErrorMessageWith(@NonNull Response<ResponseBody> response) {
-    String errorMessage = errorCodes.get(response.code());
+    return buildErrorMessageWith(response.code(), response.message());
+  }
+
+  @NonNull
+  String buildErrorMessageWith(int code, String message) {
+    String errorMessage = errorCodes.get(code);
     if (errorMessage == null) {
-      errorMessage = String.format(ERROR_MESSAGE_FORMAT, response.code(), response.message());
+      errorMessage = String.format(ERROR_MESSAGE_FORMAT, code, message);
       return errorMessage;
     }
     return errorMessage;
@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.os.AsyncTask;
+import android.support.annotation.Nullable;
 
 import java.io.File;
 
@@ -19,7 +20,20 @@ class TileUnpacker {
    * @param updateListener listener to listen for progress updates
    */
   void unpack(File src, String destPath, UnpackUpdateTask.ProgressUpdateListener updateListener) {
-    new UnpackerTask(offlineNavigator).executeOnExecutor(
+    unpack(src, destPath, updateListener, null);
+  }
+
+  /**
+   * Unpacks a TAR file at the srcPath into the destination directory.
+   *
+   * @param src              where TAR file is located
+   * @param destPath         to the destination directory
+   * @param updateListener   listener to listen for progress updates
+   * @param unpackedListener listener notified once every tile is written
+   */
+  void unpack(File src, String destPath, UnpackUpdateTask.ProgressUpdateListener updateListener,
+              @Nullable UnpackerTask.UnpackedListener unpackedListener) {
+    new UnpackerTask(offlineNavigator, unpackedListener).executeOnExecutor(
       AsyncTask.THREAD_POOL_EXECUTOR, src.getAbsolutePath(), destPath + File.separator);
     new UnpackUpdateTask(updateListener).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR, src);
   }
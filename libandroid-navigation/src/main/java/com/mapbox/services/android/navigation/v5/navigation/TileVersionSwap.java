@@ -0,0 +1,142 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+
+import timber.log.Timber;
+
+/**
+ * Replaces the installed version of the routing tiles with a new version unpacked into a staging
+ * directory.
+ * <p>
+ * The staging directory is renamed to the new version in a single step, so
+ * {@link MapboxOfflineRouter#configure(String, OnOfflineTilesConfiguredCallback)} sees either no new
+ * version or a complete one. The installed version may still be used by the router, so it's only
+ * marked as retired and removed once the router is configured with another version, see
+ * {@link #deleteRetiredVersions(File, String)}.
+ */
+class TileVersionSwap {
+
+  static final String STAGING_EXTENSION = ".update";
+  private static final String STAGING_PREFIX = ".";
+  private static final String REPLACED_EXTENSION = ".replaced";
+  private static final String RETIRED_EXTENSION = ".retired";
+  private final File tileDirectory;
+  private final String installedVersion;
+  private final String newVersion;
+  private final File stagingDirectory;
+
+  TileVersionSwap(@NonNull File tileDirectory, @NonNull String installedVersion, @NonNull String newVersion,
+                  @NonNull File stagingDirectory) {
+    this.tileDirectory = tileDirectory;
+    this.installedVersion = installedVersion;
+    this.newVersion = newVersion;
+    this.stagingDirectory = stagingDirectory;
+  }
+
+  /**
+   * A staging directory unique to this update, so tiles left by an interrupted update are never mixed in.
+   */
+  @NonNull
+  static File buildStagingDirectory(@NonNull File tileDirectory, @NonNull String newVersion) {
+    String name = STAGING_PREFIX + newVersion + "-" + System.currentTimeMillis() + STAGING_EXTENSION;
+    return new File(tileDirectory, name);
+  }
+
+  /**
+   * Removes the versions retired by an update, other than the one the router was just configured with.
+   * The marker of a retired version survives restarts, so it's removed by the next configuration.
+   *
+   * @param tileDirectory     holding a directory per version
+   * @param configuredVersion version the router now uses
+   */
+  static void deleteRetiredVersions(@NonNull File tileDirectory, @NonNull String configuredVersion) {
+    File[] files = tileDirectory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      String name = file.getName();
+      if (!name.startsWith(STAGING_PREFIX) || !name.endsWith(RETIRED_EXTENSION)) {
+        continue;
+      }
+      String version = name.substring(STAGING_PREFIX.length(), name.length() - RETIRED_EXTENSION.length());
+      if (!version.equals(configuredVersion)) {
+        deleteRecursively(new File(tileDirectory, version));
+        deleteRecursively(file);
+      }
+    }
+  }
+
+  void apply() throws IOException {
+    try {
+      swap();
+    } catch (IOException exception) {
+      deleteRecursively(stagingDirectory);
+      throw exception;
+    }
+  }
+
+  private void swap() throws IOException {
+    if (installedVersion.equals(newVersion)) {
+      // The router may be reading the installed directory, it can't be replaced in place
+      throw new IOException("Unable to update tiles: version " + newVersion + " is already installed");
+    }
+    File newDirectory = new File(tileDirectory, newVersion);
+    String[] stagedTiles = stagingDirectory.list();
+    if (stagedTiles == null || stagedTiles.length == 0) {
+      throw new IOException("Unable to update tiles: no tiles found for version " + newVersion);
+    }
+
+    File replacedDirectory = new File(tileDirectory, STAGING_PREFIX + newVersion + REPLACED_EXTENSION);
+    if (newDirectory.exists() && !newDirectory.renameTo(replacedDirectory)) {
+      throw new IOException("Unable to update tiles: version " + newVersion + " is in use");
+    }
+    if (!stagingDirectory.renameTo(newDirectory)) {
+      replacedDirectory.renameTo(newDirectory);
+      throw new IOException("Unable to update tiles: version " + newVersion + " could not be activated");
+    }
+
+    deleteRecursively(replacedDirectory);
+    deleteRecursively(new File(tileDirectory, STAGING_PREFIX + newVersion + RETIRED_EXTENSION));
+    retire(installedVersion);
+    deleteStaleStagingDirectories();
+  }
+
+  private void retire(String version) {
+    File marker = new File(tileDirectory, STAGING_PREFIX + version + RETIRED_EXTENSION);
+    try {
+      marker.createNewFile();
+    } catch (IOException exception) {
+      // The retired version stays on disk until its tiles are removed
+      Timber.e(exception);
+    }
+  }
+
+  private void deleteStaleStagingDirectories() {
+    File[] files = tileDirectory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      String name = file.getName();
+      if (name.startsWith(STAGING_PREFIX) && name.endsWith(STAGING_EXTENSION)) {
+        deleteRecursively(file);
+      }
+    }
+  }
+
+  static void deleteRecursively(@NonNull File file) {
+    File[] children = file.listFiles();
+    if (children != null) {
+      for (File child : children) {
+        deleteRecursively(child);
+      }
+    }
+    if (file.exists() && !file.delete()) {
+      Timber.w("Unable to delete %s", file.getAbsolutePath());
+    }
+  }
+}
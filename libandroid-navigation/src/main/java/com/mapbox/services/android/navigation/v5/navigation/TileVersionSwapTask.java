@@ -0,0 +1,42 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.os.AsyncTask;
+
+import java.io.IOException;
+
+import timber.log.Timber;
+
+class TileVersionSwapTask extends AsyncTask<Void, Void, Boolean> {
+  private final TileVersionSwap swap;
+  private final RouteTileDownloadListener listener;
+  private String errorMessage;
+
+  TileVersionSwapTask(TileVersionSwap swap, RouteTileDownloadListener listener) {
+    this.swap = swap;
+    this.listener = listener;
+  }
+
+  @Override
+  protected Boolean doInBackground(Void... paramsUnused) {
+    try {
+      swap.apply();
+      return true;
+    } catch (IOException exception) {
+      Timber.e(exception);
+      errorMessage = exception.getMessage();
+      return false;
+    }
+  }
+
+  @Override
+  protected void onPostExecute(Boolean isSwapped) {
+    if (listener == null) {
+      return;
+    }
+    if (isSwapped) {
+      listener.onCompletion();
+    } else {
+      listener.onError(new OfflineError(errorMessage));
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.os.AsyncTask;
+import android.support.annotation.NonNull;
+
+import java.io.File;
+
+/**
+ * Follows the unpacking of a new tile version into its staging directory, then swaps it with the
+ * installed version once every tile is written.
+ */
+class TileVersionUpdate implements UnpackUpdateTask.ProgressUpdateListener, UnpackerTask.UnpackedListener {
+
+  private static final long UNPACKED = 99L;
+  private final TileVersionSwap swap;
+  private final File stagingDirectory;
+  private final RouteTileDownloadListener listener;
+
+  TileVersionUpdate(@NonNull TileVersionSwap swap, @NonNull File stagingDirectory,
+                    RouteTileDownloadListener listener) {
+    this.swap = swap;
+    this.stagingDirectory = stagingDirectory;
+    this.listener = listener;
+  }
+
+  @NonNull
+  String stagingPath() {
+    if (!stagingDirectory.exists()) {
+      stagingDirectory.mkdirs();
+    }
+    return stagingDirectory.getAbsolutePath();
+  }
+
+  @Override
+  public void onProgressUpdate(Long progress) {
+    if (listener != null) {
+      // Completion is only reported once the versions are swapped
+      long unpackProgress = Math.min(progress, UNPACKED);
+      listener.onProgressUpdate(RouteTileDownloader.calculateUnpackPercent(unpackProgress));
+    }
+  }
+
+  @Override
+  public void onCompletion() {
+    // The tar file is emptied before the last tiles are written, see onUnpacked
+  }
+
+  @Override
+  public void onUnpacked() {
+    new TileVersionSwapTask(swap, listener).executeOnExecutor(AsyncTask.THREAD_POOL_EXECUTOR);
+  }
+}
@@ -14,7 +14,7 @@ class UnpackProgressUpdateListener implements UnpackUpdateTask.ProgressUpdateLis
   @Override
   public void onProgressUpdate(Long progress) {
     if (listener != null) {
-      listener.onProgressUpdate(progress.intValue());
+      listener.onProgressUpdate(RouteTileDownloader.calculateUnpackPercent(progress));
     }
   }
 
@@ -11,6 +11,9 @@ import java.io.File;
  * periodically checking the file size, because as it's unpacked, the file size will decrease.
  */
 class UnpackUpdateTask extends AsyncTask<File, Long, File> {
+  private static final long COMPLETE = 100L;
+  private static final long NO_PROGRESS = -1L;
+  private static final long SAMPLE_INTERVAL_IN_MILLIS = 250;
   private ProgressUpdateListener progressUpdateListener;
 
   /**
@@ -29,15 +32,32 @@ class UnpackUpdateTask extends AsyncTask<File, Long, File> {
     File tilePack = files[0];
     double size = tilePack.length();
     long progress = 0;
-    do {
-      progress = (long)(100.0 * (1.0 - (tilePack.length() / size)));
-      publishProgress(progress);
+    long publishedProgress = NO_PROGRESS;
+    while (progress < COMPLETE) {
+      progress = size > 0 ? (long) (COMPLETE * (1.0 - (tilePack.length() / size))) : COMPLETE;
+      if (progress != publishedProgress) {
+        publishProgress(progress);
+        publishedProgress = progress;
+      }
+      // The native unpacker has no progress callback, the size is sampled instead of checked in a busy loop
+      if (progress < COMPLETE && !waitForNextSample()) {
+        break;
+      }
     }
-    while (progress < 100L);
 
     return tilePack;
   }
 
+  private boolean waitForNextSample() {
+    try {
+      Thread.sleep(SAMPLE_INTERVAL_IN_MILLIS);
+      return true;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
   @Override
   protected void onPostExecute(File file) {
     super.onPostExecute(file);
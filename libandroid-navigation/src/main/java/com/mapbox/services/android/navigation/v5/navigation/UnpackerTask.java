@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.os.AsyncTask;
+import android.support.annotation.Nullable;
 
 import java.io.File;
 
@@ -14,9 +15,15 @@ import java.io.File;
  */
 class UnpackerTask extends AsyncTask<String, Integer, File> {
   private final OfflineNavigator offlineNavigator;
+  private final UnpackedListener unpackedListener;
 
   UnpackerTask(OfflineNavigator offlineNavigator) {
+    this(offlineNavigator, null);
+  }
+
+  UnpackerTask(OfflineNavigator offlineNavigator, @Nullable UnpackedListener unpackedListener) {
     this.offlineNavigator = offlineNavigator;
+    this.unpackedListener = unpackedListener;
   }
 
   @Override
@@ -29,5 +36,15 @@ class UnpackerTask extends AsyncTask<String, Integer, File> {
   @Override
   protected void onPostExecute(File file) {
     file.delete();
+    if (unpackedListener != null) {
+      unpackedListener.onUnpacked();
+    }
+  }
+
+  /**
+   * Notified once the native unpacker returned, when every tile is written to the destination.
+   */
+  interface UnpackedListener {
+    void onUnpacked();
   }
 }
@@ -50,7 +50,7 @@ public class SimpleCamera extends Camera {
   }
 
   private void setupLineStringAndBearing(DirectionsRoute route) {
-    if (route.equals(initialRoute)) {
+    if (route == initialRoute) {
       return; //no need to recalculate these values
     }
     initialRoute = route;
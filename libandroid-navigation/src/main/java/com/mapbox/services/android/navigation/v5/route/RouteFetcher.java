@@ -2,6 +2,7 @@ package com.mapbox.services.android.navigation.v5.route;
 
 import android.content.Context;
 import android.location.Location;
+import android.os.SystemClock;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -14,8 +15,10 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import retrofit2.Call;
@@ -26,28 +29,58 @@ import timber.log.Timber;
 /**
  * This class can be used to fetch new routes given a {@link Location} origin and
  * {@link RouteOptions} provided by a {@link RouteProgress}.
+ * <p>
+ * Requests built with {@link RouteFetcher#buildRequestFrom(Location, RouteProgress)} share one HTTP
+ * client. While such a request is pending, another one to the same remaining waypoints from an origin
+ * within {@link RouteFetcher#COALESCE_RADIUS_IN_METERS} is answered by the pending one instead of being
+ * sent. Requests are also limited by a session budget with a backoff after failures, see
+ * {@link RouteFetcher#retrieveRequestMetrics()}.
  */
 public class RouteFetcher {
 
+  /**
+   * Origins of two requests to the same remaining waypoints closer than this are considered the same.
+   */
+  public static final double COALESCE_RADIUS_IN_METERS = 25d;
   private static final double BEARING_TOLERANCE = 90d;
   private static final String SEMICOLON = ";";
   private static final int ORIGIN_APPROACH_THRESHOLD = 1;
   private static final int ORIGIN_APPROACH = 0;
   private static final int FIRST_POSITION = 0;
   private static final int SECOND_POSITION = 1;
+  private static final String THROTTLED_MESSAGE_FORMAT = "Route request skipped: %d requests sent, "
+    + "waiting for the request budget to refill";
 
   private final List<RouteListener> routeListeners = new CopyOnWriteArrayList<>();
   private final String accessToken;
   private final WeakReference<Context> contextWeakReference;
+  private final RouteRequestBudget requestBudget;
 
   private NavigationRoute navigationRoute;
   private RouteProgress routeProgress;
   private RouteUtils routeUtils;
+  private NavigationRoute.Builder lastBuilder;
+  private RouteRequestKey lastBuilderKey;
+  private SharedRouteClientInterceptor lastBuilderInterceptor;
+  private RouteRequestKey pendingKey;
+  private SharedRouteClientInterceptor pendingInterceptor;
+  private NavigationRoute canceledRoute;
+  private boolean isRequestPending;
+  private long requestSentTime;
+  private int requestCount;
+  private int sentCount;
+  private int coalescedCount;
+  private int throttledCount;
+  private int failureCount;
+  private int measuredCount;
+  private long lastLatencyInMillis = RouteRequestMetrics.NOT_MEASURED;
+  private long totalLatencyInMillis;
 
   public RouteFetcher(Context context, String accessToken) {
     this.accessToken = accessToken;
     contextWeakReference = new WeakReference<>(context);
     routeUtils = new RouteUtils();
+    requestBudget = new RouteRequestBudget();
   }
 
   // Package private (no modifier) for testing purposes
@@ -55,6 +88,7 @@ public class RouteFetcher {
     this.contextWeakReference = new WeakReference<>(context);
     this.navigationRoute = navigationRoute;
     this.accessToken = accessToken;
+    this.requestBudget = new RouteRequestBudget();
   }
 
   // Package private (no modifier) for testing purposes
@@ -62,6 +96,15 @@ public class RouteFetcher {
     this.contextWeakReference = new WeakReference<>(context);
     this.accessToken = accessToken;
     this.routeUtils = routeUtils;
+    this.requestBudget = new RouteRequestBudget();
+  }
+
+  // Package private (no modifier) for testing purposes
+  RouteFetcher(Context context, String accessToken, RouteUtils routeUtils, RouteRequestBudget requestBudget) {
+    this.contextWeakReference = new WeakReference<>(context);
+    this.accessToken = accessToken;
+    this.routeUtils = routeUtils;
+    this.requestBudget = requestBudget;
   }
 
   /**
@@ -120,20 +163,24 @@ public class RouteFetcher {
     Point origin = Point.fromLngLat(location.getLongitude(), location.getLatitude());
     Double bearing = location.hasBearing() ? Float.valueOf(location.getBearing()).doubleValue() : null;
     RouteOptions options = routeProgress.directionsRoute().routeOptions();
+    SharedRouteClientInterceptor interceptor = new SharedRouteClientInterceptor();
     NavigationRoute.Builder builder = NavigationRoute.builder(context)
       .accessToken(accessToken)
       .origin(origin, bearing, BEARING_TOLERANCE)
-      .routeOptions(options);
+      .routeOptions(options)
+      .interceptor(interceptor);
 
     List<Point> remainingWaypoints = routeUtils.calculateRemainingWaypoints(routeProgress);
     if (remainingWaypoints == null) {
       Timber.e("An error occurred fetching a new route");
       return null;
     }
+    RouteRequestKey key = new RouteRequestKey(origin, new ArrayList<>(remainingWaypoints));
     addDestination(remainingWaypoints, builder);
     addWaypoints(remainingWaypoints, builder);
     addWaypointNames(routeProgress, builder);
     addApproaches(routeProgress, builder);
+    rememberBuilder(builder, key, interceptor);
     return builder;
   }
 
@@ -144,19 +191,96 @@ public class RouteFetcher {
    * @param builder to be executed
    */
   public void findRouteWith(NavigationRoute.Builder builder) {
-    if (builder != null) {
+    if (builder == null) {
+      return;
+    }
+    synchronized (this) {
+      requestCount++;
+      RouteRequestKey key = builder == lastBuilder ? lastBuilderKey : null;
+      SharedRouteClientInterceptor interceptor = builder == lastBuilder ? lastBuilderInterceptor : null;
+      if (isRequestPending && key != null && pendingKey != null && key.isNear(pendingKey, COALESCE_RADIUS_IN_METERS)) {
+        coalescedCount++;
+        return;
+      }
+      long now = SystemClock.elapsedRealtime();
+      if (!requestBudget.tryAcquire(now)) {
+        throttledCount++;
+        updateListenersWithError(new IllegalStateException(String.format(Locale.US, THROTTLED_MESSAGE_FORMAT,
+          sentCount)));
+        return;
+      }
+      if (isRequestPending) {
+        // The pending request is superseded, its answer would be outdated
+        cancelRouteCall();
+      }
       navigationRoute = builder.build();
-      navigationRoute.getRoute(directionsResponseCallback);
+      pendingKey = key;
+      pendingInterceptor = interceptor;
+      isRequestPending = true;
+      requestSentTime = now;
+      sentCount++;
+      navigationRoute.getRoute(new DirectionsResponseCallback(navigationRoute));
     }
   }
 
   /**
    * Cancels the Directions API call if it has not been executed yet.
    */
-  public void cancelRouteCall() {
+  public synchronized void cancelRouteCall() {
     if (navigationRoute != null) {
       navigationRoute.cancelCall();
     }
+    if (pendingInterceptor != null) {
+      pendingInterceptor.cancel();
+    }
+    isRequestPending = false;
+    canceledRoute = navigationRoute;
+  }
+
+  /**
+   * Counts of the requests made through this fetcher since it was created, including the ones answered
+   * by a pending request and the ones skipped by the request budget, and the latency of the sent ones.
+   *
+   * @return a snapshot of the request metrics
+   */
+  public synchronized RouteRequestMetrics retrieveRequestMetrics() {
+    long averageLatency = measuredCount > 0 ? totalLatencyInMillis / measuredCount : RouteRequestMetrics.NOT_MEASURED;
+    return new RouteRequestMetrics(requestCount, sentCount, coalescedCount, throttledCount, failureCount,
+      lastLatencyInMillis, averageLatency);
+  }
+
+  private synchronized void rememberBuilder(NavigationRoute.Builder builder, RouteRequestKey key,
+                                            SharedRouteClientInterceptor interceptor) {
+    lastBuilder = builder;
+    lastBuilderKey = key;
+    lastBuilderInterceptor = interceptor;
+  }
+
+  /**
+   * @return false if the answer belongs to a request which was superseded since
+   */
+  private synchronized boolean onRequestAnswered(NavigationRoute answeredRoute, boolean isSuccessful) {
+    if (answeredRoute != navigationRoute) {
+      return false;
+    }
+    if (answeredRoute == canceledRoute) {
+      // Canceled on purpose, neither a failure nor a latency sample
+      return true;
+    }
+    long now = SystemClock.elapsedRealtime();
+    isRequestPending = false;
+    pendingKey = null;
+    pendingInterceptor = null;
+    lastLatencyInMillis = now - requestSentTime;
+    totalLatencyInMillis += lastLatencyInMillis;
+    measuredCount++;
+    if (isSuccessful) {
+      requestBudget.onSuccess();
+    } else {
+      failureCount++;
+      requestBudget.onFailure(now);
+    }
+    return true;
   }
 
   private void addDestination(List<Point> remainingWaypoints, NavigationRoute.Builder builder) {
@@ -212,17 +336,29 @@ public class RouteFetcher {
     return context == null || location == null || routeProgress == null;
   }
 
-  private Callback<DirectionsResponse> directionsResponseCallback = new Callback<DirectionsResponse>() {
+  private class DirectionsResponseCallback implements Callback<DirectionsResponse> {
+
+    private final NavigationRoute requestedRoute;
+
+    DirectionsResponseCallback(NavigationRoute requestedRoute) {
+      this.requestedRoute = requestedRoute;
+    }
+
     @Override
     public void onResponse(@NonNull Call<DirectionsResponse> call, @NonNull Response<DirectionsResponse> response) {
-      updateListeners(response.body(), routeProgress);
+      boolean hasRoutes = response.body() != null && !response.body().routes().isEmpty();
+      if (onRequestAnswered(requestedRoute, hasRoutes)) {
+        updateListeners(response.body(), routeProgress);
+      }
     }
 
     @Override
     public void onFailure(@NonNull Call<DirectionsResponse> call, @NonNull Throwable throwable) {
-      updateListenersWithError(throwable);
+      if (onRequestAnswered(requestedRoute, false)) {
+        updateListenersWithError(throwable);
+      }
     }
-  };
+  }
 
   private void updateListeners(DirectionsResponse response, RouteProgress routeProgress) {
     for (RouteListener listener : routeListeners) {
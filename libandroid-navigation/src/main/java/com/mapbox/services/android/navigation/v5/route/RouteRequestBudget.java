@@ -0,0 +1,77 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+/**
+ * Limits how many route requests a session sends.
+ * <p>
+ * Requests draw from a bucket refilled at a steady rate, so a burst of reroutes is capped while a
+ * long session keeps its regular faster route checks. After a failed request, the next one waits
+ * for a delay doubling with each consecutive failure.
+ */
+class RouteRequestBudget {
+
+  static final int DEFAULT_BURST_SIZE = 10;
+  static final long DEFAULT_REFILL_INTERVAL_IN_MILLIS = 30 * 1000;
+  static final long DEFAULT_INITIAL_BACKOFF_IN_MILLIS = 1000;
+  static final long DEFAULT_MAX_BACKOFF_IN_MILLIS = 60 * 1000;
+  private static final long NO_TIME = -1L;
+  private final int burstSize;
+  private final long refillIntervalInMillis;
+  private final long initialBackoffInMillis;
+  private final long maxBackoffInMillis;
+  private double availableRequests;
+  private long lastRefillTime = NO_TIME;
+  private long nextAllowedTime = NO_TIME;
+  private int consecutiveFailures;
+
+  RouteRequestBudget() {
+    this(DEFAULT_BURST_SIZE, DEFAULT_REFILL_INTERVAL_IN_MILLIS, DEFAULT_INITIAL_BACKOFF_IN_MILLIS,
+      DEFAULT_MAX_BACKOFF_IN_MILLIS);
+  }
+
+  RouteRequestBudget(int burstSize, long refillIntervalInMillis, long initialBackoffInMillis,
+                     long maxBackoffInMillis) {
+    this.burstSize = burstSize;
+    this.refillIntervalInMillis = refillIntervalInMillis;
+    this.initialBackoffInMillis = initialBackoffInMillis;
+    this.maxBackoffInMillis = maxBackoffInMillis;
+    this.availableRequests = burstSize;
+  }
+
+  /**
+   * @param nowInMillis monotonic time of the request
+   * @return true if the request can be sent, it's then taken from the budget
+   */
+  synchronized boolean tryAcquire(long nowInMillis) {
+    refill(nowInMillis);
+    if (nextAllowedTime != NO_TIME && nowInMillis < nextAllowedTime) {
+      return false;
+    }
+    if (availableRequests < 1) {
+      return false;
+    }
+    availableRequests--;
+    return true;
+  }
+
+  synchronized void onSuccess() {
+    consecutiveFailures = 0;
+    nextAllowedTime = NO_TIME;
+  }
+
+  synchronized void onFailure(long nowInMillis) {
+    long backoff = initialBackoffInMillis;
+    for (int failure = 0; failure < consecutiveFailures && backoff < maxBackoffInMillis; failure++) {
+      backoff *= 2;
+    }
+    consecutiveFailures++;
+    nextAllowedTime = nowInMillis + Math.min(backoff, maxBackoffInMillis);
+  }
+
+  private void refill(long nowInMillis) {
+    if (lastRefillTime != NO_TIME && nowInMillis > lastRefillTime) {
+      double refilled = (nowInMillis - lastRefillTime) / (double) refillIntervalInMillis;
+      availableRequests = Math.min(burstSize, availableRequests + refilled);
+    }
+    lastRefillTime = nowInMillis;
+  }
+}
@@ -0,0 +1,33 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What makes two route requests interchangeable: the same remaining waypoints from nearly the
+ * same origin.
+ */
+class RouteRequestKey {
+
+  private final Point origin;
+  private final List<Point> remainingWaypoints;
+
+  RouteRequestKey(@NonNull Point origin, @NonNull List<Point> remainingWaypoints) {
+    this.origin = origin;
+    this.remainingWaypoints = new ArrayList<>(remainingWaypoints);
+  }
+
+  boolean isNear(@NonNull RouteRequestKey other, double originRadiusInMeters) {
+    if (!remainingWaypoints.equals(other.remainingWaypoints)) {
+      return false;
+    }
+    double originDistance = TurfMeasurement.distance(origin, other.origin, TurfConstants.UNIT_METERS);
+    return originDistance <= originRadiusInMeters;
+  }
+}
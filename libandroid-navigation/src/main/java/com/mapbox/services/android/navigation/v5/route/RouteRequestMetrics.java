@@ -0,0 +1,80 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+/**
+ * Counts of the route requests made through a {@link RouteFetcher} and the latency of the ones
+ * that were sent.
+ */
+public class RouteRequestMetrics {
+
+  /**
+   * Returned as latency while no response has been received yet.
+   */
+  public static final long NOT_MEASURED = -1L;
+  private final int requestCount;
+  private final int sentCount;
+  private final int coalescedCount;
+  private final int throttledCount;
+  private final int failureCount;
+  private final long lastLatencyInMillis;
+  private final long averageLatencyInMillis;
+
+  RouteRequestMetrics(int requestCount, int sentCount, int coalescedCount, int throttledCount, int failureCount,
+                      long lastLatencyInMillis, long averageLatencyInMillis) {
+    this.requestCount = requestCount;
+    this.sentCount = sentCount;
+    this.coalescedCount = coalescedCount;
+    this.throttledCount = throttledCount;
+    this.failureCount = failureCount;
+    this.lastLatencyInMillis = lastLatencyInMillis;
+    this.averageLatencyInMillis = averageLatencyInMillis;
+  }
+
+  /**
+   * @return every route requested, whether it was sent or not
+   */
+  public int requestCount() {
+    return requestCount;
+  }
+
+  /**
+   * @return the requests sent to the Directions API
+   */
+  public int sentCount() {
+    return sentCount;
+  }
+
+  /**
+   * @return the requests answered by a matching request already pending
+   */
+  public int coalescedCount() {
+    return coalescedCount;
+  }
+
+  /**
+   * @return the requests skipped because the request budget was spent or a failure backoff was running
+   */
+  public int throttledCount() {
+    return throttledCount;
+  }
+
+  /**
+   * @return the sent requests which failed or were answered without a route
+   */
+  public int failureCount() {
+    return failureCount;
+  }
+
+  /**
+   * @return the time between sending the last request and receiving its answer
+   */
+  public long lastLatencyInMillis() {
+    return lastLatencyInMillis;
+  }
+
+  /**
+   * @return the average time between sending a request and receiving its answer
+   */
+  public long averageLatencyInMillis() {
+    return averageLatencyInMillis;
+  }
+}
@@ -0,0 +1,53 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import android.support.annotation.NonNull;
+
+import java.io.IOException;
+
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * Sends a route request through an {@link OkHttpClient} shared by every request of the app.
+ * <p>
+ * Each {@link com.mapbox.services.android.navigation.v5.navigation.NavigationRoute} builds its own
+ * client and there's no way to hand it one, so this interceptor answers the request before it reaches
+ * that client's network layer. Reroutes then reuse the connections, and their TLS sessions, of the
+ * previous requests.
+ */
+class SharedRouteClientInterceptor implements Interceptor {
+
+  private static final OkHttpClient SHARED_CLIENT = new OkHttpClient();
+  private final OkHttpClient client;
+  private volatile Call call;
+  private volatile boolean isCanceled;
+
+  SharedRouteClientInterceptor() {
+    this(SHARED_CLIENT);
+  }
+
+  // Package private (no modifier) for testing purposes
+  SharedRouteClientInterceptor(OkHttpClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public Response intercept(@NonNull Chain chain) throws IOException {
+    Call sharedCall = client.newCall(chain.request());
+    call = sharedCall;
+    if (isCanceled) {
+      sharedCall.cancel();
+    }
+    return sharedCall.execute();
+  }
+
+  void cancel() {
+    isCanceled = true;
+    Call sharedCall = call;
+    if (sharedCall != null) {
+      sharedCall.cancel();
+    }
+  }
+}
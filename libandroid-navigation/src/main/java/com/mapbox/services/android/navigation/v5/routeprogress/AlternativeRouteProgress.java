@@ -0,0 +1,83 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import com.google.auto.value.AutoValue;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+
+/**
+ * Progress along an alternative of the route being navigated, while the vehicle is still on the
+ * part both routes share.
+ */
+@AutoValue
+public abstract class AlternativeRouteProgress {
+
+  /**
+   * Create a new instance of this class by using the {@link AlternativeRouteProgress.Builder} class.
+   *
+   * @return this classes {@link AlternativeRouteProgress.Builder} for creating a new instance
+   */
+  public static Builder builder() {
+    return new AutoValue_AlternativeRouteProgress.Builder();
+  }
+
+  /**
+   * The alternative route, as given to {@code MapboxNavigation#updateAlternativeRoutes(List)}.
+   *
+   * @return the alternative route
+   */
+  public abstract DirectionsRoute directionsRoute();
+
+  /**
+   * Distance in meters left along the alternative until its destination.
+   *
+   * @return distance remaining in meters
+   */
+  public abstract double distanceRemaining();
+
+  /**
+   * Duration in seconds left along the alternative until its destination, from its duration
+   * annotations when available.
+   *
+   * @return duration remaining in seconds
+   */
+  public abstract double durationRemaining();
+
+  /**
+   * Duration remaining along the alternative minus the duration remaining along the route being
+   * navigated. A negative value is the time the alternative saves.
+   *
+   * @return difference of the durations remaining in seconds
+   */
+  public abstract double durationDelta();
+
+  /**
+   * Distance in meters until the alternative leaves the route being navigated. The alternative
+   * stops being tracked once this point has been passed.
+   *
+   * @return distance to the divergence point in meters
+   */
+  public abstract double distanceToDivergence();
+
+  /**
+   * This builder can be used to set the values describing the {@link AlternativeRouteProgress}.
+   */
+  @AutoValue.Builder
+  public abstract static class Builder {
+
+    public abstract Builder directionsRoute(DirectionsRoute directionsRoute);
+
+    public abstract Builder distanceRemaining(double distanceRemaining);
+
+    public abstract Builder durationRemaining(double durationRemaining);
+
+    public abstract Builder durationDelta(double durationDelta);
+
+    public abstract Builder distanceToDivergence(double distanceToDivergence);
+
+    /**
+     * Build a new {@link AlternativeRouteProgress} object.
+     *
+     * @return a new {@link AlternativeRouteProgress} using the provided values in this builder
+     */
+    public abstract AlternativeRouteProgress build();
+  }
+}
@@ -0,0 +1,11 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import java.util.List;
+
+/**
+ * Receives the progress along the alternatives of the route being navigated, a few seconds apart.
+ * An empty list means no alternative is tracked anymore.
+ */
+public interface AlternativeRouteProgressListener {
+  void onAlternativeRouteProgress(List<AlternativeRouteProgress> alternativeRouteProgress);
+}
@@ -0,0 +1,50 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import android.support.annotation.NonNull;
+
+/**
+ * A stretch of a leg along which an annotation, like the congestion level or the speed limit,
+ * keeps the same value.
+ * <p>
+ * Returned by the range queries of {@link LegAnnotationIndex}.
+ *
+ * @param <T> type of the annotation value
+ */
+public class AnnotationWindow<T> {
+
+  private final double startDistance;
+  private final double endDistance;
+  private final T value;
+
+  AnnotationWindow(double startDistance, double endDistance, @NonNull T value) {
+    this.startDistance = startDistance;
+    this.endDistance = endDistance;
+    this.value = value;
+  }
+
+  /**
+   * @return distance in meters from the start of the leg to the start of this window
+   */
+  public double startDistance() {
+    return startDistance;
+  }
+
+  /**
+   * @return distance in meters from the start of the leg to the end of this window
+   */
+  public double endDistance() {
+    return endDistance;
+  }
+
+  /**
+   * @return annotation value along this window
+   */
+  @NonNull
+  public T value() {
+    return value;
+  }
+
+  AnnotationWindow<T> extendTo(double endDistance) {
+    return new AnnotationWindow<>(startDistance, endDistance, value);
+  }
+}
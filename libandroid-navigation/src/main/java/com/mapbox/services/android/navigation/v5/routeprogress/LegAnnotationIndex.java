@@ -0,0 +1,252 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.MaxSpeed;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Annotations of a {@link RouteLeg} laid out in arrays, built once per leg of a route.
+ * <p>
+ * Segment start distances are summed up front, so the annotation at a position along the leg is
+ * found with a binary search, and the congestion levels or speed limits ahead are read as
+ * {@link AnnotationWindow}s over a range of distances.
+ * <p>
+ * Only present when the route was requested with
+ * {@link com.mapbox.api.directions.v5.DirectionsCriteria#ANNOTATION_DISTANCE}.
+ */
+public class LegAnnotationIndex {
+
+  /**
+   * Returned by {@link #findDurationRemaining(double)} when the leg has no duration annotations.
+   */
+  public static final double NO_DURATION = -1;
+  private static final int FIRST_SEGMENT = 0;
+  private final double[] segmentStarts;
+  private final double[] durations;
+  private final double[] durationEnds;
+  private final double[] speeds;
+  private final MaxSpeed[] maxspeeds;
+  private final String[] congestions;
+
+  private LegAnnotationIndex(double[] segmentStarts, @Nullable double[] durations, @Nullable double[] speeds,
+                             @Nullable MaxSpeed[] maxspeeds, @Nullable String[] congestions) {
+    this.segmentStarts = segmentStarts;
+    this.durations = durations;
+    this.durationEnds = sumDurations(durations);
+    this.speeds = speeds;
+    this.maxspeeds = maxspeeds;
+    this.congestions = congestions;
+  }
+
+  /**
+   * Builds the index of the annotations of the given leg.
+   *
+   * @param leg with its annotations
+   * @return the index, or null if the leg has no distance annotations
+   */
+  @Nullable
+  public static LegAnnotationIndex create(@NonNull RouteLeg leg) {
+    LegAnnotation annotation = leg.annotation();
+    if (annotation == null) {
+      return null;
+    }
+    List<Double> distances = annotation.distance();
+    if (distances == null || distances.isEmpty()) {
+      return null;
+    }
+    int segmentCount = distances.size();
+    double[] segmentStarts = new double[segmentCount + 1];
+    for (int i = 0; i < segmentCount; i++) {
+      segmentStarts[i + 1] = segmentStarts[i] + distances.get(i);
+    }
+    double[] durations = toArray(annotation.duration(), segmentCount);
+    double[] speeds = toArray(annotation.speed(), segmentCount);
+    MaxSpeed[] maxspeeds = null;
+    if (hasEverySegment(annotation.maxspeed(), segmentCount)) {
+      maxspeeds = annotation.maxspeed().toArray(new MaxSpeed[segmentCount]);
+    }
+    String[] congestions = null;
+    if (hasEverySegment(annotation.congestion(), segmentCount)) {
+      congestions = annotation.congestion().toArray(new String[segmentCount]);
+    }
+    return new LegAnnotationIndex(segmentStarts, durations, speeds, maxspeeds, congestions);
+  }
+
+  /**
+   * @return number of annotated segments along the leg
+   */
+  public int segmentCount() {
+    return segmentStarts.length - 1;
+  }
+
+  /**
+   * Finds the segment being traveled along, the first one ending past the given distance.
+   *
+   * @param distanceTraveled in meters from the start of the leg
+   * @return index of the segment in each list of {@link LegAnnotation}, or 0 past the end of the leg
+   */
+  public int findSegmentIndex(double distanceTraveled) {
+    int low = FIRST_SEGMENT;
+    int high = segmentCount();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (segmentStarts[middle + 1] > distanceTraveled) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low < segmentCount() ? low : FIRST_SEGMENT;
+  }
+
+  /**
+   * Builds the annotation of the segment being traveled along.
+   *
+   * @param distanceTraveled in meters from the start of the leg
+   * @return current annotation data
+   */
+  @NonNull
+  public CurrentLegAnnotation findAnnotation(double distanceTraveled) {
+    int index = findSegmentIndex(distanceTraveled);
+    CurrentLegAnnotation.Builder annotationBuilder = CurrentLegAnnotation.builder()
+      .index(index)
+      .distanceToAnnotation(segmentStarts[index])
+      .distance(segmentStarts[index + 1] - segmentStarts[index]);
+    if (durations != null) {
+      annotationBuilder.duration(durations[index]);
+    }
+    if (speeds != null) {
+      annotationBuilder.speed(speeds[index]);
+    }
+    if (maxspeeds != null) {
+      annotationBuilder.maxspeed(maxspeeds[index]);
+    }
+    if (congestions != null) {
+      annotationBuilder.congestion(congestions[index]);
+    }
+    return annotationBuilder.build();
+  }
+
+  /**
+   * Duration left from the given distance to the end of the leg, the segment being traveled along
+   * counted for its part not traveled yet.
+   *
+   * @param distanceTraveled in meters from the start of the leg
+   * @return duration remaining in seconds, or {@link #NO_DURATION} without duration annotations
+   */
+  public double findDurationRemaining(double distanceTraveled) {
+    if (durations == null) {
+      return NO_DURATION;
+    }
+    int lastSegment = segmentCount();
+    if (distanceTraveled >= segmentStarts[lastSegment]) {
+      return 0;
+    }
+    double legDuration = durationEnds[lastSegment];
+    if (distanceTraveled <= 0) {
+      return legDuration;
+    }
+    int index = findSegmentIndex(distanceTraveled);
+    double segmentDistance = segmentStarts[index + 1] - segmentStarts[index];
+    double segmentDuration = durations[index];
+    if (segmentDistance > 0) {
+      segmentDuration *= (segmentStarts[index + 1] - distanceTraveled) / segmentDistance;
+    }
+    return legDuration - durationEnds[index + 1] + segmentDuration;
+  }
+
+  /**
+   * Congestion levels between two distances, consecutive segments with the same level merged.
+   *
+   * @param startDistance in meters from the start of the leg
+   * @param endDistance   in meters from the start of the leg
+   * @return congestion windows in leg order, empty without congestion annotations
+   */
+  @NonNull
+  public List<AnnotationWindow<String>> findCongestionWindows(double startDistance, double endDistance) {
+    return findWindows(congestions, startDistance, endDistance);
+  }
+
+  /**
+   * Speed limits between two distances, consecutive segments with the same limit merged.
+   *
+   * @param startDistance in meters from the start of the leg
+   * @param endDistance   in meters from the start of the leg
+   * @return speed limit windows in leg order, empty without maxspeed annotations
+   */
+  @NonNull
+  public List<AnnotationWindow<MaxSpeed>> findMaxspeedWindows(double startDistance, double endDistance) {
+    return findWindows(maxspeeds, startDistance, endDistance);
+  }
+
+  private <T> List<AnnotationWindow<T>> findWindows(@Nullable T[] values, double startDistance,
+                                                    double endDistance) {
+    List<AnnotationWindow<T>> windows = new ArrayList<>();
+    if (values == null || endDistance <= startDistance) {
+      return windows;
+    }
+    AnnotationWindow<T> window = null;
+    for (int i = findStartSegment(startDistance); i < segmentCount() && segmentStarts[i] < endDistance; i++) {
+      T value = values[i];
+      if (value == null) {
+        addWindow(windows, window);
+        window = null;
+      } else if (window != null && window.value().equals(value)) {
+        window = window.extendTo(segmentStarts[i + 1]);
+      } else {
+        addWindow(windows, window);
+        window = new AnnotationWindow<>(segmentStarts[i], segmentStarts[i + 1], value);
+      }
+    }
+    addWindow(windows, window);
+    return windows;
+  }
+
+  private int findStartSegment(double startDistance) {
+    if (startDistance >= segmentStarts[segmentStarts.length - 1]) {
+      return segmentCount();
+    }
+    return findSegmentIndex(startDistance);
+  }
+
+  private static <T> void addWindow(List<AnnotationWindow<T>> windows, @Nullable AnnotationWindow<T> window) {
+    if (window != null) {
+      windows.add(window);
+    }
+  }
+
+  @Nullable
+  private static double[] toArray(@Nullable List<Double> values, int segmentCount) {
+    if (!hasEverySegment(values, segmentCount)) {
+      return null;
+    }
+    double[] array = new double[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      Double value = values.get(i);
+      array[i] = value == null ? 0d : value;
+    }
+    return array;
+  }
+
+  @Nullable
+  private static double[] sumDurations(@Nullable double[] durations) {
+    if (durations == null) {
+      return null;
+    }
+    double[] durationEnds = new double[durations.length + 1];
+    for (int i = 0; i < durations.length; i++) {
+      durationEnds[i + 1] = durationEnds[i] + durations[i];
+    }
+    return durationEnds;
+  }
+
+  private static boolean hasEverySegment(@Nullable List<?> values, int segmentCount) {
+    return values != null && values.size() >= segmentCount;
+  }
+}
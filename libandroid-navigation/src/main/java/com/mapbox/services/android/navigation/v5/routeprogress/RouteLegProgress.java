@@ -186,6 +186,18 @@ public abstract class RouteLegProgress {
   @Nullable
   public abstract CurrentLegAnnotation currentLegAnnotation();
 
+  /**
+   * Provides the annotations of the current leg, to look up congestion levels or speed limits
+   * ahead of the current position with {@link #distanceTraveled()}.
+   * <p>
+   * This object will only be present when a {@link com.mapbox.api.directions.v5.models.DirectionsRoute}
+   * requested with {@link com.mapbox.api.directions.v5.DirectionsCriteria#ANNOTATION_DISTANCE}.
+   *
+   * @return index of the current leg annotations
+   */
+  @Nullable
+  public abstract LegAnnotationIndex annotationIndex();
+
   /**
    * Not public since developer can access same information from {@link RouteProgress}.
    */
@@ -247,6 +259,8 @@ public abstract class RouteLegProgress {
 
     abstract Builder currentLegAnnotation(@Nullable CurrentLegAnnotation currentLegAnnotation);
 
+    abstract Builder annotationIndex(@Nullable LegAnnotationIndex annotationIndex);
+
     abstract RouteLegProgress autoBuild(); // not public
 
     public RouteLegProgress build() {
@@ -188,6 +188,19 @@ public abstract class RouteProgress {
   @Nullable
   public abstract RouteProgressState currentState();
 
+  /**
+   * Token identifying the {@link DirectionsRoute} this progress was built for. A new value is
+   * assigned each time a route is passed to
+   * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigation#startNavigation(DirectionsRoute)},
+   * including reroutes and refreshed routes.
+   * <p>
+   * Comparing this value is a cheap alternative to {@link DirectionsRoute#equals(Object)} when
+   * checking whether the route has changed between two progress updates.
+   *
+   * @return the route generation
+   */
+  public abstract int routeGeneration();
+
   public abstract RouteProgress.Builder toBuilder();
 
   abstract LegStep currentStep();
@@ -208,6 +221,9 @@ public abstract class RouteProgress {
   @Nullable
   abstract CurrentLegAnnotation currentLegAnnotation();
 
+  @Nullable
+  abstract LegAnnotationIndex legAnnotationIndex();
+
   abstract List<Pair<StepIntersection, Double>> intersectionDistancesAlongStep();
 
   abstract double legDurationRemaining();
@@ -275,6 +291,10 @@ public abstract class RouteProgress {
 
     abstract CurrentLegAnnotation currentLegAnnotation();
 
+    public abstract Builder legAnnotationIndex(@Nullable LegAnnotationIndex legAnnotationIndex);
+
+    abstract LegAnnotationIndex legAnnotationIndex();
+
     abstract Builder currentLegProgress(RouteLegProgress routeLegProgress);
 
     public abstract Builder inTunnel(boolean inTunnel);
@@ -285,6 +305,8 @@ public abstract class RouteProgress {
 
     public abstract Builder currentState(@Nullable RouteProgressState currentState);
 
+    public abstract Builder routeGeneration(int routeGeneration);
+
     abstract RouteProgress autoBuild(); // not public
 
     public RouteProgress build() {
@@ -303,6 +325,7 @@ public abstract class RouteProgress {
         .upcomingIntersection(upcomingIntersection())
         .intersectionDistancesAlongStep(intersectionDistancesAlongStep())
         .currentLegAnnotation(currentLegAnnotation())
+        .annotationIndex(legAnnotationIndex())
         .build();
       currentLegProgress(legProgress);
 
@@ -311,6 +334,7 @@ public abstract class RouteProgress {
   }
 
   public static Builder builder() {
-    return new AutoValue_RouteProgress.Builder();
+    return new AutoValue_RouteProgress.Builder()
+      .routeGeneration(0);
   }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The banner and voice instructions of a {@link DirectionsRoute}, ordered by the distance along the
+ * route at which each one starts, built once per route.
+ * <p>
+ * Each instruction is identified by its position in the timeline, a stable integer ID for the
+ * lifetime of the route, so lists of instructions can be tracked without comparing the instructions
+ * themselves. The current instruction of a step is found with a binary search.
+ */
+public class InstructionTimeline {
+
+  /**
+   * Returned when no instruction matches a lookup.
+   */
+  public static final int NO_INSTRUCTION = -1;
+  private static final int FIRST_STEP = 0;
+  private static final DistanceAlongGeometry<BannerInstructions> BANNER_DISTANCE =
+    new DistanceAlongGeometry<BannerInstructions>() {
+      @Override
+      public double of(BannerInstructions instruction) {
+        return instruction.distanceAlongGeometry();
+      }
+    };
+
+  private static final DistanceAlongGeometry<VoiceInstructions> VOICE_DISTANCE =
+    new DistanceAlongGeometry<VoiceInstructions>() {
+      @Override
+      public double of(VoiceInstructions instruction) {
+        Double distanceAlongGeometry = instruction.distanceAlongGeometry();
+        return distanceAlongGeometry == null ? 0d : distanceAlongGeometry;
+      }
+    };
+
+  private final int[] legFirstSteps;
+  private final double[] stepStarts;
+  private final double[] stepDistances;
+  private final Track<BannerInstructions> banners;
+  private final Track<VoiceInstructions> voices;
+
+  private InstructionTimeline(int[] legFirstSteps, double[] stepStarts, double[] stepDistances,
+                              Track<BannerInstructions> banners, Track<VoiceInstructions> voices) {
+    this.legFirstSteps = legFirstSteps;
+    this.stepStarts = stepStarts;
+    this.stepDistances = stepDistances;
+    this.banners = banners;
+    this.voices = voices;
+  }
+
+  /**
+   * Builds the timeline of the given route.
+   *
+   * @param route with banner and / or voice instructions
+   * @return the instruction timeline of the route
+   */
+  @NonNull
+  public static InstructionTimeline from(@NonNull DirectionsRoute route) {
+    List<RouteLeg> legs = route.legs() == null ? Collections.<RouteLeg>emptyList() : route.legs();
+    List<LegStep> steps = new ArrayList<>();
+    int[] legFirstSteps = new int[legs.size() + 1];
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      legFirstSteps[legIndex] = steps.size();
+      List<LegStep> legSteps = legs.get(legIndex).steps();
+      if (legSteps != null) {
+        steps.addAll(legSteps);
+      }
+    }
+    legFirstSteps[legs.size()] = steps.size();
+
+    double[] stepStarts = new double[steps.size()];
+    double[] stepDistances = new double[steps.size()];
+    Track<BannerInstructions> banners = new Track<>(steps.size());
+    Track<VoiceInstructions> voices = new Track<>(steps.size());
+    double stepStart = 0;
+    for (int step = 0; step < steps.size(); step++) {
+      LegStep legStep = steps.get(step);
+      stepStarts[step] = stepStart;
+      stepDistances[step] = legStep.distance();
+      banners.addStep(step, stepStart, stepDistances[step], legStep.bannerInstructions(), BANNER_DISTANCE);
+      voices.addStep(step, stepStart, stepDistances[step], legStep.voiceInstructions(), VOICE_DISTANCE);
+      stepStart += stepDistances[step];
+    }
+    banners.finish(steps.size());
+    voices.finish(steps.size());
+    return new InstructionTimeline(legFirstSteps, stepStarts, stepDistances, banners, voices);
+  }
+
+  public int bannerCount() {
+    return banners.size();
+  }
+
+  @NonNull
+  public BannerInstructions retrieveBannerInstructions(int bannerId) {
+    return banners.instructions.get(bannerId);
+  }
+
+  /**
+   * @param bannerId of the banner instructions
+   * @return distance in meters along the route at which the banner instructions are shown
+   */
+  public double retrieveBannerDistance(int bannerId) {
+    return banners.distances[bannerId];
+  }
+
+  /**
+   * First banner of a leg, banners of the leg run up to {@link #endBannerIdOf(int)}.
+   */
+  public int firstBannerIdOf(int legIndex) {
+    return banners.stepFirstIds[legFirstSteps[clampLeg(legIndex)]];
+  }
+
+  /**
+   * The ID following the last banner of a leg.
+   */
+  public int endBannerIdOf(int legIndex) {
+    return banners.stepFirstIds[legFirstSteps[clampLeg(legIndex) + 1]];
+  }
+
+  /**
+   * Finds the banner instructions shown along a step, like
+   * {@link RouteUtils#findCurrentBannerInstructions(LegStep, double)}: the last one reached, or the
+   * last one of the step if none has been reached yet.
+   *
+   * @param legIndex              of the current leg
+   * @param stepIndex             of the current step within the leg
+   * @param stepDistanceRemaining in meters
+   * @return the banner ID, or {@link #NO_INSTRUCTION} if the step has no banner instructions
+   */
+  public int findCurrentBannerId(int legIndex, int stepIndex, double stepDistanceRemaining) {
+    int step = findStep(legIndex, stepIndex);
+    if (step == NO_INSTRUCTION || banners.isEmpty(step)) {
+      return NO_INSTRUCTION;
+    }
+    int bannerId = banners.findLastReached(step, distanceTraveled(step, stepDistanceRemaining));
+    return bannerId == NO_INSTRUCTION ? banners.stepFirstIds[step + 1] - 1 : bannerId;
+  }
+
+  /**
+   * @return the banner following the given one along the route, or {@link #NO_INSTRUCTION}
+   */
+  public int findNextBannerId(int bannerId) {
+    return banners.findNext(bannerId);
+  }
+
+  public int voiceCount() {
+    return voices.size();
+  }
+
+  @NonNull
+  public VoiceInstructions retrieveVoiceInstructions(int voiceId) {
+    return voices.instructions.get(voiceId);
+  }
+
+  /**
+   * @param voiceId of the voice instructions
+   * @return distance in meters along the route at which the voice instructions are announced
+   */
+  public double retrieveVoiceDistance(int voiceId) {
+    return voices.distances[voiceId];
+  }
+
+  /**
+   * Finds the last voice instructions reached along a step.
+   *
+   * @param legIndex              of the current leg
+   * @param stepIndex             of the current step within the leg
+   * @param stepDistanceRemaining in meters
+   * @return the voice ID, or {@link #NO_INSTRUCTION} if none has been reached along the step
+   */
+  public int findCurrentVoiceId(int legIndex, int stepIndex, double stepDistanceRemaining) {
+    int step = findStep(legIndex, stepIndex);
+    if (step == NO_INSTRUCTION || voices.isEmpty(step)) {
+      return NO_INSTRUCTION;
+    }
+    return voices.findLastReached(step, distanceTraveled(step, stepDistanceRemaining));
+  }
+
+  /**
+   * @return the voice instructions following the given ones along the route, or {@link #NO_INSTRUCTION}
+   */
+  public int findNextVoiceId(int voiceId) {
+    return voices.findNext(voiceId);
+  }
+
+  private int clampLeg(int legIndex) {
+    return Math.max(0, Math.min(legIndex, legFirstSteps.length - 2));
+  }
+
+  private int findStep(int legIndex, int stepIndex) {
+    if (legIndex < 0 || legIndex >= legFirstSteps.length - 1 || stepIndex < FIRST_STEP) {
+      return NO_INSTRUCTION;
+    }
+    int step = legFirstSteps[legIndex] + stepIndex;
+    return step < legFirstSteps[legIndex + 1] ? step : NO_INSTRUCTION;
+  }
+
+  private double distanceTraveled(int step, double stepDistanceRemaining) {
+    return stepStarts[step] + stepDistances[step] - stepDistanceRemaining;
+  }
+
+  private interface DistanceAlongGeometry<T> {
+    double of(T instruction);
+  }
+
+  /**
+   * Instructions of one kind, grouped by step and ordered by distance along the route within each step.
+   */
+  private static class Track<T> {
+
+    private final int[] stepFirstIds;
+    private final List<T> instructions = new ArrayList<>();
+    private final List<Double> distanceList = new ArrayList<>();
+    private double[] distances;
+
+    Track(int stepCount) {
+      stepFirstIds = new int[stepCount + 1];
+    }
+
+    void addStep(int step, double stepStart, double stepDistance, @Nullable List<T> stepInstructions,
+                 final DistanceAlongGeometry<T> distanceAlongGeometry) {
+      stepFirstIds[step] = instructions.size();
+      if (stepInstructions == null || stepInstructions.isEmpty()) {
+        return;
+      }
+      List<T> sortedInstructions = new ArrayList<>(stepInstructions);
+      // Distances along geometry count down to the end of the step
+      Collections.sort(sortedInstructions, new Comparator<T>() {
+        @Override
+        public int compare(T instruction, T otherInstruction) {
+          return Double.compare(distanceAlongGeometry.of(otherInstruction), distanceAlongGeometry.of(instruction));
+        }
+      });
+      for (T instruction : sortedInstructions) {
+        instructions.add(instruction);
+        distanceList.add(stepStart + stepDistance - distanceAlongGeometry.of(instruction));
+      }
+    }
+
+    void finish(int stepCount) {
+      stepFirstIds[stepCount] = instructions.size();
+      distances = new double[distanceList.size()];
+      for (int i = 0; i < distances.length; i++) {
+        distances[i] = distanceList.get(i);
+      }
+      distanceList.clear();
+    }
+
+    int size() {
+      return instructions.size();
+    }
+
+    boolean isEmpty(int step) {
+      return stepFirstIds[step] == stepFirstIds[step + 1];
+    }
+
+    int findLastReached(int step, double distanceTraveled) {
+      int low = stepFirstIds[step];
+      int high = stepFirstIds[step + 1];
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (distances[middle] <= distanceTraveled) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low == stepFirstIds[step] ? NO_INSTRUCTION : low - 1;
+    }
+
+    int findNext(int id) {
+      int nextId = id + 1;
+      return id >= 0 && nextId < instructions.size() ? nextId : NO_INSTRUCTION;
+    }
+  }
+}
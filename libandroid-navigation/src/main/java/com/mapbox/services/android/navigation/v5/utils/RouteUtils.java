@@ -4,6 +4,7 @@ import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
 import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.RouteOptions;
@@ -130,11 +131,26 @@ public class RouteUtils {
     return null;
   }
 
+  /**
+   * Builds the {@link InstructionTimeline} of the given route, to look up its banner and voice
+   * instructions along the route without sorting or comparing them again.
+   *
+   * @param route with banner and / or voice instructions
+   * @return the instruction timeline of the route
+   */
+  @NonNull
+  public InstructionTimeline buildInstructionTimeline(@NonNull DirectionsRoute route) {
+    return InstructionTimeline.from(route);
+  }
+
   private boolean isValidBannerInstructions(LegStep currentStep) {
     return isValidStep(currentStep) && hasInstructions(currentStep.bannerInstructions());
   }
 
   private List<BannerInstructions> sortBannerInstructions(List<BannerInstructions> instructions) {
+    if (isSorted(instructions)) {
+      return instructions;
+    }
     List<BannerInstructions> sortedInstructions = new ArrayList<>(instructions);
     Collections.sort(sortedInstructions, new Comparator<BannerInstructions>() {
       @Override
@@ -145,6 +161,15 @@ public class RouteUtils {
     return sortedInstructions;
   }
 
+  private boolean isSorted(List<BannerInstructions> instructions) {
+    for (int i = 1; i < instructions.size(); i++) {
+      if (instructions.get(i - 1).distanceAlongGeometry() > instructions.get(i).distanceAlongGeometry()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   private boolean isValidStep(LegStep step) {
     return step != null;
   }
@@ -4,6 +4,7 @@ import android.location.Location;
 import android.os.Handler;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -12,6 +13,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -65,6 +67,48 @@ public class ReplayLocationDispatcherTest {
     verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(1000L));
   }
 
+  @Test
+  public void checksNextDispatchScheduledWithoutDelayWhenTimeWarpEnabled() {
+    List<Location> anyLocations = new ArrayList<>(2);
+    Location firstLocation = createALocation();
+    when(firstLocation.getTime()).thenReturn(1000L);
+    Location secondLocation = createALocation();
+    when(secondLocation.getTime()).thenReturn(2000L);
+    anyLocations.add(firstLocation);
+    anyLocations.add(secondLocation);
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    theReplayLocationDispatcher.updateTimeWarp(true);
+
+    theReplayLocationDispatcher.run();
+
+    verify(aHandler, times(1)).postDelayed(eq(theReplayLocationDispatcher), eq(0L));
+  }
+
+  @Test
+  public void checksAllLocationsDispatchedInOrder() {
+    List<Location> anyLocations = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      Location location = createALocation();
+      when(location.getTime()).thenReturn(i * 1000L);
+      anyLocations.add(location);
+    }
+    List<Location> expectedLocations = new ArrayList<>(anyLocations);
+    Handler aHandler = mock(Handler.class);
+    ReplayLocationDispatcher theReplayLocationDispatcher = new ReplayLocationDispatcher(anyLocations, aHandler);
+    ReplayLocationListener aReplayLocationListener = mock(ReplayLocationListener.class);
+    theReplayLocationDispatcher.addReplayLocationListener(aReplayLocationListener);
+
+    for (int i = 0; i < expectedLocations.size(); i++) {
+      theReplayLocationDispatcher.run();
+    }
+
+    InOrder inOrder = inOrder(aReplayLocationListener);
+    for (Location location : expectedLocations) {
+      inOrder.verify(aReplayLocationListener).onLocationReplay(eq(location));
+    }
+  }
+
   @Test
   public void checksNextDispatchNotScheduledWhenLocationsIsEmpty() {
     List<Location> anyLocations = new ArrayList<>(1);
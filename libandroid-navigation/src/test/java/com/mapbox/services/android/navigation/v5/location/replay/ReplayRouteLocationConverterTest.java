@@ -0,0 +1,57 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ReplayRouteLocationConverterTest {
+
+  private static final double DELTA = 1E-9;
+
+  @Test
+  public void sliceRoute_pointsMatchTurfAlong() {
+    LineString lineString = buildZigZagLine();
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(mock(DirectionsRoute.class), 45, 1);
+
+    List<Point> points = converter.sliceRoute(lineString);
+
+    double distancePerPoint = (45 * 1000d) / 3600;
+    for (int i = 0; i < points.size(); i++) {
+      Point expected = TurfMeasurement.along(lineString, i * distancePerPoint, TurfConstants.UNIT_METERS);
+      assertEquals(expected.longitude(), points.get(i).longitude(), DELTA);
+      assertEquals(expected.latitude(), points.get(i).latitude(), DELTA);
+    }
+  }
+
+  @Test
+  public void sliceRoute_zeroLengthLineReturnsEmptyList() {
+    List<Point> coordinates = new ArrayList<>();
+    coordinates.add(Point.fromLngLat(-77.03, 38.89));
+    coordinates.add(Point.fromLngLat(-77.03, 38.89));
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(mock(DirectionsRoute.class), 45, 1);
+
+    List<Point> points = converter.sliceRoute(LineString.fromLngLats(coordinates));
+
+    assertTrue(points.isEmpty());
+  }
+
+  private LineString buildZigZagLine() {
+    List<Point> coordinates = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      double latitude = i % 2 == 0 ? 38.890 : 38.891;
+      coordinates.add(Point.fromLngLat(-77.03 + (i * 0.0007), latitude));
+    }
+    return LineString.fromLngLats(coordinates);
+  }
+}
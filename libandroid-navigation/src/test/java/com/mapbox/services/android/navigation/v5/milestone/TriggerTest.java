@@ -1,5 +1,7 @@
 package com.mapbox.services.android.navigation.v5.milestone;
 
+import android.util.SparseArray;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
@@ -353,6 +355,43 @@ public class TriggerTest extends BaseTest {
     Assert.assertTrue(result);
   }
 
+  @Test
+  public void customStatement_fallsBackToSparseArray() throws Exception {
+    RouteProgress routeProgress = buildTriggerRouteProgress();
+    final double stepDistance = routeProgress.currentLegProgress().currentStep().distance();
+    Milestone milestone = new StepMilestone.Builder()
+      .setTrigger(new Trigger.Statement() {
+        @Override
+        public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+          return statementObjects.get(TriggerProperty.STEP_DISTANCE_TOTAL_METERS)[0].doubleValue() == stepDistance;
+        }
+      })
+      .build();
+
+    boolean result = milestone.isOccurring(routeProgress, routeProgress);
+
+    Assert.assertTrue(result);
+  }
+
+  @Test
+  public void sharedTriggerContext_validatesEachMilestone() throws Exception {
+    RouteProgress routeProgress = buildTriggerRouteProgress();
+    TriggerContext triggerContext = new TriggerContext();
+    triggerContext.update(routeProgress, routeProgress);
+    Milestone firstMilestone = new StepMilestone.Builder()
+      .setTrigger(Trigger.eq(TriggerProperty.STEP_INDEX, 1))
+      .build();
+    Milestone secondMilestone = new RouteMilestone.Builder()
+      .setTrigger(Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE))
+      .build();
+
+    boolean firstResult = firstMilestone.isOccurring(routeProgress, routeProgress, triggerContext);
+    boolean secondResult = secondMilestone.isOccurring(routeProgress, routeProgress, triggerContext);
+
+    Assert.assertTrue(firstResult);
+    Assert.assertTrue(secondResult);
+  }
+
   private RouteProgress buildTriggerRouteProgress() throws Exception {
     Gson gson = new GsonBuilder()
       .registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
@@ -0,0 +1,79 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveTickSchedulerTest {
+
+  @Test
+  public void nextTickDelay_nearManeuverTicksFast() {
+    AdaptiveTickScheduler scheduler = new AdaptiveTickScheduler();
+    RouteProgress routeProgress = buildRouteProgress(100d);
+
+    long delay = scheduler.nextTickDelayInMilliseconds(routeProgress, buildLocation(20f));
+
+    assertEquals(500L, delay);
+  }
+
+  @Test
+  public void nextTickDelay_stationaryTicksSlow() {
+    AdaptiveTickScheduler scheduler = new AdaptiveTickScheduler();
+    RouteProgress routeProgress = buildRouteProgress(1000d);
+
+    long delay = scheduler.nextTickDelayInMilliseconds(routeProgress, buildLocation(0.1f));
+
+    assertEquals(3000L, delay);
+  }
+
+  @Test
+  public void nextTickDelay_longStepTicksSlow() {
+    AdaptiveTickScheduler scheduler = new AdaptiveTickScheduler();
+    RouteProgress routeProgress = buildRouteProgress(50000d);
+
+    long delay = scheduler.nextTickDelayInMilliseconds(routeProgress, buildLocation(30f));
+
+    assertEquals(3000L, delay);
+  }
+
+  @Test
+  public void nextTickDelay_fastApproachTicksFast() {
+    AdaptiveTickScheduler scheduler = new AdaptiveTickScheduler();
+    RouteProgress routeProgress = buildRouteProgress(400d);
+
+    long delay = scheduler.nextTickDelayInMilliseconds(routeProgress, buildLocation(30f));
+
+    assertEquals(500L, delay);
+  }
+
+  @Test
+  public void nextTickDelay_noLocationTicksEverySecond() {
+    AdaptiveTickScheduler scheduler = new AdaptiveTickScheduler();
+    RouteProgress routeProgress = buildRouteProgress(1000d);
+
+    long delay = scheduler.nextTickDelayInMilliseconds(routeProgress, null);
+
+    assertEquals(1000L, delay);
+  }
+
+  private RouteProgress buildRouteProgress(double stepDistanceRemaining) {
+    RouteProgress routeProgress = mock(RouteProgress.class, RETURNS_DEEP_STUBS);
+    when(routeProgress.currentLegProgress().currentStepProgress().distanceRemaining())
+      .thenReturn(stepDistanceRemaining);
+    return routeProgress;
+  }
+
+  private Location buildLocation(float speed) {
+    Location location = mock(Location.class);
+    when(location.hasSpeed()).thenReturn(true);
+    when(location.getSpeed()).thenReturn(speed);
+    return location;
+  }
+}
@@ -0,0 +1,153 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(RobolectricTestRunner.class)
+public class AlternativeRouteTrackerTest extends BaseTest {
+
+  private static final int DIVERGING_STEP = 2;
+  private static final double SLOWER_IN_SECONDS = 240;
+
+  @Test
+  public void update_withoutAlternativesReturnsNull() throws Exception {
+    AlternativeRouteTracker tracker = new AlternativeRouteTracker();
+    DirectionsRoute route = buildTestDirectionsRoute();
+
+    List<AlternativeRouteProgress> progress = tracker.update(Collections.<DirectionsRoute>emptyList(),
+      buildRouteProgress(route, 0), new RouteGeometryCache(route), 0);
+
+    assertNull(progress);
+  }
+
+  @Test
+  public void update_alternativeProgressStartsFromDistanceTraveledAlongRoute() throws Exception {
+    AlternativeRouteTracker tracker = new AlternativeRouteTracker();
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute alternative = buildAlternative(route);
+
+    List<AlternativeRouteProgress> progress = tracker.update(Collections.singletonList(alternative),
+      buildRouteProgress(route, 100), new RouteGeometryCache(route), 0);
+
+    assertEquals(1, progress.size());
+    AlternativeRouteProgress alternativeProgress = progress.get(0);
+    assertSame(alternative, alternativeProgress.directionsRoute());
+    assertEquals(alternative.distance() - 100, alternativeProgress.distanceRemaining(), LARGE_DELTA);
+    assertEquals(findDivergenceDistance(route) - 100, alternativeProgress.distanceToDivergence(), LARGE_DELTA);
+  }
+
+  @Test
+  public void update_durationDeltaComparesDurationsRemaining() throws Exception {
+    AlternativeRouteTracker tracker = new AlternativeRouteTracker();
+    DirectionsRoute route = buildTestDirectionsRoute();
+
+    List<AlternativeRouteProgress> progress = tracker.update(Collections.singletonList(buildAlternative(route)),
+      buildRouteProgress(route, 0), new RouteGeometryCache(route), 0);
+
+    assertEquals(SLOWER_IN_SECONDS, progress.get(0).durationDelta(), LARGE_DELTA);
+  }
+
+  @Test
+  public void update_progressIsOnlyRebuiltAfterUpdateInterval() throws Exception {
+    AlternativeRouteTracker tracker = new AlternativeRouteTracker();
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<DirectionsRoute> alternatives = Collections.singletonList(buildAlternative(route));
+    RouteGeometryCache routeGeometry = new RouteGeometryCache(route);
+
+    assertNotNull(tracker.update(alternatives, buildRouteProgress(route, 100), routeGeometry, 0));
+    assertNull(tracker.update(alternatives, buildRouteProgress(route, 110), routeGeometry, 1000));
+    assertNotNull(tracker.update(alternatives, buildRouteProgress(route, 150), routeGeometry,
+      AlternativeRouteTracker.UPDATE_INTERVAL_IN_MILLISECONDS));
+  }
+
+  @Test
+  public void update_alternativeIsDroppedOncePastDivergence() throws Exception {
+    AlternativeRouteTracker tracker = new AlternativeRouteTracker();
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<DirectionsRoute> alternatives = Collections.singletonList(buildAlternative(route));
+    RouteGeometryCache routeGeometry = new RouteGeometryCache(route);
+    double pastDivergence = findDivergenceDistance(route) + 10;
+    tracker.update(alternatives, buildRouteProgress(route, 100), routeGeometry, 0);
+
+    List<AlternativeRouteProgress> progress = tracker.update(alternatives,
+      buildRouteProgress(route, pastDivergence), routeGeometry, 1000);
+
+    assertTrue(progress.isEmpty());
+    assertNull(tracker.update(alternatives, buildRouteProgress(route, pastDivergence), routeGeometry,
+      AlternativeRouteTracker.UPDATE_INTERVAL_IN_MILLISECONDS * 2));
+  }
+
+  @Test
+  public void update_onlyTracksMaxAlternatives() throws Exception {
+    AlternativeRouteTracker tracker = new AlternativeRouteTracker();
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<DirectionsRoute> alternatives = new ArrayList<>();
+    for (int i = 0; i <= AlternativeRouteTracker.MAX_TRACKED_ALTERNATIVES; i++) {
+      alternatives.add(buildAlternative(route));
+    }
+
+    List<AlternativeRouteProgress> progress = tracker.update(alternatives, buildRouteProgress(route, 0),
+      new RouteGeometryCache(route), 0);
+
+    assertEquals(AlternativeRouteTracker.MAX_TRACKED_ALTERNATIVES, progress.size());
+  }
+
+  /**
+   * Shares the first steps of the route, then continues with the geometry of the step after.
+   */
+  private DirectionsRoute buildAlternative(DirectionsRoute route) {
+    RouteLeg leg = route.legs().get(0);
+    List<LegStep> steps = new ArrayList<>(leg.steps());
+    LegStep divergingStep = steps.get(DIVERGING_STEP).toBuilder()
+      .geometry(steps.get(DIVERGING_STEP + 1).geometry())
+      .build();
+    steps.set(DIVERGING_STEP, divergingStep);
+    RouteLeg alternativeLeg = leg.toBuilder().steps(steps).annotation(null).build();
+    return route.toBuilder()
+      .legs(Collections.singletonList(alternativeLeg))
+      .duration(route.duration() + SLOWER_IN_SECONDS)
+      .build();
+  }
+
+  private double findDivergenceDistance(DirectionsRoute route) {
+    double distance = 0;
+    for (int i = 0; i < DIVERGING_STEP; i++) {
+      distance += route.legs().get(0).steps().get(i).distance();
+    }
+    return distance;
+  }
+
+  private RouteProgress buildRouteProgress(DirectionsRoute route, double distanceTraveled) {
+    RouteLeg leg = route.legs().get(0);
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.distanceRemaining()).thenReturn(leg.distance() - distanceTraveled);
+    when(legProgress.durationRemaining()).thenReturn(route.duration() * (1 - distanceTraveled / leg.distance()));
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.directionsRoute()).thenReturn(route);
+    when(routeProgress.legIndex()).thenReturn(0);
+    when(routeProgress.currentLeg()).thenReturn(leg);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    return routeProgress;
+  }
+}
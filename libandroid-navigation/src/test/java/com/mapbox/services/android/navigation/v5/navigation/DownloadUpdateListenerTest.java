@@ -9,6 +9,7 @@ import java.io.File;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class DownloadUpdateListenerTest {
 
@@ -23,6 +24,21 @@ public class DownloadUpdateListenerTest {
     verify(tileUnpacker).unpack(any(File.class), any(String.class), any(UnpackProgressUpdateListener.class));
   }
 
+  @Test
+  public void onFinishedDownloading_updateTarIsUnpackedIntoStaging() {
+    TileUnpacker tileUnpacker = mock(TileUnpacker.class);
+    TileVersionUpdate update = mock(TileVersionUpdate.class);
+    when(update.stagingPath()).thenReturn("some/path/.some-version.update");
+    File file = mock(File.class);
+    DownloadUpdateListener downloadUpdateListener = new DownloadUpdateListener(
+      mock(RouteTileDownloader.class), tileUnpacker, update
+    );
+
+    downloadUpdateListener.onFinishedDownloading(file);
+
+    verify(tileUnpacker).unpack(file, "some/path/.some-version.update", update, update);
+  }
+
   @Test
   public void onErrorDownloading_offlineErrorIsSent() {
     RouteTileDownloader downloader = mock(RouteTileDownloader.class);
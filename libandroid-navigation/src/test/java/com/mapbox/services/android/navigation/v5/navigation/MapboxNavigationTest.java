@@ -309,6 +309,19 @@ public class MapboxNavigationTest extends BaseTest {
     assertTrue(didUpdate);
   }
 
+  @Test
+  public void startNavigation_newRouteGenerationIsAssigned() throws IOException {
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    MapboxNavigation navigation = buildMapboxNavigationWith(navigator);
+    DirectionsRoute directionsRoute = buildTestDirectionsRoute();
+    navigation.startNavigation(directionsRoute);
+    int firstGeneration = navigation.retrieveRouteGeneration();
+
+    navigation.startNavigation(directionsRoute, DirectionsRouteType.FRESH_ROUTE);
+
+    assertEquals(firstGeneration + 1, navigation.retrieveRouteGeneration());
+  }
+
   @Test
   public void updateLocationEngine_engineIsSet() {
     LocationEngine locationEngine = mock(LocationEngine.class);
@@ -0,0 +1,110 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.navigator.BannerInstruction;
+import com.mapbox.navigator.FixLocation;
+import com.mapbox.navigator.Navigator;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import java.util.Date;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class MapboxNavigatorTest extends BaseTest {
+
+  @Test
+  public void updateLocation_doesNotReachNavigatorUntilStatusIsRetrieved() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+
+    mapboxNavigator.updateLocation(mock(Location.class));
+
+    verify(navigator, never()).updateLocation(any(FixLocation.class));
+  }
+
+  @Test
+  public void retrieveStatus_appliesQueuedFixesBeforeStatus() {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateLocation(mock(Location.class));
+    mapboxNavigator.updateLocation(mock(Location.class));
+
+    mapboxNavigator.retrieveStatus(new Date(), 0);
+
+    InOrder inOrder = inOrder(navigator);
+    inOrder.verify(navigator, times(2)).updateLocation(any(FixLocation.class));
+    inOrder.verify(navigator).getStatus(any(Date.class));
+  }
+
+  @Test
+  public void retrieveSsmlAnnouncement_servedFromRouteWithoutNavigator() throws Exception {
+    Navigator navigator = mock(Navigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    DirectionsRoute route = buildTestDirectionsRoute();
+    mapboxNavigator.updateRoute(route, DirectionsRouteType.NEW_ROUTE);
+
+    String ssmlAnnouncement = mapboxNavigator.retrieveSsmlAnnouncement(0);
+
+    String expected = route.legs().get(0).steps().get(0).voiceInstructions().get(0).ssmlAnnouncement();
+    assertEquals(expected, ssmlAnnouncement);
+    verify(navigator, never()).getVoiceInstruction(anyInt());
+  }
+
+  @Test
+  public void retrieveBannerInstruction_retrievedOncePerRoute() throws Exception {
+    Navigator navigator = mock(Navigator.class);
+    BannerInstruction bannerInstruction = mock(BannerInstruction.class);
+    when(navigator.getBannerInstruction(0)).thenReturn(bannerInstruction);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateRoute(buildTestDirectionsRoute(), DirectionsRouteType.NEW_ROUTE);
+
+    mapboxNavigator.retrieveBannerInstruction(0);
+    BannerInstruction secondBannerInstruction = mapboxNavigator.retrieveBannerInstruction(0);
+
+    assertSame(bannerInstruction, secondBannerInstruction);
+    verify(navigator, times(1)).getBannerInstruction(0);
+  }
+
+  @Test
+  public void retrieveBannerInstruction_laterBannerRetrievedOncePerRoute() throws Exception {
+    Navigator navigator = mock(Navigator.class);
+    BannerInstruction bannerInstruction = mock(BannerInstruction.class);
+    when(navigator.getBannerInstruction(1)).thenReturn(bannerInstruction);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateRoute(buildTestDirectionsRoute(), DirectionsRouteType.NEW_ROUTE);
+
+    mapboxNavigator.retrieveBannerInstruction(1);
+    BannerInstruction secondBannerInstruction = mapboxNavigator.retrieveBannerInstruction(1);
+
+    assertSame(bannerInstruction, secondBannerInstruction);
+    verify(navigator, times(1)).getBannerInstruction(1);
+  }
+
+  @Test
+  public void updateRoute_newRouteClearsBannerInstructions() throws Exception {
+    Navigator navigator = mock(Navigator.class);
+    when(navigator.getBannerInstruction(0)).thenReturn(mock(BannerInstruction.class));
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateRoute(buildTestDirectionsRoute(), DirectionsRouteType.NEW_ROUTE);
+    mapboxNavigator.retrieveBannerInstruction(0);
+
+    mapboxNavigator.updateRoute(buildTestDirectionsRoute(), DirectionsRouteType.NEW_ROUTE);
+    mapboxNavigator.retrieveBannerInstruction(0);
+
+    verify(navigator, times(2)).getBannerInstruction(0);
+  }
+}
@@ -18,6 +18,8 @@ import com.mapbox.services.android.navigation.v5.milestone.MilestoneEventListene
 import com.mapbox.services.android.navigation.v5.navigation.metrics.NavigationMetricListener;
 import com.mapbox.services.android.navigation.v5.offroute.OffRouteListener;
 import com.mapbox.services.android.navigation.v5.route.FasterRouteListener;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.AlternativeRouteProgressListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
@@ -29,6 +31,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.robolectric.RobolectricTestRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -392,6 +399,106 @@ public class NavigationEventDispatcherTest extends BaseTest {
     verify(listener, times(0)).onLocationUpdate(eq(location));
   }
 
+  @Test
+  public void onBackgroundProgressChange_executorListenerIsInvokedOnItsExecutor() {
+    QueueExecutor executor = new QueueExecutor();
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addProgressChangeListener(progressChangeListener, executor);
+
+    dispatcher.onBackgroundProgressChange(location, routeProgress);
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+    executor.runAll();
+
+    verify(progressChangeListener).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void onBackgroundProgressChange_slowExecutorListenerOnlyReceivesLatestProgress() {
+    QueueExecutor executor = new QueueExecutor();
+    RouteProgress latestProgress = mock(RouteProgress.class);
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addProgressChangeListener(progressChangeListener, executor);
+
+    dispatcher.onBackgroundProgressChange(location, routeProgress);
+    dispatcher.onBackgroundProgressChange(location, routeProgress);
+    dispatcher.onBackgroundProgressChange(location, latestProgress);
+    executor.runAll();
+
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+    verify(progressChangeListener).onProgressChange(location, latestProgress);
+    assertEquals(2, dispatcher.retrieveProgressDispatchMetrics().conflatedCount());
+  }
+
+  @Test
+  public void removeProgressChangeListener_pendingExecutorProgressIsNotDelivered() {
+    QueueExecutor executor = new QueueExecutor();
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addProgressChangeListener(progressChangeListener, executor);
+    dispatcher.onBackgroundProgressChange(location, routeProgress);
+
+    dispatcher.removeProgressChangeListener(progressChangeListener);
+    executor.runAll();
+
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void addProgressChangeListener_executorListenerIsOnlyAddedOnce() {
+    QueueExecutor executor = new QueueExecutor();
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addProgressChangeListener(progressChangeListener);
+    dispatcher.addProgressChangeListener(progressChangeListener, executor);
+
+    dispatcher.onBackgroundProgressChange(location, routeProgress);
+    dispatcher.onProgressChange(location, routeProgress);
+    executor.runAll();
+
+    verify(progressChangeListener, times(1)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void onProgressChange_executorListenerIsNotFedFromMainThread() {
+    QueueExecutor executor = new QueueExecutor();
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addProgressChangeListener(progressChangeListener, executor);
+
+    dispatcher.onProgressChange(location, routeProgress);
+    executor.runAll();
+
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void onBackgroundProgressChange_mainThreadListenerIsNotInvoked() {
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addProgressChangeListener(progressChangeListener);
+
+    dispatcher.onBackgroundProgressChange(location, routeProgress);
+
+    verify(progressChangeListener, times(0)).onProgressChange(location, routeProgress);
+  }
+
+  @Test
+  public void onProgressDropped_droppedCountIsIncreased() {
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+
+    dispatcher.onProgressDropped();
+
+    assertEquals(1, dispatcher.retrieveProgressDispatchMetrics().droppedCount());
+  }
+
+  @Test
+  public void onAlternativeRouteProgress_listenerIsInvoked() {
+    AlternativeRouteProgressListener listener = mock(AlternativeRouteProgressListener.class);
+    List<AlternativeRouteProgress> alternativeRouteProgress = new ArrayList<>();
+    NavigationEventDispatcher dispatcher = new NavigationEventDispatcher(mock(RouteUtils.class));
+    dispatcher.addAlternativeRouteProgressListener(listener);
+
+    dispatcher.onAlternativeRouteProgress(alternativeRouteProgress);
+
+    verify(listener).onAlternativeRouteProgress(alternativeRouteProgress);
+  }
+
   @NonNull
   private NavigationEventDispatcher buildEventDispatcherHasArrived(String instruction, RouteUtils routeUtils,
                                                                    Milestone milestone) {
@@ -401,4 +508,20 @@ public class NavigationEventDispatcherTest extends BaseTest {
     navigationEventDispatcher.onMilestoneEvent(routeProgress, instruction, milestone);
     return navigationEventDispatcher;
   }
+
+  private static class QueueExecutor implements Executor {
+
+    private final List<Runnable> runnables = new ArrayList<>();
+
+    @Override
+    public void execute(@NonNull Runnable runnable) {
+      runnables.add(runnable);
+    }
+
+    void runAll() {
+      while (!runnables.isEmpty()) {
+        runnables.remove(0).run();
+      }
+    }
+  }
 }
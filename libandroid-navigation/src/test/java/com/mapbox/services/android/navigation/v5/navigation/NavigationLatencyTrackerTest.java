@@ -0,0 +1,49 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class NavigationLatencyTrackerTest {
+
+  @Test
+  public void record_onlyMeasuredStagesAreSampled() {
+    NavigationLatencyTracker tracker = new NavigationLatencyTracker();
+    NavigationLatency latency = new NavigationLatency();
+    latency.record(NavigationLatencyStage.SNAP, 42L);
+
+    tracker.record(latency);
+
+    assertEquals(1, tracker.sampleCount(NavigationLatencyStage.SNAP));
+    assertEquals(42L, tracker.percentile(NavigationLatencyStage.SNAP, 50));
+    assertEquals(0, tracker.sampleCount(NavigationLatencyStage.OFF_ROUTE));
+  }
+
+  @Test
+  public void record_listenersAreNotified() {
+    NavigationLatencyTracker tracker = new NavigationLatencyTracker();
+    NavigationLatencyListener listener = mock(NavigationLatencyListener.class);
+    tracker.addListener(listener);
+    NavigationLatency latency = new NavigationLatency();
+
+    tracker.record(latency);
+
+    verify(listener).onNavigationLatency(latency);
+  }
+
+  @Test
+  public void removeListener_nullRemovesAllListeners() {
+    NavigationLatencyTracker tracker = new NavigationLatencyTracker();
+    NavigationLatencyListener listener = mock(NavigationLatencyListener.class);
+    tracker.addListener(listener);
+
+    tracker.removeListener(null);
+    tracker.record(new NavigationLatency());
+
+    verify(listener, never()).onNavigationLatency(any(NavigationLatency.class));
+  }
+}
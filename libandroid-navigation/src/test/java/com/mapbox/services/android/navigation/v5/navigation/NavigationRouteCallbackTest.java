@@ -6,6 +6,7 @@ import com.mapbox.api.directions.v5.models.DirectionsResponse;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 
 import org.junit.Test;
+import org.mockito.InOrder;
 
 import java.util.ArrayList;
 
@@ -14,6 +15,7 @@ import retrofit2.Callback;
 import retrofit2.Response;
 
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -28,7 +30,8 @@ public class NavigationRouteCallbackTest {
     Call call = mock(Call.class);
     String uuid = "some_uuid";
     Response response = buildMockResponse(uuid);
-    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, listener, callback);
+    RawDirectionsResponseCache responseCache = mock(RawDirectionsResponseCache.class);
+    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, responseCache, listener, callback);
 
     routeCallback.onResponse(call, response);
 
@@ -45,13 +48,31 @@ public class NavigationRouteCallbackTest {
     Call call = mock(Call.class);
     String uuid = "some_uuid";
     Response response = buildMockResponse(uuid);
-    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, listener, callback);
+    RawDirectionsResponseCache responseCache = mock(RawDirectionsResponseCache.class);
+    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, responseCache, listener, callback);
 
     routeCallback.onResponse(call, response);
 
     verify(telemetry).routeRetrievalEvent(eq(elapsedTime), eq(uuid));
   }
 
+  @Test
+  public void onResponse_routesAreBoundBeforeCallbackIsCalled() {
+    NavigationTelemetry telemetry = mock(NavigationTelemetry.class);
+    NavigationRouteEventListener listener = mock(NavigationRouteEventListener.class);
+    Callback<DirectionsResponse> callback = mock(Callback.class);
+    Call call = mock(Call.class);
+    Response response = buildMockResponse("some_uuid");
+    RawDirectionsResponseCache responseCache = mock(RawDirectionsResponseCache.class);
+    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, responseCache, listener, callback);
+
+    routeCallback.onResponse(call, response);
+
+    InOrder inOrder = inOrder(responseCache, callback);
+    inOrder.verify(responseCache).bind((DirectionsResponse) response.body());
+    inOrder.verify(callback).onResponse(call, response);
+  }
+
   @Test
   public void onFailure_callbackIsCalled() {
     NavigationTelemetry telemetry = mock(NavigationTelemetry.class);
@@ -59,7 +80,8 @@ public class NavigationRouteCallbackTest {
     Callback<DirectionsResponse> callback = mock(Callback.class);
     Call call = mock(Call.class);
     Throwable throwable = mock(Throwable.class);
-    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, listener, callback);
+    RawDirectionsResponseCache responseCache = mock(RawDirectionsResponseCache.class);
+    NavigationRouteCallback routeCallback = new NavigationRouteCallback(telemetry, responseCache, listener, callback);
 
     routeCallback.onFailure(call, throwable);
 
@@ -20,7 +20,7 @@ public class NavigationRouteProcessorTest extends BaseTest {
     NavigationStatus status = mock(NavigationStatus.class);
     NavigationRouteProcessor processor = new NavigationRouteProcessor();
 
-    RouteProgress progress = processor.buildNewRouteProgress(navigator, status, buildTestDirectionsRoute());
+    RouteProgress progress = processor.buildNewRouteProgress(navigator, status, buildTestDirectionsRoute(), 0);
 
     assertNotNull(progress);
   }
@@ -31,8 +31,21 @@ public class NavigationRouteProcessorTest extends BaseTest {
     NavigationStatus status = mock(NavigationStatus.class);
     NavigationRouteProcessor processor = new NavigationRouteProcessor();
 
-    processor.buildNewRouteProgress(navigator, status, buildTestDirectionsRoute());
+    processor.buildNewRouteProgress(navigator, status, buildTestDirectionsRoute(), 0);
 
     assertEquals(status, processor.retrievePreviousStatus());
   }
+
+  @Test
+  public void buildNewRouteProgress_routeGenerationIsAdded() throws IOException {
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    NavigationStatus status = mock(NavigationStatus.class);
+    NavigationRouteProcessor processor = new NavigationRouteProcessor();
+    int routeGeneration = 3;
+
+    RouteProgress progress = processor.buildNewRouteProgress(navigator, status, buildTestDirectionsRoute(),
+      routeGeneration);
+
+    assertEquals(routeGeneration, progress.routeGeneration());
+  }
 }
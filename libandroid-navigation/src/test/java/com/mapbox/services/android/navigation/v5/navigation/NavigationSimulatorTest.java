@@ -0,0 +1,132 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.services.android.navigation.v5.navigation.camera.SimpleCamera;
+import com.mapbox.services.android.navigation.v5.offroute.OffRouteDetector;
+import com.mapbox.services.android.navigation.v5.route.FasterRouteDetector;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.snap.SnapToRoute;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NavigationSimulatorTest {
+
+  @Test(expected = IllegalArgumentException.class)
+  public void simulate_emptyTraceThrowsException() {
+    NavigationSimulator simulator = new NavigationSimulator(mock(MapboxNavigation.class));
+
+    simulator.simulate(mock(DirectionsRoute.class), Collections.<Location>emptyList());
+  }
+
+  @Test
+  public void simulate_ticksRunOnVirtualClockBetweenLocations() {
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    MapboxNavigation navigation = buildNavigationWith(navigator, mock(NavigationEventDispatcher.class));
+    NavigationSimulator simulator = new NavigationSimulator(navigation, buildRouteProcessor());
+    List<Location> trace = buildTrace(10000L, 13000L, 13500L);
+
+    simulator.simulate(mock(DirectionsRoute.class), trace);
+
+    ArgumentCaptor<Date> dates = ArgumentCaptor.forClass(Date.class);
+    verify(navigator, times(4)).retrieveStatus(dates.capture(), anyLong());
+    assertEquals(10000L, dates.getAllValues().get(0).getTime());
+    assertEquals(13000L, dates.getAllValues().get(3).getTime());
+  }
+
+  @Test
+  public void simulate_everyTickIsDispatchedAsProgressChange() {
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    NavigationEventDispatcher dispatcher = mock(NavigationEventDispatcher.class);
+    MapboxNavigation navigation = buildNavigationWith(navigator, dispatcher);
+    NavigationSimulator simulator = new NavigationSimulator(navigation, buildRouteProcessor());
+    List<Location> trace = buildTrace(10000L, 13000L, 13500L);
+
+    simulator.simulate(mock(DirectionsRoute.class), trace);
+
+    verify(dispatcher, times(4)).onProgressChange(any(Location.class), any(RouteProgress.class));
+  }
+
+  @Test
+  public void simulate_clockIsRestoredAfterSimulation() {
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    MapboxNavigation navigation = buildNavigationWith(navigator, mock(NavigationEventDispatcher.class));
+    NavigationSimulator simulator = new NavigationSimulator(navigation, buildRouteProcessor());
+
+    simulator.simulate(mock(DirectionsRoute.class), buildTrace(10000L));
+
+    verify(navigator).updateClock(any(SimulatedRouteProcessorExecutor.class));
+    verify(navigator).updateClock(any(SystemNavigationClock.class));
+  }
+
+  @Test
+  public void simulate_routeIsAssignedWithoutStartingNavigation() {
+    MapboxNavigation navigation = buildNavigationWith(mock(MapboxNavigator.class),
+      mock(NavigationEventDispatcher.class));
+    NavigationSimulator simulator = new NavigationSimulator(navigation, buildRouteProcessor());
+    DirectionsRoute route = mock(DirectionsRoute.class);
+
+    simulator.simulate(route, buildTrace(10000L));
+
+    verify(navigation).startSimulationWith(eq(route));
+    verify(navigation, times(0)).startNavigation(any(DirectionsRoute.class));
+  }
+
+  private MapboxNavigation buildNavigationWith(MapboxNavigator navigator, NavigationEventDispatcher dispatcher) {
+    when(navigator.retrieveStatus(any(Date.class), anyLong())).thenReturn(mock(NavigationStatus.class));
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    when(navigation.options()).thenReturn(MapboxNavigationOptions.builder().build());
+    when(navigation.getRoute()).thenReturn(mock(DirectionsRoute.class));
+    when(navigation.retrieveMapboxNavigator()).thenReturn(navigator);
+    when(navigation.getEventDispatcher()).thenReturn(dispatcher);
+    when(navigation.retrieveEngineFactory()).thenReturn(buildMockFactory());
+    return navigation;
+  }
+
+  private NavigationRouteProcessor buildRouteProcessor() {
+    NavigationRouteProcessor processor = mock(NavigationRouteProcessor.class);
+    when(processor.buildNewRouteProgress(any(MapboxNavigator.class), any(NavigationStatus.class),
+      any(DirectionsRoute.class), anyInt())).thenReturn(mock(RouteProgress.class));
+    return processor;
+  }
+
+  private NavigationEngineFactory buildMockFactory() {
+    SnapToRoute snapToRoute = mock(SnapToRoute.class);
+    when(snapToRoute.getSnappedLocationWith(any(NavigationStatus.class), any(Location.class)))
+      .thenReturn(mock(Location.class));
+    NavigationEngineFactory factory = mock(NavigationEngineFactory.class);
+    when(factory.retrieveSnapEngine()).thenReturn(snapToRoute);
+    when(factory.retrieveOffRouteEngine()).thenReturn(mock(OffRouteDetector.class));
+    when(factory.retrieveFasterRouteEngine()).thenReturn(mock(FasterRouteDetector.class));
+    when(factory.retrieveCameraEngine()).thenReturn(mock(SimpleCamera.class));
+    return factory;
+  }
+
+  private List<Location> buildTrace(long... times) {
+    List<Location> trace = new ArrayList<>();
+    for (long time : times) {
+      Location location = mock(Location.class);
+      when(location.getTime()).thenReturn(time);
+      trace.add(location);
+    }
+    return trace;
+  }
+}
@@ -0,0 +1,43 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class NavigationTickReportTest {
+
+  @Test
+  public void recordTick_locationAndScheduledTicksAreCounted() {
+    NavigationTickReport report = new NavigationTickReport(0L);
+
+    report.recordTick(true);
+    report.recordTick(false);
+    report.recordTick(false);
+
+    assertEquals(3, report.ticksProcessed());
+    assertEquals(1, report.locationTicks());
+  }
+
+  @Test
+  public void ticksSaved_comparesAgainstOneSecondLoop() {
+    NavigationTickReport report = new NavigationTickReport(0L);
+    report.recordTick(false);
+    report.recordTick(false);
+
+    int ticksSaved = report.ticksSaved(10000L);
+
+    assertEquals(8, ticksSaved);
+  }
+
+  @Test
+  public void recordNotificationUpdate_postsAndAvoidedPostsAreCounted() {
+    NavigationTickReport report = new NavigationTickReport(0L);
+
+    report.recordNotificationUpdate(true);
+    report.recordNotificationUpdate(false);
+    report.recordNotificationUpdate(false);
+
+    assertEquals(1, report.notificationPosts());
+    assertEquals(2, report.notificationPostsAvoided());
+  }
+}
@@ -0,0 +1,57 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class NotificationPostThrottleTest {
+
+  @Test
+  public void shouldPost_firstChangeIsPosted() {
+    NotificationPostThrottle throttle = new NotificationPostThrottle();
+
+    assertTrue(throttle.shouldPost(false, true, 0));
+  }
+
+  @Test
+  public void shouldPost_unchangedUpdateIsNotPosted() {
+    NotificationPostThrottle throttle = new NotificationPostThrottle();
+    throttle.shouldPost(true, true, 0);
+
+    boolean shouldPost = throttle.shouldPost(false, false, 10000);
+
+    assertFalse(shouldPost);
+  }
+
+  @Test
+  public void shouldPost_progressChangeIsHeldBackUntilInterval() {
+    NotificationPostThrottle throttle = new NotificationPostThrottle();
+    throttle.shouldPost(true, true, 0);
+
+    assertFalse(throttle.shouldPost(false, true, 1000));
+    assertTrue(throttle.shouldPost(false, false, NotificationPostThrottle.MIN_POST_INTERVAL_IN_MILLIS));
+  }
+
+  @Test
+  public void shouldPost_stepChangeIsPostedRightAway() {
+    NotificationPostThrottle throttle = new NotificationPostThrottle();
+    throttle.shouldPost(true, true, 0);
+
+    assertTrue(throttle.shouldPost(true, false, 1000));
+  }
+
+  @Test
+  public void shouldPost_steadyProgressIsPostedOncePerInterval() {
+    NotificationPostThrottle throttle = new NotificationPostThrottle();
+    int posts = 0;
+    for (long now = 0; now < 10000; now += 1000) {
+      if (throttle.shouldPost(false, true, now)) {
+        posts++;
+      }
+    }
+
+    assertEquals(2, posts);
+  }
+}
@@ -0,0 +1,44 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+
+public class RawDirectionsResponseCacheTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+  private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+
+  @Test
+  public void findRouteJson_addedRouteIsFound() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    List<DirectionsRoute> routes = gson.fromJson(json, DirectionsResponse.class).routes();
+    RawDirectionsResponseCache cache = new RawDirectionsResponseCache();
+
+    cache.add(json, routes);
+
+    assertNotNull(cache.findRouteJson(routes.get(0)));
+  }
+
+  @Test
+  public void clear_dropsKeptResponses() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    List<DirectionsRoute> routes = gson.fromJson(json, DirectionsResponse.class).routes();
+    RawDirectionsResponseCache cache = new RawDirectionsResponseCache();
+    cache.add(json, routes);
+
+    cache.clear();
+
+    assertNull(cache.findRouteJson(routes.get(0)));
+  }
+}
@@ -0,0 +1,116 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class RawDirectionsResponseTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+  private static final String PRECISION_6_FIXTURE = "directions_v5_precision_6.json";
+  private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+
+  @Test
+  public void findUuid_returnsUuidOfResponse() throws Exception {
+    String json = loadJsonFixture(PRECISION_6_FIXTURE);
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+
+    assertEquals(gson.fromJson(json, DirectionsResponse.class).uuid(), response.findUuid());
+  }
+
+  @Test
+  public void findUuid_withoutUuidReturnsNull() throws Exception {
+    RawDirectionsResponse response = new RawDirectionsResponse(loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE));
+
+    assertNull(response.findUuid());
+  }
+
+  @Test
+  public void sliceRoute_returnsJsonOfRoute() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    DirectionsRoute route = gson.fromJson(json, DirectionsResponse.class).routes().get(0);
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+
+    DirectionsRoute slicedRoute = gson.fromJson(response.sliceRoute(0), DirectionsRoute.class);
+
+    assertEquals(route.geometry(), slicedRoute.geometry());
+    assertEquals(route.legs(), slicedRoute.legs());
+  }
+
+  @Test
+  public void sliceRoute_missingRouteReturnsNull() throws Exception {
+    RawDirectionsResponse response = new RawDirectionsResponse(loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE));
+
+    assertNull(response.sliceRoute(1));
+  }
+
+  @Test
+  public void sliceRoute_incompleteJsonReturnsNull() {
+    RawDirectionsResponse response = new RawDirectionsResponse("{\"routes\": [{\"legs\": [{\"distance\": 1");
+
+    assertNull(response.sliceRoute(0));
+  }
+
+  @Test
+  public void sliceAnnotation_returnsJsonOfLegAnnotation() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    DirectionsRoute route = gson.fromJson(json, DirectionsResponse.class).routes().get(0);
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+
+    LegAnnotation annotation = gson.fromJson(response.sliceAnnotation(0, 1), LegAnnotation.class);
+
+    assertEquals(route.legs().get(1).annotation(), annotation);
+  }
+
+  @Test
+  public void bind_matchesRoutesByInstance() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    List<DirectionsRoute> routes = gson.fromJson(json, DirectionsResponse.class).routes();
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+
+    assertTrue(response.bind(routes));
+    assertEquals(0, response.indexOf(routes.get(0)));
+    assertEquals(RawDirectionsResponse.NOT_FOUND, response.indexOf(routes.get(0).toBuilder().build()));
+  }
+
+  @Test
+  public void bind_differentRouteCountFails() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    List<DirectionsRoute> routes = new ArrayList<>(gson.fromJson(json, DirectionsResponse.class).routes());
+    routes.add(routes.get(0));
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+
+    assertFalse(response.bind(routes));
+  }
+
+  @Test
+  public void isReleased_unboundResponseIsKept() throws Exception {
+    RawDirectionsResponse response = new RawDirectionsResponse(loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE));
+
+    assertFalse(response.isReleased());
+  }
+
+  @Test
+  public void isReleased_referencedRoutesKeepResponse() throws Exception {
+    String json = loadJsonFixture(MULTI_LEG_ROUTE_FIXTURE);
+    List<DirectionsRoute> routes = gson.fromJson(json, DirectionsResponse.class).routes();
+    RawDirectionsResponse response = new RawDirectionsResponse(json);
+    response.bind(routes);
+
+    assertFalse(response.isReleased());
+  }
+}
@@ -0,0 +1,202 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class ResumableTarDownloadTest {
+
+  private static final int PACK_SIZE = 1024 * 1024;
+  private static final long CHUNK_SIZE = 64 * 1024;
+  private static final int PARALLEL_CHUNKS = 4;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private byte[] tilePack;
+  private TileStandInServer server;
+
+  @Before
+  public void setUp() throws IOException {
+    tilePack = new byte[PACK_SIZE];
+    new Random(42).nextBytes(tilePack);
+    server = new TileStandInServer(tilePack);
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop();
+  }
+
+  @Test
+  public void run_chunksAreDownloadedInParallel() throws Exception {
+    File tarFile = new File(folder.getRoot(), "tiles.tar");
+    RecordingCallback callback = new RecordingCallback();
+
+    buildDownload(tarFile, callback).run();
+
+    assertNull(callback.failure);
+    assertEquals(tarFile, callback.finishedFile);
+    assertTrue(Arrays.equals(tilePack, readBytes(tarFile)));
+    assertEquals(PACK_SIZE / CHUNK_SIZE + 1, server.ranges().size());
+  }
+
+  @Test
+  public void run_progressEndsWithTotalBytes() throws Exception {
+    File tarFile = new File(folder.getRoot(), "tiles.tar");
+    RecordingCallback callback = new RecordingCallback();
+
+    buildDownload(tarFile, callback).run();
+
+    assertEquals(PACK_SIZE, callback.lastBytesDownloaded);
+    assertEquals(PACK_SIZE, callback.lastTotalBytes);
+  }
+
+  @Test
+  public void run_droppedConnectionIsResumedWithinChunk() throws Exception {
+    File tarFile = new File(folder.getRoot(), "tiles.tar");
+    RecordingCallback callback = new RecordingCallback();
+    long droppedChunkStart = 5 * CHUNK_SIZE;
+    server.dropNextRangeStartingAt(droppedChunkStart);
+
+    buildDownload(tarFile, callback).run();
+
+    assertNull(callback.failure);
+    assertTrue(Arrays.equals(tilePack, readBytes(tarFile)));
+    String resumedRange = "bytes=" + (droppedChunkStart + CHUNK_SIZE / 2) + "-" + (droppedChunkStart + CHUNK_SIZE - 1);
+    assertTrue(server.ranges().contains(resumedRange));
+  }
+
+  @Test
+  public void run_failedDownloadResumesWithMissingChunksOnly() throws Exception {
+    File tarFile = new File(folder.getRoot(), "tiles.tar");
+    long lastChunkStart = PACK_SIZE - CHUNK_SIZE;
+    server.failRangesStartingAt(lastChunkStart);
+    RecordingCallback failedCallback = new RecordingCallback();
+    buildDownload(tarFile, failedCallback).run();
+    int completedChunks = readJournalLines(tarFile) - 1;
+    server.healRangesStartingAt(lastChunkStart);
+    server.ranges().clear();
+    RecordingCallback resumedCallback = new RecordingCallback();
+
+    buildDownload(tarFile, resumedCallback).run();
+
+    assertNotNull(failedCallback.failure);
+    assertTrue(completedChunks > 0);
+    assertNull(resumedCallback.failure);
+    assertTrue(Arrays.equals(tilePack, readBytes(tarFile)));
+    assertTrue(server.ranges().contains("bytes=" + lastChunkStart + "-" + (PACK_SIZE - 1)));
+    assertEquals(PACK_SIZE / CHUNK_SIZE - completedChunks + 1, server.ranges().size());
+  }
+
+  @Test
+  public void run_journalIsDeletedOnceFinished() throws Exception {
+    File tarFile = new File(folder.getRoot(), "tiles.tar");
+
+    buildDownload(tarFile, new RecordingCallback()).run();
+
+    assertFalse(new File(tarFile.getPath() + ".journal").exists());
+    assertFalse(new File(tarFile.getPath() + ".part").exists());
+  }
+
+  @Test
+  public void run_withoutRangeSupportWholePackIsDownloaded() throws Exception {
+    File tarFile = new File(folder.getRoot(), "tiles.tar");
+    server.setRangeSupported(false);
+    RecordingCallback callback = new RecordingCallback();
+
+    buildDownload(tarFile, callback).run();
+
+    assertNull(callback.failure);
+    assertTrue(Arrays.equals(tilePack, readBytes(tarFile)));
+    assertEquals(PACK_SIZE, callback.lastBytesDownloaded);
+  }
+
+  @Test
+  public void buildResumableUrl_accessTokenIsRemoved() {
+    Request request = new Request.Builder().url(server.url()).build();
+
+    String resumableUrl = ResumableTarDownload.buildResumableUrl(request);
+
+    assertFalse(resumableUrl.contains("access_token"));
+    assertTrue(resumableUrl.contains("/route-tiles/v1/1,2,3,4"));
+  }
+
+  private ResumableTarDownload buildDownload(File tarFile, RecordingCallback callback) {
+    Request request = new Request.Builder().url(server.url()).build();
+    Executor directExecutor = new Executor() {
+      @Override
+      public void execute(@NonNull Runnable runnable) {
+        runnable.run();
+      }
+    };
+    return new ResumableTarDownload(new OkHttpClient(), request, tarFile, CHUNK_SIZE, PARALLEL_CHUNKS,
+      directExecutor, callback);
+  }
+
+  private static int readJournalLines(File tarFile) throws IOException {
+    String journal = new String(readBytes(new File(tarFile.getPath() + ".journal")), "UTF-8");
+    return journal.split("\n").length;
+  }
+
+  private static byte[] readBytes(File file) throws IOException {
+    RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+    try {
+      byte[] bytes = new byte[(int) randomAccessFile.length()];
+      randomAccessFile.readFully(bytes);
+      return bytes;
+    } finally {
+      randomAccessFile.close();
+    }
+  }
+
+  private static class RecordingCallback implements ResumableTarDownload.Callback {
+
+    private volatile long lastBytesDownloaded;
+    private volatile long lastTotalBytes;
+    private volatile File finishedFile;
+    private volatile String failure;
+
+    @Override
+    public void onProgress(long bytesDownloaded, long totalBytes) {
+      lastBytesDownloaded = Math.max(lastBytesDownloaded, bytesDownloaded);
+      lastTotalBytes = totalBytes;
+    }
+
+    @Override
+    public void onFinished(@NonNull File tarFile) {
+      finishedFile = tarFile;
+    }
+
+    @Override
+    public void onResponseError(int code, String message) {
+      failure = code + " " + message;
+    }
+
+    @Override
+    public void onFailure(String message) {
+      failure = message;
+    }
+  }
+}
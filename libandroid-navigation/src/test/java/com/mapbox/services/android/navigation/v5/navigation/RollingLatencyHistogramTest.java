@@ -0,0 +1,50 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class RollingLatencyHistogramTest {
+
+  @Test
+  public void percentile_emptyHistogramIsNotMeasured() {
+    RollingLatencyHistogram histogram = new RollingLatencyHistogram(10);
+
+    assertEquals(NavigationLatency.NOT_MEASURED, histogram.percentile(50));
+  }
+
+  @Test
+  public void percentile_usesNearestRank() {
+    RollingLatencyHistogram histogram = new RollingLatencyHistogram(10);
+    for (long sample = 10; sample >= 1; sample--) {
+      histogram.record(sample);
+    }
+
+    assertEquals(5, histogram.percentile(50));
+    assertEquals(9, histogram.percentile(90));
+    assertEquals(10, histogram.percentile(99));
+    assertEquals(1, histogram.percentile(0));
+  }
+
+  @Test
+  public void record_oldestSamplesRollOutOfTheWindow() {
+    RollingLatencyHistogram histogram = new RollingLatencyHistogram(3);
+    histogram.record(100);
+    histogram.record(1);
+    histogram.record(2);
+    histogram.record(3);
+
+    assertEquals(3, histogram.count());
+    assertEquals(3, histogram.percentile(100));
+  }
+
+  @Test
+  public void reset_clearsSamples() {
+    RollingLatencyHistogram histogram = new RollingLatencyHistogram(3);
+    histogram.record(1);
+
+    histogram.reset();
+
+    assertEquals(0, histogram.count());
+  }
+}
@@ -0,0 +1,106 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class RouteGeometryCacheTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void isFor_sameRouteInstanceReturnsTrue() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteGeometryCache cache = new RouteGeometryCache(route);
+
+    assertTrue(cache.isFor(route));
+  }
+
+  @Test
+  public void isFor_equalRouteDifferentInstanceReturnsFalse() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteGeometryCache cache = new RouteGeometryCache(route);
+
+    assertFalse(cache.isFor(buildTestDirectionsRoute()));
+  }
+
+  @Test
+  public void retrieveStepGeometry_invalidIndicesReturnNull() throws Exception {
+    RouteGeometryCache cache = new RouteGeometryCache(buildTestDirectionsRoute());
+
+    assertNull(cache.retrieveStepGeometry(-1, 0));
+    assertNull(cache.retrieveStepGeometry(0, 1000));
+    assertNull(cache.retrieveStepGeometry(10, 0));
+  }
+
+  @Test
+  public void retrieveStepGeometry_decodesOnlyOnce() throws Exception {
+    RouteGeometryCache cache = new RouteGeometryCache(buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE));
+
+    RouteGeometryCache.StepGeometry first = cache.retrieveStepGeometry(0, 1);
+    RouteGeometryCache.StepGeometry second = cache.retrieveStepGeometry(0, 1);
+
+    assertSame(first, second);
+  }
+
+  @Test
+  public void retrieveStepGeometry_pointsMatchDecodedGeometry() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    LegStep step = route.legs().get(1).steps().get(2);
+    RouteGeometryCache cache = new RouteGeometryCache(route);
+
+    RouteGeometryCache.StepGeometry stepGeometry = cache.retrieveStepGeometry(1, 2);
+
+    assertEquals(PolylineUtils.decode(step.geometry(), Constants.PRECISION_6), stepGeometry.points());
+  }
+
+  @Test
+  public void retrieveStepGeometry_cumulativeDistancesEndAtStepLength() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    LegStep step = route.legs().get(0).steps().get(1);
+    RouteGeometryCache cache = new RouteGeometryCache(route);
+
+    double[] cumulativeDistances = cache.retrieveStepGeometry(0, 1).cumulativeDistances();
+
+    assertEquals(0d, cumulativeDistances[0], DELTA);
+    assertEquals(step.distance(), cumulativeDistances[cumulativeDistances.length - 1], step.distance() * 0.05);
+  }
+
+  @Test
+  public void retrieveStepGeometry_intersectionOffsetsMatchLineSlice() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteGeometryCache cache = new RouteGeometryCache(route);
+    RouteGeometryCache.StepGeometry stepGeometry = cache.retrieveStepGeometry(0, 1);
+    List<Point> points = stepGeometry.points();
+    List<StepIntersection> intersections = stepGeometry.intersections();
+
+    List<Pair<StepIntersection, Double>> slicedDistances = NavigationHelper.createDistancesToIntersections(
+      points, intersections
+    );
+
+    double[] offsets = stepGeometry.intersectionOffsets();
+    assertEquals(slicedDistances.size(), offsets.length);
+    for (int i = 0; i < offsets.length; i++) {
+      assertEquals(slicedDistances.get(i).second, offsets[i], LARGE_DELTA);
+    }
+  }
+}
@@ -7,12 +7,18 @@ import org.junit.Test;
 
 import java.io.IOException;
 
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class RouteHandlerTest extends BaseTest {
 
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+  private static final String RESPONSE_ROUTE_JSON = "{\"distance\":1.0}";
+
   @Test
   public void updateRoute_newSetsRouteJson() throws IOException {
     DirectionsRoute newRoute = buildTestDirectionsRoute();
@@ -37,4 +43,32 @@ public class RouteHandlerTest extends BaseTest {
     String secondLegAnnotationJson = freshRoute.legs().get(1).annotation().toJson();
     verify(mapboxNavigator).updateAnnotations(eq(secondLegAnnotationJson), eq(0), eq(1));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void updateRoute_newRouteUsesResponseJson() throws IOException {
+    DirectionsRoute newRoute = buildTestDirectionsRoute();
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    RawDirectionsResponseCache responseCache = mock(RawDirectionsResponseCache.class);
+    when(responseCache.findRouteJson(newRoute)).thenReturn(RESPONSE_ROUTE_JSON);
+    RouteHandler routeHandler = new RouteHandler(mapboxNavigator, responseCache);
+
+    routeHandler.updateRoute(newRoute, DirectionsRouteType.NEW_ROUTE);
+
+    verify(mapboxNavigator).setRoute(eq(RESPONSE_ROUTE_JSON), eq(0), eq(0));
+  }
+
+  @Test
+  public void updateRoute_freshRouteOnlyUpdatesRefreshedAnnotations() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    DirectionsRoute annotationHolder = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    DirectionsRoute freshRoute = new RouteAnnotationUpdater().update(route, annotationHolder, 1);
+    MapboxNavigator mapboxNavigator = mock(MapboxNavigator.class);
+    RouteHandler routeHandler = new RouteHandler(mapboxNavigator, mock(RawDirectionsResponseCache.class));
+    routeHandler.updateRoute(route, DirectionsRouteType.NEW_ROUTE);
+
+    routeHandler.updateRoute(freshRoute, DirectionsRouteType.FRESH_ROUTE);
+
+    verify(mapboxNavigator, never()).updateAnnotations(anyString(), eq(0), eq(0));
+    verify(mapboxNavigator).updateAnnotations(anyString(), eq(0), eq(1));
+  }
+}
@@ -25,8 +25,10 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,7 +47,7 @@ public class RouteProcessorRunnableTest {
 
     runnable.run();
 
-    verify(processor).buildNewRouteProgress(navigator, status, route);
+    verify(processor).buildNewRouteProgress(navigator, status, route, 0);
   }
 
   @Test
@@ -55,7 +57,7 @@ public class RouteProcessorRunnableTest {
     NavigationStatus status = buildMockStatus();
     DirectionsRoute route = mock(DirectionsRoute.class);
     RouteProgress progress = mock(RouteProgress.class);
-    when(processor.buildNewRouteProgress(navigator, status, route)).thenReturn(progress);
+    when(processor.buildNewRouteProgress(navigator, status, route, 0)).thenReturn(progress);
     RouteProcessorRunnable runnable = buildRouteProcessorRunnableWith(navigator, processor, status, route);
     runnable.updateRawLocation(mock(Location.class));
 
@@ -64,6 +66,66 @@ public class RouteProcessorRunnableTest {
     verify(processor).updatePreviousRouteProgress(progress);
   }
 
+  @Test
+  public void onRun_progressIsProcessedBeforeReachingResponseHandler() {
+    NavigationRouteProcessor processor = mock(NavigationRouteProcessor.class);
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    NavigationStatus status = buildMockStatus();
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    RouteProgress progress = mock(RouteProgress.class);
+    when(processor.buildNewRouteProgress(navigator, status, route, 0)).thenReturn(progress);
+    RouteProcessorBackgroundThread.Listener listener = mock(RouteProcessorBackgroundThread.Listener.class);
+    RouteProcessorRunnable runnable = buildRouteProcessorRunnableWith(navigator, processor, status, route, listener);
+    runnable.updateRawLocation(mock(Location.class));
+
+    runnable.run();
+
+    verify(listener).onRouteProgressProcessed(any(Location.class), eq(progress));
+    verify(listener, never()).onNewRouteProgress(any(Location.class), any(RouteProgress.class));
+  }
+
+  @Test
+  public void onRun_tickSchedulerDelayIsUsed() {
+    NavigationRouteProcessor processor = mock(NavigationRouteProcessor.class);
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    NavigationStatus status = buildMockStatus();
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    RouteProgress progress = mock(RouteProgress.class);
+    Location rawLocation = mock(Location.class);
+    when(processor.buildNewRouteProgress(navigator, status, route, 0)).thenReturn(progress);
+    NavigationTickScheduler tickScheduler = mock(NavigationTickScheduler.class);
+    long delay = 3000L;
+    when(tickScheduler.nextTickDelayInMilliseconds(progress, rawLocation)).thenReturn(delay);
+    MapboxNavigationOptions options = MapboxNavigationOptions.builder().tickScheduler(tickScheduler).build();
+    Handler workerHandler = mock(Handler.class);
+    RouteProcessorRunnable runnable = buildRouteProcessorRunnableWith(navigator, processor, status, route,
+      options, workerHandler, null);
+    runnable.updateRawLocation(rawLocation);
+
+    runnable.run();
+
+    verify(workerHandler).postDelayed(runnable, delay);
+  }
+
+  @Test
+  public void processNewLocation_locationTickIsRecorded() {
+    NavigationRouteProcessor processor = mock(NavigationRouteProcessor.class);
+    MapboxNavigator navigator = mock(MapboxNavigator.class);
+    NavigationStatus status = buildMockStatus();
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    NavigationTickReport tickReport = mock(NavigationTickReport.class);
+    MapboxNavigationOptions options = MapboxNavigationOptions.builder().build();
+    Handler workerHandler = mock(Handler.class);
+    RouteProcessorRunnable runnable = buildRouteProcessorRunnableWith(navigator, processor, status, route,
+      options, workerHandler, tickReport);
+    runnable.updateRawLocation(mock(Location.class));
+
+    runnable.processNewLocation();
+
+    verify(workerHandler).removeCallbacks(runnable);
+    verify(tickReport).recordTick(true);
+  }
+
   @Test
   public void onRun_offRouteDetectorReceivesStatus() {
     OffRouteDetector detector = mock(OffRouteDetector.class);
@@ -183,6 +245,14 @@ public class RouteProcessorRunnableTest {
 
   private RouteProcessorRunnable buildRouteProcessorRunnableWith(MapboxNavigator navigator, NavigationRouteProcessor processor,
                                                                  NavigationStatus status, DirectionsRoute route) {
+    return buildRouteProcessorRunnableWith(navigator, processor, status, route,
+      mock(RouteProcessorBackgroundThread.Listener.class));
+  }
+
+  private RouteProcessorRunnable buildRouteProcessorRunnableWith(MapboxNavigator navigator,
+                                                                 NavigationRouteProcessor processor,
+                                                                 NavigationStatus status, DirectionsRoute route,
+                                                                 RouteProcessorBackgroundThread.Listener listener) {
     MapboxNavigationOptions options = MapboxNavigationOptions.builder().build();
     when(navigator.retrieveStatus(any(Date.class), any(Long.class))).thenReturn(status);
     MapboxNavigation navigation = mock(MapboxNavigation.class);
@@ -195,6 +265,28 @@ public class RouteProcessorRunnableTest {
       navigation,
       mock(Handler.class),
       mock(Handler.class),
+      listener
+    );
+  }
+
+  private RouteProcessorRunnable buildRouteProcessorRunnableWith(MapboxNavigator navigator,
+                                                                 NavigationRouteProcessor processor,
+                                                                 NavigationStatus status, DirectionsRoute route,
+                                                                 MapboxNavigationOptions options,
+                                                                 Handler workerHandler,
+                                                                 NavigationTickReport tickReport) {
+    when(navigator.retrieveStatus(any(Date.class), any(Long.class))).thenReturn(status);
+    MapboxNavigation navigation = mock(MapboxNavigation.class);
+    when(navigation.retrieveTickReport()).thenReturn(tickReport);
+    when(navigation.options()).thenReturn(options);
+    when(navigation.getRoute()).thenReturn(route);
+    when(navigation.retrieveMapboxNavigator()).thenReturn(navigator);
+    when(navigation.retrieveEngineFactory()).thenReturn(new NavigationEngineFactory());
+    return new RouteProcessorRunnable(
+      processor,
+      navigation,
+      workerHandler,
+      mock(Handler.class),
       mock(RouteProcessorBackgroundThread.Listener.class)
     );
   }
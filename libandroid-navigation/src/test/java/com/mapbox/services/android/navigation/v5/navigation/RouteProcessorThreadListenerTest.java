@@ -45,6 +45,18 @@ public class RouteProcessorThreadListenerTest {
     verify(dispatcher).onProgressChange(eq(location), eq(routeProgress));
   }
 
+  @Test
+  public void onRouteProgressProcessed_eventDispatcherBackgroundProgressIsUpdated() {
+    NavigationEventDispatcher dispatcher = mock(NavigationEventDispatcher.class);
+    RouteProcessorThreadListener listener = buildListener(dispatcher);
+    Location location = mock(Location.class);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+
+    listener.onRouteProgressProcessed(location, routeProgress);
+
+    verify(dispatcher).onBackgroundProgressChange(eq(location), eq(routeProgress));
+  }
+
   @Test
   public void onMilestoneTrigger_eventDispatcherSendsMilestone() {
     List<Milestone> milestones = new ArrayList<>();
@@ -2,6 +2,12 @@ package com.mapbox.services.android.navigation.v5.navigation;
 
 import org.junit.Test;
 
+import java.util.concurrent.Executor;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+import static junit.framework.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -10,17 +16,30 @@ import static org.mockito.Mockito.when;
 public class RouteTileDownloaderTest {
 
   @Test
-  public void startDownload_fetchRouteTilesIsCalled() {
+  public void startDownload_tarDownloadIsExecuted() {
     String tilePath = "some/path/";
     OfflineNavigator offlineNavigator = mock(OfflineNavigator.class);
     RouteTileDownloadListener listener = mock(RouteTileDownloadListener.class);
     OfflineTiles offlineTiles = mock(OfflineTiles.class);
     when(offlineTiles.version()).thenReturn("some-version");
-    RouteTileDownloader downloader = new RouteTileDownloader(offlineNavigator, tilePath, listener);
+    when(offlineTiles.buildTileRequest()).thenReturn(new Request.Builder()
+      .url("https://api.mapbox.com/route-tiles/v1/1,2,3,4?version=some-version&access_token=pk.XXX")
+      .build());
+    Executor downloadExecutor = mock(Executor.class);
+    RouteTileDownloader downloader = new RouteTileDownloader(offlineNavigator, tilePath, listener,
+      mock(OkHttpClient.class), downloadExecutor, mock(Executor.class));
 
     downloader.startDownload(offlineTiles);
 
-    verify(offlineTiles).fetchRouteTiles(any(TarFetchedCallback.class));
+    verify(downloadExecutor).execute(any(ResumableTarDownload.class));
+  }
+
+  @Test
+  public void calculatePercent_downloadIsFirstHalfAndUnpackingSecondHalf() {
+    assertEquals(25, RouteTileDownloader.calculateDownloadPercent(500, 1000));
+    assertEquals(50, RouteTileDownloader.calculateDownloadPercent(1000, 1000));
+    assertEquals(75, RouteTileDownloader.calculateUnpackPercent(50));
+    assertEquals(100, RouteTileDownloader.calculateUnpackPercent(100));
   }
 
   @Test
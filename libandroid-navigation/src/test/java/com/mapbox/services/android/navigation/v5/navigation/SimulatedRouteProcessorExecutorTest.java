@@ -0,0 +1,86 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SimulatedRouteProcessorExecutorTest {
+
+  @Test
+  public void postedTask_doesNotRunUntilAdvanced() {
+    SimulatedRouteProcessorExecutor executor = new SimulatedRouteProcessorExecutor(0);
+    Runnable task = mock(Runnable.class);
+
+    executor.post(task);
+
+    verify(task, never()).run();
+  }
+
+  @Test
+  public void advanceTo_runsDueTasksInTimeOrder() {
+    final SimulatedRouteProcessorExecutor executor = new SimulatedRouteProcessorExecutor(0);
+    final List<Long> runTimes = new ArrayList<>();
+    Runnable recordTime = new Runnable() {
+      @Override
+      public void run() {
+        runTimes.add(executor.currentTimeMillis());
+      }
+    };
+    executor.postDelayed(recordTime, 2000);
+    executor.postDelayed(recordTime, 1000);
+    executor.postDelayed(recordTime, 5000);
+
+    executor.advanceTo(3000);
+
+    assertEquals(2, runTimes.size());
+    assertEquals(1000L, (long) runTimes.get(0));
+    assertEquals(2000L, (long) runTimes.get(1));
+    assertEquals(3000L, executor.currentTimeMillis());
+  }
+
+  @Test
+  public void advanceTo_runsRepostedTasksThatAreDue() {
+    final SimulatedRouteProcessorExecutor executor = new SimulatedRouteProcessorExecutor(0);
+    final List<Long> runTimes = new ArrayList<>();
+    executor.post(new Runnable() {
+      @Override
+      public void run() {
+        runTimes.add(executor.currentTimeMillis());
+        executor.postDelayed(this, 1000);
+      }
+    });
+
+    executor.advanceTo(3500);
+
+    assertEquals(4, runTimes.size());
+    assertEquals(3000L, (long) runTimes.get(3));
+  }
+
+  @Test
+  public void removeCallbacks_removesPendingTask() {
+    SimulatedRouteProcessorExecutor executor = new SimulatedRouteProcessorExecutor(0);
+    Runnable task = mock(Runnable.class);
+    executor.postDelayed(task, 1000);
+
+    executor.removeCallbacks(task);
+    executor.advanceTo(2000);
+
+    verify(task, never()).run();
+  }
+
+  @Test
+  public void advanceTo_clockNeverMovesBackwards() {
+    SimulatedRouteProcessorExecutor executor = new SimulatedRouteProcessorExecutor(5000);
+
+    executor.advanceTo(1000);
+
+    assertTrue(executor.currentTimeMillis() == 5000);
+  }
+}
@@ -0,0 +1,115 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local HTTP server standing in for the route tiles API, serving a tile pack with range support.
+ * Ranges can be set to fail or to drop their connection halfway through.
+ */
+class TileStandInServer implements HttpHandler {
+
+  private static final String ETAG = "\"tile-pack\"";
+  private final byte[] tilePack;
+  private final List<String> ranges = new CopyOnWriteArrayList<>();
+  private final Set<Long> failingRangeStarts = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+  private final Set<Long> droppingRangeStarts = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private HttpServer server;
+  private boolean isRangeSupported = true;
+
+  TileStandInServer(byte[] tilePack) {
+    this.tilePack = tilePack;
+  }
+
+  void start() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this);
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  void stop() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  String url() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/route-tiles/v1/1,2,3,4?access_token=pk.XXX";
+  }
+
+  void setRangeSupported(boolean isRangeSupported) {
+    this.isRangeSupported = isRangeSupported;
+  }
+
+  /**
+   * Ranges starting at the given offset are answered with a server error.
+   */
+  void failRangesStartingAt(long start) {
+    failingRangeStarts.add(start);
+  }
+
+  void healRangesStartingAt(long start) {
+    failingRangeStarts.remove(start);
+  }
+
+  /**
+   * The next range starting at the given offset drops its connection after half of its bytes.
+   */
+  void dropNextRangeStartingAt(long start) {
+    droppingRangeStarts.add(start);
+  }
+
+  List<String> ranges() {
+    return ranges;
+  }
+
+  @Override
+  public void handle(HttpExchange exchange) throws IOException {
+    try {
+      String range = exchange.getRequestHeaders().getFirst("Range");
+      exchange.getResponseHeaders().add("ETag", ETAG);
+      if (range == null || !isRangeSupported) {
+        send(exchange, 200, 0, tilePack.length, false);
+        return;
+      }
+      ranges.add(range);
+      String[] bounds = range.substring("bytes=".length()).split("-");
+      long start = Long.parseLong(bounds[0]);
+      long end = Math.min(Long.parseLong(bounds[1]), tilePack.length - 1);
+      if (failingRangeStarts.contains(start)) {
+        exchange.sendResponseHeaders(500, -1);
+        return;
+      }
+      exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + tilePack.length);
+      send(exchange, 206, (int) start, (int) (end - start + 1), droppingRangeStarts.remove(start));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void send(HttpExchange exchange, int code, int offset, int length, boolean isDropped) throws IOException {
+    exchange.sendResponseHeaders(code, length);
+    OutputStream body = exchange.getResponseBody();
+    if (isDropped) {
+      // Closing the exchange before the announced length was sent drops the connection
+      body.write(tilePack, offset, length / 2);
+      body.flush();
+      return;
+    }
+    body.write(tilePack, offset, length);
+    body.flush();
+  }
+}
@@ -0,0 +1,134 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class TileVersionSwapTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File tileDirectory;
+
+  @Before
+  public void setUp() throws IOException {
+    tileDirectory = folder.newFolder("tiles");
+    File installed = new File(tileDirectory, "2019_01_01");
+    writeTile(installed, "0/000/001.gph", "unchanged");
+    writeTile(installed, "1/000/002.gph", "old");
+    writeTile(installed, "2/000/003.gph", "removed");
+  }
+
+  @Test
+  public void apply_newVersionIsActivated() throws IOException {
+    File staging = buildStaging("2019_02_01");
+
+    new TileVersionSwap(tileDirectory, "2019_01_01", "2019_02_01", staging).apply();
+
+    assertTrue(new File(tileDirectory, "2019_02_01/1/000/002.gph").exists());
+    assertTrue(new File(tileDirectory, "2019_02_01/3/000/004.gph").exists());
+    assertFalse(staging.exists());
+  }
+
+  @Test
+  public void apply_installedVersionIsKeptUntilRouterIsConfigured() throws IOException {
+    File staging = buildStaging("2019_02_01");
+
+    new TileVersionSwap(tileDirectory, "2019_01_01", "2019_02_01", staging).apply();
+
+    assertTrue(new File(tileDirectory, "2019_01_01/0/000/001.gph").exists());
+  }
+
+  @Test
+  public void deleteRetiredVersions_removesReplacedVersion() throws IOException {
+    File staging = buildStaging("2019_02_01");
+    new TileVersionSwap(tileDirectory, "2019_01_01", "2019_02_01", staging).apply();
+
+    TileVersionSwap.deleteRetiredVersions(tileDirectory, "2019_02_01");
+
+    assertFalse(new File(tileDirectory, "2019_01_01").exists());
+    assertTrue(new File(tileDirectory, "2019_02_01/0/000/001.gph").exists());
+    assertEquals(1, tileDirectory.list().length);
+  }
+
+  @Test
+  public void deleteRetiredVersions_keepsConfiguredVersion() throws IOException {
+    File staging = buildStaging("2019_02_01");
+    new TileVersionSwap(tileDirectory, "2019_01_01", "2019_02_01", staging).apply();
+
+    TileVersionSwap.deleteRetiredVersions(tileDirectory, "2019_01_01");
+
+    assertTrue(new File(tileDirectory, "2019_01_01/0/000/001.gph").exists());
+  }
+
+  @Test
+  public void apply_emptyStagingKeepsInstalledVersion() throws IOException {
+    File staging = TileVersionSwap.buildStagingDirectory(tileDirectory, "2019_02_01");
+    staging.mkdirs();
+
+    try {
+      new TileVersionSwap(tileDirectory, "2019_01_01", "2019_02_01", staging).apply();
+    } catch (IOException exception) {
+      assertTrue(new File(tileDirectory, "2019_01_01/0/000/001.gph").exists());
+      assertFalse(new File(tileDirectory, "2019_02_01").exists());
+      assertFalse(staging.exists());
+      return;
+    }
+    throw new AssertionError("An empty version must not be swapped in");
+  }
+
+  @Test
+  public void apply_installedVersionIsNotReplacedInPlace() throws IOException {
+    File staging = buildStaging("2019_01_01");
+
+    try {
+      new TileVersionSwap(tileDirectory, "2019_01_01", "2019_01_01", staging).apply();
+    } catch (IOException exception) {
+      assertTrue(new File(tileDirectory, "2019_01_01/2/000/003.gph").exists());
+      assertFalse(staging.exists());
+      return;
+    }
+    throw new AssertionError("The installed version must not be replaced while the router may use it");
+  }
+
+  @Test
+  public void apply_staleStagingDirectoriesAreRemoved() throws IOException {
+    File stale = new File(tileDirectory, ".2019_02_01-1" + TileVersionSwap.STAGING_EXTENSION);
+    writeTile(stale, "0/000/001.gph", "partial");
+    File staging = buildStaging("2019_02_01");
+
+    new TileVersionSwap(tileDirectory, "2019_01_01", "2019_02_01", staging).apply();
+
+    assertFalse(stale.exists());
+  }
+
+  private File buildStaging(String version) throws IOException {
+    File staging = TileVersionSwap.buildStagingDirectory(tileDirectory, version);
+    writeTile(staging, "0/000/001.gph", "unchanged");
+    writeTile(staging, "1/000/002.gph", "new");
+    writeTile(staging, "3/000/004.gph", "added");
+    return staging;
+  }
+
+  private static void writeTile(File versionDirectory, String path, String content) throws IOException {
+    File tile = new File(versionDirectory, path);
+    tile.getParentFile().mkdirs();
+    Writer writer = new FileWriter(tile);
+    try {
+      writer.write(content);
+    } finally {
+      writer.close();
+    }
+  }
+}
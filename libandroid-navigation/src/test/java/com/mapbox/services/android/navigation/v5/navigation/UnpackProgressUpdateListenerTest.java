@@ -15,7 +15,7 @@ public class UnpackProgressUpdateListenerTest {
 
     progressUpdateListener.onProgressUpdate(progress);
 
-    verify(listener).onProgressUpdate(progress.intValue());
+    verify(listener).onProgressUpdate(79);
   }
 
   @Test
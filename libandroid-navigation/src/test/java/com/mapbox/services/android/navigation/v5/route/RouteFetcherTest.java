@@ -23,10 +23,13 @@ import java.util.Locale;
 
 import retrofit2.Callback;
 
+import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +75,41 @@ public class RouteFetcherTest {
     verify(navigationRoute).getRoute(any(Callback.class));
   }
 
+  @Test
+  public void findRouteWith_spentBudgetSkipsRequest() {
+    Context context = mock(Context.class);
+    NavigationRoute.Builder builder = mock(NavigationRoute.Builder.class);
+    RouteRequestBudget requestBudget = mock(RouteRequestBudget.class);
+    when(requestBudget.tryAcquire(anyLong())).thenReturn(false);
+    RouteListener routeListener = mock(RouteListener.class);
+    RouteFetcher routeFetcher = new RouteFetcher(context, "pk.xx", mock(RouteUtils.class), requestBudget);
+    routeFetcher.addRouteListener(routeListener);
+
+    routeFetcher.findRouteWith(builder);
+
+    verify(builder, never()).build();
+    verify(routeListener).onErrorReceived(any(Throwable.class));
+  }
+
+  @Test
+  public void retrieveRequestMetrics_countsSentAndThrottledRequests() {
+    Context context = mock(Context.class);
+    NavigationRoute.Builder builder = mock(NavigationRoute.Builder.class);
+    when(builder.build()).thenReturn(mock(NavigationRoute.class));
+    RouteRequestBudget requestBudget = mock(RouteRequestBudget.class);
+    when(requestBudget.tryAcquire(anyLong())).thenReturn(true, false);
+    RouteFetcher routeFetcher = new RouteFetcher(context, "pk.xx", mock(RouteUtils.class), requestBudget);
+
+    routeFetcher.findRouteWith(builder);
+    routeFetcher.findRouteWith(builder);
+
+    RouteRequestMetrics metrics = routeFetcher.retrieveRequestMetrics();
+    assertEquals(2, metrics.requestCount());
+    assertEquals(1, metrics.sentCount());
+    assertEquals(1, metrics.throttledCount());
+    assertEquals(RouteRequestMetrics.NOT_MEASURED, metrics.averageLatencyInMillis());
+  }
+
   @NotNull
   private Context buildMockContext() {
     Context context = mock(Context.class);
@@ -0,0 +1,68 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteRequestBudgetTest {
+
+  @Test
+  public void tryAcquire_burstIsLimited() {
+    RouteRequestBudget budget = new RouteRequestBudget(2, 1000, 100, 1000);
+
+    assertTrue(budget.tryAcquire(0));
+    assertTrue(budget.tryAcquire(10));
+    assertFalse(budget.tryAcquire(20));
+  }
+
+  @Test
+  public void tryAcquire_budgetRefillsOverTime() {
+    RouteRequestBudget budget = new RouteRequestBudget(1, 1000, 100, 1000);
+    budget.tryAcquire(0);
+
+    assertFalse(budget.tryAcquire(500));
+    assertTrue(budget.tryAcquire(1000));
+  }
+
+  @Test
+  public void onFailure_requestsWaitForBackoff() {
+    RouteRequestBudget budget = new RouteRequestBudget(10, 1000, 100, 1000);
+    budget.tryAcquire(0);
+
+    budget.onFailure(0);
+
+    assertFalse(budget.tryAcquire(99));
+    assertTrue(budget.tryAcquire(100));
+  }
+
+  @Test
+  public void onFailure_backoffDoublesWithConsecutiveFailures() {
+    RouteRequestBudget budget = new RouteRequestBudget(10, 1000, 100, 1000);
+    budget.onFailure(0);
+    budget.onFailure(100);
+
+    assertFalse(budget.tryAcquire(299));
+    assertTrue(budget.tryAcquire(300));
+  }
+
+  @Test
+  public void onFailure_backoffIsCapped() {
+    RouteRequestBudget budget = new RouteRequestBudget(10, 1000, 100, 250);
+    for (int failure = 0; failure < 10; failure++) {
+      budget.onFailure(0);
+    }
+
+    assertTrue(budget.tryAcquire(250));
+  }
+
+  @Test
+  public void onSuccess_backoffIsReset() {
+    RouteRequestBudget budget = new RouteRequestBudget(10, 1000, 100, 1000);
+    budget.onFailure(0);
+
+    budget.onSuccess();
+
+    assertTrue(budget.tryAcquire(1));
+  }
+}
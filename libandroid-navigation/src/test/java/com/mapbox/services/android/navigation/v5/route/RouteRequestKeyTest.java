@@ -0,0 +1,41 @@
+package com.mapbox.services.android.navigation.v5.route;
+
+import com.mapbox.geojson.Point;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteRequestKeyTest {
+
+  private static final List<Point> WAYPOINTS = Arrays.asList(Point.fromLngLat(-77.03, 38.90),
+    Point.fromLngLat(-77.04, 38.91));
+
+  @Test
+  public void isNear_closeOriginWithSameWaypoints() {
+    RouteRequestKey key = new RouteRequestKey(Point.fromLngLat(-77.0000, 38.8900), WAYPOINTS);
+    RouteRequestKey otherKey = new RouteRequestKey(Point.fromLngLat(-77.0001, 38.8900), WAYPOINTS);
+
+    assertTrue(key.isNear(otherKey, 25d));
+  }
+
+  @Test
+  public void isNear_farOriginIsNotNear() {
+    RouteRequestKey key = new RouteRequestKey(Point.fromLngLat(-77.0000, 38.8900), WAYPOINTS);
+    RouteRequestKey otherKey = new RouteRequestKey(Point.fromLngLat(-77.0010, 38.8900), WAYPOINTS);
+
+    assertFalse(key.isNear(otherKey, 25d));
+  }
+
+  @Test
+  public void isNear_differentWaypointsAreNotNear() {
+    RouteRequestKey key = new RouteRequestKey(Point.fromLngLat(-77.0000, 38.8900), WAYPOINTS);
+    RouteRequestKey otherKey = new RouteRequestKey(Point.fromLngLat(-77.0000, 38.8900), WAYPOINTS.subList(1, 2));
+
+    assertFalse(key.isNear(otherKey, 25d));
+  }
+}
@@ -0,0 +1,119 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.MaxSpeed;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class LegAnnotationIndexTest {
+
+  private static final double DELTA = 0.0001;
+
+  @Test
+  public void create_withoutDistanceAnnotationsReturnsNull() {
+    RouteLeg leg = RouteLeg.builder().annotation(LegAnnotation.builder().build()).build();
+
+    assertNull(LegAnnotationIndex.create(leg));
+  }
+
+  @Test
+  public void findSegmentIndex_returnsSegmentEndingPastDistance() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    assertEquals(0, index.findSegmentIndex(0));
+    assertEquals(1, index.findSegmentIndex(10));
+    assertEquals(2, index.findSegmentIndex(45));
+    assertEquals(3, index.findSegmentIndex(99.9));
+  }
+
+  @Test
+  public void findSegmentIndex_pastEndOfLegReturnsFirstSegment() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    assertEquals(0, index.findSegmentIndex(150));
+  }
+
+  @Test
+  public void findAnnotation_readsEveryAnnotationOfSegment() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    CurrentLegAnnotation annotation = index.findAnnotation(45);
+
+    assertEquals(2, annotation.index());
+    assertEquals(30d, annotation.distanceToAnnotation(), DELTA);
+    assertEquals(30d, annotation.distance(), DELTA);
+    assertEquals(3d, annotation.duration(), DELTA);
+    assertEquals(10d, annotation.speed(), DELTA);
+    assertEquals("heavy", annotation.congestion());
+    assertEquals(Integer.valueOf(50), annotation.maxspeed().speed());
+  }
+
+  @Test
+  public void findCongestionWindows_mergesSegmentsWithSameLevel() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    List<AnnotationWindow<String>> windows = index.findCongestionWindows(5, 100);
+
+    assertEquals(2, windows.size());
+    assertEquals("low", windows.get(0).value());
+    assertEquals(0d, windows.get(0).startDistance(), DELTA);
+    assertEquals(30d, windows.get(0).endDistance(), DELTA);
+    assertEquals("heavy", windows.get(1).value());
+    assertEquals(100d, windows.get(1).endDistance(), DELTA);
+  }
+
+  @Test
+  public void findMaxspeedWindows_onlyReturnsWindowsWithinRange() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    List<AnnotationWindow<MaxSpeed>> windows = index.findMaxspeedWindows(0, 25);
+
+    assertEquals(1, windows.size());
+    assertEquals(Integer.valueOf(70), windows.get(0).value().speed());
+  }
+
+  @Test
+  public void findCongestionWindows_pastEndOfLegIsEmpty() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    assertTrue(index.findCongestionWindows(100, 200).isEmpty());
+  }
+
+  @Test
+  public void findDurationRemaining_countsPartOfCurrentSegmentNotTraveled() {
+    LegAnnotationIndex index = LegAnnotationIndex.create(buildLeg());
+
+    assertEquals(10d, index.findDurationRemaining(0), DELTA);
+    assertEquals(5.5d, index.findDurationRemaining(45), DELTA);
+    assertEquals(0d, index.findDurationRemaining(150), DELTA);
+  }
+
+  @Test
+  public void findDurationRemaining_withoutDurationAnnotationsReturnsNoDuration() {
+    LegAnnotation annotation = LegAnnotation.builder().distance(Arrays.asList(10d, 20d)).build();
+    LegAnnotationIndex index = LegAnnotationIndex.create(RouteLeg.builder().annotation(annotation).build());
+
+    assertEquals(LegAnnotationIndex.NO_DURATION, index.findDurationRemaining(5), DELTA);
+  }
+
+  private RouteLeg buildLeg() {
+    MaxSpeed seventy = MaxSpeed.builder().speed(70).unit("km/h").build();
+    MaxSpeed fifty = MaxSpeed.builder().speed(50).unit("km/h").build();
+    LegAnnotation annotation = LegAnnotation.builder()
+      .distance(Arrays.asList(10d, 20d, 30d, 40d))
+      .duration(Arrays.asList(1d, 2d, 3d, 4d))
+      .speed(Arrays.asList(10d, 10d, 10d, 10d))
+      .maxspeed(Arrays.asList(seventy, seventy, fifty, fifty))
+      .congestion(Arrays.asList("low", "low", "heavy", "heavy"))
+      .build();
+    return RouteLeg.builder().annotation(annotation).distance(100d).build();
+  }
+}
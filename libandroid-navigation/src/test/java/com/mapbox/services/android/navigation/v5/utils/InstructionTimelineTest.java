@@ -0,0 +1,109 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class InstructionTimelineTest extends BaseTest {
+
+  @Test
+  public void findCurrentBannerId_startOfStepReturnsFirstBannerOfStep() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep secondStep = route.legs().get(0).steps().get(1);
+    InstructionTimeline timeline = InstructionTimeline.from(route);
+
+    int bannerId = timeline.findCurrentBannerId(0, 1, secondStep.distance());
+
+    assertEquals(secondStep.bannerInstructions().get(0), timeline.retrieveBannerInstructions(bannerId));
+  }
+
+  @Test
+  public void findCurrentBannerId_endOfStepReturnsLastBannerReached() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep secondStep = route.legs().get(0).steps().get(1);
+    InstructionTimeline timeline = InstructionTimeline.from(route);
+
+    int bannerId = timeline.findCurrentBannerId(0, 1, 50);
+
+    assertEquals(secondStep.bannerInstructions().get(1), timeline.retrieveBannerInstructions(bannerId));
+  }
+
+  @Test
+  public void findCurrentBannerId_matchesRouteUtils() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep secondStep = route.legs().get(0).steps().get(1);
+    InstructionTimeline timeline = InstructionTimeline.from(route);
+    RouteUtils routeUtils = new RouteUtils();
+
+    for (double distanceRemaining = secondStep.distance(); distanceRemaining > 0; distanceRemaining -= 10) {
+      int bannerId = timeline.findCurrentBannerId(0, 1, distanceRemaining);
+      assertEquals(routeUtils.findCurrentBannerInstructions(secondStep, distanceRemaining),
+        timeline.retrieveBannerInstructions(bannerId));
+    }
+  }
+
+  @Test
+  public void retrieveBannerDistance_isDistanceAlongRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep firstStep = route.legs().get(0).steps().get(0);
+    LegStep secondStep = route.legs().get(0).steps().get(1);
+    InstructionTimeline timeline = InstructionTimeline.from(route);
+
+    int bannerId = timeline.findCurrentBannerId(0, 1, 50);
+
+    double expectedDistance = firstStep.distance() + secondStep.distance()
+      - secondStep.bannerInstructions().get(1).distanceAlongGeometry();
+    assertEquals(expectedDistance, timeline.retrieveBannerDistance(bannerId), DELTA);
+  }
+
+  @Test
+  public void findNextBannerId_returnsFollowingBanner() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep thirdStep = route.legs().get(0).steps().get(2);
+    InstructionTimeline timeline = InstructionTimeline.from(route);
+    int bannerId = timeline.findCurrentBannerId(0, 1, 50);
+
+    int nextBannerId = timeline.findNextBannerId(bannerId);
+
+    assertEquals(thirdStep.bannerInstructions().get(0), timeline.retrieveBannerInstructions(nextBannerId));
+  }
+
+  @Test
+  public void findNextBannerId_lastBannerReturnsNoInstruction() throws Exception {
+    InstructionTimeline timeline = InstructionTimeline.from(buildTestDirectionsRoute());
+
+    int nextBannerId = timeline.findNextBannerId(timeline.bannerCount() - 1);
+
+    assertEquals(InstructionTimeline.NO_INSTRUCTION, nextBannerId);
+  }
+
+  @Test
+  public void findCurrentBannerId_invalidLegReturnsNoInstruction() throws Exception {
+    InstructionTimeline timeline = InstructionTimeline.from(buildTestDirectionsRoute());
+
+    assertEquals(InstructionTimeline.NO_INSTRUCTION, timeline.findCurrentBannerId(5, 0, 0));
+  }
+
+  @Test
+  public void firstAndEndBannerIds_coverEveryBannerOfLeg() throws Exception {
+    InstructionTimeline timeline = InstructionTimeline.from(buildTestDirectionsRoute());
+
+    assertEquals(0, timeline.firstBannerIdOf(0));
+    assertEquals(timeline.bannerCount(), timeline.endBannerIdOf(0));
+  }
+
+  @Test
+  public void findCurrentVoiceId_returnsLastVoiceInstructionReached() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LegStep firstStep = route.legs().get(0).steps().get(0);
+    InstructionTimeline timeline = InstructionTimeline.from(route);
+
+    int voiceId = timeline.findCurrentVoiceId(0, 0, 100);
+
+    assertEquals(firstStep.voiceInstructions().get(1), timeline.retrieveVoiceInstructions(voiceId));
+  }
+}